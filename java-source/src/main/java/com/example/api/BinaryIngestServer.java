@@ -0,0 +1,305 @@
+package com.example.api;
+
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.transactions.SignedTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A binary TCP listener for machine-to-machine IOU issuance, as an alternative to PUT /create-iou.
+ *
+ * Clients keep a connection open and pipeline request frames on it; each frame is answered as soon as its flow
+ * completes, so responses may come back in any order and carry the request id they answer. All connections are
+ * served by one selector thread, which only reads, decodes and writes frames: each decoded request is submitted from
+ * a small pool, since resolving its parties and starting its flow are RPC round trips, and its response is written
+ * back by the selector thread.
+ *
+ * All integers are big-endian, and every frame starts with the length of the rest of the frame.
+ * <pre>
+ * request:  int length, long requestId, int iouValue, short n, n bytes viewerPartyName, short m, m bytes otherPartyName
+ * response: int length, long requestId, byte status, short n, n bytes message
+ * </pre>
+ * The party names are UTF-8 X.500 names. The status is one of [Status]; the message is the transaction id when the
+ * IOU was created, and the reason otherwise. A connection with more than [MAX_IN_FLIGHT] unanswered requests is not
+ * read from until some are answered, and one sending a malformed or oversized frame is closed.
+ */
+public class BinaryIngestServer implements AutoCloseable {
+    static private final Logger logger = LoggerFactory.getLogger(BinaryIngestServer.class);
+
+    private static final int MAX_FRAME_SIZE = 64 * 1024;
+    private static final int MAX_IN_FLIGHT = 1024;
+    private static final int READ_BUFFER_SIZE = 256 * 1024;
+    /** The submitting threads, and how many decoded requests may wait for one before further ones are answered BUSY. */
+    private static final int SUBMIT_THREADS = 16;
+    private static final int SUBMIT_QUEUE = 4096;
+
+    public enum Status { CREATED, FAILED, INVALID, BUSY }
+
+    /**
+     * The issuance path the frames are fed into.
+     *
+     * @throws IllegalArgumentException if the request is invalid.
+     * @throws RejectedExecutionException if issuance is saturated.
+     */
+    public interface Submitter {
+        CompletableFuture<SignedTransaction> submit(int iouValue, CordaX500Name viewerPartyName, CordaX500Name otherPartyName);
+    }
+
+    private final Submitter submitter;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final Queue<Connection> changed = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private final ExecutorService submitting;
+
+    public BinaryIngestServer(InetSocketAddress address, Submitter submitter) throws IOException {
+        this.submitter = submitter;
+        final AtomicInteger threads = new AtomicInteger();
+        this.submitting = new ThreadPoolExecutor(SUBMIT_THREADS, SUBMIT_THREADS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SUBMIT_QUEUE), runnable -> {
+                    final Thread thread = new Thread(runnable, "binary-ingest-submit-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        this.server.configureBlocking(false);
+        this.server.bind(address);
+        this.server.register(selector, SelectionKey.OP_ACCEPT);
+
+        this.thread = new Thread(this::selectLoop, "binary-ingest");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        logger.info("Binary IOU ingest listening on {}.", address);
+    }
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        submitting.shutdownNow();
+        selector.close();
+        server.close();
+    }
+
+    private final class Connection {
+        final SocketChannel channel;
+        final SelectionKey key;
+        final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        final Queue<ByteBuffer> out = new ConcurrentLinkedQueue<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        Connection(SocketChannel channel) throws IOException {
+            this.channel = channel;
+            this.key = channel.register(selector, SelectionKey.OP_READ, this);
+        }
+
+        /**
+         * Queues a response; called from whichever thread completed the flow.
+         */
+        void respond(long requestId, Status status, String message) {
+            final byte[] text = String.valueOf(message).getBytes(StandardCharsets.UTF_8);
+            final int length = Math.min(text.length, Short.MAX_VALUE);
+            final ByteBuffer frame = ByteBuffer.allocate(4 + 8 + 1 + 2 + length);
+            frame.putInt(8 + 1 + 2 + length).putLong(requestId).put((byte) status.ordinal()).putShort((short) length).put(text, 0, length);
+            frame.flip();
+            out.add(frame);
+            inFlight.decrementAndGet();
+            changed.add(this);
+            selector.wakeup();
+        }
+
+        /**
+         * Registers interest in what this connection can currently do, first handling the frames that were left
+         * buffered while it had too many requests in flight. Selector thread only.
+         */
+        void updateInterest() throws IOException {
+            if (!key.isValid()) {
+                return;
+            }
+            if (inFlight.get() < MAX_IN_FLIGHT && in.position() > 0) {
+                parse();
+            }
+            int ops = 0;
+            if (inFlight.get() < MAX_IN_FLIGHT) {
+                ops |= SelectionKey.OP_READ;
+            }
+            if (!out.isEmpty()) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(ops);
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+            parse();
+        }
+
+        private void parse() throws IOException {
+            in.flip();
+            while (in.remaining() >= 4 && inFlight.get() < MAX_IN_FLIGHT) {
+                final int length = in.getInt(in.position());
+                if (length < 8 || length > MAX_FRAME_SIZE) {
+                    throw new IOException("Frame of " + length + " bytes rejected.");
+                }
+                if (in.remaining() < 4 + length) {
+                    break;
+                }
+                in.getInt();
+                final ByteBuffer frame = in.slice();
+                frame.limit(length);
+                in.position(in.position() + length);
+                accept(frame);
+            }
+            in.compact();
+        }
+
+        void write() throws IOException {
+            ByteBuffer frame;
+            while ((frame = out.peek()) != null) {
+                channel.write(frame);
+                if (frame.hasRemaining()) {
+                    return;
+                }
+                out.poll();
+            }
+        }
+
+        void close() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                logger.debug("Closing an ingest connection failed.", ex);
+            }
+        }
+
+        /**
+         * Decodes a request frame and hands it to the submitting pool. Selector thread only.
+         */
+        private void accept(ByteBuffer frame) {
+            final long requestId = frame.getLong();
+            inFlight.incrementAndGet();
+            final int iouValue;
+            final CordaX500Name viewerPartyName;
+            final CordaX500Name otherPartyName;
+            try {
+                iouValue = frame.getInt();
+                viewerPartyName = CordaX500Name.parse(string(frame));
+                otherPartyName = CordaX500Name.parse(string(frame));
+            } catch (BufferUnderflowException ex) {
+                respond(requestId, Status.INVALID, "Truncated frame.");
+                return;
+            } catch (IllegalArgumentException ex) {
+                respond(requestId, Status.INVALID, ex.getMessage());
+                return;
+            }
+            try {
+                submitting.execute(() -> submit(requestId, iouValue, viewerPartyName, otherPartyName));
+            } catch (RejectedExecutionException ex) {
+                respond(requestId, Status.BUSY, "Too many ingest requests waiting, retry later.");
+            }
+        }
+
+        /**
+         * Submits a decoded request and answers it once its flow completes. Submitting pool only.
+         */
+        private void submit(long requestId, int iouValue, CordaX500Name viewerPartyName, CordaX500Name otherPartyName) {
+            final CompletableFuture<SignedTransaction> result;
+            try {
+                result = submitter.submit(iouValue, viewerPartyName, otherPartyName);
+            } catch (IllegalArgumentException ex) {
+                respond(requestId, Status.INVALID, ex.getMessage());
+                return;
+            } catch (RejectedExecutionException ex) {
+                respond(requestId, Status.BUSY, ex.getMessage());
+                return;
+            } catch (RuntimeException ex) {
+                logger.error(ex.getMessage(), ex);
+                respond(requestId, Status.FAILED, ex.getMessage());
+                return;
+            }
+            result.whenComplete((signedTx, ex) -> {
+                if (ex == null) {
+                    respond(requestId, Status.CREATED, signedTx.getId().toString());
+                } else {
+                    respond(requestId, Status.FAILED, FlowRegistry.causeOf(ex).getMessage());
+                }
+            });
+        }
+
+        private String string(ByteBuffer frame) {
+            final byte[] bytes = new byte[frame.getShort() & 0xFFFF];
+            frame.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void selectLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                selector.select();
+                Connection connection;
+                while ((connection = changed.poll()) != null) {
+                    try {
+                        connection.updateInterest();
+                    } catch (IOException ex) {
+                        connection.close();
+                    }
+                }
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            } catch (ClosedSelectorException ex) {
+                return;
+            } catch (IOException ex) {
+                logger.error("Binary IOU ingest failed.", ex);
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (key.isValid() && key.isAcceptable()) {
+            try {
+                final SocketChannel channel = server.accept();
+                if (channel != null) {
+                    channel.configureBlocking(false);
+                    channel.socket().setTcpNoDelay(true);
+                    new Connection(channel);
+                }
+            } catch (IOException ex) {
+                logger.warn("An ingest connection could not be accepted.", ex);
+            }
+            return;
+        }
+        final Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isValid() && key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.write();
+            }
+            connection.updateInterest();
+        } catch (IOException | CancelledKeyException ex) {
+            logger.debug("Closing ingest connection after: " + ex.getMessage());
+            connection.close();
+        }
+    }
+}
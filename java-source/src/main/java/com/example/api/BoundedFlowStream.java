@@ -0,0 +1,105 @@
+package com.example.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Starts one flow per item of a stream, with at most [concurrency] of them in flight, and writes one NDJSON result
+ * per item as its flow completes. The bulk end-points ([BulkIouIngest], [BulkCompensation]) supply how to start an
+ * item and how to write its result.
+ *
+ * Each flow holds a permit of [bulkhead], as one started by a single request does. When the bulkhead is saturated
+ * the next item waits for one of ours to complete, and is only given no permit (to be reported BUSY) if none of ours
+ * is running. Results are written in completion order, as soon as the writing thread gets to them.
+ *
+ * Not thread-safe: items are submitted from the thread writing the response.
+ */
+public class BoundedFlowStream<R> {
+    private static final JsonFactory factory = new JsonFactory();
+
+    /**
+     * Starts the flow for one item.
+     */
+    public interface Start<R> {
+        /**
+         * Starts the flow holding [permit], which is null when no permit could be had. Delivers exactly one result
+         * to [done], straight away if the item cannot be started. [permit] belongs to the flow once this returns
+         * having started it; otherwise it must be discarded.
+         */
+        void start(ConcurrencyLimiter.Permit permit, Consumer<R> done);
+    }
+
+    /**
+     * Writes one result as a JSON object.
+     */
+    public interface ResultWriter<R> {
+        void write(JsonGenerator json, R result) throws IOException;
+    }
+
+    private final ConcurrencyLimiter bulkhead;
+    private final int concurrency;
+    private final JsonGenerator json;
+    private final ResultWriter<R> writer;
+    private final BlockingQueue<R> completed = new LinkedBlockingQueue<>();
+    private int inFlight;
+
+    public BoundedFlowStream(ConcurrencyLimiter bulkhead, int concurrency, OutputStream output, ResultWriter<R> writer) throws IOException {
+        this.bulkhead = bulkhead;
+        this.concurrency = concurrency;
+        this.json = factory.createGenerator(output);
+        this.json.setRootValueSeparator(new SerializedString("\n"));
+        this.writer = writer;
+    }
+
+    /**
+     * Starts the next item once it has one of our flow slots and a bulkhead permit, writing out results meanwhile.
+     */
+    public void submit(Start<R> start) throws IOException, InterruptedException {
+        // Wait for one of our flow slots, then for a bulkhead permit, writing out results as they free up.
+        while (inFlight >= concurrency) {
+            writeNext();
+        }
+        ConcurrencyLimiter.Permit permit;
+        while ((permit = bulkhead.tryAcquire()) == null && inFlight > 0) {
+            writeNext();
+        }
+        start.start(permit, completed::add);
+        inFlight++;
+
+        R result;
+        while ((result = completed.poll()) != null) {
+            writer.write(json, result);
+            inFlight--;
+        }
+        json.flush();
+    }
+
+    /**
+     * Waits for the flows still in flight, writing out each result as it comes.
+     */
+    public void finish() throws IOException, InterruptedException {
+        while (inFlight > 0) {
+            writeNext();
+            json.flush();
+        }
+    }
+
+    /**
+     * Flushes what was written so far; for the end of the response, however it ends.
+     */
+    public void flush() throws IOException {
+        json.flush();
+    }
+
+    private void writeNext() throws IOException, InterruptedException {
+        writer.write(json, completed.take());
+        inFlight--;
+    }
+}
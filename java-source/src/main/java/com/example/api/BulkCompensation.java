@@ -0,0 +1,131 @@
+package com.example.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.identity.Party;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compensates the IOUs exchanged with every counterparty over a period, and streams back one NDJSON result per
+ * counterparty as its [CompensationFlow.Initiator] completes.
+ *
+ * The counterparties and their totals come from one grouped query (see [CompensationTotals.byCounterparty]). At most
+ * [concurrency] flows are in flight at once, each holding a permit of the compensation bulkhead, through a
+ * [BoundedFlowStream]; a counterparty is only reported BUSY if none of ours is running. Results are written in
+ * completion order.
+ */
+public class BulkCompensation implements StreamingOutput {
+    /**
+     * Starts the compensation flow with [counterParty]. [permit] belongs to the flow once this returns, and to the
+     * caller if this throws.
+     */
+    public interface Starter {
+        FlowRegistry.Submission start(Party counterParty, ConcurrencyLimiter.Permit permit) throws Exception;
+    }
+
+    private final PartyDirectory parties;
+    private final Map<CordaX500Name, CompensationTotals> totals;
+    private final ConcurrencyLimiter bulkhead;
+    private final Starter starter;
+    private final int concurrency;
+
+    public BulkCompensation(PartyDirectory parties,
+                            Map<CordaX500Name, CompensationTotals> totals,
+                            ConcurrencyLimiter bulkhead,
+                            Starter starter,
+                            int concurrency) {
+        this.parties = parties;
+        this.totals = totals;
+        this.bulkhead = bulkhead;
+        this.starter = starter;
+        this.concurrency = concurrency;
+    }
+
+    private static class Result {
+        final CordaX500Name counterParty;
+        final long iouCount;
+        final String status;
+        final String transactionId;
+        final String error;
+
+        Result(CordaX500Name counterParty, long iouCount, String status, String transactionId, String error) {
+            this.counterParty = counterParty;
+            this.iouCount = iouCount;
+            this.status = status;
+            this.transactionId = transactionId;
+            this.error = error;
+        }
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        final BoundedFlowStream<Result> stream = new BoundedFlowStream<>(bulkhead, concurrency, output, BulkCompensation::writeResult);
+        try {
+            for (Map.Entry<CordaX500Name, CompensationTotals> pair : totals.entrySet()) {
+                if (pair.getValue().count > 0) {
+                    stream.submit((permit, done) -> start(pair.getKey(), pair.getValue(), permit, done));
+                }
+            }
+            stream.finish();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Bulk compensation interrupted.");
+        } finally {
+            stream.flush();
+        }
+    }
+
+    /**
+     * Starts the flow with one counterparty. Exactly one result is delivered to [done] for every counterparty; those
+     * that cannot be started are reported straight away.
+     */
+    private void start(CordaX500Name counterPartyName, CompensationTotals pair, ConcurrencyLimiter.Permit permit, Consumer<Result> done) {
+        if (permit == null) {
+            done.accept(new Result(counterPartyName, pair.count, "BUSY", null,
+                    "Too many concurrent " + bulkhead.getName() + " requests, retry later."));
+            return;
+        }
+        final Party counterParty = parties.resolve(counterPartyName);
+        if (counterParty == null) {
+            permit.discard();
+            done.accept(new Result(counterPartyName, pair.count, "INVALID", null, "Party named " + counterPartyName + " cannot be found."));
+            return;
+        }
+
+        try {
+            starter.start(counterParty, permit).result.whenComplete((signedTx, ex) -> {
+                if (ex == null) {
+                    done.accept(new Result(counterPartyName, pair.count, "COMPENSATED", signedTx.getId().toString(), null));
+                } else {
+                    done.accept(new Result(counterPartyName, pair.count, "FAILED", null, FlowRegistry.causeOf(ex).getMessage()));
+                }
+            });
+        } catch (IllegalArgumentException ex) {
+            permit.discard();
+            done.accept(new Result(counterPartyName, pair.count, "NOTHING_TO_COMPENSATE", null, ex.getMessage().trim()));
+        } catch (Exception ex) {
+            permit.discard();
+            done.accept(new Result(counterPartyName, pair.count, "FAILED", null, ex.getMessage()));
+        }
+    }
+
+    private static void writeResult(JsonGenerator json, Result result) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("counterPartyName", result.counterParty.toString());
+        json.writeNumberField("iouCount", result.iouCount);
+        json.writeStringField("status", result.status);
+        if (result.transactionId != null) {
+            json.writeStringField("transactionId", result.transactionId);
+        }
+        if (result.error != null) {
+            json.writeStringField("error", result.error);
+        }
+        json.writeEndObject();
+    }
+}
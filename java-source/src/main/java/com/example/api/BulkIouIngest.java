@@ -0,0 +1,213 @@
+package com.example.api;
+
+import com.example.flow.RegularFlow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.identity.Party;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Issues one IOU per line of an uploaded NDJSON or CSV stream, and streams back one NDJSON result per line.
+ *
+ * The upload is read a line at a time while it is being written to the response, and at most [concurrency]
+ * [RegularFlow.Initiator] flows are in flight at once through a [BoundedFlowStream], so memory use stays flat however
+ * long the upload is. Each flow holds a permit of the issuance bulkhead, as one started by /create-iou does, and a line
+ * is only reported BUSY if none of ours is running. Results are written in completion order and carry the line number
+ * they belong to.
+ *
+ * NDJSON lines look like {"iouValue": 10, "viewerPartyName": "O=...", "otherPartyName": "O=..."}. CSV lines hold the
+ * same three fields in that order, with the party names quoted; an optional header line is skipped. Lines whose value
+ * is not within 1 and [RegularFlow.MAX_IOU_VALUE] are reported INVALID, as /create-iou refuses them.
+ */
+public class BulkIouIngest implements StreamingOutput {
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Starts the issuance flow for one line. [permit] belongs to the flow once this returns, and to the caller if
+     * this throws.
+     */
+    public interface Starter {
+        FlowRegistry.Submission start(int iouValue, Party viewerParty, Party otherParty, ConcurrencyLimiter.Permit permit);
+    }
+
+    private final PartyDirectory parties;
+    private final ConcurrencyLimiter bulkhead;
+    private final Starter starter;
+    private final InputStream body;
+    private final boolean csv;
+    private final int concurrency;
+
+    public BulkIouIngest(PartyDirectory parties, ConcurrencyLimiter bulkhead, Starter starter, InputStream body, boolean csv, int concurrency) {
+        this.parties = parties;
+        this.bulkhead = bulkhead;
+        this.starter = starter;
+        this.body = body;
+        this.csv = csv;
+        this.concurrency = concurrency;
+    }
+
+    private static class Result {
+        final long line;
+        final String status;
+        final String transactionId;
+        final String error;
+
+        Result(long line, String status, String transactionId, String error) {
+            this.line = line;
+            this.status = status;
+            this.transactionId = transactionId;
+            this.error = error;
+        }
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        final BoundedFlowStream<Result> stream = new BoundedFlowStream<>(bulkhead, concurrency, output, BulkIouIngest::writeResult);
+        long lineNumber = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty() || (csv && lineNumber == 1 && line.startsWith("iouValue"))) {
+                    continue;
+                }
+                final long number = lineNumber;
+                final String fields = line;
+                stream.submit((permit, done) -> start(number, fields, permit, done));
+            }
+            stream.finish();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Bulk IOU ingest interrupted at line " + lineNumber + ".");
+        } finally {
+            stream.flush();
+        }
+    }
+
+    /**
+     * Starts the flow for one line. Exactly one result is delivered to [done] for every line; lines that cannot be
+     * parsed or started are reported straight away.
+     */
+    private void start(final long lineNumber, String line, ConcurrencyLimiter.Permit permit, Consumer<Result> done) {
+        if (permit == null) {
+            done.accept(new Result(lineNumber, "BUSY", null, "Too many concurrent " + bulkhead.getName() + " requests, retry later."));
+            return;
+        }
+        final Party viewerParty;
+        final Party otherParty;
+        final int iouValue;
+        try {
+            final List<String> fields = csv ? csvFields(line) : jsonFields(line);
+            if (fields.size() != 3) {
+                throw new IllegalArgumentException("Expected iouValue, viewerPartyName and otherPartyName.");
+            }
+            iouValue = Integer.parseInt(fields.get(0).trim());
+            if (iouValue <= 0) {
+                throw new IllegalArgumentException("'iouValue' must be non-negative.");
+            }
+            // Refused by the counterparty anyway, so report it without spending a flow on it.
+            if (iouValue > RegularFlow.MAX_IOU_VALUE) {
+                throw new IllegalArgumentException("'iouValue' must not exceed " + RegularFlow.MAX_IOU_VALUE + ".");
+            }
+            viewerParty = party(fields.get(1));
+            otherParty = party(fields.get(2));
+        } catch (IllegalArgumentException | IOException ex) {
+            permit.discard();
+            done.accept(new Result(lineNumber, "INVALID", null, ex.getMessage()));
+            return;
+        }
+
+        try {
+            starter.start(iouValue, viewerParty, otherParty, permit).result.whenComplete((signedTx, ex) -> {
+                if (ex == null) {
+                    done.accept(new Result(lineNumber, "CREATED", signedTx.getId().toString(), null));
+                } else {
+                    done.accept(new Result(lineNumber, "FAILED", null, FlowRegistry.causeOf(ex).getMessage()));
+                }
+            });
+        } catch (RuntimeException ex) {
+            permit.discard();
+            done.accept(new Result(lineNumber, "FAILED", null, ex.getMessage()));
+        }
+    }
+
+    private Party party(String name) {
+        final CordaX500Name x500Name = CordaX500Name.parse(name.trim());
+        final Party party = parties.resolve(x500Name);
+        if (party == null) {
+            throw new IllegalArgumentException("Party named " + x500Name + " cannot be found.");
+        }
+        return party;
+    }
+
+    private static List<String> jsonFields(String line) throws IOException {
+        final JsonNode node = mapper.readTree(line);
+        final List<String> fields = new ArrayList<>(3);
+        for (String name : new String[]{"iouValue", "viewerPartyName", "otherPartyName"}) {
+            final JsonNode field = node.get(name);
+            if (field == null || field.isNull()) {
+                throw new IllegalArgumentException("Field '" + name + "' missing.");
+            }
+            fields.add(field.asText());
+        }
+        return fields;
+    }
+
+    /**
+     * Splits a CSV line, honouring double-quoted fields (X.500 names contain commas).
+     */
+    private static List<String> csvFields(String line) {
+        final List<String> fields = new ArrayList<>(3);
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void writeResult(JsonGenerator json, Result result) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("line", result.line);
+        json.writeStringField("status", result.status);
+        if (result.transactionId != null) {
+            json.writeStringField("transactionId", result.transactionId);
+        }
+        if (result.error != null) {
+            json.writeStringField("error", result.error);
+        }
+        json.writeEndObject();
+    }
+}
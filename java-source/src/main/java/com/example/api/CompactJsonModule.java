@@ -0,0 +1,128 @@
+package com.example.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.contracts.TransactionState;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.identity.Party;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Jackson serializers for the types that dominate our listings.
+ *
+ * A deployment only has a handful of parties, so their names are encoded once and the pre-encoded strings are
+ * written from then on. StateAndRefs are written field by field with pre-encoded field names rather than through
+ * bean introspection. Every field is kept, attachment constraint included, and parties are written as their name as
+ * Corda's own mapper does, so the output is the same as without the module; listings that want less than the full
+ * states ask for their compact views instead.
+ */
+public class CompactJsonModule extends SimpleModule {
+    /** Past this many distinct names, further names are written without being cached. */
+    static final int MAX_CACHED_NAMES = 10_000;
+
+    private static final SerializableString STATE = new SerializedString("state");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString CONTRACT = new SerializedString("contract");
+    private static final SerializableString NOTARY = new SerializedString("notary");
+    private static final SerializableString ENCUMBRANCE = new SerializedString("encumbrance");
+    private static final SerializableString CONSTRAINT = new SerializedString("constraint");
+    private static final SerializableString REF = new SerializedString("ref");
+    private static final SerializableString TXHASH = new SerializedString("txhash");
+    private static final SerializableString INDEX = new SerializedString("index");
+
+    private final ConcurrentMap<CordaX500Name, SerializableString> names = new ConcurrentHashMap<>();
+
+    public CompactJsonModule() {
+        super("CompactJsonModule");
+        addSerializer(CordaX500Name.class, new NameSerializer());
+        addSerializer(Party.class, new PartySerializer());
+        addSerializer(StateAndRef.class, new StateAndRefSerializer());
+    }
+
+    private SerializableString encoded(CordaX500Name name) {
+        final SerializableString cached = names.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        final SerializableString encoded = new SerializedString(name.toString());
+        if (names.size() < MAX_CACHED_NAMES) {
+            names.putIfAbsent(name, encoded);
+        }
+        return encoded;
+    }
+
+    private class NameSerializer extends StdSerializer<CordaX500Name> {
+        NameSerializer() {
+            super(CordaX500Name.class);
+        }
+
+        @Override
+        public void serialize(CordaX500Name name, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(encoded(name));
+        }
+    }
+
+    private class PartySerializer extends StdSerializer<Party> {
+        PartySerializer() {
+            super(Party.class);
+        }
+
+        @Override
+        public void serialize(Party party, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(encoded(party.getName()));
+        }
+    }
+
+    private class StateAndRefSerializer extends StdSerializer<StateAndRef> {
+        StateAndRefSerializer() {
+            super(StateAndRef.class);
+        }
+
+        @Override
+        public void serialize(StateAndRef stateAndRef, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            final TransactionState<?> state = stateAndRef.getState();
+            gen.writeStartObject();
+
+            gen.writeFieldName(STATE);
+            gen.writeStartObject();
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(state.getData(), gen);
+            gen.writeFieldName(CONTRACT);
+            gen.writeString(state.getContract());
+            gen.writeFieldName(NOTARY);
+            gen.writeString(encoded(state.getNotary().getName()));
+            if (state.getEncumbrance() != null || writesNulls(provider)) {
+                gen.writeFieldName(ENCUMBRANCE);
+                provider.defaultSerializeValue(state.getEncumbrance(), gen);
+            }
+            gen.writeFieldName(CONSTRAINT);
+            provider.defaultSerializeValue(state.getConstraint(), gen);
+            gen.writeEndObject();
+
+            gen.writeFieldName(REF);
+            gen.writeStartObject();
+            gen.writeFieldName(TXHASH);
+            gen.writeString(stateAndRef.getRef().getTxhash().toString());
+            gen.writeFieldName(INDEX);
+            gen.writeNumber(stateAndRef.getRef().getIndex());
+            gen.writeEndObject();
+
+            gen.writeEndObject();
+        }
+
+        /** Whether the mapper writes null properties, as its bean serializer would for a state without encumbrance. */
+        private boolean writesNulls(SerializerProvider provider) {
+            final JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(TransactionState.class).getValueInclusion();
+            return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        }
+    }
+}
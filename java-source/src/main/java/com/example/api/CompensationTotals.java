@@ -0,0 +1,110 @@
+package com.example.api;
+
+import com.example.schema.IOUSchemaV2;
+import com.example.state.IOUState;
+import com.google.common.collect.ImmutableList;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.messaging.CordaRPCOps;
+import net.corda.core.node.services.Vault;
+import net.corda.core.node.services.vault.Builder;
+import net.corda.core.node.services.vault.CriteriaExpression;
+import net.corda.core.node.services.vault.QueryCriteria;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unconsumed IOU totals between two parties over a date range, aggregated by the node's database.
+ *
+ * Only the per-direction sums and counts cross the RPC boundary, whatever the number of IOUs involved.
+ */
+public class CompensationTotals {
+    private static final Field lenderField;
+    private static final Field borrowerField;
+    private static final Field valueField;
+    private static final Field dateField;
+
+    static {
+        try {
+            lenderField = IOUSchemaV2.PersistentIOU.class.getDeclaredField("lender");
+            borrowerField = IOUSchemaV2.PersistentIOU.class.getDeclaredField("borrower");
+            valueField = IOUSchemaV2.PersistentIOU.class.getDeclaredField("value");
+            dateField = IOUSchemaV2.PersistentIOU.class.getDeclaredField("date");
+        } catch (NoSuchFieldException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /** Total lent by the first party to the second one. */
+    public final long lentByOne;
+    /** Total lent by the second party to the first one. */
+    public final long lentByAnother;
+    /** Number of IOUs in either direction. */
+    public final long count;
+
+    CompensationTotals(long lentByOne, long lentByAnother, long count) {
+        this.lentByOne = lentByOne;
+        this.lentByAnother = lentByAnother;
+        this.count = count;
+    }
+
+    public static CompensationTotals query(CordaRPCOps rpcOps, CordaX500Name one, CordaX500Name another, long from, long to) {
+        final List<String> pair = ImmutableList.of(one.toString(), another.toString());
+        final Vault.StateStatus status = Vault.StateStatus.UNCONSUMED;
+
+        final CriteriaExpression sum = Builder.sum(valueField, ImmutableList.of(lenderField, borrowerField));
+        final QueryCriteria criteria = new QueryCriteria.VaultQueryCriteria(status)
+                .and(new QueryCriteria.VaultCustomQueryCriteria(Builder.in(lenderField, pair), status))
+                .and(new QueryCriteria.VaultCustomQueryCriteria(Builder.in(borrowerField, pair), status))
+                .and(new QueryCriteria.VaultCustomQueryCriteria(Builder.between(dateField, from, to), status))
+                .and(new QueryCriteria.VaultCustomQueryCriteria(sum, status))
+                .and(new QueryCriteria.VaultCustomQueryCriteria(Builder.count(valueField), status));
+
+        final CompensationTotals totals = group(rpcOps.vaultQueryByCriteria(criteria, IOUState.class).getOtherResults(), another).get(one);
+        return totals != null ? totals : new CompensationTotals(0, 0, 0);
+    }
+
+    /**
+     * The totals between [me] and each of its counterparties over a date range, from a single grouped query. In each
+     * of them the first party is the counterparty and the second one is [me], as in [query].
+     */
+    public static Map<CordaX500Name, CompensationTotals> byCounterparty(CordaRPCOps rpcOps, CordaX500Name me, long from, long to) {
+        final Vault.StateStatus status = Vault.StateStatus.UNCONSUMED;
+
+        final CriteriaExpression sum = Builder.sum(valueField, ImmutableList.of(lenderField, borrowerField));
+        final QueryCriteria involvingMe = new QueryCriteria.VaultCustomQueryCriteria(Builder.equal(lenderField, me.toString()), status)
+                .or(new QueryCriteria.VaultCustomQueryCriteria(Builder.equal(borrowerField, me.toString()), status));
+        final QueryCriteria criteria = new QueryCriteria.VaultQueryCriteria(status)
+                .and(involvingMe)
+                .and(new QueryCriteria.VaultCustomQueryCriteria(Builder.between(dateField, from, to), status))
+                .and(new QueryCriteria.VaultCustomQueryCriteria(sum, status))
+                .and(new QueryCriteria.VaultCustomQueryCriteria(Builder.count(valueField), status));
+
+        return group(rpcOps.vaultQueryByCriteria(criteria, IOUState.class).getOtherResults(), me);
+    }
+
+    /**
+     * Folds the per-direction rows of a grouped query, flattened as [sum(value), lender, borrower, count(value)], into
+     * totals keyed by the party that [me] dealt with.
+     */
+    private static Map<CordaX500Name, CompensationTotals> group(List<Object> rows, CordaX500Name me) {
+        final Map<String, long[]> sums = new LinkedHashMap<>();
+        for (int i = 0; i + 3 < rows.size(); i += 4) {
+            final long value = ((Number) rows.get(i)).longValue();
+            final String lender = (String) rows.get(i + 1);
+            final String borrower = (String) rows.get(i + 2);
+            if (lender.equals(borrower)) {
+                continue;
+            }
+            final boolean lentByMe = lender.equals(me.toString());
+            final long[] pair = sums.computeIfAbsent(lentByMe ? borrower : lender, counterparty -> new long[3]);
+            pair[lentByMe ? 1 : 0] += value;
+            pair[2] += ((Number) rows.get(i + 3)).longValue();
+        }
+        final Map<CordaX500Name, CompensationTotals> totals = new LinkedHashMap<>();
+        sums.forEach((counterparty, pair) -> totals.put(CordaX500Name.parse(counterparty), new CompensationTotals(pair[0], pair[1], pair[2])));
+        return totals;
+    }
+}
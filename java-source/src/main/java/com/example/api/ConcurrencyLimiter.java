@@ -0,0 +1,130 @@
+package com.example.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An adaptive limit on the number of concurrent requests of one kind (a bulkhead), in the AIMD style.
+ *
+ * Every request that completes successfully reports its latency. While latencies stay within [TOLERANCE] times the no-load latency the
+ * limit grows by one per sample taken at high utilisation; once they exceed it the limit is cut by [BACKOFF]. Requests
+ * past the limit are refused straight away rather than queued, so the latency of the admitted ones stays bounded.
+ *
+ * The no-load latency is the smallest latency of the previous window of samples, and it may only grow by
+ * [MAX_BASELINE_DRIFT] per window, so sustained overload cannot pass itself off as the new normal.
+ */
+public class ConcurrencyLimiter {
+    private static final double TOLERANCE = 2.0;
+    private static final double BACKOFF = 0.9;
+    private static final int WINDOW = 500;
+    private static final double MAX_BASELINE_DRIFT = 1.1;
+    private static final double SMOOTHING = 0.1;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private int inFlight;
+    private long baselineNanos = Long.MAX_VALUE;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private double averageNanos;
+
+    public ConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Limits of " + name + " must satisfy 1 <= min <= initial <= max.");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * A slot taken by an admitted request, to be given back exactly once.
+     */
+    public final class Permit {
+        private final long startedAt = System.nanoTime();
+        private boolean released;
+
+        /**
+         * Gives the slot back and reports how long the request held it.
+         */
+        public void release() {
+            done(System.nanoTime() - startedAt);
+        }
+
+        /**
+         * Gives the slot back without reporting a latency, for requests that failed or ended before doing any real
+         * work, whose latency says nothing about the capacity. As a permit is only given back once, a finally block
+         * may discard a permit that the success path has released.
+         */
+        public void discard() {
+            done(-1);
+        }
+
+        private void done(long latencyNanos) {
+            synchronized (ConcurrencyLimiter.this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+                inFlight--;
+                if (latencyNanos >= 0) {
+                    sample(latencyNanos);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a permit, or null if the limit has been reached and the request should be refused.
+     */
+    public synchronized Permit tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return null;
+        }
+        inFlight++;
+        return new Permit();
+    }
+
+    /**
+     * @return how long, in whole seconds and at least one, a refused client should wait before retrying.
+     */
+    public synchronized long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(averageNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void sample(long latencyNanos) {
+        averageNanos = averageNanos == 0 ? latencyNanos : averageNanos + SMOOTHING * (latencyNanos - averageNanos);
+
+        windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+        if (++windowSamples >= WINDOW) {
+            baselineNanos = baselineNanos == Long.MAX_VALUE
+                    ? windowMinNanos
+                    : Math.min(windowMinNanos, (long) (baselineNanos * MAX_BASELINE_DRIFT));
+            windowMinNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        final long baseline = Math.min(baselineNanos, windowMinNanos);
+
+        if (latencyNanos > baseline * TOLERANCE) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+        } else if (inFlight * 2 >= limit) {
+            // Only grow while the limit is actually being used; idle capacity says nothing about what we could sustain.
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.corda.core.messaging.FlowHandle;
+import net.corda.core.messaging.FlowProgressHandle;
+import net.corda.core.transactions.SignedTransaction;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the flows started through the web API so their outcome can be polled from /flows/{id}.
+ *
+ * Entries are kept for a bounded time and count after they are registered; a client that polls later than that gets
+ * a 404 and should look the transaction up in the vault instead.
+ */
+public class FlowRegistry {
+    private static final long MAX_ENTRIES = 10_000;
+    private static final long RETENTION_MINUTES = 60;
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    /**
+     * The last known state of a submitted flow. Serialized as-is by the status end-point.
+     */
+    public static class FlowStatus {
+        private final UUID flowId;
+        private final long startedAt;
+        private volatile Status status = Status.RUNNING;
+        private volatile String progress;
+        private volatile String transactionId;
+        private volatile String error;
+        private volatile Long finishedAt;
+
+        private FlowStatus(UUID flowId) {
+            this.flowId = flowId;
+            this.startedAt = System.currentTimeMillis();
+        }
+
+        public UUID getFlowId() { return flowId; }
+        public Status getStatus() { return status; }
+        public String getProgress() { return progress; }
+        public String getTransactionId() { return transactionId; }
+        public String getError() { return error; }
+        public long getStartedAt() { return startedAt; }
+        public Long getFinishedAt() { return finishedAt; }
+    }
+
+    /**
+     * A registered flow: its pollable status and a future completing with the flow's result.
+     */
+    public static class Submission {
+        public final FlowStatus status;
+        public final CompletableFuture<SignedTransaction> result;
+
+        private Submission(FlowStatus status, CompletableFuture<SignedTransaction> result) {
+            this.status = status;
+            this.result = result;
+        }
+    }
+
+    private final Cache<UUID, FlowStatus> flows = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(RETENTION_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Starts recording [handle]. Progress events are recorded too when the flow was started tracked.
+     */
+    public Submission register(FlowHandle<SignedTransaction> handle) {
+        final FlowStatus status = new FlowStatus(handle.getId().getUuid());
+        flows.put(status.flowId, status);
+
+        if (handle instanceof FlowProgressHandle) {
+            ((FlowProgressHandle<SignedTransaction>) handle).getProgress().subscribe(
+                    step -> status.progress = step,
+                    error -> { /* The outcome is reported through the return value. */ });
+        }
+
+        final CompletableFuture<SignedTransaction> result = handle.getReturnValue().toCompletableFuture();
+        result.whenComplete((signedTx, ex) -> {
+            if (ex == null) {
+                status.transactionId = signedTx.getId().toString();
+                status.status = Status.COMPLETED;
+            } else {
+                status.error = causeOf(ex).getMessage();
+                status.status = Status.FAILED;
+            }
+            status.finishedAt = System.currentTimeMillis();
+            // Re-insert so the retention period counts from completion.
+            flows.put(status.flowId, status);
+            handle.close();
+        });
+        return new Submission(status, result);
+    }
+
+    /**
+     * Strips the wrapper [CompletableFuture] puts around the exception a flow failed with.
+     */
+    static Throwable causeOf(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /**
+     * @return the status of the flow, or null if it is unknown or has expired.
+     */
+    public FlowStatus get(UUID flowId) {
+        return flows.getIfPresent(flowId);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.api;
+
+import com.example.state.IOUState;
+import net.corda.core.contracts.StateAndRef;
+
+import java.util.UUID;
+
+/**
+ * Compact projection of an IOU for listings: its business fields, party names and state reference only.
+ */
+public class IOUView {
+    public final int value;
+    public final Long date;
+    public final String viewer;
+    public final String lender;
+    public final String borrower;
+    public final UUID linearId;
+    public final String ref;
+
+    public IOUView(int value, Long date, String viewer, String lender, String borrower, UUID linearId, String ref) {
+        this.value = value;
+        this.date = date;
+        this.viewer = viewer;
+        this.lender = lender;
+        this.borrower = borrower;
+        this.linearId = linearId;
+        this.ref = ref;
+    }
+
+    /**
+     * What [ReadModel] indexes IOUs by.
+     */
+    public static final ReadModel.Fields<IOUView> FIELDS = new ReadModel.Fields<IOUView>() {
+        @Override public Long date(IOUView view) { return view.date; }
+        @Override public UUID linearId(IOUView view) { return view.linearId; }
+        @Override public String party(IOUView view, StateQuery.Role role) {
+            switch (role) {
+                case VIEWER: return view.viewer;
+                case LENDER: return view.lender;
+                case BORROWER: return view.borrower;
+                default: return null;
+            }
+        }
+        @Override public int value(IOUView view) { return view.value; }
+        @Override public IOUView restore(int value, Long date, String viewer, String lender, String borrower, UUID linearId, String ref) {
+            return new IOUView(value, date, viewer, lender, borrower, linearId, ref);
+        }
+    };
+
+    public static IOUView of(StateAndRef<IOUState> stateAndRef) {
+        final IOUState iou = stateAndRef.getState().getData();
+        return new IOUView(
+                iou.getValue(),
+                iou.getDate(),
+                iou.getViewer().getName().toString(),
+                iou.getLender().getName().toString(),
+                iou.getBorrower().getName().toString(),
+                iou.getLinearId().getId(),
+                stateAndRef.getRef().getTxhash() + ":" + stateAndRef.getRef().getIndex());
+    }
+}
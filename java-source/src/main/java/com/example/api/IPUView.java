@@ -0,0 +1,61 @@
+package com.example.api;
+
+import com.example.state.IPUState;
+import net.corda.core.contracts.StateAndRef;
+
+import java.util.UUID;
+
+/**
+ * Compact projection of an IPU for listings: its business fields, party names and state reference only.
+ */
+public class IPUView {
+    public final int value;
+    public final Long date;
+    public final String viewer;
+    public final String payer;
+    public final String loaner;
+    public final UUID linearId;
+    public final String ref;
+
+    public IPUView(int value, Long date, String viewer, String payer, String loaner, UUID linearId, String ref) {
+        this.value = value;
+        this.date = date;
+        this.viewer = viewer;
+        this.payer = payer;
+        this.loaner = loaner;
+        this.linearId = linearId;
+        this.ref = ref;
+    }
+
+    /**
+     * What [ReadModel] indexes IPUs by.
+     */
+    public static final ReadModel.Fields<IPUView> FIELDS = new ReadModel.Fields<IPUView>() {
+        @Override public Long date(IPUView view) { return view.date; }
+        @Override public UUID linearId(IPUView view) { return view.linearId; }
+        @Override public String party(IPUView view, StateQuery.Role role) {
+            switch (role) {
+                case VIEWER: return view.viewer;
+                case PAYER: return view.payer;
+                case LOANER: return view.loaner;
+                default: return null;
+            }
+        }
+        @Override public int value(IPUView view) { return view.value; }
+        @Override public IPUView restore(int value, Long date, String viewer, String payer, String loaner, UUID linearId, String ref) {
+            return new IPUView(value, date, viewer, payer, loaner, linearId, ref);
+        }
+    };
+
+    public static IPUView of(StateAndRef<IPUState> stateAndRef) {
+        final IPUState ipu = stateAndRef.getState().getData();
+        return new IPUView(
+                ipu.getValue(),
+                ipu.getDate(),
+                ipu.getViewer().getName().toString(),
+                ipu.getPayer().getName().toString(),
+                ipu.getLoaner().getName().toString(),
+                ipu.getLinearId().getId(),
+                stateAndRef.getRef().getTxhash() + ":" + stateAndRef.getRef().getIndex());
+    }
+}
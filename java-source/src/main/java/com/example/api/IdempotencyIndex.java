@@ -0,0 +1,324 @@
+package com.example.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.corda.core.transactions.SignedTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which flow each Idempotency-Key started, so that a retried request attaches to the original flow instead
+ * of starting another one.
+ *
+ * The index is bounded in size and age, and every change is appended as a JSON line to a file that is replayed on
+ * start-up, so keys survive webserver restarts. A claim is forced to disk before its flow is started, and a key
+ * whose claim cannot be made durable is refused rather than handed out. The flow's id is only known once the node
+ * has started it, so a crash can leave a claim without one; such claims are kept, as [unresolved], until the node
+ * tells what became of them (the flows carry their key, see [NodeApi]). Outcomes are not forced, as they can be found
+ * from the node again. The file is rewritten with the live keys only once it holds many more lines than there are
+ * keys.
+ *
+ * A key lives for [RETENTION_HOURS] from when it was first claimed, across restarts.
+ */
+public class IdempotencyIndex implements AutoCloseable {
+    static private final Logger logger = LoggerFactory.getLogger(IdempotencyIndex.class);
+
+    private static final long MAX_KEYS = 100_000;
+    private static final long RETENTION_HOURS = 24;
+    private static final long RETENTION_MILLIS = TimeUnit.HOURS.toMillis(RETENTION_HOURS);
+    private static final long MIN_LINES_BEFORE_REWRITE = 10_000;
+
+    /**
+     * What is known of the request a key was first used for.
+     */
+    public static final class Record {
+        public final String key;
+        /** The end-point and parameters of the request, so a key reused for another request can be refused. */
+        public final String fingerprint;
+        public final long createdAt;
+        private volatile UUID flowId;
+        private volatile String transactionId;
+        private volatile String error;
+        /** The flow, when it was started by this webserver run. */
+        private volatile FlowRegistry.Submission submission;
+        /** Whether the record was replayed from an earlier run, which may have died while starting its flow. */
+        private boolean recovered;
+
+        private Record(String key, String fingerprint, long createdAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+
+        public UUID getFlowId() { return flowId; }
+        public String getTransactionId() { return transactionId; }
+        public String getError() { return error; }
+        public FlowRegistry.Submission getSubmission() { return submission; }
+
+        /** Whether the outcome of the request is still to be found from the node, see [unresolved]. */
+        public boolean isUnresolved() {
+            return recovered && transactionId == null && error == null;
+        }
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path path;
+    /** Evicts keys at the latest one retention period after they were replayed; [live] applies their actual age. */
+    private final Cache<String, Record> records = CacheBuilder.newBuilder()
+            .maximumSize(MAX_KEYS)
+            .expireAfterWrite(RETENTION_HOURS, TimeUnit.HOURS)
+            .build();
+    private FileChannel channel;
+    private Writer writer;
+    private long lines;
+
+    public IdempotencyIndex(Path path) throws IOException {
+        this.path = path;
+        replay();
+        rewrite();
+    }
+
+    /**
+     * Claims [key] for a new request, unless it was already used.
+     *
+     * @return null if the caller now owns the key and should start its flow, or the record of the earlier request.
+     * @throws IllegalStateException if the claim cannot be made durable, in which case the key is not claimed.
+     */
+    public synchronized Record claim(String key, String fingerprint) {
+        final Record existing = live(key);
+        if (existing != null) {
+            return existing;
+        }
+        final Record record = new Record(key, fingerprint, System.currentTimeMillis());
+        records.put(key, record);
+        if (!append(record, true)) {
+            records.invalidate(key);
+            throw new IllegalStateException("Idempotency index " + path + " cannot be written.");
+        }
+        return null;
+    }
+
+    /**
+     * Records the flow started for a claimed key.
+     */
+    public synchronized void started(String key, FlowRegistry.Submission submission) {
+        final Record record = live(key);
+        if (record == null) {
+            return;
+        }
+        record.flowId = submission.status.getFlowId();
+        record.submission = submission;
+        append(record, true);
+        submission.result.whenComplete((signedTx, ex) -> finished(record, signedTx, ex));
+    }
+
+    /**
+     * Gives up a claimed key whose request was refused before any flow started, so it can be retried.
+     */
+    public synchronized void release(String key) {
+        final Record record = live(key);
+        if (record != null && record.flowId == null) {
+            records.invalidate(key);
+            appendRemoval(key);
+        }
+    }
+
+    /**
+     * @return the records of the requests of an earlier webserver run whose outcome is not recorded: because their
+     * flow finished after that run ended, because the outcome was lost in a crash, or because the run died between
+     * claiming the key and learning the id of the flow it started, if it started one.
+     */
+    public synchronized List<Record> unresolved() {
+        final List<Record> unresolved = new ArrayList<>();
+        for (Record record : records.asMap().values()) {
+            if (record.isUnresolved() && live(record.key) != null) {
+                unresolved.add(record);
+            }
+        }
+        return unresolved;
+    }
+
+    /**
+     * Records the outcome of an [unresolved] record's request, as found from the node: the transaction its flow
+     * committed, or else why it has none.
+     */
+    public synchronized void resolved(Record record, String transactionId, String error) {
+        record.transactionId = transactionId;
+        record.error = transactionId == null ? error : null;
+        append(record, false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * @return the record of [key], or null if there is none or it is older than the retention period.
+     */
+    private Record live(String key) {
+        final Record record = records.getIfPresent(key);
+        if (record != null && record.createdAt < System.currentTimeMillis() - RETENTION_MILLIS) {
+            records.invalidate(key);
+            return null;
+        }
+        return record;
+    }
+
+    private synchronized void finished(Record record, SignedTransaction signedTx, Throwable ex) {
+        if (ex == null) {
+            record.transactionId = signedTx.getId().toString();
+        } else {
+            record.error = FlowRegistry.causeOf(ex).getMessage();
+        }
+        append(record, false);
+    }
+
+    /**
+     * Appends [record]'s current state, forcing it to disk if it is [durable].
+     *
+     * @return whether the line was written.
+     */
+    private boolean append(Record record, boolean durable) {
+        return write(line(record), durable);
+    }
+
+    private ObjectNode line(Record record) {
+        final ObjectNode line = mapper.createObjectNode()
+                .put("key", record.key)
+                .put("fingerprint", record.fingerprint)
+                .put("createdAt", record.createdAt);
+        if (record.flowId != null) line.put("flowId", record.flowId.toString());
+        if (record.transactionId != null) line.put("transactionId", record.transactionId);
+        if (record.error != null) line.put("error", record.error);
+        return line;
+    }
+
+    private void appendRemoval(String key) {
+        // Without its removal, a released claim comes back as unresolved, and is settled from the node.
+        write(mapper.createObjectNode().put("key", key).put("removed", true), false);
+    }
+
+    private boolean write(ObjectNode line, boolean durable) {
+        try {
+            if (writer == null) {
+                // A failed rewrite left no file open; try the current one again.
+                open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            writer.write(mapper.writeValueAsString(line));
+            writer.write('\n');
+            writer.flush();
+            if (durable) {
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            // Keys in memory still work; claims are refused by the caller until their lines can be written again.
+            logger.error("Idempotency index " + path + " cannot be written.", ex);
+            return false;
+        }
+        if (++lines > Math.max(MIN_LINES_BEFORE_REWRITE, 4 * records.size())) {
+            try {
+                rewrite();
+            } catch (IOException ex) {
+                // The current file is still complete, and is appended to until a later rewrite succeeds.
+                logger.error("Idempotency index " + path + " cannot be rewritten.", ex);
+            }
+        }
+        return true;
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        final long oldest = System.currentTimeMillis() - RETENTION_MILLIS;
+        final List<String> replayed = Files.readAllLines(path, StandardCharsets.UTF_8);
+        for (String text : replayed) {
+            final JsonNode line;
+            try {
+                line = mapper.readTree(text);
+            } catch (IOException ex) {
+                // A line torn by a crash, which can only be the last one.
+                continue;
+            }
+            if (line == null || !line.hasNonNull("key")) {
+                continue;
+            }
+            final String key = line.get("key").asText();
+            if (line.path("removed").asBoolean()) {
+                records.invalidate(key);
+                continue;
+            }
+            final long createdAt = line.path("createdAt").asLong();
+            if (createdAt < oldest) {
+                continue;
+            }
+            final Record record = new Record(key, line.path("fingerprint").asText(), createdAt);
+            record.flowId = line.hasNonNull("flowId") ? UUID.fromString(line.get("flowId").asText()) : null;
+            record.transactionId = line.hasNonNull("transactionId") ? line.get("transactionId").asText() : null;
+            record.error = line.hasNonNull("error") ? line.get("error").asText() : null;
+            // A claim without a flow may have died with the previous run before or after starting its flow; it is kept
+            // until the node tells which.
+            record.recovered = record.transactionId == null && record.error == null;
+            records.put(key, record);
+        }
+        logger.info("Idempotency index {} replayed, {} keys live.", path, records.size());
+    }
+
+    /**
+     * Replaces the file with one line per live key. If this throws, the current file is left in place, and reopened
+     * by the next [write].
+     */
+    private void rewrite() throws IOException {
+        final Path rewritten = path.resolveSibling(path.getFileName() + ".rewrite");
+        long written = 0;
+        try (FileChannel out = FileChannel.open(rewritten, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final Writer outWriter = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(out), StandardCharsets.UTF_8));
+            for (Record record : records.asMap().values()) {
+                if (live(record.key) != null) {
+                    outWriter.write(mapper.writeValueAsString(line(record)));
+                    outWriter.write('\n');
+                    written++;
+                }
+            }
+            outWriter.flush();
+            // Once, for all the lines, before the rewrite replaces the file.
+            out.force(false);
+        }
+        if (writer != null) {
+            final Writer current = writer;
+            writer = null;
+            current.close();
+        }
+        Files.move(rewritten, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        lines = written;
+    }
+
+    private void open(Path file, OpenOption... options) throws IOException {
+        channel = FileChannel.open(file, options);
+        writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.api;
+
+import com.example.state.IOUState;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.identity.Party;
+import net.corda.core.transactions.SignedTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Coalesces IOU creations for the same viewer and counterparty into multi-output transactions.
+ *
+ * The first request for a pair opens a batch, which is closed [windowMillis] later or as soon as it holds [maxSize]
+ * requests, whichever comes first, and issued by a single [com.example.flow.RegularFlow.BatchInitiator] flow. Each
+ * request still gets its own IOU back: output i of the transaction belongs to the i-th request of the batch.
+ */
+public class IouBatcher implements AutoCloseable {
+    static private final Logger logger = LoggerFactory.getLogger(IouBatcher.class);
+
+    /**
+     * Starts the flow issuing one IOU per value, in order.
+     */
+    public interface Starter {
+        CompletableFuture<SignedTransaction> start(List<Integer> values, Party viewerParty, Party otherParty) throws Exception;
+    }
+
+    private final Starter starter;
+    private final long windowMillis;
+    private final int maxSize;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "iou-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The batches still accepting requests. Guarded by this. */
+    private final Map<List<Party>, Batch> open = new HashMap<>();
+
+    public IouBatcher(Starter starter, long windowMillis, int maxSize) {
+        this.starter = starter;
+        this.windowMillis = windowMillis;
+        this.maxSize = maxSize;
+    }
+
+    private static final class Batch {
+        final Party viewerParty;
+        final Party otherParty;
+        final List<Integer> values = new ArrayList<>();
+        final List<CompletableFuture<StateAndRef<IOUState>>> issued = new ArrayList<>();
+
+        Batch(Party viewerParty, Party otherParty) {
+            this.viewerParty = viewerParty;
+            this.otherParty = otherParty;
+        }
+    }
+
+    /**
+     * @return a future completing with the IOU issued for this request, once its batch has been committed.
+     */
+    public CompletableFuture<StateAndRef<IOUState>> add(int value, Party viewerParty, Party otherParty) {
+        final List<Party> key = Arrays.asList(viewerParty, otherParty);
+        final CompletableFuture<StateAndRef<IOUState>> issued = new CompletableFuture<>();
+        final Batch full;
+        synchronized (this) {
+            Batch batch = open.get(key);
+            if (batch == null) {
+                final Batch opened = new Batch(viewerParty, otherParty);
+                open.put(key, opened);
+                timer.schedule(() -> close(key, opened), windowMillis, TimeUnit.MILLISECONDS);
+                batch = opened;
+            }
+            batch.values.add(value);
+            batch.issued.add(issued);
+            full = batch.values.size() >= maxSize && open.remove(key) == batch ? batch : null;
+        }
+        if (full != null) {
+            issue(full);
+        }
+        return issued;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+
+    private void close(List<Party> key, Batch batch) {
+        synchronized (this) {
+            // Already closed for being full.
+            if (!open.remove(key, batch)) {
+                return;
+            }
+        }
+        issue(batch);
+    }
+
+    private void issue(Batch batch) {
+        final CompletableFuture<SignedTransaction> result;
+        try {
+            result = starter.start(batch.values, batch.viewerParty, batch.otherParty);
+        } catch (Exception ex) {
+            logger.error("A batch of " + batch.values.size() + " IOUs could not be started.", ex);
+            batch.issued.forEach(issued -> issued.completeExceptionally(ex));
+            return;
+        }
+        result.whenComplete((signedTx, ex) -> {
+            if (ex != null) {
+                batch.issued.forEach(issued -> issued.completeExceptionally(FlowRegistry.causeOf(ex)));
+                return;
+            }
+            final List<StateAndRef<IOUState>> outputs = signedTx.getTx().outRefsOfType(IOUState.class);
+            for (int i = 0; i < batch.issued.size(); i++) {
+                batch.issued.get(i).complete(outputs.get(i));
+            }
+        });
+    }
+}
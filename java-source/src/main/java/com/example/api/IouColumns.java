@@ -0,0 +1,373 @@
+package com.example.api;
+
+import net.corda.core.node.services.Vault;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Every IOU the read model has seen, as columns of primitive arrays, for aggregate reports over millions of rows.
+ *
+ * Each IOU is one row: its value, its date, its viewer, lender and borrower as ids into a dictionary of party names,
+ * and a bit telling whether it is consumed. Rows are appended as the IOU read model reports new states (this is one
+ * of its [ReadModel.Listener]s) and never removed. A [report] filters and groups the rows in a tight loop over the
+ * arrays, split across cores with fork-join once there are more than [SPLIT_ROWS] of them. Each core gets a few
+ * large slices rather than many small ones, since every slice carries its own totals for all the groups; there are
+ * never so many slices that their totals together exceed [MAX_SCAN_TOTALS] longs.
+ *
+ * There is a single writer, the read model, which publishes each row by incrementing [size] after writing it, and
+ * each consumption by incrementing [consumptions] after setting its bit, so reports read the arrays without locking.
+ * A report sees the rows and consumptions published before it started; one still reading the arrays when they grow
+ * does not see what is written to their copies.
+ */
+public class IouColumns implements ReadModel.Listener<IOUView> {
+    private static final int INITIAL_ROWS = 1 << 16;
+    private static final int SPLIT_ROWS = 1 << 16;
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    /** The most days a report grouped by day may cover, about ten years. */
+    public static final int MAX_DAYS = 3_660;
+    /** The most longs the slices of one report may hold in totals, 16 MB. */
+    private static final int MAX_SCAN_TOTALS = 1 << 21;
+
+    /** What the rows of a report are grouped by. */
+    public enum GroupBy { NONE, LENDER, BORROWER, VIEWER, DAY }
+
+    /** Per group: count, sum, min, max, then the value histogram, one bucket per power of two. */
+    private static final int COUNT = 0, SUM = 1, MIN = 2, MAX = 3, HISTOGRAM = 4, BUCKETS = 32, STRIDE = HISTOGRAM + BUCKETS;
+
+    /**
+     * The row filter of a report: party ids (-1 for any), a date range and a status.
+     */
+    private static final class Filter {
+        final int viewer;
+        final int lender;
+        final int borrower;
+        final long from;
+        final long to;
+        final Vault.StateStatus status;
+
+        Filter(int viewer, int lender, int borrower, long from, long to, Vault.StateStatus status) {
+            this.viewer = viewer;
+            this.lender = lender;
+            this.borrower = borrower;
+            this.from = from;
+            this.to = to;
+            this.status = status;
+        }
+    }
+
+    /**
+     * One group of a report. [histogram] counts values v with 2^i <= v < 2^(i+1) at index i, up to the highest
+     * non-empty bucket.
+     */
+    public static class Group {
+        public final String key;
+        public final long count;
+        public final long sum;
+        public final int min;
+        public final int max;
+        public final long[] histogram;
+
+        Group(String key, long count, long sum, int min, int max, long[] histogram) {
+            this.key = key;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.histogram = histogram;
+        }
+    }
+
+    /**
+     * The result of a report: the number of rows scanned and the non-empty groups.
+     */
+    public static class Report {
+        public final long rows;
+        public final GroupBy groupBy;
+        public final List<Group> groups;
+
+        Report(long rows, GroupBy groupBy, List<Group> groups) {
+            this.rows = rows;
+            this.groupBy = groupBy;
+            this.groups = groups;
+        }
+    }
+
+    private final List<String> names = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final Map<String, Integer> rowsByRef = new HashMap<>();
+
+    private volatile int[] values = new int[INITIAL_ROWS];
+    private volatile long[] dates = new long[INITIAL_ROWS];
+    private volatile int[] viewers = new int[INITIAL_ROWS];
+    private volatile int[] lenders = new int[INITIAL_ROWS];
+    private volatile int[] borrowers = new int[INITIAL_ROWS];
+    private volatile long[] consumed = new long[INITIAL_ROWS / 64];
+    private volatile int size;
+    private volatile long consumptions;
+    private volatile long minDate = Long.MAX_VALUE;
+    private volatile long maxDate = Long.MIN_VALUE;
+
+    @Override
+    public void produced(IOUView iou) {
+        append(iou, false);
+    }
+
+    @Override
+    public void alreadyConsumed(IOUView iou) {
+        append(iou, true);
+    }
+
+    @Override
+    public void consumed(IOUView iou) {
+        final Integer row = rowsByRef.get(iou.ref);
+        if (row != null) {
+            consumed[row >>> 6] |= 1L << row;
+            consumptions++;
+        }
+    }
+
+    /**
+     * Aggregates the rows matching the filters, grouped by [groupBy]. A null party name matches any party, and one
+     * that was never seen matches none.
+     *
+     * @throws IllegalArgumentException if a report by day would cover more than [MAX_DAYS] days.
+     */
+    public Report report(GroupBy groupBy, String viewer, String lender, String borrower, Long from, Long to, Vault.StateStatus status) {
+        // Everything a scan reads is taken before it starts; rows appended meanwhile are left for the next report.
+        // Reading the counters first makes the arrays' contents they publish visible.
+        final long consumptions = this.consumptions;
+        final int rows = size;
+        final int[] values = this.values;
+        final long[] dates = this.dates;
+        final int[] viewers = this.viewers;
+        final int[] lenders = this.lenders;
+        final int[] borrowers = this.borrowers;
+        final long[] consumed = this.consumed;
+        final List<String> names = new ArrayList<>(this.names);
+
+        final Filter filter = new Filter(id(viewer), id(lender), id(borrower),
+                from == null ? Long.MIN_VALUE : from, to == null ? Long.MAX_VALUE : to, status);
+        if (filter.viewer == -2 || filter.lender == -2 || filter.borrower == -2 || filter.from > filter.to) {
+            return new Report(rows, groupBy, Collections.emptyList());
+        }
+
+        long firstDay = 0;
+        int groups = 1;
+        switch (groupBy) {
+            case LENDER:
+            case BORROWER:
+            case VIEWER:
+                groups = names.size();
+                break;
+            case DAY:
+                final long first = Math.max(minDate, filter.from);
+                final long last = Math.min(maxDate, filter.to);
+                if (first > last) {
+                    return new Report(rows, groupBy, Collections.emptyList());
+                }
+                firstDay = Math.floorDiv(first, DAY_MILLIS);
+                final long days = Math.floorDiv(last, DAY_MILLIS) - firstDay + 1;
+                if (days > MAX_DAYS) {
+                    throw new IllegalArgumentException("A report by day cannot cover more than " + MAX_DAYS + " days.");
+                }
+                groups = (int) days;
+                break;
+            default:
+                break;
+        }
+
+        // A few slices per core, but no more than fit the totals budget. Halving down to [slice] rows makes up to twice
+        // as many slices as rows / slice.
+        final int leaves = Math.max(1, Math.min(4 * ForkJoinPool.getCommonPoolParallelism(), MAX_SCAN_TOTALS / (2 * groups * STRIDE)));
+        final int slice = Math.max(SPLIT_ROWS, rows / leaves + 1);
+        final Scan scan = new Scan(values, dates, viewers, lenders, borrowers, consumed, filter, groupBy, firstDay, groups, slice, 0, rows);
+        final long[] totals = rows > SPLIT_ROWS ? ForkJoinPool.commonPool().invoke(scan) : scan.compute();
+
+        final List<Group> result = new ArrayList<>();
+        for (int group = 0; group < groups; group++) {
+            final int base = group * STRIDE;
+            if (totals[base + COUNT] == 0) {
+                continue;
+            }
+            int top = BUCKETS;
+            while (top > 0 && totals[base + HISTOGRAM + top - 1] == 0) {
+                top--;
+            }
+            final String key = groupBy == GroupBy.NONE ? null
+                    : groupBy == GroupBy.DAY ? LocalDate.ofEpochDay(firstDay + group).toString()
+                    : names.get(group);
+            result.add(new Group(key, totals[base + COUNT], totals[base + SUM], (int) totals[base + MIN], (int) totals[base + MAX],
+                    Arrays.copyOfRange(totals, base + HISTOGRAM, base + HISTOGRAM + top)));
+        }
+        return new Report(rows, groupBy, result);
+    }
+
+    /**
+     * @return the dictionary id of [name], -1 for a null name (any party), or -2 for a name never seen (no party).
+     */
+    private int id(String name) {
+        if (name == null) {
+            return -1;
+        }
+        synchronized (ids) {
+            final Integer id = ids.get(name);
+            return id == null ? -2 : id;
+        }
+    }
+
+    private int intern(String name) {
+        synchronized (ids) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = names.size();
+                names.add(name);
+                ids.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    private void append(IOUView iou, boolean isConsumed) {
+        final int row = size;
+        if (row == values.length) {
+            grow(row * 2);
+        }
+        values[row] = iou.value;
+        dates[row] = iou.date == null ? Long.MIN_VALUE : iou.date;
+        if (iou.date != null) {
+            minDate = Math.min(minDate, iou.date);
+            maxDate = Math.max(maxDate, iou.date);
+        }
+        viewers[row] = intern(iou.viewer);
+        lenders[row] = intern(iou.lender);
+        borrowers[row] = intern(iou.borrower);
+        if (isConsumed) {
+            consumed[row >>> 6] |= 1L << row;
+        }
+        rowsByRef.put(iou.ref, row);
+        size = row + 1;
+    }
+
+    private void grow(int rows) {
+        values = Arrays.copyOf(values, rows);
+        dates = Arrays.copyOf(dates, rows);
+        viewers = Arrays.copyOf(viewers, rows);
+        lenders = Arrays.copyOf(lenders, rows);
+        borrowers = Arrays.copyOf(borrowers, rows);
+        consumed = Arrays.copyOf(consumed, rows / 64);
+    }
+
+    /**
+     * Aggregates rows [from, to), splitting the range in halves down to [slice] rows.
+     */
+    private static final class Scan extends RecursiveTask<long[]> {
+        final int[] values;
+        final long[] dates;
+        final int[] viewers;
+        final int[] lenders;
+        final int[] borrowers;
+        final long[] consumed;
+        final Filter filter;
+        final GroupBy groupBy;
+        final long firstDay;
+        final int groups;
+        final int slice;
+        final int from;
+        final int to;
+
+        Scan(int[] values, long[] dates, int[] viewers, int[] lenders, int[] borrowers, long[] consumed,
+             Filter filter, GroupBy groupBy, long firstDay, int groups, int slice, int from, int to) {
+            this.values = values;
+            this.dates = dates;
+            this.viewers = viewers;
+            this.lenders = lenders;
+            this.borrowers = borrowers;
+            this.consumed = consumed;
+            this.filter = filter;
+            this.groupBy = groupBy;
+            this.firstDay = firstDay;
+            this.groups = groups;
+            this.slice = slice;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > slice) {
+                final int middle = (from + to) >>> 1;
+                final Scan left = new Scan(values, dates, viewers, lenders, borrowers, consumed, filter, groupBy, firstDay, groups, slice, from, middle);
+                final Scan right = new Scan(values, dates, viewers, lenders, borrowers, consumed, filter, groupBy, firstDay, groups, slice, middle, to);
+                left.fork();
+                final long[] totals = right.compute();
+                merge(totals, left.join());
+                return totals;
+            }
+
+            final long[] totals = new long[groups * STRIDE];
+            for (int group = 0; group < groups; group++) {
+                totals[group * STRIDE + MIN] = Integer.MAX_VALUE;
+                totals[group * STRIDE + MAX] = Integer.MIN_VALUE;
+            }
+            final boolean unconsumedOnly = filter.status == Vault.StateStatus.UNCONSUMED;
+            final boolean consumedOnly = filter.status == Vault.StateStatus.CONSUMED;
+            for (int row = from; row < to; row++) {
+                final long date = dates[row];
+                if (date < filter.from || date > filter.to
+                        || filter.viewer >= 0 && viewers[row] != filter.viewer
+                        || filter.lender >= 0 && lenders[row] != filter.lender
+                        || filter.borrower >= 0 && borrowers[row] != filter.borrower) {
+                    continue;
+                }
+                if (unconsumedOnly || consumedOnly) {
+                    final boolean isConsumed = (consumed[row >>> 6] & (1L << row)) != 0;
+                    if (isConsumed == unconsumedOnly) {
+                        continue;
+                    }
+                }
+                final int group;
+                switch (groupBy) {
+                    case LENDER: group = lenders[row]; break;
+                    case BORROWER: group = borrowers[row]; break;
+                    case VIEWER: group = viewers[row]; break;
+                    case DAY:
+                        // Undated IOUs, stored as Long.MIN_VALUE, belong to no day.
+                        if (date == Long.MIN_VALUE) {
+                            continue;
+                        }
+                        group = (int) (Math.floorDiv(date, DAY_MILLIS) - firstDay);
+                        break;
+                    default: group = 0; break;
+                }
+                // Parties interned after the report took its copy of the dictionary have no group.
+                if (group >= groups) {
+                    continue;
+                }
+                final int base = group * STRIDE;
+                final int value = values[row];
+                totals[base + COUNT]++;
+                totals[base + SUM] += value;
+                totals[base + MIN] = Math.min(totals[base + MIN], value);
+                totals[base + MAX] = Math.max(totals[base + MAX], value);
+                totals[base + HISTOGRAM + (value <= 0 ? 0 : 31 - Integer.numberOfLeadingZeros(value))]++;
+            }
+            return totals;
+        }
+
+        private static void merge(long[] into, long[] from) {
+            for (int base = 0; base < into.length; base += STRIDE) {
+                into[base + COUNT] += from[base + COUNT];
+                into[base + SUM] += from[base + SUM];
+                into[base + MIN] = Math.min(into[base + MIN], from[base + MIN]);
+                into[base + MAX] = Math.max(into[base + MAX], from[base + MAX]);
+                for (int bucket = HISTOGRAM; bucket < STRIDE; bucket++) {
+                    into[base + bucket] += from[base + bucket];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.api;
+
+import net.corda.core.node.services.vault.Sort;
+
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.QueryParam;
+
+/**
+ * The paging and presentation query parameters shared by every list end-point.
+ */
+public class ListParams {
+    /**
+     * FULL lists the states as recorded in the vault; COMPACT lists their [IOUView]/[IPUView] projection.
+     */
+    public enum View { FULL, COMPACT }
+
+    @QueryParam("pageSize") @DefaultValue("200")
+    public int pageSize;
+
+    @QueryParam("pageToken")
+    public String pageToken;
+
+    @QueryParam("order") @DefaultValue("ASC")
+    public Sort.Direction order;
+
+    @QueryParam("view") @DefaultValue("FULL")
+    public View view;
+}
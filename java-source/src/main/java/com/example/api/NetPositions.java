@@ -0,0 +1,163 @@
+package com.example.api;
+
+import net.corda.core.identity.CordaX500Name;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The open position between every pair of parties seen in the vault: what each one lent the other in unconsumed IOUs,
+ * and what the unconsumed IPUs between them settle.
+ *
+ * It is a [ReadModel.Listener] of both read models, so each state produced or consumed costs one hash lookup and a
+ * few additions, and no query ever scans the vault. Pairs are unordered; each is stored under its two names in
+ * lexicographic order, which [Position.partyA] and [Position.partyB] follow.
+ */
+public class NetPositions {
+
+    /**
+     * A snapshot of the position between two parties.
+     */
+    public static class Position {
+        public final String partyA;
+        public final String partyB;
+        /** Total of the unconsumed IOUs in which A lent to B. */
+        public final long lentByA;
+        /** Total of the unconsumed IOUs in which B lent to A. */
+        public final long lentByB;
+        /** lentByA - lentByB: what B owes A net, negative when A owes B. */
+        public final long net;
+        public final long openIous;
+        /** Total of the unconsumed IPUs in which B pays A, less those in which A pays B. */
+        public final long ipuNet;
+        public final long openIpus;
+
+        Position(String partyA, String partyB, long lentByA, long lentByB, long openIous, long ipuNet, long openIpus) {
+            this.partyA = partyA;
+            this.partyB = partyB;
+            this.lentByA = lentByA;
+            this.lentByB = lentByB;
+            this.net = lentByA - lentByB;
+            this.openIous = openIous;
+            this.ipuNet = ipuNet;
+            this.openIpus = openIpus;
+        }
+
+        /**
+         * @return what [party] lent the other party of the pair.
+         */
+        public long lentBy(String party) {
+            return party.equals(partyA) ? lentByA : lentByB;
+        }
+    }
+
+    /**
+     * The running totals of one pair. Guarded by itself.
+     */
+    private static final class Totals {
+        final String partyA;
+        final String partyB;
+        long lentByA;
+        long lentByB;
+        long openIous;
+        long ipuNet;
+        long openIpus;
+
+        Totals(String partyA, String partyB) {
+            this.partyA = partyA;
+            this.partyB = partyB;
+        }
+
+        synchronized Position snapshot() {
+            return new Position(partyA, partyB, lentByA, lentByB, openIous, ipuNet, openIpus);
+        }
+    }
+
+    private final Map<String, Totals> pairs = new ConcurrentHashMap<>();
+
+    private final ReadModel.Listener<IOUView> ious = new ReadModel.Listener<IOUView>() {
+        @Override public void produced(IOUView iou) { addIou(iou, 1); }
+        @Override public void consumed(IOUView iou) { addIou(iou, -1); }
+    };
+
+    private final ReadModel.Listener<IPUView> ipus = new ReadModel.Listener<IPUView>() {
+        @Override public void produced(IPUView ipu) { addIpu(ipu, 1); }
+        @Override public void consumed(IPUView ipu) { addIpu(ipu, -1); }
+    };
+
+    public ReadModel.Listener<IOUView> ious() {
+        return ious;
+    }
+
+    public ReadModel.Listener<IPUView> ipus() {
+        return ipus;
+    }
+
+    /**
+     * @return the position between [one] and [another], all zeroes if nothing is open between them.
+     */
+    public Position between(CordaX500Name one, CordaX500Name another) {
+        final Totals totals = pairs.get(key(one.toString(), another.toString()));
+        if (totals != null) {
+            return totals.snapshot();
+        }
+        final boolean ordered = one.toString().compareTo(another.toString()) <= 0;
+        return new Totals(ordered ? one.toString() : another.toString(), ordered ? another.toString() : one.toString()).snapshot();
+    }
+
+    /**
+     * @return the positions [party] is in (every position if it is null), leaving out those with nothing open.
+     */
+    public List<Position> of(CordaX500Name party) {
+        final String name = party == null ? null : party.toString();
+        final List<Position> positions = new ArrayList<>();
+        for (Totals totals : pairs.values()) {
+            if (name != null && !name.equals(totals.partyA) && !name.equals(totals.partyB)) {
+                continue;
+            }
+            final Position position = totals.snapshot();
+            if (position.openIous != 0 || position.openIpus != 0) {
+                positions.add(position);
+            }
+        }
+        return positions;
+    }
+
+    private void addIou(IOUView iou, int sign) {
+        if (iou.lender.equals(iou.borrower)) {
+            return;
+        }
+        final Totals totals = totals(iou.lender, iou.borrower);
+        synchronized (totals) {
+            if (iou.lender.equals(totals.partyA)) {
+                totals.lentByA += sign * (long) iou.value;
+            } else {
+                totals.lentByB += sign * (long) iou.value;
+            }
+            totals.openIous += sign;
+        }
+    }
+
+    private void addIpu(IPUView ipu, int sign) {
+        if (ipu.payer.equals(ipu.loaner)) {
+            return;
+        }
+        final Totals totals = totals(ipu.payer, ipu.loaner);
+        synchronized (totals) {
+            totals.ipuNet += (ipu.loaner.equals(totals.partyA) ? sign : -sign) * (long) ipu.value;
+            totals.openIpus += sign;
+        }
+    }
+
+    private Totals totals(String one, String another) {
+        final boolean ordered = one.compareTo(another) <= 0;
+        return pairs.computeIfAbsent(key(one, another),
+                key -> new Totals(ordered ? one : another, ordered ? another : one));
+    }
+
+    private static String key(String one, String another) {
+        return one.compareTo(another) <= 0 ? one + "|" + another : another + "|" + one;
+    }
+}
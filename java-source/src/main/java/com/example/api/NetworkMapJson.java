@@ -0,0 +1,82 @@
+package com.example.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The /peers and /corda-nodes bodies, rendered to JSON once per network map change instead of once per request.
+ *
+ * Each body is rendered on the first request after the [PartyDirectory] has applied a change, and served as is until
+ * the next one. NodeInfos carry their full certificate paths, so this saves both the RPC snapshot and most of the
+ * serialization work of a page load.
+ */
+public class NetworkMapJson {
+    private final PartyDirectory parties;
+    private final ObjectMapper mapper;
+
+    private final Rendering peers;
+    private final Rendering nodes;
+
+    public NetworkMapJson(PartyDirectory parties, ObjectMapper mapper, List<String> serviceNames) {
+        this.parties = parties;
+        this.mapper = mapper;
+        this.peers = new Rendering(() -> ImmutableMap.of("peers", parties.peers(serviceNames)));
+        this.nodes = new Rendering(() -> ImmutableMap.of("nodes", parties.nodes()));
+    }
+
+    /**
+     * @return {"peers": [...]}, as rendered for the current network map.
+     */
+    public byte[] peers() {
+        return peers.current();
+    }
+
+    /**
+     * @return {"nodes": [...]}, as rendered for the current network map.
+     */
+    public byte[] nodes() {
+        return nodes.current();
+    }
+
+    /**
+     * A body and the network map version it was rendered from.
+     */
+    private static final class Rendered {
+        final long changes;
+        final byte[] json;
+
+        Rendered(long changes, byte[] json) {
+            this.changes = changes;
+            this.json = json;
+        }
+    }
+
+    private final class Rendering {
+        private final Supplier<Object> body;
+        private volatile Rendered rendered;
+
+        Rendering(Supplier<Object> body) {
+            this.body = body;
+        }
+
+        byte[] current() {
+            // Read the version before the map, so a change made while rendering is rendered again on the next call.
+            final long changes = parties.changes();
+            final Rendered cached = rendered;
+            if (cached != null && cached.changes == changes) {
+                return cached.json;
+            }
+            try {
+                final byte[] json = mapper.writeValueAsBytes(body.get());
+                rendered = new Rendered(changes, json);
+                return json;
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Network map cannot be rendered.", ex);
+            }
+        }
+    }
+}
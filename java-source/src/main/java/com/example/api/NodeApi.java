@@ -4,16 +4,27 @@ import com.example.common.IPU;
 import com.example.common.XUtils;
 import com.example.flow.CompensationFlow;
 import com.example.flow.RegularFlow;
+import com.example.flow.VolumeReportFlow;
 import com.example.state.IOUState;
 import com.example.schema.IOUSchemaV2;
+import com.example.schema.IPUSchemaV2;
 import com.example.state.IPUState;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import net.corda.client.jackson.JacksonSupport;
+import net.corda.core.contracts.LinearState;
 import net.corda.core.contracts.StateAndRef;
+import net.corda.core.flows.FlowLogic;
 import net.corda.core.identity.CordaX500Name;
 import net.corda.core.identity.Party;
 import net.corda.core.messaging.CordaRPCOps;
-import net.corda.core.node.NodeInfo;
+import net.corda.core.messaging.FlowHandle;
+import net.corda.core.messaging.StateMachineInfo;
 import net.corda.core.node.services.Vault;
 import net.corda.core.node.services.vault.*;
 import net.corda.core.transactions.SignedTransaction;
@@ -21,30 +32,377 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.*;
-import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.Response;
-import java.lang.reflect.Field;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.CREATED;
+import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static javax.ws.rs.core.Response.Status.OK;
+import static javax.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
 
 // This API is accessible from /api/example. All paths specified below are relative to it.
 @Path("example")
 public class NodeApi {
     private final CordaRPCOps rpcOps;
+    private final PartyDirectory parties;
     private final CordaX500Name myLegalName;
 
+    private final VaultPager<IOUState> iouPager;
+    private final VaultPager<IPUState> ipuPager;
+    private final ReadModel<IOUState, IOUView> iouModel;
+    private final ReadModel<IPUState, IPUView> ipuModel;
+    private final NetPositions positions = new NetPositions();
+    private final PairDateIndex pairDates = new PairDateIndex();
+    private final IouColumns iouColumns = new IouColumns();
+
+    /**
+     * Where the read models are saved (see [ReadModelSnapshot]) and how often, in seconds, as system properties of the
+     * webserver.
+     */
+    private static final String SNAPSHOT_PATH = System.getProperty("example.snapshot.path", "read-model.snapshot");
+    private static final long SNAPSHOT_INTERVAL = Long.getLong("example.snapshot.interval", 300);
+    private final ScheduledExecutorService snapshots = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "read-model-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final FlowRegistry flowRegistry = new FlowRegistry();
+    private final QueryCompiler compiler = new QueryCompiler();
+    private final ObjectMapper exportMapper;
+    private final VaultVersions versions;
+    private final NetworkMapJson networkMap;
+
+    private static final int EVENT_LOG_CAPACITY = 4096;
+    /**
+     * Each event stream client holds a Jetty worker for as long as it is connected, and Jetty's pool has about 200, so
+     * the clients are capped well below it. The cap can be set as a system property of the webserver.
+     */
+    private static final int MAX_EVENT_CLIENTS = Integer.getInteger("example.events.maxClients", 32);
+    private final VaultEventLog events;
+    private final AtomicInteger eventClients = new AtomicInteger();
+    private final CacheControl revalidate = CacheControl.valueOf("no-cache");
+
     private final List<String> serviceNames = ImmutableList.of("Notary");
 
+    /**
+     * Response header carrying the token of the next page on the paginated list end-points.
+     */
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
+    /**
+     * Response header carrying the [ReadModel.marker] of listings served from the read model.
+     */
+    public static final String READ_MODEL_MARKER_HEADER = "X-Read-Model-Marker";
+
+    private static final int MAX_BULK_CONCURRENCY = 64;
+
+    /**
+     * Separate bulkheads, so a burst of one kind of request cannot take the capacity of the others.
+     */
+    private final ConcurrencyLimiter issuance = new ConcurrencyLimiter("issuance", 16, 2, 256);
+    private final ConcurrencyLimiter compensation = new ConcurrencyLimiter("compensation", 4, 1, 64);
+    private final ConcurrencyLimiter reads = new ConcurrencyLimiter("reads", 32, 4, 256);
+
+    /**
+     * Where requests accepted with queued=true are journaled, and the rate at which they are dispatched. Both can be
+     * set as system properties of the webserver.
+     */
+    private static final String JOURNAL_PATH = System.getProperty("example.journal.path", "submissions.journal");
+    private static final int JOURNAL_CAPACITY = Integer.getInteger("example.journal.capacity", 64 * 1024 * 1024);
+    private static final double DISPATCH_RATE = Double.parseDouble(System.getProperty("example.dispatch.rate", "20"));
+
+    /**
+     * How long a batch of create-iou requests stays open, and how many requests it takes at most. Both can be set as
+     * system properties of the webserver.
+     */
+    private static final long BATCH_WINDOW_MILLIS = Long.getLong("example.batch.window", 5);
+    private static final int BATCH_MAX_SIZE = Integer.getInteger("example.batch.maxSize", 50);
+
+    private final IouBatcher batcher;
+
+    /**
+     * The port of the optional binary ingest listener (see [BinaryIngestServer]), as a system property of the
+     * webserver. The listener is not started when it is not set.
+     */
+    private static final Integer INGEST_PORT = Integer.getInteger("example.ingest.port");
+    private final BinaryIngestServer ingest;
+
+    /**
+     * Where the Idempotency-Key index is kept (see [IdempotencyIndex]), as a system property of the webserver.
+     */
+    private static final String IDEMPOTENCY_PATH = System.getProperty("example.idempotency.path", "idempotency.log");
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final long IDEMPOTENCY_RESOLVE_INTERVAL = Long.getLong("example.idempotency.resolveInterval", 30);
+    private static final int IDEMPOTENCY_KEYS_PER_QUERY = 100;
+    private static final String CREATE_IOU_FINGERPRINT = "create-iou?";
+    private static final String COMPENSATE_FINGERPRINT = "compensate?";
+    private final IdempotencyIndex idempotency;
+
+    private final ObjectMapper journalMapper = new ObjectMapper();
+    private final SubmissionJournal journal;
+    private final SubmissionDispatcher dispatcher;
+
+    /**
+     * Not in [Response.Status], before JAX-RS 2.1 for 429 and at all for 422.
+     */
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int UNPROCESSABLE_ENTITY = 422;
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    /** How long a request thread waits for a report flow. */
+    private static final int REPORT_TIMEOUT_SECONDS = 30;
+
     static private final Logger logger = LoggerFactory.getLogger(NodeApi.class);
 
     public NodeApi(CordaRPCOps rpcOps) {
         this.rpcOps = rpcOps;
-        this.myLegalName = rpcOps.nodeInfo().getLegalIdentities().get(0).getName();
+        this.parties = new PartyDirectory(rpcOps);
+        this.myLegalName = parties.me().getName();
+        this.iouPager = new VaultPager<>(rpcOps, IOUState.class, IOUSchemaV2.PersistentIOU.class, IOUState::getDate, IOUState::getValue);
+        this.ipuPager = new VaultPager<>(rpcOps, IPUState.class, IPUSchemaV2.PersistentIPU.class, IPUState::getDate, IPUState::getValue);
+        final ReadModelSnapshot snapshot = ReadModelSnapshot.open(Paths.get(SNAPSHOT_PATH));
+        this.iouModel = new ReadModel<>(rpcOps, iouPager, IOUState.class, IOUView::of, IOUView.FIELDS,
+                ImmutableList.of(StateQuery.Role.VIEWER, StateQuery.Role.LENDER, StateQuery.Role.BORROWER), ImmutableList.of(positions.ious(), pairDates, iouColumns), snapshot);
+        this.ipuModel = new ReadModel<>(rpcOps, ipuPager, IPUState.class, IPUView::of, IPUView.FIELDS,
+                ImmutableList.of(StateQuery.Role.VIEWER, StateQuery.Role.PAYER, StateQuery.Role.LOANER), ImmutableList.of(positions.ipus()), snapshot);
+        snapshots.scheduleWithFixedDelay(this::saveSnapshot, SNAPSHOT_INTERVAL, SNAPSHOT_INTERVAL, TimeUnit.SECONDS);
+        // Streamed bodies are written by us rather than by the webserver, so they need a mapper configured like its own.
+        this.exportMapper = JacksonSupport.createDefaultMapper(rpcOps);
+        this.exportMapper.registerModule(new CompactJsonModule());
+        this.networkMap = new NetworkMapJson(parties, exportMapper, serviceNames);
+        this.events = new VaultEventLog(rpcOps, exportMapper, EVENT_LOG_CAPACITY);
+        this.batcher = new IouBatcher(
+                this::startBatch,
+                BATCH_WINDOW_MILLIS, BATCH_MAX_SIZE);
+        this.ingest = INGEST_PORT == null ? null : openIngest(INGEST_PORT);
+        this.journal = openJournal();
+        this.idempotency = openIdempotency();
+        if (idempotency != null) {
+            resolveIdempotency();
+            snapshots.scheduleWithFixedDelay(this::resolveIdempotency,
+                    IDEMPOTENCY_RESOLVE_INTERVAL, IDEMPOTENCY_RESOLVE_INTERVAL, TimeUnit.SECONDS);
+        }
+        this.dispatcher = journal == null ? null : new SubmissionDispatcher(journal,
+                kind -> kind == SubmissionJournal.Kind.COMPENSATE ? compensation : issuance,
+                this::startJournaled, DISPATCH_RATE);
+        this.versions = new VaultVersions(rpcOps, ImmutableList.of(IOUState.class, IPUState.class));
+    }
+
+    /**
+     * @return the submission journal, or null if it cannot be opened, in which case queued requests are refused.
+     */
+    private static SubmissionJournal openJournal() {
+        try {
+            return new SubmissionJournal(Paths.get(JOURNAL_PATH), JOURNAL_CAPACITY);
+        } catch (IOException ex) {
+            logger.error("Submission journal " + JOURNAL_PATH + " cannot be opened.", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Saves both read models, once both are loaded, so the next start only has to catch up with what follows.
+     *
+     * The snapshot is dated by the node's clock, which the catch-up compares with the vault's recorded and consumed
+     * times, and only saved if both models have applied everything the vault recorded before that date; while the
+     * feed is behind, the previous snapshot is kept.
+     */
+    private void saveSnapshot() {
+        if (!iouModel.isReady() || !ipuModel.isReady()) {
+            return;
+        }
+        final long started = System.currentTimeMillis();
+        final Instant takenAt;
+        try {
+            takenAt = rpcOps.currentNodeTime();
+            if (!iouModel.caughtUpTo(rpcOps, takenAt) || !ipuModel.caughtUpTo(rpcOps, takenAt)) {
+                logger.warn("The vault feed is behind the vault; read models not saved, {} is kept.", SNAPSHOT_PATH);
+                return;
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Read models could not be saved to " + SNAPSHOT_PATH + ".", ex);
+            return;
+        }
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(Paths.get(SNAPSHOT_PATH), takenAt.toEpochMilli())) {
+            iouModel.save(writer);
+            ipuModel.save(writer);
+            writer.commit();
+            logger.info("Read models saved to {} in {} ms.", SNAPSHOT_PATH, System.currentTimeMillis() - started);
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Read models could not be saved to " + SNAPSHOT_PATH + ".", ex);
+        }
+    }
+
+    /**
+     * @return the Idempotency-Key index, or null if it cannot be opened, in which case requests with a key are refused.
+     */
+    private static IdempotencyIndex openIdempotency() {
+        try {
+            return new IdempotencyIndex(Paths.get(IDEMPOTENCY_PATH));
+        } catch (IOException ex) {
+            logger.error("Idempotency index " + IDEMPOTENCY_PATH + " cannot be opened.", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Settles, as far as the node knows, the Idempotency-Keys an earlier webserver run left without an outcome:
+     * flows that finished after it ended, and claims it died with before learning whether, and which, flow it started.
+     * The flows carry their key as the external id of the state they issue, so a key whose state is in the vault is
+     * answered with its transaction, and one with neither a state nor a flow that may still issue it never committed
+     * anything. Keys whose flow may still be running are left for the next pass.
+     *
+     * Runs at start-up and then every [IDEMPOTENCY_RESOLVE_INTERVAL] seconds, so retries of such keys never cost the
+     * node a lookup of their own.
+     */
+    private void resolveIdempotency() {
+        final List<IdempotencyIndex.Record> unresolved = idempotency.unresolved();
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        final Map<String, String> committed = new HashMap<>();
+        final Set<UUID> running = new HashSet<>();
+        final Set<String> runningClasses = new HashSet<>();
+        try {
+            final List<String> iouKeys = new ArrayList<>();
+            final List<String> ipuKeys = new ArrayList<>();
+            for (IdempotencyIndex.Record record : unresolved) {
+                (flowClassOf(record) == CompensationFlow.Initiator.class ? ipuKeys : iouKeys).add(record.key);
+            }
+            committed.putAll(committedByKey(IOUState.class, iouKeys));
+            committed.putAll(committedByKey(IPUState.class, ipuKeys));
+            for (StateMachineInfo flow : rpcOps.stateMachinesSnapshot()) {
+                running.add(flow.getId().getUuid());
+                runningClasses.add(flow.getFlowLogicClassName());
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Idempotency-Keys of an earlier run could not be looked up.", ex);
+            return;
+        }
+        for (IdempotencyIndex.Record record : unresolved) {
+            final String transactionId = committed.get(record.key);
+            final boolean mayRun = record.getFlowId() != null
+                    ? running.contains(record.getFlowId())
+                    : runningClasses.contains(flowClassOf(record).getName());
+            if (transactionId != null) {
+                idempotency.resolved(record, transactionId, null);
+            } else if (!mayRun) {
+                idempotency.resolved(record, null, "The request with idempotency key " + record.key
+                        + " did not commit a transaction before the webserver restarted.\n");
+            }
+        }
+    }
+
+    /**
+     * @return the transaction that issued the [stateType] state of each of [keys] that has one.
+     */
+    private <T extends LinearState> Map<String, String> committedByKey(Class<T> stateType, List<String> keys) {
+        final Map<String, String> committed = new HashMap<>();
+        // A key issues one state, so a query for fewer keys than the default page size never needs a second page.
+        for (List<String> some : Lists.partition(keys, IDEMPOTENCY_KEYS_PER_QUERY)) {
+            final QueryCriteria criteria = new QueryCriteria.LinearStateQueryCriteria(null, null, some, Vault.StateStatus.ALL);
+            for (StateAndRef<T> state : rpcOps.vaultQueryByCriteria(criteria, stateType).getStates()) {
+                committed.put(state.getState().getData().getLinearId().getExternalId(), state.getRef().getTxhash().toString());
+            }
+        }
+        return committed;
+    }
+
+    /**
+     * @return the flow started for requests like [record]'s, which carries the key.
+     */
+    private static Class<?> flowClassOf(IdempotencyIndex.Record record) {
+        return record.fingerprint.startsWith(COMPENSATE_FINGERPRINT) ? CompensationFlow.Initiator.class : RegularFlow.Initiator.class;
+    }
+
+    /**
+     * @return the binary ingest listener, or null if it cannot be started.
+     */
+    private BinaryIngestServer openIngest(int port) {
+        try {
+            return new BinaryIngestServer(new InetSocketAddress(port), this::submitIOU);
+        } catch (IOException ex) {
+            logger.error("Binary IOU ingest cannot listen on port " + port + ".", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Starts the flow issuing a closed batch of [IouBatcher], holding one issuance permit for the whole batch.
+     *
+     * @throws RejectedExecutionException if issuance is saturated.
+     */
+    private CompletableFuture<SignedTransaction> startBatch(List<Integer> values, Party viewerParty, Party otherParty) {
+        final ConcurrencyLimiter.Permit permit = issuance.tryAcquire();
+        if (permit == null) {
+            throw new RejectedExecutionException("Too many concurrent issuance requests, retry later.");
+        }
+        try {
+            return submitFlow(permit, false, RegularFlow.BatchInitiator.class, values, viewerParty, otherParty).result;
+        } catch (RuntimeException ex) {
+            permit.discard();
+            throw ex;
+        }
+    }
+
+    /**
+     * Issues an IOU on behalf of the binary ingest listener, through the same bulkhead and flow as /create-iou.
+     *
+     * @throws IllegalArgumentException if the request is invalid.
+     * @throws RejectedExecutionException if issuance is saturated.
+     */
+    private CompletableFuture<SignedTransaction> submitIOU(int iouValue, CordaX500Name viewerPartyName, CordaX500Name otherPartyName) {
+        if (iouValue <= 0) {
+            throw new IllegalArgumentException("IOU value must be non-negative.");
+        }
+        if (iouValue > RegularFlow.MAX_IOU_VALUE) {
+            throw new IllegalArgumentException("IOU value must not exceed " + RegularFlow.MAX_IOU_VALUE + ".");
+        }
+        final Party otherParty = parties.resolve(otherPartyName);
+        if (otherParty == null) {
+            throw new IllegalArgumentException("Party named " + otherPartyName + " cannot be found.");
+        }
+        final Party viewerParty = parties.resolve(viewerPartyName);
+        if (viewerParty == null) {
+            throw new IllegalArgumentException("Party named " + viewerPartyName + " cannot be found.");
+        }
+
+        final ConcurrencyLimiter.Permit permit = issuance.tryAcquire();
+        if (permit == null) {
+            throw new RejectedExecutionException("Too many concurrent issuance requests, retry later.");
+        }
+        try {
+            return submitFlow(permit, false, RegularFlow.Initiator.class, iouValue, viewerParty, otherParty).result;
+        } catch (RuntimeException ex) {
+            permit.discard();
+            final CompletableFuture<SignedTransaction> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            return failed;
+        }
     }
 
     /**
@@ -64,41 +422,76 @@ public class NodeApi {
     @GET
     @Path("peers")
     @Produces(MediaType.APPLICATION_JSON)
-    public Map<String, List<CordaX500Name>> getPeers() {
-        List<NodeInfo> nodeInfoSnapshot = rpcOps.networkMapSnapshot();
-        return ImmutableMap.of("peers", nodeInfoSnapshot
-                .stream()
-                .map(node -> node.getLegalIdentities().get(0).getName())
-                .filter(name -> !name.equals(myLegalName) && !serviceNames.contains(name.getOrganisation()))
-                .collect(toList()));
+    public Response getPeers() {
+        return Response.ok(networkMap.peers()).build();
     }
 
+    /**
+     * Returns the NodeInfo of every node in the network map, served from a copy kept current by the network map feed.
+     */
     @GET
     @Path("corda-nodes")
     @Produces(MediaType.APPLICATION_JSON)
-    public Map<String, List<NodeInfo>> getAllNodes() {
-        List<NodeInfo> nodeInfoSnapshot = rpcOps.networkMapSnapshot();
-        return ImmutableMap.of("nodes", nodeInfoSnapshot);
+    public Response getAllNodes() {
+        return Response.ok(networkMap.nodes()).build();
     }
 
     /**
-     * Displays all IOU states that exist in the node's vault.
+     * Displays a page of the IOU states that exist in the node's vault.
+     *
+     * Responses carry an ETag and Last-Modified, and a conditional request for an unchanged listing is answered with
+     * 304 Not Modified without querying the vault.
      */
     @GET
     @Path("ious")
-    @Produces(MediaType.APPLICATION_JSON)
-    public List<StateAndRef<IOUState>> getIOUs() {
-        return rpcOps.vaultQuery(IOUState.class).getStates();
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response getIOUs(@QueryParam("status") @DefaultValue("UNCONSUMED") Vault.StateStatus status,
+                            @BeanParam ListParams list,
+                            @Context Request request,
+                            @Context UriInfo uriInfo,
+                            @Context HttpHeaders headers) {
+        return conditional(IOUState.class, iouModel, list, request, uriInfo, headers,
+                () -> fromModel(iouModel, ImmutableMap.of(), null, null, status, VaultPager.SortKey.DATE, list,
+                        () -> listPage(iouPager, IOUView::of, ImmutableList.of(), status, VaultPager.SortKey.DATE, list)));
     }
 
     /**
-     * Displays all IPU states that exist in the node's vault.
+     * Displays a page of the IPU states that exist in the node's vault.
+     *
+     * Responses carry an ETag and Last-Modified, and a conditional request for an unchanged listing is answered with
+     * 304 Not Modified without querying the vault.
      */
     @GET
     @Path("ipus")
-    @Produces(MediaType.APPLICATION_JSON)
-    public List<StateAndRef<IPUState>> getIPUs() {
-        return rpcOps.vaultQuery(IPUState.class).getStates();
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response getIPUs(@QueryParam("status") @DefaultValue("UNCONSUMED") Vault.StateStatus status,
+                            @BeanParam ListParams list,
+                            @Context Request request,
+                            @Context UriInfo uriInfo,
+                            @Context HttpHeaders headers) {
+        return conditional(IPUState.class, ipuModel, list, request, uriInfo, headers,
+                () -> fromModel(ipuModel, ImmutableMap.of(), null, null, status, VaultPager.SortKey.DATE, list,
+                        () -> listPage(ipuPager, IPUView::of, ImmutableList.of(), status, VaultPager.SortKey.DATE, list)));
+    }
+
+    /**
+     * Displays the compact views of the states of the IOU with the given linearId, oldest first.
+     */
+    @GET
+    @Path("ious/{linearId}")
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response getIOU(@PathParam("linearId") String linearId) {
+        return history(iouModel, IOUState.class, IOUView::of, linearId);
+    }
+
+    /**
+     * Displays the compact views of the states of the IPU with the given linearId, oldest first.
+     */
+    @GET
+    @Path("ipus/{linearId}")
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response getIPU(@PathParam("linearId") String linearId) {
+        return history(ipuModel, IPUState.class, IPUView::of, linearId);
     }
 
     /**
@@ -110,94 +503,266 @@ public class NodeApi {
      * This end-point takes a Party name parameter as part of the path. If the serving node can't find the other party
      * in its network map cache, it will return an HTTP bad request.
      *
-     * The flow is invoked asynchronously. It returns a future when the flow's call() method returns.
+     * The flow is invoked asynchronously and the request thread is released as soon as it has been started. By default
+     * the response is sent once the transaction is committed; with async=true a 202 Accepted pointing at
+     * /api/example/flows/{id} is sent straight away instead. With track=false the flow is started without progress
+     * tracking, which is cheaper for callers that are not interested in progress events.
+     *
+     * With queued=true the request is written to the submission journal instead, and acknowledged with a 202 Accepted
+     * pointing at /api/example/submissions/{id} once it is on disk. The dispatcher starts its flow later, at the
+     * configured rate, even if the webserver restarts in between.
+     *
+     * With batch=true the request may be issued in one transaction together with other requests for the same viewer
+     * and counterparty made within a few milliseconds (see [IouBatcher]), sharing their signatures and notarisation.
+     * The 201 Created then carries the transaction id, and the linearId and state ref of this request's IOU. A batch
+     * succeeds or fails as a whole.
+     *
+     * A request carrying an Idempotency-Key header that was already used for the same request within the last day
+     * does not start another flow, but is answered from the original one (see [replay]).
      */
     @PUT
     @Path("create-iou")
-    public Response createIOU(@QueryParam("iouValue") int iouValue, @QueryParam("viewerPartyName") CordaX500Name viewerPartyName, @QueryParam("otherPartyName") CordaX500Name otherPartyName) throws InterruptedException, ExecutionException {
+    public void createIOU(@QueryParam("iouValue") int iouValue,
+                          @QueryParam("viewerPartyName") CordaX500Name viewerPartyName,
+                          @QueryParam("otherPartyName") CordaX500Name otherPartyName,
+                          @QueryParam("async") boolean async,
+                          @QueryParam("track") @DefaultValue("true") boolean track,
+                          @QueryParam("queued") boolean queued,
+                          @QueryParam("batch") boolean batch,
+                          @HeaderParam(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                          @Suspended final AsyncResponse asyncResponse) {
         if (iouValue <= 0) {
-            return ResponseStatus(BAD_REQUEST, "Query parameter 'iouValue' must be non-negative.\n");
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'iouValue' must be non-negative.\n"));
+            return;
+        }
+        // Refused by the counterparty anyway, and in a batch it would fail everyone else's IOUs with it.
+        if (iouValue > RegularFlow.MAX_IOU_VALUE) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'iouValue' must not exceed " + RegularFlow.MAX_IOU_VALUE + ".\n"));
+            return;
         }
         if (otherPartyName == null) {
-            return ResponseStatus(BAD_REQUEST, "Query parameter 'otherPartyName' missing or has wrong format.\n");
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'otherPartyName' missing or has wrong format.\n"));
+            return;
         }
 
         if (viewerPartyName == null) {
-            return ResponseStatus(BAD_REQUEST, "Query parameter 'viewerPartyName' missing or has wrong format.\n");
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'viewerPartyName' missing or has wrong format.\n"));
+            return;
         }
 
-        final Party otherParty = rpcOps.wellKnownPartyFromX500Name(otherPartyName);
+        final Party otherParty = parties.resolve(otherPartyName);
         if (otherParty == null) {
-            return ResponseStatus(BAD_REQUEST, "Party named " + otherPartyName + "cannot be found.\n");
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Party named " + otherPartyName + "cannot be found.\n"));
+            return;
         }
 
-        final Party viewerParty = rpcOps.wellKnownPartyFromX500Name(viewerPartyName);
+        final Party viewerParty = parties.resolve(viewerPartyName);
         if (viewerParty == null) {
-            return ResponseStatus(BAD_REQUEST, "Party named " + viewerPartyName + "cannot be found.\n");
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Party named " + viewerPartyName + "cannot be found.\n"));
+            return;
         }
 
-        try {
-            final SignedTransaction signedTx = rpcOps
-                    .startTrackedFlowDynamic(RegularFlow.Initiator.class, iouValue, viewerParty, otherParty)
-                    .getReturnValue()
-                    .get();
+        if (idempotencyKey != null && (queued || batch)) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Header '" + IDEMPOTENCY_KEY_HEADER + "' cannot be used with 'queued' or 'batch'.\n"));
+            return;
+        }
+        if (idempotencyKey != null && claimed(idempotencyKey, CREATE_IOU_FINGERPRINT + "iouValue=" + iouValue + "&viewerPartyName=" + viewerPartyName
+                + "&otherPartyName=" + otherPartyName, async, asyncResponse)) {
+            return;
+        }
 
-            final String msg = String.format("Transaction id %s committed to ledger.\n", signedTx.getId());
-            return ResponseStatus(CREATED, msg);
+        if (queued) {
+            final ObjectNode args = journalMapper.createObjectNode()
+                    .put("iouValue", iouValue)
+                    .put("viewerPartyName", viewerPartyName.toString())
+                    .put("otherPartyName", otherPartyName.toString());
+            enqueue(SubmissionJournal.Kind.CREATE_IOU, args, asyncResponse);
+            return;
+        }
 
+        // A batch takes one issuance permit for all its requests when it is issued (see [startBatch]).
+        if (batch) {
+            batcher.add(iouValue, viewerParty, otherParty).whenComplete((iou, ex) -> {
+                if (ex == null) {
+                    asyncResponse.resume(Response.status(CREATED).entity(ImmutableMap.of(
+                            "transactionId", iou.getRef().getTxhash().toString(),
+                            "linearId", iou.getState().getData().getLinearId().getId().toString(),
+                            "ref", iou.getRef().getTxhash() + ":" + iou.getRef().getIndex())).build());
+                } else if (FlowRegistry.causeOf(ex) instanceof RejectedExecutionException) {
+                    asyncResponse.resume(tooBusy(issuance));
+                } else {
+                    logger.error(ex.getMessage(), ex);
+                    asyncResponse.resume(ResponseStatus(BAD_REQUEST, ex.getMessage()));
+                }
+            });
+            return;
+        }
+
+        final ConcurrencyLimiter.Permit permit = issuance.tryAcquire();
+        if (permit == null) {
+            release(idempotencyKey);
+            asyncResponse.resume(tooBusy(issuance));
+            return;
+        }
+
+        try {
+            // The key travels with the flow, so the node can tell what became of it if this webserver dies.
+            final FlowRegistry.Submission submission = idempotencyKey == null
+                    ? submitFlow(permit, track, RegularFlow.Initiator.class, iouValue, viewerParty, otherParty)
+                    : submitFlow(permit, track, RegularFlow.Initiator.class, iouValue, viewerParty, otherParty, idempotencyKey);
+            if (idempotencyKey != null) {
+                idempotency.started(idempotencyKey, submission);
+            }
+            respond(submission, async, asyncResponse);
         } catch (Throwable ex) {
+            permit.discard();
+            release(idempotencyKey);
             final String msg = ex.getMessage();
             logger.error(ex.getMessage(), ex);
-            return ResponseStatus(BAD_REQUEST, msg);
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, msg));
+        }
+    }
+
+    /**
+     * Issues one IOU per line of the uploaded NDJSON or CSV body, with at most 'concurrency' flows in flight, and
+     * streams back one NDJSON result per line as the flows complete. See [BulkIouIngest] for the line format.
+     */
+    @PUT
+    @Path("bulk-create-iou")
+    @Consumes({BulkIouIngest.NDJSON, BulkIouIngest.CSV})
+    @Produces(BulkIouIngest.NDJSON)
+    public Response bulkCreateIOU(@HeaderParam(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                  @QueryParam("concurrency") @DefaultValue("8") int concurrency,
+                                  InputStream body) {
+        if (concurrency < 1 || concurrency > MAX_BULK_CONCURRENCY) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'concurrency' must be between 1 and " + MAX_BULK_CONCURRENCY + ".\n");
+        }
+        final boolean csv = contentType.isCompatible(MediaType.valueOf(BulkIouIngest.CSV));
+        final BulkIouIngest ingest = new BulkIouIngest(parties, issuance,
+                (iouValue, viewerParty, otherParty, permit) -> submitFlow(permit, false, RegularFlow.Initiator.class, iouValue, viewerParty, otherParty),
+                body, csv, concurrency);
+        return Response.status(OK).entity(ingest).build();
+    }
+
+    /**
+     * A Server-Sent Events stream of the IOUs and IPUs produced and consumed in the node's vault, as "delta" events of
+     * the form {"type": "IOU", "produced": [compact views], "consumed": ["txhash:index"]}.
+     *
+     * A client reconnecting with the standard Last-Event-ID header (or the lastEventId query parameter, for clients
+     * that cannot set headers) is sent what it missed, or a "reset" event if that is no longer available, after which
+     * it should reload its lists.
+     *
+     * A client's slot is given back when its response is complete, however it completes: the stream ending or failing,
+     * or the response failing before the stream was ever written.
+     */
+    @GET
+    @Path("events")
+    @Produces(VaultEventStream.EVENT_STREAM)
+    public void getEvents(@HeaderParam("Last-Event-ID") String lastEventIdHeader,
+                          @QueryParam("lastEventId") String lastEventIdParam,
+                          @Suspended final AsyncResponse asyncResponse) {
+        if (eventClients.incrementAndGet() > MAX_EVENT_CLIENTS) {
+            eventClients.decrementAndGet();
+            asyncResponse.resume(Response.status(SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, 30).entity("Too many event stream clients.\n").build());
+            return;
+        }
+        asyncResponse.register((CompletionCallback) error -> eventClients.decrementAndGet());
+        final long seq = events.resumeFrom(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        asyncResponse.resume(Response.ok(new VaultEventStream(events, seq))
+                .cacheControl(revalidate)
+                .build());
+    }
+
+    /**
+     * Displays the status of a flow started through this API, as long as it is still retained by the registry.
+     */
+    @GET
+    @Path("flows/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getFlowStatus(@PathParam("id") String id) {
+        final UUID flowId;
+        try {
+            flowId = UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            return ResponseStatus(BAD_REQUEST, "Flow id " + id + " is not valid.\n");
         }
+
+        final FlowRegistry.FlowStatus status = flowRegistry.get(flowId);
+        if (status == null) {
+            return ResponseStatus(NOT_FOUND, "Flow " + id + " is unknown or has expired.\n");
+        }
+        return Response.status(OK).entity(status).build();
+    }
+
+    /**
+     * Displays the status of a request accepted with queued=true, as recorded in the submission journal.
+     */
+    @GET
+    @Path("submissions/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getSubmissionStatus(@PathParam("id") String id) {
+        final UUID submissionId;
+        try {
+            submissionId = UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            return ResponseStatus(BAD_REQUEST, "Submission id " + id + " is not valid.\n");
+        }
+        final SubmissionJournal.Entry entry = journal == null ? null : journal.get(submissionId);
+        if (entry == null) {
+            return ResponseStatus(NOT_FOUND, "Submission " + id + " is unknown or has expired.\n");
+        }
+        return Response.status(OK).entity(entry).build();
     }
-	
+
 	/**
-     * Displays all IOU states that are created by lender.
+     * Displays a page of the IOU states that are created by lender.
      */
     @GET
     @Path("ious-lender")
-    @Produces(MediaType.APPLICATION_JSON)
-    public Response getIOUsByLender(@QueryParam("lenderPartyName") CordaX500Name lenderPartyName) throws NoSuchFieldException {
-        QueryCriteria generalCriteria = new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL);
-        Field lender = IOUSchemaV2.PersistentIOU.class.getDeclaredField("lender");
-        CriteriaExpression lenderIndex = Builder.equal(lender, lenderPartyName.toString());
-        QueryCriteria lenderCriteria = new QueryCriteria.VaultCustomQueryCriteria(lenderIndex);
-        QueryCriteria criteria = generalCriteria.and(lenderCriteria);
-        List<StateAndRef<IOUState>> results = rpcOps.vaultQueryByCriteria(criteria,IOUState.class).getStates();
-        return Response.status(OK).entity(results).build();
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response getIOUsByLender(@QueryParam("lenderPartyName") CordaX500Name lenderPartyName,
+                                    @QueryParam("status") @DefaultValue("ALL") Vault.StateStatus status,
+                                    @BeanParam ListParams list) {
+        if (lenderPartyName == null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'lenderPartyName' missing or has wrong format.\n");
+        }
+        final Map<StateQuery.Role, List<CordaX500Name>> roles = ImmutableMap.of(StateQuery.Role.LENDER, ImmutableList.of(lenderPartyName));
+        return fromModel(iouModel, roles, null, null, status, VaultPager.SortKey.DATE, list, () -> listPage(iouPager, IOUView::of,
+                compiler.filters(new StateQuery(StateQuery.Type.IOU, roles, null, null, null, null)), status, VaultPager.SortKey.DATE, list));
     }
 
     /**
-     * Displays all IOU states that are created by borrower.
+     * Displays a page of the IOU states that are created by borrower.
      */
     @GET
     @Path("ious-borrower")
-    @Produces(MediaType.APPLICATION_JSON)
-    public Response getIOUsByBorrower(@QueryParam("borrowerPartyName") CordaX500Name borrowerPartyName) throws NoSuchFieldException {
-        QueryCriteria generalCriteria = new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL);
-        Field borrower = IOUSchemaV2.PersistentIOU.class.getDeclaredField("borrower");
-        CriteriaExpression borrowerIndex = Builder.equal(borrower, borrowerPartyName.toString());
-        QueryCriteria borrowerCriteria = new QueryCriteria.VaultCustomQueryCriteria(borrowerIndex);
-        QueryCriteria criteria = generalCriteria.and(borrowerCriteria);
-        List<StateAndRef<IOUState>> results = rpcOps.vaultQueryByCriteria(criteria,IOUState.class).getStates();
-        return Response.status(OK).entity(results).build();
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response getIOUsByBorrower(@QueryParam("borrowerPartyName") CordaX500Name borrowerPartyName,
+                                      @QueryParam("status") @DefaultValue("ALL") Vault.StateStatus status,
+                                      @BeanParam ListParams list) {
+        if (borrowerPartyName == null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'borrowerPartyName' missing or has wrong format.\n");
+        }
+        final Map<StateQuery.Role, List<CordaX500Name>> roles = ImmutableMap.of(StateQuery.Role.BORROWER, ImmutableList.of(borrowerPartyName));
+        return fromModel(iouModel, roles, null, null, status, VaultPager.SortKey.DATE, list, () -> listPage(iouPager, IOUView::of,
+                compiler.filters(new StateQuery(StateQuery.Type.IOU, roles, null, null, null, null)), status, VaultPager.SortKey.DATE, list));
     }
 
     /**
-     * Displays all IOU states that are created by viewer.
+     * Displays a page of the IOU states that are created by viewer.
      */
     @GET
     @Path("ious-viewer")
-    @Produces(MediaType.APPLICATION_JSON)
-    public Response getIOUsByViewer(@QueryParam("viewerPartyName") CordaX500Name viewerPartyName) throws NoSuchFieldException {
-        QueryCriteria generalCriteria = new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL);
-        Field viewer = IOUSchemaV2.PersistentIOU.class.getDeclaredField("viewer");
-        CriteriaExpression viewerIndex = Builder.equal(viewer, viewerPartyName.toString());
-        QueryCriteria viewerCriteria = new QueryCriteria.VaultCustomQueryCriteria(viewerIndex);
-        QueryCriteria criteria = generalCriteria.and(viewerCriteria);
-        List<StateAndRef<IOUState>> results = rpcOps.vaultQueryByCriteria(criteria,IOUState.class).getStates();
-        return Response.status(OK).entity(results).build();
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response getIOUsByViewer(@QueryParam("viewerPartyName") CordaX500Name viewerPartyName,
+                                    @QueryParam("status") @DefaultValue("ALL") Vault.StateStatus status,
+                                    @BeanParam ListParams list) {
+        if (viewerPartyName == null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'viewerPartyName' missing or has wrong format.\n");
+        }
+        final Map<StateQuery.Role, List<CordaX500Name>> roles = ImmutableMap.of(StateQuery.Role.VIEWER, ImmutableList.of(viewerPartyName));
+        return fromModel(iouModel, roles, null, null, status, VaultPager.SortKey.DATE, list, () -> listPage(iouPager, IOUView::of,
+                compiler.filters(new StateQuery(StateQuery.Type.IOU, roles, null, null, null, null)), status, VaultPager.SortKey.DATE, list));
     }
 
     private   List<StateAndRef<IOUState>>  getIOUsByPartiesAndDates_( CordaX500Name onePartyName,
@@ -205,47 +770,46 @@ public class NodeApi {
                                                                       Long from,
                                                                       Long to) throws Exception {
 
-        final Party oneParty = rpcOps.wellKnownPartyFromX500Name(onePartyName);
+        final Party oneParty = parties.resolve(onePartyName);
         if (oneParty == null) {
             throw new Exception("Party named " + onePartyName + "cannot be found.\n");
         }
-        final Party anotherParty = rpcOps.wellKnownPartyFromX500Name(anotherPartyName);
+        final Party anotherParty = parties.resolve(anotherPartyName);
         if (anotherParty == null) {
             throw new Exception("Party named " + anotherPartyName + "cannot be found.\n");
         }
 
-        QueryCriteria generalCriteria = new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL);
-
-        Field lenderField = IOUSchemaV2.PersistentIOU.class.getDeclaredField("lender");
-        CriteriaExpression lenderIndex = Builder.in(lenderField, ImmutableList.of(onePartyName.toString(), anotherPartyName.toString()));
-        QueryCriteria lenderCriteria = new QueryCriteria.VaultCustomQueryCriteria(lenderIndex);
-
-
-        Field borrowerField = IOUSchemaV2.PersistentIOU.class.getDeclaredField("borrower");
-        CriteriaExpression borrowerIndex = Builder.in(borrowerField, ImmutableList.of(onePartyName.toString(),anotherPartyName.toString()));
-        QueryCriteria borrowerCriteria = new QueryCriteria.VaultCustomQueryCriteria(borrowerIndex);
-
-        Field dateField = IOUSchemaV2.PersistentIOU.class.getDeclaredField("date");
-        CriteriaExpression dateIndex = Builder.between(dateField, from, to);
-        QueryCriteria dateCriteria = new QueryCriteria.VaultCustomQueryCriteria(dateIndex);
-
-        QueryCriteria criteria = generalCriteria.and(lenderCriteria)
-                .and(borrowerCriteria)
-                .and(dateCriteria);
+        // Only unconsumed IOUs can be inputs; a consumed one would make the transaction a double spend.
+        QueryCriteria criteria = new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.UNCONSUMED);
+        for (CriteriaExpression filter : compiler.filters(partiesAndDates(onePartyName, anotherPartyName, from, to))) {
+            criteria = criteria.and(new QueryCriteria.VaultCustomQueryCriteria(filter, Vault.StateStatus.UNCONSUMED));
+        }
 
         List<StateAndRef<IOUState>> results = rpcOps.vaultQueryByCriteria(criteria,IOUState.class).getStates();
         return results;
 
     }
 
+    /**
+     * IOUs exchanged in either direction between two parties, created within [from, to].
+     */
+    private static StateQuery partiesAndDates(CordaX500Name onePartyName, CordaX500Name anotherPartyName, Long from, Long to) {
+        final List<CordaX500Name> pair = ImmutableList.of(onePartyName, anotherPartyName);
+        return new StateQuery(StateQuery.Type.IOU,
+                ImmutableMap.of(StateQuery.Role.LENDER, pair, StateQuery.Role.BORROWER, pair), null, null, from, to);
+    }
 
     @GET
     @Path("ious-parties-dates")
-    @Produces(MediaType.APPLICATION_JSON)
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
     public Response getIOUsByPartiesAndDates( @QueryParam("onePartyName") CordaX500Name onePartyName,
                                               @QueryParam("anotherPartyName") CordaX500Name anotherPartyName,
                                               @QueryParam("from") Long from,
-                                              @QueryParam("to") Long to) throws NoSuchFieldException {
+                                              @QueryParam("to") Long to,
+                                              @QueryParam("status") @DefaultValue("ALL") Vault.StateStatus status,
+                                              @QueryParam("stream") boolean stream,
+                                              @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+                                              @BeanParam ListParams list) {
         if (from == null) {
             return ResponseStatus(BAD_REQUEST, "Query parameter 'from' missing or has wrong format.\n");
         }
@@ -258,38 +822,350 @@ public class NodeApi {
             return ResponseStatus(BAD_REQUEST, "Invalid period, 'from' parameter is greater than 'to'.\n");
         }
 
-        final Party oneParty = rpcOps.wellKnownPartyFromX500Name(onePartyName);
+        final Party oneParty = parties.resolve(onePartyName);
         if (oneParty == null) {
             return ResponseStatus(BAD_REQUEST, "Party named " + onePartyName + "cannot be found.\n");
         }
 
-        final Party anotherParty = rpcOps.wellKnownPartyFromX500Name(anotherPartyName);
+        final Party anotherParty = parties.resolve(anotherPartyName);
         if (anotherParty == null) {
             return ResponseStatus(BAD_REQUEST, "Party named " + anotherPartyName + "cannot be found.\n");
         }
 
+        final List<CriteriaExpression> filters = compiler.filters(partiesAndDates(onePartyName, anotherPartyName, from, to));
+        if (stream) {
+            return export(iouPager, IOUView::of, filters, status, VaultPager.SortKey.DATE, acceptEncoding, list);
+        }
+        final List<CordaX500Name> pair = ImmutableList.of(onePartyName, anotherPartyName);
+        return fromModel(iouModel, ImmutableMap.of(StateQuery.Role.LENDER, pair, StateQuery.Role.BORROWER, pair), from, to, status,
+                VaultPager.SortKey.DATE, list, () -> listPage(iouPager, IOUView::of, filters, status, VaultPager.SortKey.DATE, list));
+    }
+
+
+
+    /**
+     * Displays a page of the IOU ('ious') or IPU ('ipus') states matching any combination of filters: parties by role
+     * (several names for one role match any of them), value range, date range and status. Results can be sorted by
+     * date or value. Queries without a value range are served from the read model where possible.
+     */
+    @GET
+    @Path("query/{type}")
+    @Produces({MediaType.APPLICATION_JSON, SmileBodyWriter.SMILE})
+    public Response queryStates(@PathParam("type") String type,
+                                @QueryParam("viewer") List<CordaX500Name> viewers,
+                                @QueryParam("lender") List<CordaX500Name> lenders,
+                                @QueryParam("borrower") List<CordaX500Name> borrowers,
+                                @QueryParam("payer") List<CordaX500Name> payers,
+                                @QueryParam("loaner") List<CordaX500Name> loaners,
+                                @QueryParam("minValue") Integer minValue,
+                                @QueryParam("maxValue") Integer maxValue,
+                                @QueryParam("from") Long from,
+                                @QueryParam("to") Long to,
+                                @QueryParam("status") @DefaultValue("ALL") Vault.StateStatus status,
+                                @QueryParam("sort") @DefaultValue("DATE") VaultPager.SortKey sort,
+                                @BeanParam ListParams list) {
+        final Map<StateQuery.Role, List<CordaX500Name>> roles = new EnumMap<>(StateQuery.Role.class);
+        roles.put(StateQuery.Role.VIEWER, viewers);
+        roles.put(StateQuery.Role.LENDER, lenders);
+        roles.put(StateQuery.Role.BORROWER, borrowers);
+        roles.put(StateQuery.Role.PAYER, payers);
+        roles.put(StateQuery.Role.LOANER, loaners);
+
         try {
-            List<StateAndRef<IOUState>> results = getIOUsByPartiesAndDates_(onePartyName,anotherPartyName,from,to);
-            return Response.status(OK).entity(results).build();
-        } catch (Exception ex) {
-            final String msg = ex.getMessage();
-            logger.error(ex.getMessage(), ex);
-            return ResponseStatus(BAD_REQUEST, msg);
+            switch (type) {
+                case "ious":
+                    final StateQuery iouQuery = new StateQuery(StateQuery.Type.IOU, roles, minValue, maxValue, from, to);
+                    final Supplier<Response> iouVault = () -> listPage(iouPager, IOUView::of, compiler.filters(iouQuery), status, sort, list);
+                    return minValue != null || maxValue != null ? iouVault.get() : fromModel(iouModel, roles, from, to, status, sort, list, iouVault);
+                case "ipus":
+                    final StateQuery ipuQuery = new StateQuery(StateQuery.Type.IPU, roles, minValue, maxValue, from, to);
+                    final Supplier<Response> ipuVault = () -> listPage(ipuPager, IPUView::of, compiler.filters(ipuQuery), status, sort, list);
+                    return minValue != null || maxValue != null ? ipuVault.get() : fromModel(ipuModel, roles, from, to, status, sort, list, ipuVault);
+                default:
+                    return ResponseStatus(NOT_FOUND, "Unknown state type '" + type + "', expected 'ious' or 'ipus'.\n");
+            }
+        } catch (IllegalArgumentException ex) {
+            return ResponseStatus(BAD_REQUEST, ex.getMessage() + "\n");
         }
     }
 
+    /**
+     * Displays the IPU that /compensate would issue against a counterparty for a period, computed from the totals of
+     * the [PairDateIndex] once the read model is loaded, and until then from totals aggregated by the node's database,
+     * without fetching the IOUs themselves in either case.
+     */
+    @GET
+    @Path("compensation-preview")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response previewIPU(@QueryParam("counterPartyName") CordaX500Name counterPartyName,
+                               @QueryParam("from") Long from,
+                               @QueryParam("to") Long to) {
+        if (from == null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'from' missing or has wrong format.\n");
+        }
 
+        if (to == null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'to' missing or has wrong format.\n");
+        }
 
+        if (from > to) {
+            return ResponseStatus(BAD_REQUEST, "Invalid period, 'from' parameter is greater than 'to'.\n");
+        }
+
+        final Party counterParty = parties.resolve(counterPartyName);
+        if (counterParty == null) {
+            return ResponseStatus(BAD_REQUEST, "Party named " + counterPartyName + "cannot be found.\n");
+        }
+
+        final Party me = parties.me();
+        final CompensationTotals totals;
+        if (iouModel.isReady()) {
+            totals = pairDates.query(counterPartyName, me.getName(), from, to);
+        } else {
+            final ConcurrencyLimiter.Permit permit = reads.tryAcquire();
+            if (permit == null) {
+                return tooBusy(reads);
+            }
+            try {
+                totals = CompensationTotals.query(rpcOps, counterPartyName, me.getName(), from, to);
+                permit.release();
+            } finally {
+                permit.discard();
+            }
+        }
+        final IPU ipu = XUtils.compensate(totals.lentByOne, totals.lentByAnother, me, counterParty);
+        return Response.status(OK).entity(ImmutableMap.of(
+                "payer", ipu.payer.getName(),
+                "loaner", ipu.loaner.getName(),
+                "value", ipu.value,
+                "iouCount", totals.count)).build();
+    }
+
+    /**
+     * Displays the open positions between pairs of parties (only those [partyName] is in, if given): what each one lent
+     * the other in unconsumed IOUs, the net of the two, and the unconsumed IPUs between them. Positions are kept
+     * current from the vault updates (see [NetPositions]), so this never queries the vault.
+     */
+    @GET
+    @Path("positions")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getPositions(@QueryParam("partyName") CordaX500Name partyName) {
+        if (!iouModel.isReady() || !ipuModel.isReady()) {
+            return modelLoading();
+        }
+        return Response.status(OK).entity(positions.of(partyName)).build();
+    }
+
+    /**
+     * Displays the IPU that /compensate would issue against a counterparty if it settled every unconsumed IOU between
+     * us, as a dry run computed from the net position alone.
+     */
+    @GET
+    @Path("positions/compensation-preview")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response previewPosition(@QueryParam("counterPartyName") CordaX500Name counterPartyName) {
+        if (counterPartyName == null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'counterPartyName' missing or has wrong format.\n");
+        }
+        final Party counterParty = parties.resolve(counterPartyName);
+        if (counterParty == null) {
+            return ResponseStatus(BAD_REQUEST, "Party named " + counterPartyName + "cannot be found.\n");
+        }
+        if (!iouModel.isReady() || !ipuModel.isReady()) {
+            return modelLoading();
+        }
+
+        final Party me = parties.me();
+        final NetPositions.Position position = positions.between(counterPartyName, myLegalName);
+        final IPU ipu = XUtils.compensate(position.lentBy(counterPartyName.toString()), position.lentBy(myLegalName.toString()), me, counterParty);
+        return Response.status(OK).entity(ImmutableMap.of(
+                "payer", ipu.payer.getName(),
+                "loaner", ipu.loaner.getName(),
+                "value", ipu.value,
+                "iouCount", position.openIous)).build();
+    }
+
+    /**
+     * Aggregates the IOUs matching the filters (count, sum, min, max and a histogram of values by power of two),
+     * grouped by lender, borrower, viewer or day, from the columnar copy of the IOUs (see [IouColumns]).
+     */
+    @GET
+    @Path("reports/ious")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response reportIOUs(@QueryParam("groupBy") @DefaultValue("NONE") IouColumns.GroupBy groupBy,
+                               @QueryParam("viewerPartyName") CordaX500Name viewerPartyName,
+                               @QueryParam("lenderPartyName") CordaX500Name lenderPartyName,
+                               @QueryParam("borrowerPartyName") CordaX500Name borrowerPartyName,
+                               @QueryParam("from") Long from,
+                               @QueryParam("to") Long to,
+                               @QueryParam("status") @DefaultValue("UNCONSUMED") Vault.StateStatus status) {
+        if (!iouModel.isReady()) {
+            return modelLoading();
+        }
+        try {
+            return Response.status(OK).entity(iouColumns.report(groupBy,
+                    viewerPartyName == null ? null : viewerPartyName.toString(),
+                    lenderPartyName == null ? null : lenderPartyName.toString(),
+                    borrowerPartyName == null ? null : borrowerPartyName.toString(),
+                    from, to, status)).build();
+        } catch (IllegalArgumentException ex) {
+            return ResponseStatus(BAD_REQUEST, ex.getMessage() + "\n");
+        }
+    }
+
+    /**
+     * Reports the daily IOU or IPU volume, count and sum per day and pair of parties, from the rollups the node keeps
+     * as states are recorded. Days are UTC; [from] and [to] are dates and select the days they fall in. For IPUs the
+     * loaner is reported as the lender and the payer as the borrower.
+     */
+    @GET
+    @Path("reports/volume")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response reportVolume(@QueryParam("type") @DefaultValue("IOU") VolumeReportFlow.Kind kind,
+                                 @QueryParam("lenderPartyName") CordaX500Name lenderPartyName,
+                                 @QueryParam("borrowerPartyName") CordaX500Name borrowerPartyName,
+                                 @QueryParam("from") Long from,
+                                 @QueryParam("to") Long to) {
+        if (from != null && to != null && from > to) {
+            return ResponseStatus(BAD_REQUEST, "Invalid period, 'from' parameter is greater than 'to'.\n");
+        }
+        final ConcurrencyLimiter.Permit permit = reads.tryAcquire();
+        if (permit == null) {
+            return tooBusy(reads);
+        }
+        try {
+            final List<VolumeReportFlow.Row> rows = rpcOps.startFlowDynamic(VolumeReportFlow.class, kind,
+                    from == null ? Long.MIN_VALUE : Math.floorDiv(from, DAY_MILLIS),
+                    to == null ? Long.MAX_VALUE : Math.floorDiv(to, DAY_MILLIS),
+                    lenderPartyName == null ? null : lenderPartyName.toString(),
+                    borrowerPartyName == null ? null : borrowerPartyName.toString())
+                    .getReturnValue().get(REPORT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            permit.release();
+            return Response.status(OK).entity(rows).build();
+        } catch (TimeoutException ex) {
+            return Response.status(SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, REPORT_TIMEOUT_SECONDS)
+                    .entity("The volume report took longer than " + REPORT_TIMEOUT_SECONDS + " seconds.\n").build();
+        } catch (InterruptedException | ExecutionException ex) {
+            logger.error("Volume report failed.", ex);
+            return ResponseStatus(INTERNAL_SERVER_ERROR, "The volume report could not be read.\n");
+        } finally {
+            permit.discard();
+        }
+    }
+
+    private static Response modelLoading() {
+        return Response.status(SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, 5).entity("The read model is still being loaded.\n").build();
+    }
+
+    /**
+     * Initiates a flow issuing the IPU that settles the IOUs exchanged with a counterparty within a period. Takes the
+     * same async, track, queued and Idempotency-Key parameters as /create-iou.
+     */
     @PUT
     @Path("compensate")
-    public Response createIPU(@QueryParam("viewerPartyName") CordaX500Name viewerPartyName,
-                              @QueryParam("counterPartyName") CordaX500Name counterPartyName,
-                              @QueryParam("from") Long from,
-                              @QueryParam("to") Long to) throws InterruptedException, ExecutionException {
+    public void createIPU(@QueryParam("viewerPartyName") CordaX500Name viewerPartyName,
+                          @QueryParam("counterPartyName") CordaX500Name counterPartyName,
+                          @QueryParam("from") Long from,
+                          @QueryParam("to") Long to,
+                          @QueryParam("async") boolean async,
+                          @QueryParam("track") @DefaultValue("true") boolean track,
+                          @QueryParam("queued") boolean queued,
+                          @HeaderParam(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                          @Suspended final AsyncResponse asyncResponse) {
+        if (from == null) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'from' missing or has wrong format.\n"));
+            return;
+        }
+
+        if (to == null) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'to' missing or has wrong format.\n"));
+            return;
+        }
+
+        if (from > to) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Invalid period, 'from' parameter is greater than 'to'.\n"));
+            return;
+        }
+
+        if (viewerPartyName == null) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'viewerPartyName' missing or has wrong format.\n"));
+            return;
+        }
+
+        if (counterPartyName == null) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Query parameter 'counterparty' missing or has wrong format.\n"));
+            return;
+        }
 
+        final Party viewerParty = parties.resolve(viewerPartyName);
+        if (viewerParty == null) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Party named " + viewerPartyName + "cannot be found.\n"));
+            return;
+        }
+
+        final Party counterPartyParty = parties.resolve(counterPartyName);
+        if (counterPartyParty == null) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Party named " + counterPartyName + "cannot be found.\n"));
+            return;
+        }
+
+        if (idempotencyKey != null && queued) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Header '" + IDEMPOTENCY_KEY_HEADER + "' cannot be used with 'queued'.\n"));
+            return;
+        }
+        if (idempotencyKey != null && claimed(idempotencyKey, COMPENSATE_FINGERPRINT + "viewerPartyName=" + viewerPartyName + "&counterPartyName="
+                + counterPartyName + "&from=" + from + "&to=" + to, async, asyncResponse)) {
+            return;
+        }
+
+        if (queued) {
+            final ObjectNode args = journalMapper.createObjectNode()
+                    .put("viewerPartyName", viewerPartyName.toString())
+                    .put("counterPartyName", counterPartyName.toString())
+                    .put("from", from)
+                    .put("to", to);
+            enqueue(SubmissionJournal.Kind.COMPENSATE, args, asyncResponse);
+            return;
+        }
 
-        Party me = rpcOps.nodeInfo().getLegalIdentities().get(0);
+        final ConcurrencyLimiter.Permit permit = compensation.tryAcquire();
+        if (permit == null) {
+            release(idempotencyKey);
+            asyncResponse.resume(tooBusy(compensation));
+            return;
+        }
 
+        try {
+            final FlowRegistry.Submission submission = startCompensation(permit, track, viewerParty, counterPartyParty, from, to, idempotencyKey);
+            if (idempotencyKey != null) {
+                idempotency.started(idempotencyKey, submission);
+            }
+            respond(submission, async, asyncResponse);
+        } catch (IllegalArgumentException ex) {
+            permit.discard();
+            release(idempotencyKey);
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, ex.getMessage()));
+        } catch (Throwable ex) {
+            permit.discard();
+            release(idempotencyKey);
+            final String msg = ex.getMessage();
+            logger.error(ex.getMessage(), ex);
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, msg));
+        }
+    }
+
+    /**
+     * Compensates the IOUs exchanged with every counterparty within a period, running up to 'concurrency' compensation
+     * flows at once, and streams back one NDJSON result per counterparty as its flow completes (see
+     * [BulkCompensation]). The counterparties are found with a single grouped query of the vault.
+     */
+    @PUT
+    @Path("bulk-compensate")
+    @Produces(BulkIouIngest.NDJSON)
+    public Response bulkCreateIPU(@QueryParam("viewerPartyName") CordaX500Name viewerPartyName,
+                                  @QueryParam("from") Long from,
+                                  @QueryParam("to") Long to,
+                                  @QueryParam("concurrency") @DefaultValue("8") int concurrency) {
         if (from == null) {
             return ResponseStatus(BAD_REQUEST, "Query parameter 'from' missing or has wrong format.\n");
         }
@@ -302,53 +1178,467 @@ public class NodeApi {
             return ResponseStatus(BAD_REQUEST, "Invalid period, 'from' parameter is greater than 'to'.\n");
         }
 
-        if (viewerPartyName == null) {
-            return ResponseStatus(BAD_REQUEST, "Query parameter 'viewerPartyName' missing or has wrong format.\n");
+        if (concurrency < 1 || concurrency > MAX_BULK_CONCURRENCY) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'concurrency' must be between 1 and " + MAX_BULK_CONCURRENCY + ".\n");
         }
 
-        if (counterPartyName == null) {
-            return ResponseStatus(BAD_REQUEST, "Query parameter 'counterparty' missing or has wrong format.\n");
+        if (viewerPartyName == null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'viewerPartyName' missing or has wrong format.\n");
         }
 
-        final Party viewerParty = rpcOps.wellKnownPartyFromX500Name(viewerPartyName);
+        final Party viewerParty = parties.resolve(viewerPartyName);
         if (viewerParty == null) {
             return ResponseStatus(BAD_REQUEST, "Party named " + viewerPartyName + "cannot be found.\n");
         }
 
-        final Party counterPartyParty = rpcOps.wellKnownPartyFromX500Name(counterPartyName);
-        if (counterPartyParty == null) {
-            return ResponseStatus(BAD_REQUEST, "Party named " + counterPartyName + "cannot be found.\n");
+        final ConcurrencyLimiter.Permit permit = reads.tryAcquire();
+        if (permit == null) {
+            return tooBusy(reads);
+        }
+        final Map<CordaX500Name, CompensationTotals> totals;
+        try {
+            totals = CompensationTotals.byCounterparty(rpcOps, myLegalName, from, to);
+            permit.release();
+        } finally {
+            permit.discard();
         }
+        final BulkCompensation body = new BulkCompensation(parties, totals, compensation,
+                (counterParty, flowPermit) -> startCompensationFlow(flowPermit, false, viewerParty, counterParty, from, to, null),
+                concurrency);
+        return Response.status(OK).entity(body).build();
+    }
 
+    /**
+     * Computes the IPU settling the IOUs exchanged with [counterParty] within [from, to] and starts the flow issuing
+     * it. [permit] belongs to the flow once this returns, and to the caller if this throws. [externalId], if any, is
+     * given to the IPU.
+     *
+     * @throws IllegalArgumentException if there is nothing to compensate.
+     */
+    private FlowRegistry.Submission startCompensation(ConcurrencyLimiter.Permit permit,
+                                                      boolean track,
+                                                      Party viewerParty,
+                                                      Party counterParty,
+                                                      long from,
+                                                      long to,
+                                                      String externalId) throws Exception {
+        final Party me = parties.me();
 
+        // Ask the index, or the database if the index sees nothing (it may lag the vault by a few updates), so an empty
+        // period never pulls states into the webserver.
+        final boolean indexed = iouModel.isReady() && pairDates.query(counterParty.getName(), me.getName(), from, to).count > 0;
+        if (!indexed && CompensationTotals.query(rpcOps, counterParty.getName(), me.getName(), from, to).count <= 0) {
+            throw new IllegalArgumentException("Nothing to compensate between " + counterParty.getName() + " and " + me +".\n");
+        }
+
+        return startCompensationFlow(permit, track, viewerParty, counterParty, from, to, externalId);
+    }
+
+    /**
+     * Fetches the IOUs exchanged with [counterParty] within [from, to] and starts the flow issuing the IPU settling
+     * them, for callers that already know from the totals that there is something to compensate.
+     *
+     * @throws IllegalArgumentException if there is nothing to compensate after all.
+     */
+    private FlowRegistry.Submission startCompensationFlow(ConcurrencyLimiter.Permit permit,
+                                                          boolean track,
+                                                          Party viewerParty,
+                                                          Party counterParty,
+                                                          long from,
+                                                          long to,
+                                                          String externalId) throws Exception {
+        final Party me = parties.me();
+        final List<StateAndRef<IOUState>> inputs = this.getIOUsByPartiesAndDates_(counterParty.getName(), me.getName(), from, to);
+
+        if (inputs == null || inputs.size() <= 0) {
+            throw new IllegalArgumentException("Nothing to compensate between " + counterParty.getName() + " and " + me +".\n");
+        }
+        final IPU ipu = XUtils.compensate(inputs, me, counterParty);
+        if (ipu == null ) {
+            throw new IllegalArgumentException("Something wrong happened. There are some monkeys that are working in it.\n");
+        }
+        final Party payer = ipu.payer;
+        final Party loaner = ipu.loaner;
+        final int ipuValue = ipu.value;
+        return externalId == null
+                ? submitFlow(permit, track, CompensationFlow.Initiator.class, inputs, viewerParty, payer, loaner, ipuValue)
+                : submitFlow(permit, track, CompensationFlow.Initiator.class, inputs, viewerParty, payer, loaner, ipuValue, externalId);
+    }
+
+    /**
+     * Journals a request for the dispatcher, and answers 202 Accepted pointing at /api/example/submissions/{id} once
+     * the journal entry is durable.
+     */
+    private void enqueue(SubmissionJournal.Kind kind, ObjectNode args, AsyncResponse asyncResponse) {
+        if (journal == null) {
+            asyncResponse.resume(ResponseStatus(SERVICE_UNAVAILABLE, "The submission journal is not available.\n"));
+            return;
+        }
+        final Map.Entry<SubmissionJournal.Entry, CompletableFuture<Void>> submitted;
+        try {
+            submitted = journal.submit(kind, journalMapper.writeValueAsBytes(args));
+        } catch (IllegalStateException | JsonProcessingException ex) {
+            logger.error(ex.getMessage(), ex);
+            asyncResponse.resume(ResponseStatus(SERVICE_UNAVAILABLE, ex.getMessage() + "\n"));
+            return;
+        }
+        final SubmissionJournal.Entry entry = submitted.getKey();
+        submitted.getValue().whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                logger.error(ex.getMessage(), ex);
+                asyncResponse.resume(ResponseStatus(SERVICE_UNAVAILABLE, "The submission could not be journaled.\n"));
+                return;
+            }
+            dispatcher.enqueue(entry);
+            final URI location = UriBuilder.fromResource(NodeApi.class).path("submissions/{id}").build(entry.getId());
+            asyncResponse.resume(Response.accepted(entry).location(location).build());
+        });
+    }
+
+    /**
+     * Claims [idempotencyKey] for a request described by [fingerprint], or answers the request if the key cannot be
+     * claimed: because it is malformed, because the index is unavailable, or because it was already used.
+     *
+     * @return true if the request has been answered, false if the caller owns the key and should start its flow.
+     */
+    private boolean claimed(String idempotencyKey, String fingerprint, boolean async, AsyncResponse asyncResponse) {
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, "Header '" + IDEMPOTENCY_KEY_HEADER + "' must be 1 to "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " characters long.\n"));
+            return true;
+        }
+        if (idempotency == null) {
+            asyncResponse.resume(ResponseStatus(SERVICE_UNAVAILABLE, "The idempotency index is not available.\n"));
+            return true;
+        }
+        final IdempotencyIndex.Record earlier;
         try {
-            final List<StateAndRef<IOUState>> inputs = this.getIOUsByPartiesAndDates_(counterPartyName, me.getName(), from, to);
+            earlier = idempotency.claim(idempotencyKey, fingerprint);
+        } catch (IllegalStateException ex) {
+            asyncResponse.resume(ResponseStatus(SERVICE_UNAVAILABLE, "The idempotency index cannot be written.\n"));
+            return true;
+        }
+        if (earlier == null) {
+            return false;
+        }
+        replay(earlier, fingerprint, async, asyncResponse);
+        return true;
+    }
 
-            if (inputs == null || inputs.size() <= 0) {
-                return ResponseStatus(BAD_REQUEST, "Nothing to compensate between " + counterPartyName + " and " + me +".\n");
+    /**
+     * Answers a retried request with the outcome of the flow its Idempotency-Key started: the transaction or error it
+     * finished with, or, while it is still running in this webserver, the same response the original request gets.
+     * The outcome of a flow started before a restart is looked up from the node. A key used for a different request
+     * is refused with 422, and one whose flow has no outcome yet and cannot be attached to (it is still being started,
+     * or was started before a restart and is still running) with 409 Conflict.
+     */
+    private void replay(IdempotencyIndex.Record earlier, String fingerprint, boolean async, AsyncResponse asyncResponse) {
+        if (!earlier.fingerprint.equals(fingerprint)) {
+            asyncResponse.resume(Response.status(UNPROCESSABLE_ENTITY)
+                    .entity("Idempotency key " + earlier.key + " was already used for another request: " + earlier.fingerprint + "\n")
+                    .build());
+            return;
+        }
+        if (earlier.getTransactionId() != null) {
+            final String msg = String.format("Transaction id %s committed to ledger.\n", earlier.getTransactionId());
+            asyncResponse.resume(ResponseStatus(CREATED, msg));
+            return;
+        }
+        if (earlier.getError() != null) {
+            asyncResponse.resume(ResponseStatus(BAD_REQUEST, earlier.getError()));
+            return;
+        }
+        if (earlier.getSubmission() != null) {
+            respond(earlier.getSubmission(), async, asyncResponse);
+            return;
+        }
+        final String msg;
+        if (!earlier.isUnresolved()) {
+            msg = "The request with idempotency key " + earlier.key + " is still being started, retry later.\n";
+        } else if (earlier.getFlowId() == null) {
+            msg = "The request with idempotency key " + earlier.key + " was being started when the webserver restarted;"
+                    + " whether its flow is running is not known yet, retry later.\n";
+        } else {
+            msg = "The request with idempotency key " + earlier.key + " started flow " + earlier.getFlowId()
+                    + " before the webserver restarted, which is still running; retry later.\n";
+        }
+        asyncResponse.resume(ResponseStatus(Response.Status.CONFLICT, msg));
+    }
+
+    /**
+     * Frees [idempotencyKey], if any, after its request was refused before starting a flow.
+     */
+    private void release(String idempotencyKey) {
+        if (idempotencyKey != null) {
+            idempotency.release(idempotencyKey);
+        }
+    }
+
+    /**
+     * Starts the flow of a journaled request, on behalf of the dispatcher.
+     */
+    private FlowRegistry.Submission startJournaled(SubmissionJournal.Entry entry, ConcurrencyLimiter.Permit permit) throws Exception {
+        final JsonNode args = journalMapper.readTree(entry.args());
+        final Party viewerParty = resolveJournaled(args, "viewerPartyName");
+        switch (entry.getKind()) {
+            case CREATE_IOU:
+                return submitFlow(permit, false, RegularFlow.Initiator.class,
+                        args.get("iouValue").asInt(), viewerParty, resolveJournaled(args, "otherPartyName"));
+            case COMPENSATE:
+                return startCompensation(permit, false, viewerParty, resolveJournaled(args, "counterPartyName"),
+                        args.get("from").asLong(), args.get("to").asLong(), null);
+            default:
+                throw new IllegalStateException("Unknown submission kind " + entry.getKind() + ".");
+        }
+    }
+
+    private Party resolveJournaled(JsonNode args, String field) {
+        final CordaX500Name name = CordaX500Name.parse(args.get(field).asText());
+        final Party party = parties.resolve(name);
+        if (party == null) {
+            throw new IllegalArgumentException("Party named " + name + "cannot be found.\n");
+        }
+        return party;
+    }
+    
+    /**
+     * Starts [flowClass] over RPC, with or without progress tracking, and records it in the flow registry. [permit] is
+     * released once the flow completes, with the flow's latency if it succeeded; the caller still owns it if this
+     * throws.
+     */
+    private FlowRegistry.Submission submitFlow(ConcurrencyLimiter.Permit permit, boolean track, Class<? extends FlowLogic<SignedTransaction>> flowClass, Object... args) {
+        final FlowHandle<SignedTransaction> handle = track
+                ? rpcOps.startTrackedFlowDynamic(flowClass, args)
+                : rpcOps.startFlowDynamic(flowClass, args);
+        final FlowRegistry.Submission submission = flowRegistry.register(handle);
+        submission.result.whenComplete((signedTx, ex) -> {
+            // A failed flow's latency says nothing about the node's capacity, and quick failures would drag the
+            // baseline down.
+            if (ex == null) {
+                permit.release();
+            } else {
+                permit.discard();
             }
-            final IPU ipu = XUtils.compensate(inputs, me, counterPartyParty);
-            if (ipu == null ) {
-                return ResponseStatus(BAD_REQUEST, "Something wrong happened. There are some monkeys that are working in it.\n");
+        });
+        return submission;
+    }
+
+    /**
+     * 429 Too Many Requests, with a Retry-After derived from the recent latency of [bulkhead].
+     */
+    private static Response tooBusy(ConcurrencyLimiter bulkhead) {
+        return Response.status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, bulkhead.retryAfterSeconds())
+                .entity("Too many concurrent " + bulkhead.getName() + " requests, retry later.\n")
+                .build();
+    }
+
+    /**
+     * Answers a flow-starting request: straight away with 202 Accepted in async mode, otherwise once the flow has
+     * committed its transaction. The request thread is not held in either case.
+     */
+    private void respond(FlowRegistry.Submission submission, boolean async, AsyncResponse asyncResponse) {
+        if (async) {
+            final URI location = UriBuilder.fromResource(NodeApi.class).path("flows/{id}").build(submission.status.getFlowId());
+            asyncResponse.resume(Response.accepted(submission.status).location(location).build());
+            return;
+        }
+        submission.result.whenComplete((signedTx, ex) -> {
+            if (ex == null) {
+                final String msg = String.format("Transaction id %s committed to ledger.\n", signedTx.getId());
+                asyncResponse.resume(ResponseStatus(CREATED, msg));
+            } else {
+                final Throwable cause = FlowRegistry.causeOf(ex);
+                logger.error(cause.getMessage(), cause);
+                asyncResponse.resume(ResponseStatus(BAD_REQUEST, cause.getMessage()));
             }
-            final Party payer = ipu.payer;
-            final Party loaner = ipu.loaner;
-            final int ipuValue = ipu.value;
-            final SignedTransaction signedTx = rpcOps
-                    .startTrackedFlowDynamic(CompensationFlow.Initiator.class, inputs, viewerParty, payer, loaner, ipuValue)
-                    .getReturnValue()
-                    .get();
+        });
+    }
 
-            final String msg = String.format("Transaction id %s committed to ledger.\n", signedTx.getId());
-            return ResponseStatus(CREATED, msg);
+    /**
+     * Fetches one page of [pager] and returns it as the response body, either as full states or as their compact
+     * view, with the continuation token (if any) in the [NEXT_PAGE_TOKEN_HEADER] header.
+     */
+    private <T extends LinearState> Response listPage(VaultPager<T> pager,
+                                                      Function<StateAndRef<T>, ?> compactView,
+                                                      List<CriteriaExpression> filters,
+                                                      Vault.StateStatus status,
+                                                      VaultPager.SortKey sortKey,
+                                                      ListParams list) {
+        if (list.pageSize < 1 || list.pageSize > VaultPager.MAX_PAGE_SIZE) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'pageSize' must be between 1 and " + VaultPager.MAX_PAGE_SIZE + ".\n");
+        }
+        final ConcurrencyLimiter.Permit permit = reads.tryAcquire();
+        if (permit == null) {
+            return tooBusy(reads);
+        }
+        try {
+            final VaultPager.Page<T> page = pager.page(filters, status, list.pageToken, list.pageSize, sortKey, list.order);
+            permit.release();
+            final Object states = list.view == ListParams.View.COMPACT
+                    ? page.states.stream().map(compactView).collect(toList())
+                    : page.states;
+            final Response.ResponseBuilder response = Response.status(OK).entity(states);
+            if (page.nextToken != null) {
+                response.header(NEXT_PAGE_TOKEN_HEADER, page.nextToken);
+            }
+            return response.build();
+        } catch (IllegalArgumentException ex) {
+            return ResponseStatus(BAD_REQUEST, ex.getMessage() + "\n");
+        } finally {
+            permit.discard();
+        }
+    }
 
-        } catch (Throwable ex) {
-            final String msg = ex.getMessage();
-            logger.error(ex.getMessage(), ex);
-            return ResponseStatus(BAD_REQUEST, msg);
+    /**
+     * Serves a listing from [model] when it can answer it: the model is loaded, the COMPACT view was asked for and the
+     * listing is sorted by date. The response then carries the model's marker in [READ_MODEL_MARKER_HEADER]. Any other
+     * listing is fetched from the vault by [vault].
+     */
+    private <V> Response fromModel(ReadModel<?, V> model,
+                                   Map<StateQuery.Role, List<CordaX500Name>> roles,
+                                   Long from,
+                                   Long to,
+                                   Vault.StateStatus status,
+                                   VaultPager.SortKey sortKey,
+                                   ListParams list,
+                                   Supplier<Response> vault) {
+        if (!model.isReady() || list.view != ListParams.View.COMPACT || sortKey != VaultPager.SortKey.DATE) {
+            return vault.get();
+        }
+        if (list.pageSize < 1 || list.pageSize > VaultPager.MAX_PAGE_SIZE) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'pageSize' must be between 1 and " + VaultPager.MAX_PAGE_SIZE + ".\n");
+        }
+        try {
+            final ReadModel.Page<V> page = model.page(roles, from, to, status, list.pageToken, list.pageSize, list.order);
+            final Response.ResponseBuilder response = Response.status(OK).entity(page.views).header(READ_MODEL_MARKER_HEADER, page.marker);
+            if (page.nextToken != null) {
+                response.header(NEXT_PAGE_TOKEN_HEADER, page.nextToken);
+            }
+            return response.build();
+        } catch (IllegalArgumentException ex) {
+            return ResponseStatus(BAD_REQUEST, ex.getMessage() + "\n");
         }
     }
-    
+
+    /**
+     * The compact views of the states of one linear state, from [model] once it is loaded and from the vault before.
+     */
+    private <T extends LinearState, V> Response history(ReadModel<T, V> model,
+                                                        Class<T> stateType,
+                                                        Function<StateAndRef<T>, V> compactView,
+                                                        String linearId) {
+        final UUID id;
+        try {
+            id = UUID.fromString(linearId);
+        } catch (IllegalArgumentException ex) {
+            return ResponseStatus(BAD_REQUEST, "Linear id " + linearId + " is not valid.\n");
+        }
+
+        final List<V> views;
+        final boolean cached = model.isReady();
+        final String marker = model.marker();
+        if (cached) {
+            views = model.history(id);
+        } else {
+            final ConcurrencyLimiter.Permit permit = reads.tryAcquire();
+            if (permit == null) {
+                return tooBusy(reads);
+            }
+            try {
+                final QueryCriteria criteria = new QueryCriteria.LinearStateQueryCriteria(null, ImmutableList.of(id), null, Vault.StateStatus.ALL);
+                views = rpcOps.vaultQueryByCriteria(criteria, stateType).getStates().stream().map(compactView).collect(toList());
+                permit.release();
+            } finally {
+                permit.discard();
+            }
+        }
+        if (views.isEmpty()) {
+            return ResponseStatus(NOT_FOUND, "No state with linear id " + linearId + " found.\n");
+        }
+        final Response.ResponseBuilder response = Response.status(OK).entity(views);
+        return cached ? response.header(READ_MODEL_MARKER_HEADER, marker).build() : response.build();
+    }
+
+    /**
+     * Answers [request] with 304 Not Modified if the client's copy is still current for this request's variant (query
+     * string and accepted media types); otherwise with [page], tagged with what it is current to.
+     *
+     * A listing served by [model] is tagged with the model's marker, read before the model is, since the [versions]
+     * counters follow a vault feed of their own that may run ahead of the model's. Any other listing is tagged with
+     * [stateType]'s version, read before the vault is queried. Either way a change that races with the read only
+     * makes the tag older than the body, and the next poll fetches the listing again.
+     */
+    private Response conditional(Class<? extends LinearState> stateType,
+                                 ReadModel<?, ?> model,
+                                 ListParams list,
+                                 Request request,
+                                 UriInfo uriInfo,
+                                 HttpHeaders headers,
+                                 Supplier<Response> page) {
+        final String variant = uriInfo.getRequestUri().getRawQuery() + "|" + headers.getAcceptableMediaTypes();
+        final VaultVersions.Version version = versions.current(stateType);
+        if (model.isReady() && list.view == ListParams.View.COMPACT) {
+            final EntityTag tag = modelTag(stateType, model.marker(), variant);
+            final Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+            if (notModified != null) {
+                return notModified.tag(tag).cacheControl(revalidate).build();
+            }
+        } else if (version != null) {
+            final EntityTag tag = version.tag(variant);
+            final Response.ResponseBuilder notModified = request.evaluatePreconditions(version.lastModified, tag);
+            if (notModified != null) {
+                return notModified.tag(tag).lastModified(version.lastModified).cacheControl(revalidate).build();
+            }
+        }
+
+        final Response response = page.get();
+        if (response.getStatus() != OK.getStatusCode()) {
+            return response;
+        }
+        // The model may have become ready, or stopped being, since; what served the body decides its tag.
+        final String marker = response.getHeaderString(READ_MODEL_MARKER_HEADER);
+        if (marker != null) {
+            return Response.fromResponse(response).tag(modelTag(stateType, marker, variant)).cacheControl(revalidate).build();
+        }
+        if (version == null) {
+            return response;
+        }
+        return Response.fromResponse(response).tag(version.tag(variant)).lastModified(version.lastModified).cacheControl(revalidate).build();
+    }
+
+    private static EntityTag modelTag(Class<? extends LinearState> stateType, String marker, String variant) {
+        return new EntityTag(stateType.getSimpleName() + "-model-" + marker.replace(':', '-') + "-" + Integer.toHexString(variant.hashCode()));
+    }
+
+    /**
+     * Streams every state of [pager] matching [filters] as a single JSON array, walking the vault a page of
+     * [ListParams.pageSize] states at a time. The body is gzipped when the client accepts it.
+     */
+    private <T extends LinearState> Response export(VaultPager<T> pager,
+                                                    Function<StateAndRef<T>, ?> compactView,
+                                                    List<CriteriaExpression> filters,
+                                                    Vault.StateStatus status,
+                                                    VaultPager.SortKey sortKey,
+                                                    String acceptEncoding,
+                                                    ListParams list) {
+        if (list.pageSize < 1 || list.pageSize > VaultPager.MAX_PAGE_SIZE) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'pageSize' must be between 1 and " + VaultPager.MAX_PAGE_SIZE + ".\n");
+        }
+        if (list.pageToken != null) {
+            return ResponseStatus(BAD_REQUEST, "Query parameter 'pageToken' cannot be used with 'stream'.\n");
+        }
+        final Function<StateAndRef<T>, ?> view = list.view == ListParams.View.COMPACT ? compactView : Function.identity();
+        final boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        final VaultExport<T> body = new VaultExport<>(pager, filters, status, sortKey, list.order, list.pageSize, view, exportMapper, gzip);
+
+        final Response.ResponseBuilder response = Response.ok(body, MediaType.APPLICATION_JSON_TYPE);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+    }
+
     public static Response ResponseStatus(Response.StatusType statusType, String msg) {
         //ImmutableMap.of("message", msg)
         return Response.status(statusType).entity(msg ).build();
@@ -0,0 +1,48 @@
+package com.example.api;
+
+import net.corda.core.node.services.vault.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token handed back to clients by the paginated list end-points.
+ *
+ * It records the sort key (key, linearId) of the last state of a page and the column and direction the listing was
+ * sorted by, so the next page can be fetched with a keyset predicate instead of an offset.
+ */
+public final class PageToken {
+    public final VaultPager.SortKey sortKey;
+    public final Sort.Direction direction;
+    public final long key;
+    public final UUID linearId;
+
+    public PageToken(VaultPager.SortKey sortKey, Sort.Direction direction, long key, UUID linearId) {
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.key = key;
+        this.linearId = linearId;
+    }
+
+    public String encode() {
+        final String raw = sortKey.name() + ":" + direction.name() + ":" + key + ":" + linearId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by [encode].
+     */
+    public static PageToken decode(String token) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = raw.split(":");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed page token.");
+            }
+            return new PageToken(VaultPager.SortKey.valueOf(parts[0]), Sort.Direction.valueOf(parts[1]), Long.parseLong(parts[2]), UUID.fromString(parts[3]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Query parameter 'pageToken' is not valid.", ex);
+        }
+    }
+}
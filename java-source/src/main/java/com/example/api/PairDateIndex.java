@@ -0,0 +1,229 @@
+package com.example.api;
+
+import net.corda.core.identity.CordaX500Name;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unconsumed IOU totals between two parties over any date range, from per-pair Fenwick trees over day buckets of
+ * [IOUState.date].
+ *
+ * Each pair keeps, per UTC day, what each party lent and the number of IOUs, in Fenwick trees so a run of whole days
+ * is summed in O(log days). The two partial days at the ends of a range are summed from the same totals per hour,
+ * and the two partial hours at its ends from the totals per exact date. A range is thus answered with O(log days)
+ * tree reads, up to 46 hourly totals, and a scan of the distinct dates of the IOUs in the two end hours. Hours and
+ * dates are forgotten once their IOUs are all consumed, so besides the trees a pair holds memory for its unconsumed
+ * IOUs only. It is a [ReadModel.Listener] of the IOU read model, and its answers are the [CompensationTotals] the
+ * node's database would give.
+ */
+public class PairDateIndex implements ReadModel.Listener<IOUView> {
+    private static final long BUCKET_MILLIS = 24L * 60 * 60 * 1000;
+    private static final long HOUR_MILLIS = 60L * 60 * 1000;
+    private static final int INITIAL_BUCKETS = 64;
+
+    /** Lent by the lexicographically first party, lent by the second one, and number of IOUs. */
+    private static final int A = 0, B = 1, COUNT = 2, FIELDS = 3;
+
+    /**
+     * The trees of one pair. Guarded by itself.
+     */
+    private static final class Pair {
+        final String partyA;
+        /** The bucket of tree index 1. */
+        long origin;
+        /** Per field, a Fenwick tree over the buckets (1-indexed), and the plain per-bucket totals it is built from. */
+        long[][] tree;
+        long[][] buckets;
+        /** Per hour with unconsumed IOUs, their totals, for the partial buckets at the ends of a range. */
+        final Map<Long, long[]> hours = new HashMap<>();
+        /** Per hour with unconsumed IOUs, their totals per exact date, for the partial hours at the ends of a range. */
+        final Map<Long, NavigableMap<Long, long[]>> dates = new HashMap<>();
+
+        Pair(String partyA, long bucket) {
+            this.partyA = partyA;
+            this.origin = bucket - INITIAL_BUCKETS / 2;
+            this.tree = new long[FIELDS][INITIAL_BUCKETS + 1];
+            this.buckets = new long[FIELDS][INITIAL_BUCKETS];
+        }
+
+        void add(long date, long[] delta) {
+            final long bucket = Math.floorDiv(date, BUCKET_MILLIS);
+            cover(bucket);
+            final int index = (int) (bucket - origin);
+            for (int field = 0; field < FIELDS; field++) {
+                buckets[field][index] += delta[field];
+                for (int i = index + 1; i < tree[field].length; i += i & -i) {
+                    tree[field][i] += delta[field];
+                }
+            }
+            final long hour = Math.floorDiv(date, HOUR_MILLIS);
+            if (addTo(hours.computeIfAbsent(hour, h -> new long[FIELDS]), delta)) {
+                hours.remove(hour);
+            }
+            final NavigableMap<Long, long[]> atDates = dates.computeIfAbsent(hour, h -> new TreeMap<>());
+            if (addTo(atDates.computeIfAbsent(date, d -> new long[FIELDS]), delta)) {
+                atDates.remove(date);
+                if (atDates.isEmpty()) {
+                    dates.remove(hour);
+                }
+            }
+        }
+
+        /**
+         * @return whether [totals] count no IOU any more, and can be forgotten.
+         */
+        private static boolean addTo(long[] totals, long[] delta) {
+            for (int field = 0; field < FIELDS; field++) {
+                totals[field] += delta[field];
+            }
+            return totals[COUNT] == 0;
+        }
+
+        long[] sum(long from, long to) {
+            final long[] total = new long[FIELDS];
+            final long first = Math.floorDiv(from, BUCKET_MILLIS);
+            final long last = Math.floorDiv(to, BUCKET_MILLIS);
+            if (first == last) {
+                addWithinBucket(total, from, to);
+                return total;
+            }
+            addWithinBucket(total, from, (first + 1) * BUCKET_MILLIS - 1);
+            addWithinBucket(total, last * BUCKET_MILLIS, to);
+            // The whole buckets strictly between the two ends, clipped to the ones the trees cover.
+            final long low = Math.max(first + 1, origin);
+            final long high = Math.min(last - 1, origin + buckets[0].length - 1);
+            if (low <= high) {
+                for (int field = 0; field < FIELDS; field++) {
+                    total[field] += prefix(field, (int) (high - origin)) - prefix(field, (int) (low - origin) - 1);
+                }
+            }
+            return total;
+        }
+
+        /** Sum of buckets [0, index] of the tree. */
+        private long prefix(int field, int index) {
+            long sum = 0;
+            for (int i = index + 1; i > 0; i -= i & -i) {
+                sum += tree[field][i];
+            }
+            return sum;
+        }
+
+        /** Adds the IOUs dated within [from, to], two dates of the same bucket. */
+        private void addWithinBucket(long[] total, long from, long to) {
+            final long first = Math.floorDiv(from, HOUR_MILLIS);
+            final long last = Math.floorDiv(to, HOUR_MILLIS);
+            if (first == last) {
+                addDates(total, first, from, to);
+                return;
+            }
+            addDates(total, first, from, Long.MAX_VALUE);
+            addDates(total, last, Long.MIN_VALUE, to);
+            for (long hour = first + 1; hour < last; hour++) {
+                final long[] atHour = hours.get(hour);
+                if (atHour != null) {
+                    for (int field = 0; field < FIELDS; field++) {
+                        total[field] += atHour[field];
+                    }
+                }
+            }
+        }
+
+        private void addDates(long[] total, long hour, long from, long to) {
+            final NavigableMap<Long, long[]> atDates = dates.get(hour);
+            if (atDates == null) {
+                return;
+            }
+            for (long[] atDate : atDates.subMap(from, true, to, true).values()) {
+                for (int field = 0; field < FIELDS; field++) {
+                    total[field] += atDate[field];
+                }
+            }
+        }
+
+        /**
+         * Grows the trees, doubling their span towards [bucket] until it is covered, and rebuilds them in O(buckets).
+         */
+        private void cover(long bucket) {
+            if (bucket >= origin && bucket < origin + buckets[0].length) {
+                return;
+            }
+            long newOrigin = origin;
+            int size = buckets[0].length;
+            while (bucket < newOrigin || bucket >= newOrigin + size) {
+                if (bucket < newOrigin) {
+                    newOrigin -= size;
+                }
+                size *= 2;
+            }
+            final int shift = (int) (origin - newOrigin);
+            final long[][] grown = new long[FIELDS][size];
+            final long[][] rebuilt = new long[FIELDS][size + 1];
+            for (int field = 0; field < FIELDS; field++) {
+                System.arraycopy(buckets[field], 0, grown[field], shift, buckets[field].length);
+                for (int i = 1; i <= size; i++) {
+                    rebuilt[field][i] += grown[field][i - 1];
+                    final int parent = i + (i & -i);
+                    if (parent <= size) {
+                        rebuilt[field][parent] += rebuilt[field][i];
+                    }
+                }
+            }
+            origin = newOrigin;
+            buckets = grown;
+            tree = rebuilt;
+        }
+    }
+
+    private final Map<String, Pair> pairs = new ConcurrentHashMap<>();
+
+    @Override
+    public void produced(IOUView iou) {
+        add(iou, 1);
+    }
+
+    @Override
+    public void consumed(IOUView iou) {
+        add(iou, -1);
+    }
+
+    /**
+     * The unconsumed IOU totals between [one] and [another] dated within [from, to], in the shape of
+     * [CompensationTotals.query].
+     */
+    public CompensationTotals query(CordaX500Name one, CordaX500Name another, long from, long to) {
+        final Pair pair = pairs.get(key(one.toString(), another.toString()));
+        if (pair == null || from > to) {
+            return new CompensationTotals(0, 0, 0);
+        }
+        final long[] total;
+        synchronized (pair) {
+            total = pair.sum(from, to);
+        }
+        final boolean oneIsA = one.toString().equals(pair.partyA);
+        return new CompensationTotals(oneIsA ? total[A] : total[B], oneIsA ? total[B] : total[A], total[COUNT]);
+    }
+
+    private void add(IOUView iou, int sign) {
+        if (iou.lender.equals(iou.borrower) || iou.date == null) {
+            return;
+        }
+        final String partyA = iou.lender.compareTo(iou.borrower) <= 0 ? iou.lender : iou.borrower;
+        final Pair pair = pairs.computeIfAbsent(key(iou.lender, iou.borrower),
+                key -> new Pair(partyA, Math.floorDiv(iou.date, BUCKET_MILLIS)));
+        final long[] delta = new long[FIELDS];
+        delta[iou.lender.equals(partyA) ? A : B] = sign * (long) iou.value;
+        delta[COUNT] = sign;
+        synchronized (pair) {
+            pair.add(iou.date, delta);
+        }
+    }
+
+    private static String key(String one, String another) {
+        return one.compareTo(another) <= 0 ? one + "|" + another : another + "|" + one;
+    }
+}
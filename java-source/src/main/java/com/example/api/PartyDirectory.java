@@ -0,0 +1,116 @@
+package com.example.api;
+
+import com.google.common.collect.ImmutableList;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.identity.Party;
+import net.corda.core.messaging.CordaRPCOps;
+import net.corda.core.messaging.DataFeed;
+import net.corda.core.node.NodeInfo;
+import net.corda.core.node.services.NetworkMapCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * In-memory copy of the well-known parties of the network, so the web API can resolve X.500 names without an RPC
+ * round trip per lookup.
+ *
+ * It is seeded from the network map snapshot and kept current from the network map feed. Names that are not in the
+ * map are still looked up over RPC, and remembered if the node knows them.
+ */
+public class PartyDirectory {
+    static private final Logger logger = LoggerFactory.getLogger(PartyDirectory.class);
+
+    private final CordaRPCOps rpcOps;
+    private final Party me;
+    private final Map<CordaX500Name, Party> parties = new ConcurrentHashMap<>();
+    private final Map<CordaX500Name, NodeInfo> nodes = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+
+    public PartyDirectory(CordaRPCOps rpcOps) {
+        this.rpcOps = rpcOps;
+        this.me = rpcOps.nodeInfo().getLegalIdentities().get(0);
+
+        final DataFeed<List<NodeInfo>, NetworkMapCache.MapChange> feed = rpcOps.networkMapFeed();
+        feed.getSnapshot().forEach(this::add);
+        feed.getUpdates().subscribe(this::apply, error -> logger.error("Network map feed failed.", error));
+    }
+
+    /**
+     * @return this node's legal identity.
+     */
+    public Party me() {
+        return me;
+    }
+
+    /**
+     * @return the well-known party with the given name, or null if the node does not know it.
+     */
+    public Party resolve(CordaX500Name name) {
+        if (name == null) {
+            return null;
+        }
+        final Party cached = parties.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        final Party party = rpcOps.wellKnownPartyFromX500Name(name);
+        if (party != null) {
+            parties.put(name, party);
+        }
+        return party;
+    }
+
+    /**
+     * @return the main legal identity names of the nodes in the network map, except this node and the services
+     * whose organisation is listed in [serviceNames].
+     */
+    public List<CordaX500Name> peers(List<String> serviceNames) {
+        return nodes.keySet()
+                .stream()
+                .filter(name -> !name.equals(me.getName()) && !serviceNames.contains(name.getOrganisation()))
+                .collect(toList());
+    }
+
+    /**
+     * @return the nodes in the network map, this node and services included.
+     */
+    public List<NodeInfo> nodes() {
+        return ImmutableList.copyOf(nodes.values());
+    }
+
+    /**
+     * @return the number of network map changes applied so far, for caching anything derived from the map.
+     */
+    public long changes() {
+        return changes.get();
+    }
+
+    private void apply(NetworkMapCache.MapChange change) {
+        if (change instanceof NetworkMapCache.MapChange.Modified) {
+            remove(((NetworkMapCache.MapChange.Modified) change).getPreviousNode());
+            add(change.getNode());
+        } else if (change instanceof NetworkMapCache.MapChange.Removed) {
+            remove(change.getNode());
+        } else {
+            add(change.getNode());
+        }
+        changes.incrementAndGet();
+    }
+
+    private void add(NodeInfo node) {
+        node.getLegalIdentities().forEach(party -> parties.put(party.getName(), party));
+        nodes.put(node.getLegalIdentities().get(0).getName(), node);
+    }
+
+    private void remove(NodeInfo node) {
+        node.getLegalIdentities().forEach(party -> parties.remove(party.getName()));
+        nodes.remove(node.getLegalIdentities().get(0).getName());
+    }
+}
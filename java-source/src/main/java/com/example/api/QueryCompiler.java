@@ -0,0 +1,142 @@
+package com.example.api;
+
+import com.example.schema.IOUSchemaV2;
+import com.example.schema.IPUSchemaV2;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import net.corda.core.node.services.vault.Builder;
+import net.corda.core.node.services.vault.CriteriaExpression;
+import net.corda.core.schemas.PersistentState;
+
+import java.lang.reflect.Field;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Turns a [StateQuery] into the custom criteria expressions the vault understands.
+ *
+ * Schema field handles are looked up once, and the plan of each query shape (its state type, the roles it filters on
+ * and whether by one name or several, and which bounds it has) is kept, so a dashboard repeating a query with other
+ * parties or dates does no reflection and no planning; only the query's values are bound into fresh expressions.
+ */
+public class QueryCompiler {
+    private static final long MAX_CACHED_SHAPES = 1_000;
+
+    private static final Map<StateQuery.Type, Map<String, Field>> fields = new EnumMap<>(StateQuery.Type.class);
+
+    static {
+        fields.put(StateQuery.Type.IOU, fieldsOf(IOUSchemaV2.PersistentIOU.class));
+        fields.put(StateQuery.Type.IPU, fieldsOf(IPUSchemaV2.PersistentIPU.class));
+    }
+
+    private final LoadingCache<Shape, List<Function<StateQuery, CriteriaExpression>>> plans = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SHAPES)
+            .build(CacheLoader.from(QueryCompiler::plan));
+
+    /**
+     * @return the expressions that must all hold for a state to match [query].
+     */
+    public List<CriteriaExpression> filters(StateQuery query) {
+        final List<Function<StateQuery, CriteriaExpression>> plan = plans.getUnchecked(new Shape(query));
+        final ImmutableList.Builder<CriteriaExpression> filters = ImmutableList.builder();
+        for (Function<StateQuery, CriteriaExpression> binder : plan) {
+            filters.add(binder.apply(query));
+        }
+        return filters.build();
+    }
+
+    /**
+     * @return one binder per expression of the queries of [shape], each building its expression from a query's values.
+     */
+    private static List<Function<StateQuery, CriteriaExpression>> plan(Shape shape) {
+        final Map<String, Field> schema = fields.get(shape.type);
+        final ImmutableList.Builder<Function<StateQuery, CriteriaExpression>> plan = ImmutableList.builder();
+
+        for (Map.Entry<StateQuery.Role, Boolean> entry : shape.roles.entrySet()) {
+            final StateQuery.Role role = entry.getKey();
+            final Field column = schema.get(role.column());
+            if (entry.getValue()) {
+                plan.add(query -> Builder.in(column, query.parties.get(role)));
+            } else {
+                plan.add(query -> Builder.equal(column, query.parties.get(role).first()));
+            }
+        }
+
+        final Field value = schema.get("value");
+        if (shape.minValue && shape.maxValue) {
+            plan.add(query -> Builder.between(value, query.minValue, query.maxValue));
+        } else if (shape.minValue) {
+            plan.add(query -> Builder.greaterThanOrEqual(value, query.minValue));
+        } else if (shape.maxValue) {
+            plan.add(query -> Builder.lessThanOrEqual(value, query.maxValue));
+        }
+
+        final Field date = schema.get("date");
+        if (shape.from && shape.to) {
+            plan.add(query -> Builder.between(date, query.from, query.to));
+        } else if (shape.from) {
+            plan.add(query -> Builder.greaterThanOrEqual(date, query.from));
+        } else if (shape.to) {
+            plan.add(query -> Builder.lessThanOrEqual(date, query.to));
+        }
+
+        return plan.build();
+    }
+
+    /**
+     * What the expressions of a [StateQuery] depend on besides its values. Status and sort are not part of it, as the
+     * pager applies them outside these expressions.
+     */
+    private static final class Shape {
+        final StateQuery.Type type;
+        /** Whether each role is filtered on several names rather than one. */
+        final ImmutableSortedMap<StateQuery.Role, Boolean> roles;
+        final boolean minValue;
+        final boolean maxValue;
+        final boolean from;
+        final boolean to;
+
+        Shape(StateQuery query) {
+            final ImmutableSortedMap.Builder<StateQuery.Role, Boolean> roles = ImmutableSortedMap.naturalOrder();
+            for (Map.Entry<StateQuery.Role, ImmutableSortedSet<String>> entry : query.parties.entrySet()) {
+                roles.put(entry.getKey(), entry.getValue().size() > 1);
+            }
+            this.type = query.type;
+            this.roles = roles.build();
+            this.minValue = query.minValue != null;
+            this.maxValue = query.maxValue != null;
+            this.from = query.from != null;
+            this.to = query.to != null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Shape)) return false;
+            final Shape that = (Shape) other;
+            return type == that.type && roles.equals(that.roles)
+                    && minValue == that.minValue && maxValue == that.maxValue && from == that.from && to == that.to;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, roles, minValue, maxValue, from, to);
+        }
+    }
+
+    private static Map<String, Field> fieldsOf(Class<? extends PersistentState> schema) {
+        final ImmutableMap.Builder<String, Field> columns = ImmutableMap.builder();
+        for (Field field : schema.getDeclaredFields()) {
+            columns.put(field.getName(), field);
+        }
+        return columns.build();
+    }
+}
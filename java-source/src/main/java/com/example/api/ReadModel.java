@@ -0,0 +1,569 @@
+package com.example.api;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import net.corda.core.contracts.LinearState;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.crypto.SecureHash;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.messaging.CordaRPCOps;
+import net.corda.core.node.services.Vault;
+import net.corda.core.node.services.vault.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory copy of the vault's states of one type, as compact views indexed by party (for each [StateQuery.Role]
+ * of the type), by date and by linearId, so the list end-points can be served without a round trip to the node.
+ *
+ * The model subscribes to the vault's updates first and then scans the vault a page at a time, unconsumed states
+ * before consumed ones. Both apply the same upsert, in which a state once seen consumed stays consumed, so the scan
+ * and the updates may interleave in any order. The model is [isReady] once the scan is done, and stops being ready
+ * if the feed fails, after which callers should go back to the vault. [whenLoaded] completes once the scan is done, or
+ * exceptionally if it fails.
+ *
+ * Every update applied moves the [marker] on; it is returned with each response so a client can tell how current it
+ * is. [Listener]s are told of each state the model sees become unconsumed, and then consumed, exactly once, which
+ * lets derived indexes be kept current without scanning the vault themselves.
+ *
+ * Given a [ReadModelSnapshot] holding a section for the type, the model loads the records from it instead of scanning,
+ * and then catches up with the states the vault recorded or consumed since the snapshot was taken. Listeners are told
+ * of restored records as of scanned ones, so derived indexes need no snapshot of their own.
+ */
+public class ReadModel<T extends LinearState, V> {
+    static private final Logger logger = LoggerFactory.getLogger(ReadModel.class);
+
+    private static final int SCAN_PAGE_SIZE = VaultPager.MAX_PAGE_SIZE;
+    /**
+     * How far before a snapshot was taken the catch-up starts: a state is given its recorded time before its
+     * transaction commits and reaches the feed, so one recorded just before may only have been applied after.
+     */
+    private static final long CATCH_UP_MARGIN_MILLIS = 5 * 60 * 1000;
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID HIGHEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * How a view exposes the fields the model indexes.
+     */
+    public interface Fields<V> {
+        Long date(V view);
+        UUID linearId(V view);
+        /** The name of the party holding [role] in [view], or null if the type has no such role. */
+        String party(V view, StateQuery.Role role);
+        int value(V view);
+        /** The view of a [ReadModelSnapshot] record; [first] and [second] hold the roles following the viewer. */
+        V restore(int value, Long date, String viewer, String first, String second, UUID linearId, String ref);
+    }
+
+    /**
+     * Told of the model's changes, serially and under the model's lock, so it must not block.
+     */
+    public interface Listener<V> {
+        /** [view] is an unconsumed state new to the model. */
+        void produced(V view);
+        /** [view], previously reported produced, has been consumed. */
+        void consumed(V view);
+        /** [view] is a state new to the model that was consumed already, for listeners that keep history too. */
+        default void alreadyConsumed(V view) {}
+    }
+
+    private static final class Record<V> {
+        final V view;
+        final long date;
+        final UUID linearId;
+        final String ref;
+        volatile boolean consumed;
+
+        Record(V view, long date, UUID linearId, String ref, boolean consumed) {
+            this.view = view;
+            this.date = date;
+            this.linearId = linearId;
+            this.ref = ref;
+            this.consumed = consumed;
+        }
+    }
+
+    /** The listing order of [VaultPager.SortKey.DATE]: date, then linearId, then state ref for a state's history. */
+    private static final Comparator<Record<?>> ORDER = Comparator.<Record<?>>comparingLong(record -> record.date)
+            .thenComparing(record -> record.linearId)
+            .thenComparing(record -> record.ref);
+
+    /**
+     * A page of views, the token to fetch the following one (null on the last page), and the marker the model was at
+     * when the page was read.
+     */
+    public static class Page<V> {
+        public final List<V> views;
+        public final String nextToken;
+        public final String marker;
+
+        Page(List<V> views, String nextToken, String marker) {
+            this.views = views;
+            this.nextToken = nextToken;
+            this.marker = marker;
+        }
+    }
+
+    private final Class<T> stateType;
+    private final Function<StateAndRef<T>, V> view;
+    private final Fields<V> fields;
+    private final List<StateQuery.Role> roles;
+    private final List<Listener<V>> listeners;
+
+    /**
+     * The records of one party in one role, and their number, which a skip list only knows by walking itself.
+     */
+    private static final class Postings<V> {
+        final NavigableSet<Record<V>> records = new ConcurrentSkipListSet<>(ORDER);
+        /** Written under the model's lock. */
+        volatile int size;
+    }
+
+    /**
+     * The date and party indexes of the records of one status. A record is in the unconsumed or the consumed one,
+     * so a listing of either status walks only records of that status.
+     */
+    private final class Index {
+        final NavigableSet<Record<V>> byDate = new ConcurrentSkipListSet<>(ORDER);
+        final Map<StateQuery.Role, Map<String, Postings<V>>> byParty = new EnumMap<>(StateQuery.Role.class);
+
+        Index() {
+            for (StateQuery.Role role : roles) {
+                byParty.put(role, new ConcurrentHashMap<>());
+            }
+        }
+
+        /** Guarded by the model. */
+        void add(Record<V> record) {
+            byDate.add(record);
+            for (StateQuery.Role role : roles) {
+                final String party = fields.party(record.view, role);
+                if (party != null) {
+                    final Postings<V> postings = byParty.get(role).computeIfAbsent(party, name -> new Postings<>());
+                    postings.records.add(record);
+                    postings.size++;
+                }
+            }
+        }
+
+        /** Guarded by the model. */
+        void remove(Record<V> record) {
+            byDate.remove(record);
+            for (StateQuery.Role role : roles) {
+                final String party = fields.party(record.view, role);
+                if (party != null) {
+                    final Postings<V> postings = byParty.get(role).get(party);
+                    postings.records.remove(record);
+                    postings.size--;
+                }
+            }
+        }
+    }
+
+    private final Map<String, Record<V>> byRef = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Record<V>>> byLinearId = new ConcurrentHashMap<>();
+    private final Index unconsumedIndex;
+    private final Index consumedIndex;
+
+    private volatile boolean ready;
+    private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+    /** The number of vault updates applied, and the transaction of the last one. Written under this. */
+    private volatile long applied;
+    private volatile SecureHash lastTransaction;
+
+    public ReadModel(CordaRPCOps rpcOps,
+                     VaultPager<T> pager,
+                     Class<T> stateType,
+                     Function<StateAndRef<T>, V> view,
+                     Fields<V> fields,
+                     List<StateQuery.Role> roles,
+                     List<Listener<V>> listeners,
+                     ReadModelSnapshot snapshot) {
+        this.stateType = stateType;
+        this.view = view;
+        this.fields = fields;
+        this.roles = roles;
+        this.listeners = listeners;
+        this.unconsumedIndex = new Index();
+        this.consumedIndex = new Index();
+
+        final Thread bootstrap = new Thread(() -> bootstrap(rpcOps, pager, snapshot), "read-model-" + stateType.getSimpleName());
+        bootstrap.setDaemon(true);
+        bootstrap.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Completes when the model has loaded, or exceptionally when it could not be. Cancelling the returned future
+     * leaves the model's own alone.
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loaded.thenApply(Function.identity());
+    }
+
+    /**
+     * "updates:transaction", the number of vault updates applied so far and the id of the last one's transaction.
+     */
+    public String marker() {
+        synchronized (this) {
+            return applied + ":" + (lastTransaction == null ? "" : lastTransaction.toString());
+        }
+    }
+
+    /**
+     * @return the views of [linearId]'s states, oldest first, consumed or not.
+     */
+    public List<V> history(UUID linearId) {
+        final List<Record<V>> records = byLinearId.getOrDefault(linearId, ImmutableList.of());
+        final List<V> views = new ArrayList<>(records.size());
+        for (Record<V> record : records) {
+            views.add(record.view);
+        }
+        return views;
+    }
+
+    /**
+     * Fetches the page following [token] (or the first page when it is null) of the views in date order whose parties
+     * match [parties] (a view matches a role if its party is any of the names listed for it) and whose date is within
+     * [from, to] (either may be null).
+     *
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort order.
+     */
+    public Page<V> page(Map<StateQuery.Role, List<CordaX500Name>> parties,
+                        Long from,
+                        Long to,
+                        Vault.StateStatus status,
+                        String token,
+                        int pageSize,
+                        Sort.Direction direction) {
+        final String marker = marker();
+        final boolean ascending = direction == Sort.Direction.ASC;
+        Record<V> lower = bound(from == null ? Long.MIN_VALUE : from, LOWEST_ID, true);
+        Record<V> upper = bound(to == null ? Long.MAX_VALUE : to, HIGHEST_ID, false);
+        if (token != null) {
+            final PageToken after = PageToken.decode(token);
+            if (after.sortKey != VaultPager.SortKey.DATE || after.direction != direction) {
+                throw new IllegalArgumentException("Query parameter 'pageToken' was issued for a different sort order.");
+            }
+            // Past every state of the token's linear state, as the vault's keyset predicate is.
+            if (ascending) {
+                lower = max(lower, bound(after.key, after.linearId, false));
+            } else {
+                upper = min(upper, bound(after.key, after.linearId, true));
+            }
+        }
+        if (ORDER.compare(lower, upper) > 0) {
+            return new Page<>(ImmutableList.of(), null, marker);
+        }
+
+        final List<Index> indexes = status == Vault.StateStatus.UNCONSUMED ? ImmutableList.of(unconsumedIndex)
+                : status == Vault.StateStatus.CONSUMED ? ImmutableList.of(consumedIndex)
+                : ImmutableList.of(unconsumedIndex, consumedIndex);
+        final Iterator<Record<V>> candidates = candidates(indexes, parties, lower, upper, ascending);
+        final List<Record<V>> fetched = new ArrayList<>(pageSize + 1);
+        while (candidates.hasNext() && fetched.size() <= pageSize) {
+            final Record<V> record = candidates.next();
+            if (matches(record, parties, status)) {
+                fetched.add(record);
+            }
+        }
+
+        final List<V> views = new ArrayList<>(Math.min(fetched.size(), pageSize));
+        for (int i = 0; i < fetched.size() && i < pageSize; i++) {
+            views.add(fetched.get(i).view);
+        }
+        if (fetched.size() <= pageSize) {
+            return new Page<>(views, null, marker);
+        }
+        final Record<V> last = fetched.get(pageSize - 1);
+        return new Page<>(views, new PageToken(VaultPager.SortKey.DATE, direction, last.date, last.linearId).encode(), marker);
+    }
+
+    /**
+     * The records of [indexes] within [lower, upper] in listing order, from the smallest index that can answer: the
+     * party index of the most selective role with names, or else the date index.
+     */
+    private Iterator<Record<V>> candidates(List<Index> indexes, Map<StateQuery.Role, List<CordaX500Name>> parties, Record<V> lower, Record<V> upper, boolean ascending) {
+        List<NavigableSet<Record<V>>> narrowest = null;
+        long narrowestSize = Long.MAX_VALUE;
+        for (Map.Entry<StateQuery.Role, List<CordaX500Name>> role : parties.entrySet()) {
+            if (role.getValue() == null || role.getValue().isEmpty()) {
+                continue;
+            }
+            if (!roles.contains(role.getKey())) {
+                throw new IllegalArgumentException("Role " + role.getKey() + " does not exist on " + stateType.getSimpleName() + "s.");
+            }
+            final List<NavigableSet<Record<V>>> sets = new ArrayList<>();
+            long size = 0;
+            for (Index index : indexes) {
+                for (CordaX500Name name : role.getValue()) {
+                    final Postings<V> postings = index.byParty.get(role.getKey()).get(name.toString());
+                    if (postings != null) {
+                        sets.add(postings.records);
+                        size += postings.size;
+                    }
+                }
+            }
+            if (size < narrowestSize) {
+                narrowest = sets;
+                narrowestSize = size;
+            }
+        }
+
+        final List<NavigableSet<Record<V>>> sources = new ArrayList<>();
+        if (narrowest != null) {
+            sources.addAll(narrowest);
+        } else {
+            for (Index index : indexes) {
+                sources.add(index.byDate);
+            }
+        }
+        final List<Iterator<Record<V>>> ranges = new ArrayList<>(sources.size());
+        for (NavigableSet<Record<V>> source : sources) {
+            final NavigableSet<Record<V>> range = source.subSet(lower, true, upper, true);
+            ranges.add(ascending ? range.iterator() : range.descendingIterator());
+        }
+        if (ranges.size() == 1) {
+            return ranges.get(0);
+        }
+        // Distinct names index distinct records, but a record being consumed is briefly in both status indexes.
+        final PeekingIterator<Record<V>> merged = Iterators.peekingIterator(Iterators.mergeSorted(ranges, ascending ? ORDER : ORDER.reversed()));
+        return new AbstractIterator<Record<V>>() {
+            @Override
+            protected Record<V> computeNext() {
+                if (!merged.hasNext()) {
+                    return endOfData();
+                }
+                final Record<V> next = merged.next();
+                while (merged.hasNext() && merged.peek() == next) {
+                    merged.next();
+                }
+                return next;
+            }
+        };
+    }
+
+    private boolean matches(Record<V> record, Map<StateQuery.Role, List<CordaX500Name>> parties, Vault.StateStatus status) {
+        if (status == Vault.StateStatus.UNCONSUMED && record.consumed || status == Vault.StateStatus.CONSUMED && !record.consumed) {
+            return false;
+        }
+        for (Map.Entry<StateQuery.Role, List<CordaX500Name>> role : parties.entrySet()) {
+            if (role.getValue() == null || role.getValue().isEmpty()) {
+                continue;
+            }
+            final String party = fields.party(record.view, role.getKey());
+            boolean any = false;
+            for (CordaX500Name name : role.getValue()) {
+                any |= name.toString().equals(party);
+            }
+            if (!any) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Record<V> bound(long date, UUID linearId, boolean low) {
+        return new Record<>(null, date, linearId, low ? "" : "\uffff", false);
+    }
+
+    private static <V> Record<V> max(Record<V> a, Record<V> b) {
+        return ORDER.compare(a, b) >= 0 ? a : b;
+    }
+
+    private static <V> Record<V> min(Record<V> a, Record<V> b) {
+        return ORDER.compare(a, b) <= 0 ? a : b;
+    }
+
+    private void bootstrap(CordaRPCOps rpcOps, VaultPager<T> pager, ReadModelSnapshot snapshot) {
+        // Only the updates are of interest, so keep the snapshot to a single state.
+        rpcOps.vaultTrackBy(new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL),
+                new PageSpecification(1, 1), new Sort(ImmutableList.of()), stateType)
+                .getUpdates()
+                .subscribe(this::apply, error -> {
+                    ready = false;
+                    logger.error("Vault feed for the " + stateType.getSimpleName() + " read model failed.", error);
+                });
+        try {
+            final long started = System.currentTimeMillis();
+            if (snapshot != null && snapshot.has(stateType.getName())) {
+                restore(snapshot);
+                catchUp(rpcOps, Instant.ofEpochMilli(snapshot.takenAt - CATCH_UP_MARGIN_MILLIS));
+            } else {
+                scan(pager, Vault.StateStatus.UNCONSUMED);
+                scan(pager, Vault.StateStatus.CONSUMED);
+            }
+            ready = true;
+            loaded.complete(null);
+            logger.info("{} read model loaded {} states in {} ms.", stateType.getSimpleName(), byRef.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            loaded.completeExceptionally(ex);
+            logger.error("The " + stateType.getSimpleName() + " read model could not be loaded; queries go to the vault.", ex);
+        }
+    }
+
+    private void scan(VaultPager<T> pager, Vault.StateStatus status) {
+        String token = null;
+        do {
+            final VaultPager.Page<T> page = pager.page(ImmutableList.of(), status, token, SCAN_PAGE_SIZE, VaultPager.SortKey.DATE, Sort.Direction.ASC);
+            synchronized (this) {
+                for (StateAndRef<T> stateAndRef : page.states) {
+                    upsert(stateAndRef, status == Vault.StateStatus.CONSUMED);
+                }
+            }
+            token = page.nextToken;
+        } while (token != null);
+    }
+
+    private void restore(ReadModelSnapshot snapshot) {
+        final String section = stateType.getName();
+        synchronized (this) {
+            final String last = snapshot.lastTransaction(section);
+            // Updates the feed applied while the model was starting are counted on top of the snapshot's.
+            applied += snapshot.applied(section);
+            if (lastTransaction == null && last != null) {
+                lastTransaction = SecureHash.parse(last);
+            }
+            logger.info("{} read model restoring its snapshot taken at {}, at marker {}:{}.", stateType.getSimpleName(),
+                    Instant.ofEpochMilli(snapshot.takenAt), snapshot.applied(section), last == null ? "" : last);
+            final long count = snapshot.restore(section, (value, date, viewer, first, second, linearId, ref, consumed) ->
+                    upsert(ref, () -> fields.restore(value, date, viewer, first, second, linearId, ref), consumed));
+            logger.info("{} read model restored {} states from its snapshot.", stateType.getSimpleName(), count);
+        }
+    }
+
+    /**
+     * Applies the states the vault recorded or consumed from [since] on, a page at a time in state ref order.
+     */
+    private void catchUp(CordaRPCOps rpcOps, Instant since) {
+        final QueryCriteria criteria = changedSince(QueryCriteria.TimeInstantType.RECORDED, since)
+                .or(changedSince(QueryCriteria.TimeInstantType.CONSUMED, since));
+        final Sort sort = new Sort(ImmutableList.of(
+                new Sort.SortColumn(new SortAttribute.Standard(Sort.CommonStateAttribute.STATE_REF_TXN_ID), Sort.Direction.ASC),
+                new Sort.SortColumn(new SortAttribute.Standard(Sort.CommonStateAttribute.STATE_REF_INDEX), Sort.Direction.ASC)));
+        long caughtUp = 0;
+        for (int pageNumber = 1; ; pageNumber++) {
+            final Vault.Page<T> page = rpcOps.vaultQueryBy(criteria, new PageSpecification(pageNumber, SCAN_PAGE_SIZE), sort, stateType);
+            synchronized (this) {
+                for (int i = 0; i < page.getStates().size(); i++) {
+                    upsert(page.getStates().get(i), page.getStatesMetadata().get(i).getStatus() == Vault.StateStatus.CONSUMED);
+                }
+            }
+            caughtUp += page.getStates().size();
+            if (page.getStates().size() < SCAN_PAGE_SIZE) {
+                break;
+            }
+        }
+        logger.info("{} read model caught up with {} states changed since {}.", stateType.getSimpleName(), caughtUp, since);
+    }
+
+    private QueryCriteria changedSince(QueryCriteria.TimeInstantType type, Instant since) {
+        return new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL, null, null, null, null,
+                new QueryCriteria.TimeCondition(type, new ColumnPredicate.BinaryComparison<>(BinaryComparisonOperator.GREATER_THAN_OR_EQUAL, since)));
+    }
+
+    /**
+     * Whether the model holds the newest state the vault recorded up to [until], by the node's clock. The feed
+     * delivers states in the order they are recorded, so when it does, it holds every state recorded before too, and a
+     * snapshot of it taken now can be caught up from [until]. When it does not, the feed is behind.
+     */
+    public boolean caughtUpTo(CordaRPCOps rpcOps, Instant until) {
+        final QueryCriteria criteria = new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL, null, null, null, null,
+                new QueryCriteria.TimeCondition(QueryCriteria.TimeInstantType.RECORDED,
+                        new ColumnPredicate.BinaryComparison<>(BinaryComparisonOperator.LESS_THAN_OR_EQUAL, until)));
+        final Sort newest = new Sort(ImmutableList.of(
+                new Sort.SortColumn(new SortAttribute.Standard(Sort.VaultStateAttribute.RECORDED_TIME), Sort.Direction.DESC)));
+        final Vault.Page<T> page = rpcOps.vaultQueryBy(criteria, new PageSpecification(1, 1), newest, stateType);
+        if (page.getStates().isEmpty()) {
+            return true;
+        }
+        final StateAndRef<T> last = page.getStates().get(0);
+        return byRef.containsKey(last.getRef().getTxhash() + ":" + last.getRef().getIndex());
+    }
+
+    /**
+     * Writes the model's records, and the marker they are current to, as a section of [writer].
+     */
+    public void save(ReadModelSnapshot.Writer writer) throws IOException {
+        final List<Record<V>> records;
+        final long savedApplied;
+        final SecureHash savedTransaction;
+        synchronized (this) {
+            savedApplied = applied;
+            savedTransaction = lastTransaction;
+            records = new ArrayList<>(byRef.values());
+        }
+        writer.section(stateType.getName(), savedApplied, savedTransaction == null ? null : savedTransaction.toString());
+        for (Record<V> record : records) {
+            final V saved = record.view;
+            writer.record(fields.value(saved), fields.date(saved), fields.party(saved, roles.get(0)), fields.party(saved, roles.get(1)),
+                    fields.party(saved, roles.get(2)), record.linearId, record.ref, record.consumed);
+        }
+    }
+
+    private synchronized void apply(Vault.Update<T> update) {
+        for (StateAndRef<T> stateAndRef : update.getConsumed()) {
+            upsert(stateAndRef, true);
+            lastTransaction = stateAndRef.getRef().getTxhash();
+        }
+        for (StateAndRef<T> stateAndRef : update.getProduced()) {
+            upsert(stateAndRef, false);
+            lastTransaction = stateAndRef.getRef().getTxhash();
+        }
+        applied++;
+    }
+
+    /**
+     * Adds a state, or marks it consumed. Guarded by this.
+     */
+    private void upsert(StateAndRef<T> stateAndRef, boolean consumed) {
+        upsert(stateAndRef.getRef().getTxhash() + ":" + stateAndRef.getRef().getIndex(), () -> view.apply(stateAndRef), consumed);
+    }
+
+    /**
+     * Adds the state at [ref], projecting it only if it is new, or marks it consumed. Guarded by this.
+     */
+    private void upsert(String ref, Supplier<V> projection, boolean consumed) {
+        final Record<V> existing = byRef.get(ref);
+        if (existing != null) {
+            if (consumed && !existing.consumed) {
+                existing.consumed = true;
+                // Into the consumed indexes first, so a listing of every status never misses the record.
+                consumedIndex.add(existing);
+                unconsumedIndex.remove(existing);
+                for (Listener<V> listener : listeners) {
+                    listener.consumed(existing.view);
+                }
+            }
+            return;
+        }
+        final V projected = projection.get();
+        final Long date = fields.date(projected);
+        final Record<V> record = new Record<>(projected, date == null ? Long.MIN_VALUE : date, fields.linearId(projected), ref, consumed);
+        byRef.put(ref, record);
+        byLinearId.computeIfAbsent(record.linearId, id -> new CopyOnWriteArrayList<>()).add(record);
+        (consumed ? consumedIndex : unconsumedIndex).add(record);
+        for (Listener<V> listener : listeners) {
+            if (consumed) {
+                listener.alreadyConsumed(projected);
+            } else {
+                listener.produced(projected);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.api;
+
+import com.google.common.io.CountingOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A versioned file holding the records of the [ReadModel]s, so a restarted webserver can load them from disk and only
+ * catch up with what the vault recorded since, instead of scanning the whole vault.
+ *
+ * The file is written to a temporary sibling and moved into place once complete, and read back through a read-only
+ * mapping. Party names are stored once, in a dictionary at the end of the file, and referred to by index.
+ * <pre>
+ * header:     int magic, int version, long takenAt, long dictionaryOffset
+ * section:    byte 1, string stateType, long applied, string lastTransaction, then records, then byte 0
+ * record:     byte 1, int value, long date, int viewer, int first, int second, long linearIdHigh, long linearIdLow, string ref,
+ *             byte consumed
+ * end:        byte 0
+ * dictionary: int count, then count strings
+ * </pre>
+ * Strings are an unsigned short length followed by that many bytes of UTF-8; dates are Long.MIN_VALUE when absent.
+ * A snapshot of another version, or one that cannot be read, is ignored and the models are loaded from the vault.
+ */
+public class ReadModelSnapshot {
+    static private final Logger logger = LoggerFactory.getLogger(ReadModelSnapshot.class);
+
+    private static final int MAGIC = 0x45585244;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8;
+
+    /**
+     * Receives the records of a section, in the order [ReadModel] saved them.
+     */
+    public interface Sink {
+        void record(int value, Long date, String viewer, String first, String second, UUID linearId, String ref, boolean consumed);
+    }
+
+    /**
+     * Where a section starts in the mapping, and the marker it was saved at.
+     */
+    private static final class Section {
+        final int position;
+        final long applied;
+        final String lastTransaction;
+
+        Section(int position, long applied, String lastTransaction) {
+            this.position = position;
+            this.applied = applied;
+            this.lastTransaction = lastTransaction;
+        }
+    }
+
+    /** When the snapshot was started, by the node's clock; everything the vault recorded before it is in the snapshot. */
+    public final long takenAt;
+    private final MappedByteBuffer mapping;
+    private final String[] parties;
+    private final Map<String, Section> sections;
+
+    private ReadModelSnapshot(long takenAt, MappedByteBuffer mapping, String[] parties, Map<String, Section> sections) {
+        this.takenAt = takenAt;
+        this.mapping = mapping;
+        this.parties = parties;
+        this.sections = sections;
+    }
+
+    /**
+     * @return the snapshot at [path], or null if there is none or it cannot be used.
+     */
+    public static ReadModelSnapshot open(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapping.getInt() != MAGIC || mapping.getInt() != VERSION) {
+                logger.warn("Read model snapshot {} is of another version, ignoring it.", path);
+                return null;
+            }
+            final long takenAt = mapping.getLong();
+            final long dictionaryOffset = mapping.getLong();
+
+            final ByteBuffer dictionary = mapping.duplicate();
+            dictionary.position((int) dictionaryOffset);
+            final String[] parties = new String[dictionary.getInt()];
+            for (int i = 0; i < parties.length; i++) {
+                parties[i] = string(dictionary);
+            }
+
+            // Walk the sections once to find where each starts; their records are only decoded when restored.
+            final Map<String, Section> sections = new HashMap<>();
+            final ByteBuffer walk = mapping.duplicate();
+            walk.position(HEADER_SIZE);
+            while (walk.get() == 1) {
+                final String stateType = string(walk);
+                final long applied = walk.getLong();
+                final String lastTransaction = string(walk);
+                sections.put(stateType, new Section(walk.position(), applied, lastTransaction.isEmpty() ? null : lastTransaction));
+                while (walk.get() == 1) {
+                    walk.position(walk.position() + 4 + 8 + 4 + 4 + 4 + 16);
+                    final int refLength = walk.getShort() & 0xFFFF;
+                    walk.position(walk.position() + refLength + 1);
+                }
+            }
+            return new ReadModelSnapshot(takenAt, mapping, parties, sections);
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Read model snapshot " + path + " cannot be read, ignoring it.", ex);
+            return null;
+        }
+    }
+
+    public boolean has(String stateType) {
+        return sections.containsKey(stateType);
+    }
+
+    public long applied(String stateType) {
+        return sections.get(stateType).applied;
+    }
+
+    public String lastTransaction(String stateType) {
+        return sections.get(stateType).lastTransaction;
+    }
+
+    /**
+     * Feeds the records of [stateType]'s section to [sink].
+     *
+     * @return the number of records.
+     */
+    public long restore(String stateType, Sink sink) {
+        final ByteBuffer records = mapping.duplicate();
+        records.position(sections.get(stateType).position);
+        long count = 0;
+        while (records.get() == 1) {
+            final int value = records.getInt();
+            final long date = records.getLong();
+            final String viewer = parties[records.getInt()];
+            final String first = parties[records.getInt()];
+            final String second = parties[records.getInt()];
+            final UUID linearId = new UUID(records.getLong(), records.getLong());
+            final String ref = string(records);
+            final boolean consumed = records.get() != 0;
+            sink.record(value, date == Long.MIN_VALUE ? null : date, viewer, first, second, linearId, ref, consumed);
+            count++;
+        }
+        return count;
+    }
+
+    private static String string(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a snapshot, which replaces the one at its path on [commit] only.
+     */
+    public static final class Writer implements Closeable {
+        private final Path path;
+        private final Path partial;
+        private final long takenAt;
+        private final FileChannel channel;
+        private final CountingOutputStream counter;
+        private final DataOutputStream out;
+        private final Map<String, Integer> parties = new LinkedHashMap<>();
+        private boolean inSection;
+
+        public Writer(Path path, long takenAt) throws IOException {
+            this.path = path;
+            this.partial = path.resolveSibling(path.getFileName() + ".partial");
+            this.takenAt = takenAt;
+            this.channel = FileChannel.open(partial, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.counter = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            this.out = new DataOutputStream(counter);
+            // Patched with the dictionary's offset on commit.
+            out.write(new byte[HEADER_SIZE]);
+        }
+
+        public void section(String stateType, long applied, String lastTransaction) throws IOException {
+            endSection();
+            out.writeByte(1);
+            string(stateType);
+            out.writeLong(applied);
+            string(lastTransaction == null ? "" : lastTransaction);
+            inSection = true;
+        }
+
+        public void record(int value, Long date, String viewer, String first, String second, UUID linearId, String ref, boolean consumed) throws IOException {
+            out.writeByte(1);
+            out.writeInt(value);
+            out.writeLong(date == null ? Long.MIN_VALUE : date);
+            out.writeInt(party(viewer));
+            out.writeInt(party(first));
+            out.writeInt(party(second));
+            out.writeLong(linearId.getMostSignificantBits());
+            out.writeLong(linearId.getLeastSignificantBits());
+            string(ref);
+            out.writeByte(consumed ? 1 : 0);
+        }
+
+        /**
+         * Completes the file, makes it durable, and moves it into place.
+         */
+        public void commit() throws IOException {
+            endSection();
+            out.writeByte(0);
+            final long dictionaryOffset = counter.getCount();
+            if (dictionaryOffset > Integer.MAX_VALUE) {
+                throw new IOException("Read model snapshot would exceed 2 GB, it cannot be mapped.");
+            }
+            out.writeInt(parties.size());
+            for (String party : parties.keySet()) {
+                string(party);
+            }
+            out.flush();
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putLong(takenAt).putLong(dictionaryOffset);
+            header.flip();
+            channel.write(header, 0);
+            channel.force(true);
+            channel.close();
+            Files.move(partial, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (channel.isOpen()) {
+                channel.close();
+                Files.deleteIfExists(partial);
+            }
+        }
+
+        private void endSection() throws IOException {
+            if (inSection) {
+                out.writeByte(0);
+                inSection = false;
+            }
+        }
+
+        private int party(String name) {
+            return parties.computeIfAbsent(name, key -> parties.size());
+        }
+
+        private void string(String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+    }
+}
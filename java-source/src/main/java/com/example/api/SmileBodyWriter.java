@@ -0,0 +1,52 @@
+package com.example.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes response entities as Jackson Smile, the binary encoding of the JSON data model, for clients that send
+ * "Accept: application/x-jackson-smile". It is typically several times smaller and faster to encode than JSON.
+ *
+ * The mapper should be configured like the webserver's JSON one, so both encodings carry the same content.
+ */
+@Provider
+@Produces(SmileBodyWriter.SMILE)
+public class SmileBodyWriter implements MessageBodyWriter<Object> {
+    public static final String SMILE = "application/x-jackson-smile";
+    public static final MediaType SMILE_TYPE = MediaType.valueOf(SMILE);
+
+    private final ObjectMapper mapper;
+
+    public SmileBodyWriter(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.mapper.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return SMILE_TYPE.isCompatible(mediaType) && !StreamingOutput.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public long getSize(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        mapper.writeValue(entityStream, entity);
+    }
+}
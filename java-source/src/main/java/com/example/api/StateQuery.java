@@ -0,0 +1,99 @@
+package com.example.api;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import net.corda.core.identity.CordaX500Name;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A filter over IOU or IPU states: parties by role, value range and date range. All of the given conditions must
+ * hold; several names for one role match any of them.
+ *
+ * Instances are normalised (sorted, immutable) so that equal filters are equal objects, and [QueryCompiler] finds
+ * the same shape for filters that differ only in their values.
+ */
+public final class StateQuery {
+    public enum Type { IOU, IPU }
+
+    /**
+     * The party columns of the IOU and IPU schemas.
+     */
+    public enum Role {
+        VIEWER(null), LENDER(Type.IOU), BORROWER(Type.IOU), PAYER(Type.IPU), LOANER(Type.IPU);
+
+        /** The only state type the role exists on, or null if it exists on both. */
+        final Type type;
+
+        Role(Type type) {
+            this.type = type;
+        }
+
+        public String column() {
+            return name().toLowerCase();
+        }
+    }
+
+    public final Type type;
+    public final ImmutableSortedMap<Role, ImmutableSortedSet<String>> parties;
+    public final Integer minValue;
+    public final Integer maxValue;
+    public final Long from;
+    public final Long to;
+
+    /**
+     * @throws IllegalArgumentException if a role does not exist on [type] or a range is inverted.
+     */
+    public StateQuery(Type type, Map<Role, ? extends Collection<CordaX500Name>> parties, Integer minValue, Integer maxValue, Long from, Long to) {
+        final ImmutableSortedMap.Builder<Role, ImmutableSortedSet<String>> normalised = ImmutableSortedMap.naturalOrder();
+        for (Map.Entry<Role, ? extends Collection<CordaX500Name>> entry : parties.entrySet()) {
+            if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                continue;
+            }
+            if (entry.getKey().type != null && entry.getKey().type != type) {
+                throw new IllegalArgumentException("Query parameter '" + entry.getKey().column() + "' does not apply to " + type + "s.");
+            }
+            normalised.put(entry.getKey(), ImmutableSortedSet.copyOf(entry.getValue().stream().map(Object::toString).collect(toList())));
+        }
+        if (minValue != null && maxValue != null && minValue > maxValue) {
+            throw new IllegalArgumentException("Invalid range, 'minValue' parameter is greater than 'maxValue'.");
+        }
+        if (from != null && to != null && from > to) {
+            throw new IllegalArgumentException("Invalid period, 'from' parameter is greater than 'to'.");
+        }
+
+        this.type = type;
+        this.parties = normalised.build();
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof StateQuery)) return false;
+        final StateQuery that = (StateQuery) other;
+        return type == that.type
+                && parties.equals(that.parties)
+                && Objects.equals(minValue, that.minValue)
+                && Objects.equals(maxValue, that.maxValue)
+                && Objects.equals(from, that.from)
+                && Objects.equals(to, that.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, parties, minValue, maxValue, from, to);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StateQuery(type=%s, parties=%s, minValue=%s, maxValue=%s, from=%s, to=%s)", type, parties, minValue, maxValue, from, to);
+    }
+}
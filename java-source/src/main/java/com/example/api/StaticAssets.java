@@ -0,0 +1,125 @@
+package com.example.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.OK;
+
+/**
+ * Serves the web UI's built assets (scripts and style sheets) from /api/assets/example, in place of the webserver's
+ * plain static directory.
+ *
+ * Only the assets listed in the build's asset-manifest.json are served, so source maps and bundles left over from
+ * earlier builds never are. Each asset is served from memory, in the precompressed variant (.br, then .gz) that the
+ * client accepts, and assets with a content hash in their name are marked immutable for a year.
+ */
+@Path("assets/example")
+public class StaticAssets {
+    static private final Logger logger = LoggerFactory.getLogger(StaticAssets.class);
+
+    private static final String ROOT = "exampleWeb/";
+    private static final Pattern HASHED = Pattern.compile(".*\\.[0-9a-f]{8}\\.[a-z]+$");
+    private static final Map<String, String> CONTENT_TYPES = ImmutableMap.of(
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8");
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+
+    /**
+     * An asset and its precompressed variants (null if the build did not produce them).
+     */
+    private static final class Asset {
+        final String contentType;
+        final byte[] identity;
+        final byte[] gzip;
+        final byte[] brotli;
+
+        Asset(String contentType, byte[] identity, byte[] gzip, byte[] brotli) {
+            this.contentType = contentType;
+            this.identity = identity;
+            this.gzip = gzip;
+            this.brotli = brotli;
+        }
+    }
+
+    private final Map<String, Asset> assets;
+
+    public StaticAssets() {
+        this.assets = load();
+    }
+
+    @GET
+    @Path("{path: .+}")
+    public Response getAsset(@PathParam("path") String path,
+                             @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        final Asset asset = assets.get(path);
+        if (asset == null) {
+            return NodeApi.ResponseStatus(NOT_FOUND, "Asset " + path + " not found.\n");
+        }
+
+        final String accepted = acceptEncoding == null ? "" : acceptEncoding.toLowerCase();
+        final Response.ResponseBuilder response = Response.status(OK)
+                .type(asset.contentType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CACHE_CONTROL, HASHED.matcher(path).matches() ? IMMUTABLE : REVALIDATE);
+        if (asset.brotli != null && accepted.contains("br")) {
+            return response.entity(asset.brotli).header(HttpHeaders.CONTENT_ENCODING, "br").build();
+        }
+        if (asset.gzip != null && accepted.contains("gzip")) {
+            return response.entity(asset.gzip).header(HttpHeaders.CONTENT_ENCODING, "gzip").build();
+        }
+        return response.entity(asset.identity).build();
+    }
+
+    /**
+     * Reads every non-source-map asset of the manifest, and its precompressed variants.
+     */
+    private static Map<String, Asset> load() {
+        final ImmutableMap.Builder<String, Asset> assets = ImmutableMap.builder();
+        try {
+            final byte[] manifestBytes = read(ROOT + "asset-manifest.json");
+            if (manifestBytes == null) {
+                logger.warn("No asset manifest found, no web assets will be served.");
+                return assets.build();
+            }
+            final JsonNode manifest = new ObjectMapper().readTree(manifestBytes);
+            for (Iterator<JsonNode> paths = manifest.elements(); paths.hasNext(); ) {
+                final String path = paths.next().asText();
+                final String extension = path.substring(path.lastIndexOf('.') + 1);
+                final String contentType = CONTENT_TYPES.get(extension);
+                final byte[] identity = read(ROOT + path);
+                if (contentType == null || identity == null) {
+                    continue;
+                }
+                assets.put(path, new Asset(contentType, identity, read(ROOT + path + ".gz"), read(ROOT + path + ".br")));
+            }
+        } catch (IOException ex) {
+            logger.error("Web assets cannot be loaded.", ex);
+        }
+        return assets.build();
+    }
+
+    private static byte[] read(String resource) throws IOException {
+        try (InputStream stream = StaticAssets.class.getClassLoader().getResourceAsStream(resource)) {
+            return stream == null ? null : ByteStreams.toByteArray(stream);
+        }
+    }
+}
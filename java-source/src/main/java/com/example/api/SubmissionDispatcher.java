@@ -0,0 +1,170 @@
+package com.example.api;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Drains the [SubmissionJournal] into flows, at most [permitsPerSecond] flow starts per second and within the
+ * bulkhead of each kind of request, and records every outcome back into the journal.
+ *
+ * Each kind of request has its own queue, and the kinds are served in turn, skipping those whose bulkhead is full, so
+ * a kind at its limit does not hold up the others. Within a kind, entries are dispatched in the order they were
+ * accepted, those left queued by a previous run first.
+ */
+public class SubmissionDispatcher implements AutoCloseable {
+    static private final Logger logger = LoggerFactory.getLogger(SubmissionDispatcher.class);
+
+    private static final long BUSY_BACKOFF_MILLIS = 50;
+
+    /**
+     * Starts the flow of a journaled request. [permit] belongs to the flow once this returns, and to the dispatcher
+     * if this throws.
+     */
+    public interface Starter {
+        FlowRegistry.Submission start(SubmissionJournal.Entry entry, ConcurrencyLimiter.Permit permit) throws Exception;
+    }
+
+    private final SubmissionJournal journal;
+    private final Function<SubmissionJournal.Kind, ConcurrencyLimiter> bulkheads;
+    private final Starter starter;
+    private final RateLimiter rate;
+    /** Entries enqueued and not yet moved to [pending] by the dispatch thread. */
+    private final BlockingQueue<SubmissionJournal.Entry> queue = new LinkedBlockingQueue<>();
+    /** The entries waiting for dispatch, per kind. Owned by the dispatch thread. */
+    private final Map<SubmissionJournal.Kind, Deque<SubmissionJournal.Entry>> pending = new EnumMap<>(SubmissionJournal.Kind.class);
+    /** The kind served first on the next dispatch. Owned by the dispatch thread. */
+    private int cursor;
+    private final Thread thread;
+
+    public SubmissionDispatcher(SubmissionJournal journal,
+                                Function<SubmissionJournal.Kind, ConcurrencyLimiter> bulkheads,
+                                Starter starter,
+                                double permitsPerSecond) {
+        this.journal = journal;
+        this.bulkheads = bulkheads;
+        this.starter = starter;
+        this.rate = RateLimiter.create(permitsPerSecond);
+        for (SubmissionJournal.Kind kind : SubmissionJournal.Kind.values()) {
+            pending.put(kind, new ArrayDeque<>());
+        }
+        this.queue.addAll(journal.queued());
+
+        this.thread = new Thread(this::dispatchLoop, "submission-dispatcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues a freshly journaled entry for dispatch.
+     */
+    public void enqueue(SubmissionJournal.Entry entry) {
+        queue.add(entry);
+    }
+
+    @Override
+    public void close() {
+        thread.interrupt();
+    }
+
+    private void dispatchLoop() {
+        try {
+            while (true) {
+                if (!hasPending()) {
+                    add(queue.take());
+                }
+                for (SubmissionJournal.Entry entry; (entry = queue.poll()) != null; ) {
+                    add(entry);
+                }
+                rate.acquire();
+                // Retried until some kind has room, taking in whatever is enqueued meanwhile.
+                while (!dispatchNext()) {
+                    final SubmissionJournal.Entry entry = queue.poll(BUSY_BACKOFF_MILLIS, TimeUnit.MILLISECONDS);
+                    if (entry != null) {
+                        add(entry);
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            // Closed; whatever is still queued is in the journal for the next run.
+        }
+    }
+
+    /**
+     * Dispatches the oldest entry of the first kind, in turn from [cursor], with entries waiting and room in its
+     * bulkhead.
+     *
+     * @return whether an entry was dispatched.
+     */
+    private boolean dispatchNext() {
+        final SubmissionJournal.Kind[] kinds = SubmissionJournal.Kind.values();
+        for (int i = 0; i < kinds.length; i++) {
+            final SubmissionJournal.Kind kind = kinds[(cursor + i) % kinds.length];
+            final Deque<SubmissionJournal.Entry> entries = pending.get(kind);
+            if (entries.isEmpty()) {
+                continue;
+            }
+            final ConcurrencyLimiter.Permit permit = bulkheads.apply(kind).tryAcquire();
+            if (permit == null) {
+                continue;
+            }
+            cursor = (cursor + i + 1) % kinds.length;
+            final SubmissionJournal.Entry entry = entries.poll();
+            try {
+                dispatch(entry, permit);
+            } catch (RuntimeException ex) {
+                logger.error("Submission " + entry.getId() + " could not be dispatched.", ex);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean hasPending() {
+        for (Deque<SubmissionJournal.Entry> entries : pending.values()) {
+            if (!entries.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(SubmissionJournal.Entry entry) {
+        pending.get(entry.getKind()).add(entry);
+    }
+
+    private void dispatch(SubmissionJournal.Entry entry, ConcurrencyLimiter.Permit permit) {
+        final FlowRegistry.Submission submission;
+        try {
+            journal.dispatched(entry);
+            submission = starter.start(entry, permit);
+        } catch (Exception ex) {
+            permit.discard();
+            logger.error("Submission " + entry.getId() + " could not be started.", ex);
+            journal.failed(entry, ex.getMessage());
+            return;
+        }
+        submission.result.whenComplete((signedTx, ex) -> {
+            // Thrown here, it would only fail the future nobody reads.
+            try {
+                if (ex == null) {
+                    journal.completed(entry, signedTx.getId().toString());
+                } else {
+                    journal.failed(entry, FlowRegistry.causeOf(ex).getMessage());
+                }
+            } catch (RuntimeException journalEx) {
+                logger.error("Outcome of submission " + entry.getId() + " could not be journaled; it stays dispatched, "
+                        + "and is reported unknown after a restart.", journalEx);
+            }
+        });
+    }
+}
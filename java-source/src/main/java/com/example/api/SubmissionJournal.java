@@ -0,0 +1,354 @@
+package com.example.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only, memory-mapped log of the flow requests accepted for later dispatch, and of their outcomes.
+ *
+ * Appends are copied into the mapping and made durable by a single flusher thread, which forces everything appended
+ * since its previous pass in one go, so concurrent submitters share one fsync. When the file fills up it is
+ * rewritten with the pending entries only.
+ *
+ * Each record is [length][crc32][type][entry id][payload]. On open, the file is read up to the first empty or
+ * corrupt record (a torn write at crash time), and entries that were dispatched but have no outcome are marked
+ * UNKNOWN rather than dispatched again, as their flow may well have committed.
+ */
+public class SubmissionJournal implements AutoCloseable {
+    static private final Logger logger = LoggerFactory.getLogger(SubmissionJournal.class);
+
+    private static final long MAX_FINISHED_ENTRIES = 10_000;
+    private static final long RETENTION_MINUTES = 60;
+    private static final int HEADER_SIZE = 4 + 4;
+    private static final int ID_SIZE = 16;
+
+    private static final byte SUBMITTED = 1;
+    private static final byte DISPATCHED = 2;
+    private static final byte COMPLETED = 3;
+    private static final byte FAILED = 4;
+    private static final byte UNKNOWN = 5;
+
+    public enum Kind { CREATE_IOU, COMPENSATE }
+
+    public enum Status { QUEUED, DISPATCHED, COMPLETED, FAILED, UNKNOWN }
+
+    /**
+     * A journaled request. [args] is the request's parameters, as encoded by the submitter.
+     */
+    public static class Entry {
+        private final UUID id;
+        private final Kind kind;
+        private final byte[] args;
+        private volatile Status status = Status.QUEUED;
+        private volatile String transactionId;
+        private volatile String error;
+
+        private Entry(UUID id, Kind kind, byte[] args) {
+            this.id = id;
+            this.kind = kind;
+            this.args = args;
+        }
+
+        public UUID getId() { return id; }
+        public Kind getKind() { return kind; }
+        public Status getStatus() { return status; }
+        public String getTransactionId() { return transactionId; }
+        public String getError() { return error; }
+
+        byte[] args() {
+            return args;
+        }
+    }
+
+    private final Path path;
+    private final int capacity;
+    /** Insertion-ordered, so entries are dispatched in the order they were accepted. Mutated under the lock only. */
+    private final Map<UUID, Entry> pending = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Cache<UUID, Entry> finished = CacheBuilder.newBuilder()
+            .maximumSize(MAX_FINISHED_ENTRIES)
+            .expireAfterWrite(RETENTION_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private List<CompletableFuture<Void>> unforced = new ArrayList<>();
+    private boolean closed;
+    private final Thread flusher;
+
+    /**
+     * Opens the journal at [path], creating it if needed, and replays it.
+     */
+    public SubmissionJournal(Path path, int capacity) throws IOException {
+        this.path = path;
+        this.capacity = capacity;
+        map(path);
+        replay();
+
+        this.flusher = new Thread(this::flushLoop, "submission-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Appends a new entry for dispatch.
+     *
+     * @return the entry, and a future completing once it is durable.
+     * @throws IllegalStateException if the journal is full of pending entries or closed.
+     */
+    public synchronized Map.Entry<Entry, CompletableFuture<Void>> submit(Kind kind, byte[] args) {
+        final Entry entry = new Entry(UUID.randomUUID(), kind, args);
+        final ByteBuffer payload = ByteBuffer.allocate(1 + args.length).put((byte) kind.ordinal()).put(args);
+        payload.flip();
+        append(SUBMITTED, entry.id, payload);
+        pending.put(entry.id, entry);
+
+        final CompletableFuture<Void> durable = new CompletableFuture<>();
+        unforced.add(durable);
+        notifyAll();
+        return new AbstractMap.SimpleImmutableEntry<>(entry, durable);
+    }
+
+    /**
+     * Records that [entry]'s flow is about to be started. From then on it is never dispatched again.
+     */
+    public synchronized void dispatched(Entry entry) {
+        append(DISPATCHED, entry.id, ByteBuffer.allocate(0));
+        entry.status = Status.DISPATCHED;
+        // Not dispatching twice is the point of this record, so it must be durable before the flow is started.
+        force();
+    }
+
+    public synchronized void completed(Entry entry, String transactionId) {
+        append(COMPLETED, entry.id, ByteBuffer.wrap(transactionId.getBytes(StandardCharsets.UTF_8)));
+        entry.transactionId = transactionId;
+        finish(entry, Status.COMPLETED);
+    }
+
+    public synchronized void failed(Entry entry, String error) {
+        append(FAILED, entry.id, ByteBuffer.wrap(String.valueOf(error).getBytes(StandardCharsets.UTF_8)));
+        entry.error = error;
+        finish(entry, Status.FAILED);
+    }
+
+    /**
+     * @return the entries still waiting to be dispatched, oldest first.
+     */
+    public synchronized List<Entry> queued() {
+        final List<Entry> queued = new ArrayList<>();
+        for (Entry entry : pending.values()) {
+            if (entry.status == Status.QUEUED) {
+                queued.add(entry);
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * @return the entry, or null if it is unknown or finished longer ago than the retention period.
+     */
+    public Entry get(UUID id) {
+        final Entry entry = pending.get(id);
+        return entry != null ? entry : finished.getIfPresent(id);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        force();
+        notifyAll();
+        channel.close();
+    }
+
+    private void finish(Entry entry, Status status) {
+        entry.status = status;
+        pending.remove(entry.id);
+        finished.put(entry.id, entry);
+        // Nobody waits on an outcome, but it should still reach the disk with the next batch.
+        unforced.add(new CompletableFuture<>());
+        notifyAll();
+    }
+
+    private void append(byte type, UUID id, ByteBuffer payload) {
+        if (closed) {
+            throw new IllegalStateException("Submission journal is closed.");
+        }
+        final int length = 1 + ID_SIZE + payload.remaining();
+        if (buffer.remaining() < HEADER_SIZE + length + HEADER_SIZE) {
+            compact();
+            if (buffer.remaining() < HEADER_SIZE + length + HEADER_SIZE) {
+                throw new IllegalStateException("Submission journal is full.");
+            }
+        }
+        final ByteBuffer body = ByteBuffer.allocate(length)
+                .put(type)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .put(payload);
+        body.flip();
+        final CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+
+        // Body first and length last, so a reader never sees a length whose record is not all there.
+        final int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        buffer.put(body);
+        final int end = buffer.position();
+        buffer.putInt(start + 4, (int) crc.getValue());
+        buffer.putInt(start, length);
+        buffer.position(end);
+    }
+
+    private void replay() {
+        final Map<UUID, Entry> entries = new LinkedHashMap<>();
+        while (buffer.remaining() >= HEADER_SIZE) {
+            final int start = buffer.position();
+            final int length = buffer.getInt();
+            final int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            final ByteBuffer body = buffer.slice();
+            body.limit(length);
+            final CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                logger.warn("Submission journal {} has a torn record at offset {}, ignoring the rest.", path, start);
+                buffer.position(start);
+                break;
+            }
+            buffer.position(buffer.position() + length);
+
+            final byte type = body.get();
+            final UUID id = new UUID(body.getLong(), body.getLong());
+            final byte[] rest = new byte[body.remaining()];
+            body.get(rest);
+            if (type == SUBMITTED) {
+                entries.put(id, new Entry(id, Kind.values()[rest[0]], Arrays.copyOfRange(rest, 1, rest.length)));
+                continue;
+            }
+            final Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            switch (type) {
+                case DISPATCHED: entry.status = Status.DISPATCHED; break;
+                case COMPLETED: entry.status = Status.COMPLETED; entry.transactionId = new String(rest, StandardCharsets.UTF_8); break;
+                case FAILED: entry.status = Status.FAILED; entry.error = new String(rest, StandardCharsets.UTF_8); break;
+                case UNKNOWN: entry.status = Status.UNKNOWN; entry.error = new String(rest, StandardCharsets.UTF_8); break;
+            }
+        }
+        // Zero whatever follows, so the next replay cannot mistake stale bytes past a torn record for records.
+        final int end = buffer.position();
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) 0);
+        }
+        buffer.position(end);
+
+        for (Entry entry : entries.values()) {
+            switch (entry.status) {
+                case QUEUED:
+                    pending.put(entry.id, entry);
+                    break;
+                case DISPATCHED:
+                    entry.error = "The webserver stopped while the flow was running; look the transaction up in the vault.";
+                    append(UNKNOWN, entry.id, ByteBuffer.wrap(entry.error.getBytes(StandardCharsets.UTF_8)));
+                    entry.status = Status.UNKNOWN;
+                    finished.put(entry.id, entry);
+                    break;
+                default:
+                    finished.put(entry.id, entry);
+            }
+        }
+        force();
+        logger.info("Submission journal {} replayed, {} entries queued for dispatch.", path, pending.size());
+    }
+
+    /**
+     * Rewrites the journal with the pending entries only, and switches to the new file.
+     */
+    private void compact() {
+        final Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        final List<Entry> live = new ArrayList<>(pending.values());
+        try {
+            Files.deleteIfExists(compacted);
+            final FileChannel previous = channel;
+            map(compacted);
+            for (Entry entry : live) {
+                final ByteBuffer payload = ByteBuffer.allocate(1 + entry.args.length).put((byte) entry.kind.ordinal()).put(entry.args);
+                payload.flip();
+                append(SUBMITTED, entry.id, payload);
+                if (entry.status == Status.DISPATCHED) {
+                    append(DISPATCHED, entry.id, ByteBuffer.allocate(0));
+                }
+            }
+            force();
+            previous.close();
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Submission journal " + path + " cannot be compacted.", ex);
+        }
+        logger.info("Submission journal {} compacted to {} pending entries.", path, live.size());
+    }
+
+    private void map(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private void force() {
+        buffer.force();
+        for (CompletableFuture<Void> durable : unforced) {
+            durable.complete(null);
+        }
+        unforced = new ArrayList<>();
+    }
+
+    /**
+     * Group commit: waits for appends, then forces all of them at once.
+     */
+    private void flushLoop() {
+        while (true) {
+            final MappedByteBuffer toForce;
+            final List<CompletableFuture<Void>> batch;
+            synchronized (this) {
+                while (unforced.isEmpty() && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+                toForce = buffer;
+                batch = unforced;
+                unforced = new ArrayList<>();
+            }
+            // Outside the lock, so submitters can keep appending to the next batch while this one is written.
+            try {
+                toForce.force();
+                batch.forEach(durable -> durable.complete(null));
+            } catch (RuntimeException ex) {
+                batch.forEach(durable -> durable.completeExceptionally(ex));
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.api;
+
+import com.example.state.IOUState;
+import com.example.state.IPUState;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import net.corda.core.contracts.ContractState;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.messaging.CordaRPCOps;
+import net.corda.core.node.services.Vault;
+import net.corda.core.node.services.vault.PageSpecification;
+import net.corda.core.node.services.vault.QueryCriteria;
+import net.corda.core.node.services.vault.Sort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The recent IOU and IPU vault updates, as Server-Sent Events ready to be written to any number of clients.
+ *
+ * The log subscribes to the vault once per state type, renders each update into one event, and keeps the last
+ * [capacity] events in a ring. Every client reads the ring at its own pace from its own position, so a slow client
+ * never holds up the others; one that falls more than [capacity] events behind is told to reload instead.
+ *
+ * Event ids are "epoch-sequence", the epoch being the webserver's start time, so a client resuming with an id from a
+ * previous run is told to reload rather than given unrelated events.
+ */
+public class VaultEventLog {
+    static private final Logger logger = LoggerFactory.getLogger(VaultEventLog.class);
+
+    /**
+     * One rendered event, with the sequence number it was published under.
+     */
+    static final class Event {
+        final long seq;
+        final byte[] frame;
+
+        Event(long seq, byte[] frame) {
+            this.seq = seq;
+            this.frame = frame;
+        }
+    }
+
+    private final ObjectMapper mapper;
+    private final long epoch = System.currentTimeMillis();
+    private final Event[] ring;
+    /** The sequence number of the next event. Guarded by this, as is the ring. */
+    private long next = 1;
+
+    public VaultEventLog(CordaRPCOps rpcOps, ObjectMapper mapper, int capacity) {
+        this.mapper = mapper;
+        this.ring = new Event[capacity];
+        track(rpcOps, IOUState.class, "IOU", IOUView::of);
+        track(rpcOps, IPUState.class, "IPU", IPUView::of);
+    }
+
+    /**
+     * @return the sequence number of the first event to send a client resuming after [lastEventId], or -1 if the
+     * client cannot resume and must reload. A null id starts at the next event.
+     */
+    public synchronized long resumeFrom(String lastEventId) {
+        if (lastEventId == null) {
+            return next;
+        }
+        final String[] parts = lastEventId.split("-");
+        try {
+            if (parts.length != 2 || Long.parseLong(parts[0]) != epoch) {
+                return -1;
+            }
+            final long seq = Long.parseLong(parts[1]) + 1;
+            return seq <= next && seq >= oldest() ? seq : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Waits up to [timeoutMillis] for events from [seq] on.
+     *
+     * @return the events from [seq] on (possibly none), or null if some of them have already been overwritten.
+     */
+    public synchronized List<Event> read(long seq, long timeoutMillis) throws InterruptedException {
+        if (seq >= next) {
+            wait(timeoutMillis);
+        }
+        if (seq < oldest()) {
+            return null;
+        }
+        final ImmutableList.Builder<Event> events = ImmutableList.builder();
+        for (long s = seq; s < next; s++) {
+            events.add(ring[(int) (s % ring.length)]);
+        }
+        return events.build();
+    }
+
+    /**
+     * @return the sequence number of the next event, where a client that had to reload carries on from.
+     */
+    public synchronized long head() {
+        return next;
+    }
+
+    private long oldest() {
+        return Math.max(1, next - ring.length);
+    }
+
+    private <T extends ContractState> void track(CordaRPCOps rpcOps, Class<T> stateType, String type, Function<StateAndRef<T>, ?> view) {
+        // Only the updates are of interest, so keep the snapshot to a single state.
+        rpcOps.vaultTrackBy(new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL),
+                new PageSpecification(1, 1), new Sort(ImmutableList.of()), stateType)
+                .getUpdates()
+                .subscribe(update -> publish(type, update, view),
+                        error -> logger.error("Vault feed for " + type + "s failed.", error));
+    }
+
+    private <T extends ContractState> void publish(String type, Vault.Update<T> update, Function<StateAndRef<T>, ?> view) {
+        final List<Object> produced = update.getProduced().stream().map(view).collect(toList());
+        final List<String> consumed = update.getConsumed().stream()
+                .map(stateAndRef -> stateAndRef.getRef().getTxhash() + ":" + stateAndRef.getRef().getIndex())
+                .collect(toList());
+        final byte[] data;
+        try {
+            data = mapper.writeValueAsBytes(ImmutableMap.of("type", type, "produced", produced, "consumed", consumed));
+        } catch (JsonProcessingException ex) {
+            logger.error("Vault update cannot be rendered.", ex);
+            return;
+        }
+
+        synchronized (this) {
+            final long seq = next++;
+            final byte[] header = ("id: " + epoch + "-" + seq + "\nevent: delta\ndata: ").getBytes(StandardCharsets.UTF_8);
+            final byte[] frame = new byte[header.length + data.length + 2];
+            System.arraycopy(header, 0, frame, 0, header.length);
+            System.arraycopy(data, 0, frame, header.length, data.length);
+            frame[frame.length - 2] = '\n';
+            frame[frame.length - 1] = '\n';
+            ring[(int) (seq % ring.length)] = new Event(seq, frame);
+            notifyAll();
+        }
+    }
+}
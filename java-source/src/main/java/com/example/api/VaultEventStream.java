@@ -0,0 +1,65 @@
+package com.example.api;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * One client's Server-Sent Events stream over a [VaultEventLog].
+ *
+ * Events are written as they are published, with a comment line whenever nothing happens for [HEARTBEAT_MILLIS] so
+ * that dead connections are noticed. A client that falls behind the log's ring is sent a "reset" event, telling it to
+ * reload its lists, and continues from the newest events.
+ */
+public class VaultEventStream implements StreamingOutput {
+    public static final String EVENT_STREAM = "text/event-stream";
+
+    private static final long HEARTBEAT_MILLIS = 15_000;
+    private static final byte[] HEARTBEAT = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESET = "event: reset\ndata: {}\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final VaultEventLog log;
+    private long seq;
+
+    /**
+     * @param seq the first event to send, or -1 to start with a reset.
+     */
+    public VaultEventStream(VaultEventLog log, long seq) {
+        this.log = log;
+        this.seq = seq;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try {
+            if (seq < 0) {
+                seq = reset(output);
+            }
+            while (true) {
+                final List<VaultEventLog.Event> events = log.read(seq, HEARTBEAT_MILLIS);
+                if (events == null) {
+                    seq = reset(output);
+                } else if (events.isEmpty()) {
+                    output.write(HEARTBEAT);
+                } else {
+                    for (VaultEventLog.Event event : events) {
+                        output.write(event.frame);
+                    }
+                    seq = events.get(events.size() - 1).seq + 1;
+                }
+                // Blocks while this client is slow to read; only its own position in the log falls behind.
+                output.flush();
+            }
+        } catch (InterruptedException ex) {
+            throw new InterruptedIOException("Event stream interrupted.");
+        }
+    }
+
+    private long reset(OutputStream output) throws IOException {
+        output.write(RESET);
+        return log.head();
+    }
+}
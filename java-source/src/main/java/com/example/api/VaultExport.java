@@ -0,0 +1,79 @@
+package com.example.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.corda.core.contracts.LinearState;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.node.services.Vault;
+import net.corda.core.node.services.vault.CriteriaExpression;
+import net.corda.core.node.services.vault.Sort;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams every state matching a filter as one JSON array, optionally gzipped.
+ *
+ * The vault is walked with [VaultPager] one page at a time, and each state is written as soon as its page arrives
+ * and flushed at the end of the page, so neither time to first byte nor heap use grows with the size of the result.
+ */
+public class VaultExport<T extends LinearState> implements StreamingOutput {
+    private final VaultPager<T> pager;
+    private final List<CriteriaExpression> filters;
+    private final Vault.StateStatus status;
+    private final VaultPager.SortKey sortKey;
+    private final Sort.Direction direction;
+    private final int pageSize;
+    private final Function<StateAndRef<T>, ?> view;
+    private final ObjectMapper mapper;
+    private final boolean gzip;
+
+    public VaultExport(VaultPager<T> pager,
+                       List<CriteriaExpression> filters,
+                       Vault.StateStatus status,
+                       VaultPager.SortKey sortKey,
+                       Sort.Direction direction,
+                       int pageSize,
+                       Function<StateAndRef<T>, ?> view,
+                       ObjectMapper mapper,
+                       boolean gzip) {
+        this.pager = pager;
+        this.filters = filters;
+        this.status = status;
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.pageSize = pageSize;
+        this.view = view;
+        this.mapper = mapper;
+        this.gzip = gzip;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        // Sync flush so that each page reaches the client when it is written, not when the deflater's buffer fills.
+        final OutputStream target = gzip ? new GZIPOutputStream(output, true) : output;
+        final JsonGenerator json = mapper.getFactory().createGenerator(target);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        json.writeStartArray();
+        String token = null;
+        do {
+            final VaultPager.Page<T> page = pager.page(filters, status, token, pageSize, sortKey, direction);
+            for (StateAndRef<T> state : page.states) {
+                json.writeObject(view.apply(state));
+            }
+            json.flush();
+            token = page.nextToken;
+        } while (token != null);
+        json.writeEndArray();
+        json.close();
+
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.api;
+
+import com.google.common.collect.ImmutableList;
+import net.corda.core.contracts.LinearState;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.messaging.CordaRPCOps;
+import net.corda.core.node.services.Vault;
+import net.corda.core.node.services.vault.*;
+import net.corda.core.schemas.PersistentState;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over the vault for one of our linear state types.
+ *
+ * States are sorted on a mapped column (date or value) and then linearId, and each page is fetched with a predicate
+ * that starts right after the last key of the previous page, so every request reads at most one page from the node
+ * no matter how large the vault grows.
+ *
+ * Undated states come before every date in ascending order and after them in descending order, as in [ReadModel].
+ * Databases disagree on where they sort nulls, so undated states are fetched by a query of their own.
+ */
+public class VaultPager<T extends LinearState> {
+    public static final int MAX_PAGE_SIZE = 1000;
+    /** The date key of undated states in page tokens. */
+    static final long UNDATED = Long.MIN_VALUE;
+
+    /**
+     * The columns a listing can be sorted by. linearId is always used as the tie-breaker.
+     */
+    public enum SortKey {
+        DATE("date"), VALUE("value");
+
+        final String column;
+
+        SortKey(String column) {
+            this.column = column;
+        }
+
+        /** The key boxed as the type of its column, as the criteria builder needs it. */
+        Comparable<?> boxed(long key) {
+            return this == VALUE ? Integer.valueOf((int) key) : Long.valueOf(key);
+        }
+    }
+
+    private final CordaRPCOps rpcOps;
+    private final Class<T> stateClass;
+    private final Class<? extends PersistentState> schemaClass;
+    private final Function<T, Long> dateOf;
+    private final Function<T, Integer> valueOf;
+    private final Field dateField;
+    private final Field valueField;
+    private final Field linearIdField;
+
+    public VaultPager(CordaRPCOps rpcOps,
+                      Class<T> stateClass,
+                      Class<? extends PersistentState> schemaClass,
+                      Function<T, Long> dateOf,
+                      Function<T, Integer> valueOf) {
+        this.rpcOps = rpcOps;
+        this.stateClass = stateClass;
+        this.schemaClass = schemaClass;
+        this.dateOf = dateOf;
+        this.valueOf = valueOf;
+        try {
+            this.dateField = schemaClass.getDeclaredField("date");
+            this.valueField = schemaClass.getDeclaredField("value");
+            this.linearIdField = schemaClass.getDeclaredField("linearId");
+        } catch (NoSuchFieldException ex) {
+            throw new IllegalArgumentException("Schema " + schemaClass.getName() + " cannot be paged by (date|value, linearId).", ex);
+        }
+    }
+
+    /**
+     * A single page of results, and the token to fetch the following one (null on the last page).
+     */
+    public static class Page<T extends LinearState> {
+        public final List<StateAndRef<T>> states;
+        public final String nextToken;
+
+        public Page(List<StateAndRef<T>> states, String nextToken) {
+            this.states = states;
+            this.nextToken = nextToken;
+        }
+    }
+
+    /**
+     * Fetches the page following [token] (or the first page when it is null).
+     *
+     * @param filters custom expressions against the schema, all of which must hold.
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort order.
+     */
+    public Page<T> page(List<CriteriaExpression> filters, Vault.StateStatus status, String token, int pageSize, SortKey sortKey, Sort.Direction direction) {
+        QueryCriteria criteria = new QueryCriteria.VaultQueryCriteria(status);
+        for (CriteriaExpression filter : filters) {
+            criteria = criteria.and(new QueryCriteria.VaultCustomQueryCriteria(filter, status));
+        }
+        PageToken after = null;
+        if (token != null) {
+            after = PageToken.decode(token);
+            if (after.sortKey != sortKey || after.direction != direction) {
+                throw new IllegalArgumentException("Query parameter 'pageToken' was issued for a different sort order.");
+            }
+        }
+
+        final Sort sort = new Sort(ImmutableList.of(
+                new Sort.SortColumn(new SortAttribute.Custom(schemaClass, sortKey.column), direction),
+                new Sort.SortColumn(new SortAttribute.Custom(schemaClass, "linearId"), direction)));
+
+        // Ask for one extra state so we know whether there is a next page without a separate count.
+        final int wanted = pageSize + 1;
+        final List<StateAndRef<T>> fetched = new ArrayList<>(wanted);
+        if (sortKey == SortKey.VALUE) {
+            fetched.addAll(fetch(after == null ? criteria : criteria.and(after(after, status)), wanted, sort));
+        } else {
+            // Whether each part of the listing is the undated one, in listing order.
+            final boolean[] parts = direction == Sort.Direction.ASC ? new boolean[]{true, false} : new boolean[]{false, true};
+            final int first = after != null && (after.key == UNDATED) != parts[0] ? 1 : 0;
+            for (int part = first; part < parts.length && fetched.size() < wanted; part++) {
+                final boolean undated = parts[part];
+                QueryCriteria partCriteria = criteria.and(new QueryCriteria.VaultCustomQueryCriteria(
+                        undated ? Builder.isNull(dateField) : Builder.notNull(dateField), status));
+                if (part == first && after != null) {
+                    partCriteria = partCriteria.and(undated ? laterId(after, status) : after(after, status));
+                }
+                fetched.addAll(fetch(partCriteria, wanted - fetched.size(), sort));
+            }
+        }
+        if (fetched.size() <= pageSize) {
+            return new Page<>(fetched, null);
+        }
+
+        final List<StateAndRef<T>> states = fetched.subList(0, pageSize);
+        final T last = states.get(pageSize - 1).getState().getData();
+        final long key;
+        if (sortKey == SortKey.VALUE) {
+            key = valueOf.apply(last);
+        } else {
+            final Long date = dateOf.apply(last);
+            key = date == null ? UNDATED : date;
+        }
+        final String nextToken = new PageToken(sortKey, direction, key, last.getLinearId().getId()).encode();
+        return new Page<>(ImmutableList.copyOf(states), nextToken);
+    }
+
+    private List<StateAndRef<T>> fetch(QueryCriteria criteria, int count, Sort sort) {
+        return rpcOps.vaultQueryBy(criteria, new PageSpecification(QueryCriteriaUtils.DEFAULT_PAGE_NUM, count), sort, stateClass)
+                .getStates();
+    }
+
+    /**
+     * (key, linearId) strictly after the token's in the token's sort direction.
+     */
+    private QueryCriteria after(PageToken token, Vault.StateStatus status) {
+        final Field keyField = token.sortKey == SortKey.VALUE ? valueField : dateField;
+        final Comparable key = token.sortKey.boxed(token.key);
+
+        final CriteriaExpression laterKey = token.direction == Sort.Direction.ASC
+                ? Builder.greaterThan(keyField, key)
+                : Builder.lessThan(keyField, key);
+
+        final QueryCriteria sameKey = new QueryCriteria.VaultCustomQueryCriteria(Builder.equal(keyField, key), status)
+                .and(laterId(token, status));
+        return new QueryCriteria.VaultCustomQueryCriteria(laterKey, status).or(sameKey);
+    }
+
+    /**
+     * linearId strictly after the token's in the token's sort direction.
+     */
+    private QueryCriteria laterId(PageToken token, Vault.StateStatus status) {
+        final CriteriaExpression laterId = token.direction == Sort.Direction.ASC
+                ? Builder.greaterThan(linearIdField, token.linearId)
+                : Builder.lessThan(linearIdField, token.linearId);
+        return new QueryCriteria.VaultCustomQueryCriteria(laterId, status);
+    }
+}
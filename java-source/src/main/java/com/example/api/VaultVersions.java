@@ -0,0 +1,100 @@
+package com.example.api;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import net.corda.core.contracts.ContractState;
+import net.corda.core.messaging.CordaRPCOps;
+import net.corda.core.node.services.Vault;
+import net.corda.core.node.services.vault.PageSpecification;
+import net.corda.core.node.services.vault.QueryCriteria;
+import net.corda.core.node.services.vault.Sort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.core.EntityTag;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A change counter per state type, bumped by the vault feed each time states of that type are recorded or consumed.
+ *
+ * The list end-points derive their ETag and Last-Modified headers from it, so a client polling an unchanged listing
+ * is answered with 304 Not Modified without a vault query.
+ */
+public class VaultVersions {
+    static private final Logger logger = LoggerFactory.getLogger(VaultVersions.class);
+
+    /**
+     * The number of changes seen for a state type, and when the last one was seen.
+     */
+    public static final class Version {
+        public final long changes;
+        /** In whole seconds, as HTTP dates are, and strictly increasing with [changes]. */
+        public final Date lastModified;
+
+        private final String type;
+        private final long epoch;
+
+        private Version(String type, long epoch, long changes, Date lastModified) {
+            this.type = type;
+            this.epoch = epoch;
+            this.changes = changes;
+            this.lastModified = lastModified;
+        }
+
+        private Version next() {
+            final long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+            final long last = TimeUnit.MILLISECONDS.toSeconds(lastModified.getTime());
+            // Two changes within one second must not share a Last-Modified, or If-Modified-Since would miss the second.
+            return new Version(type, epoch, changes + 1, new Date(TimeUnit.SECONDS.toMillis(Math.max(now, last + 1))));
+        }
+
+        /**
+         * @param variant everything besides the vault contents that the response depends on (query, media type).
+         */
+        public EntityTag tag(String variant) {
+            return new EntityTag(type + "-" + Long.toHexString(epoch) + "-" + changes + "-" + Integer.toHexString(variant.hashCode()));
+        }
+    }
+
+    private final Map<Class<? extends ContractState>, AtomicReference<Version>> versions;
+
+    public VaultVersions(CordaRPCOps rpcOps, List<Class<? extends ContractState>> stateTypes) {
+        // Counters restart from zero with the webserver, so the tags also carry its start time.
+        final long epoch = System.currentTimeMillis();
+        final Date started = new Date(TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(epoch)));
+
+        final ImmutableMap.Builder<Class<? extends ContractState>, AtomicReference<Version>> versions = ImmutableMap.builder();
+        for (Class<? extends ContractState> stateType : stateTypes) {
+            final AtomicReference<Version> version = new AtomicReference<>(new Version(stateType.getSimpleName(), epoch, 0, started));
+            versions.put(stateType, version);
+
+            // Only the updates are of interest, so keep the snapshot to a single state.
+            rpcOps.vaultTrackBy(new QueryCriteria.VaultQueryCriteria(Vault.StateStatus.ALL),
+                    new PageSpecification(1, 1), new Sort(ImmutableList.of()), stateType)
+                    .getUpdates()
+                    .subscribe(update -> version.updateAndGet(current -> current == null ? null : current.next()),
+                            error -> {
+                                // Without updates the counter would go stale, so stop answering conditional requests.
+                                logger.error("Vault feed for " + stateType.getSimpleName() + " failed.", error);
+                                version.set(null);
+                            });
+        }
+        this.versions = versions.build();
+    }
+
+    /**
+     * @return the current version of [stateType], or null if its vault feed has failed and the version is unknown.
+     * @throws IllegalArgumentException if [stateType] is not tracked.
+     */
+    public Version current(Class<? extends ContractState> stateType) {
+        final AtomicReference<Version> version = versions.get(stateType);
+        if (version == null) {
+            throw new IllegalArgumentException(stateType.getName() + " is not tracked.");
+        }
+        return version.get();
+    }
+}
@@ -12,7 +12,15 @@ public class XUtils {
 
         Integer debtB =  stateAndRefs.stream().filter(x -> XParty.equal(x.getState().getData().getLender(), PartyA)).map(x -> x.getState().getData().getValue()).reduce(0, (Integer a, Integer b) -> (a + b));
         Integer debtA =  stateAndRefs.stream().filter(x -> XParty.equal(x.getState().getData().getLender(), PartyB)).map(x -> x.getState().getData().getValue()).reduce(0, (Integer a, Integer b) -> (a + b));
-        Integer amount = Math.abs(debtA - debtB);
+        return compensate(debtA, debtB, PartyA, PartyB);
+    }
+
+    /**
+     * Same as above, from the totals each party lent: debtA is what PartyB lent to PartyA, and debtB what PartyA lent
+     * to PartyB.
+     */
+    public static IPU compensate(final long debtA, final long debtB, final Party PartyA, final Party PartyB) {
+        int amount = Math.toIntExact(Math.abs(debtA - debtB));
 
         if(debtA < debtB) {
             return new IPU(PartyB, PartyA , amount);
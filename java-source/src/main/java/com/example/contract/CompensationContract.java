@@ -39,6 +39,8 @@ public class CompensationContract implements Contract  {
             for (CommandWithParties<CommandData> commandDataCommandWithParties : commandWithParties) {
                 if( commandDataCommandWithParties.getValue() instanceof  Commands.Create) {
                     ExecuteRulesCreateCommand(require, tx);
+                } else if( commandDataCommandWithParties.getValue() instanceof  Commands.CreateBatch) {
+                    ExecuteRulesCreateBatchCommand(require, tx);
                 } else if( commandDataCommandWithParties.getValue() instanceof  Commands.Compensate) {
                     ExecuteRulesCompensateCommand(require, tx);
                 } else {
@@ -51,10 +53,11 @@ public class CompensationContract implements Contract  {
 
 
     /**
-     * This contract implements next commands:  Create and Compensate.
+     * This contract implements next commands:  Create, CreateBatch and Compensate.
      */
     public interface Commands extends CommandData {
         class Create implements Commands {}
+        class CreateBatch implements Commands {}
         class Compensate implements Commands {}
     }
 
@@ -165,4 +168,30 @@ public class CompensationContract implements Contract  {
                 out.getValue() > 0);
     }
 
-}
\ No newline at end of file
+
+    /**
+     * CreateBatch Command: several IOUs between the same viewer, lender and borrower issued in one transaction.
+     */
+    private void ExecuteRulesCreateBatchCommand(final Requirements require, final LedgerTransaction tx) {
+        final CommandWithParties<Commands.CreateBatch> command = requireSingleCommand(tx.getCommands(), Commands.CreateBatch.class);
+        final List<IOUState> outputs = tx.outputsOfType(IOUState.class);
+
+        require.using("No inputs should be consumed when issuing an IOU.",
+                tx.getInputs().isEmpty());
+        require.using("At least one output state should be created.",
+                outputs.size() >= 1);
+        require.using("There are invalid outputs state.",
+                tx.getOutputs().size() == outputs.size());
+        final IOUState first = outputs.get(0);
+        require.using("All of the IOUs must have the same viewer, lender and borrower.",
+                outputs.stream().map(x -> XParty.equal(x.getViewer(), first.getViewer()) && XParty.equal(x.getLender(), first.getLender()) && XParty.equal(x.getBorrower(), first.getBorrower())).reduce(true, (Boolean a, Boolean b) -> a && b));
+        require.using("The lender and the borrower cannot be the same entity.",
+                XParty.distinct(first.getLender(), first.getBorrower()));
+        require.using("All of the participants must be signers.",
+                command.getSigners().containsAll(first.getParticipants().stream().map(AbstractParty::getOwningKey).collect(Collectors.toList())));
+        // IOU-specific constraints.
+        require.using("The IOU's value must be non-negative.",
+                outputs.stream().map(x -> x.getValue() > 0).reduce(true, (Boolean a, Boolean b) -> a && b));
+    }
+
+}
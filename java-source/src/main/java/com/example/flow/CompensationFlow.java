@@ -19,6 +19,7 @@ import net.corda.core.utilities.ProgressTracker;
 import net.corda.core.utilities.ProgressTracker.Step;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,6 +47,7 @@ public class CompensationFlow {
         private final Party payerParty;
         private final Party loanerParty;
         private final int ipuValue;
+        private final String externalId;
 
         private final Step GENERATING_TRANSACTION = new Step("Generating transaction based on new IPU.");
         private final Step VERIFYING_TRANSACTION = new Step("Verifying contract constraints.");
@@ -75,11 +77,19 @@ public class CompensationFlow {
         );
 
         public Initiator(List<StateAndRef<IOUState>> stateAndRefs, Party viewerParty, Party payerParty, Party loanerParty, int ipuValue) {
+            this(stateAndRefs, viewerParty, payerParty, loanerParty, ipuValue, null);
+        }
+
+        /**
+         * @param externalId the external id of the IPU's linear id, by which the caller can find the IPU in the vault.
+         */
+        public Initiator(List<StateAndRef<IOUState>> stateAndRefs, Party viewerParty, Party payerParty, Party loanerParty, int ipuValue, String externalId) {
             this.stateAndRefs = stateAndRefs;
             this.viewerParty = viewerParty;
             this.payerParty = payerParty;
             this.loanerParty = loanerParty;
             this.ipuValue = ipuValue;
+            this.externalId = externalId;
         }
 
         @Override
@@ -100,7 +110,7 @@ public class CompensationFlow {
             progressTracker.setCurrentStep(GENERATING_TRANSACTION);
             // Generate an unsigned transaction.
             Party me = getServiceHub().getMyInfo().getLegalIdentities().get(0);
-            IPUState ipuState = new IPUState(ipuValue, System.currentTimeMillis(), viewerParty, payerParty, loanerParty, new UniqueIdentifier());
+            IPUState ipuState = new IPUState(ipuValue, System.currentTimeMillis(), viewerParty, payerParty, loanerParty, new UniqueIdentifier(externalId, UUID.randomUUID()));
             final TransactionBuilder txBuilder = new TransactionBuilder(notary);
             final Command<CompensationContract.Commands.Compensate> txCommand = new Command<>(
                     new CompensationContract.Commands.Compensate(),
@@ -7,6 +7,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import net.corda.core.contracts.Command;
 import net.corda.core.contracts.ContractState;
+import net.corda.core.contracts.TransactionState;
 import net.corda.core.contracts.UniqueIdentifier;
 import net.corda.core.flows.*;
 import net.corda.core.identity.Party;
@@ -15,6 +16,9 @@ import net.corda.core.transactions.TransactionBuilder;
 import net.corda.core.utilities.ProgressTracker;
 import net.corda.core.utilities.ProgressTracker.Step;
 
+import java.util.List;
+import java.util.UUID;
+
 import static com.example.contract.CompensationContract.COMPENSATION_CONTRACT_ID;
 import static net.corda.core.contracts.ContractsDSL.requireThat;
 
@@ -30,6 +34,9 @@ import static net.corda.core.contracts.ContractsDSL.requireThat;
  * All methods called within the [FlowLogic] sub-class need to be annotated with the @Suspendable annotation.
  */
 public class RegularFlow {
+    /** The largest IOU value the counterparties' acceptors sign. */
+    public static final int MAX_IOU_VALUE = 100000;
+
     @InitiatingFlow
     @StartableByRPC
     public static class Initiator extends FlowLogic<SignedTransaction> {
@@ -37,6 +44,7 @@ public class RegularFlow {
         private final int iouValue;
         private final Party viewerParty;
         private final Party otherParty;
+        private final String externalId;
 
         private final Step GENERATING_TRANSACTION = new Step("Generating transaction based on new IOU.");
         private final Step VERIFYING_TRANSACTION = new Step("Verifying contract constraints.");
@@ -66,9 +74,17 @@ public class RegularFlow {
         );
 
         public Initiator(int iouValue, Party viewerParty, Party otherParty) {
+            this(iouValue, viewerParty, otherParty, null);
+        }
+
+        /**
+         * @param externalId the external id of the IOU's linear id, by which the caller can find the IOU in the vault.
+         */
+        public Initiator(int iouValue, Party viewerParty, Party otherParty, String externalId) {
             this.iouValue = iouValue;
             this.otherParty = otherParty;
             this.viewerParty = viewerParty;
+            this.externalId = externalId;
         }
 
         @Override
@@ -89,7 +105,7 @@ public class RegularFlow {
             progressTracker.setCurrentStep(GENERATING_TRANSACTION);
             // Generate an unsigned transaction.
             Party me = getServiceHub().getMyInfo().getLegalIdentities().get(0);
-            IOUState iouState = new IOUState(iouValue, System.currentTimeMillis(), viewerParty, me, otherParty, new UniqueIdentifier());
+            IOUState iouState = new IOUState(iouValue, System.currentTimeMillis(), viewerParty, me, otherParty, new UniqueIdentifier(externalId, UUID.randomUUID()));
             final Command<CompensationContract.Commands.Create> txCommand = new Command<>(
                     new CompensationContract.Commands.Create(),
                     ImmutableList.of(iouState.getViewer().getOwningKey(), iouState.getLender().getOwningKey(), iouState.getBorrower().getOwningKey()));
@@ -122,6 +138,87 @@ public class RegularFlow {
         }
     }
 
+    /**
+     * Issues several IOUs from the same lender to the same borrower, under the same viewer, in a single transaction:
+     * one output per value, in the order given. The counterparties sign, and the notary notarises, once for all of
+     * them.
+     */
+    @InitiatingFlow
+    @StartableByRPC
+    public static class BatchInitiator extends FlowLogic<SignedTransaction> {
+
+        private final List<Integer> iouValues;
+        private final Party viewerParty;
+        private final Party otherParty;
+
+        private final Step GENERATING_TRANSACTION = new Step("Generating transaction based on new IOUs.");
+        private final Step VERIFYING_TRANSACTION = new Step("Verifying contract constraints.");
+        private final Step SIGNING_TRANSACTION = new Step("Signing transaction with our private key.");
+        private final Step GATHERING_SIGS = new Step("Gathering the counterparty's signature.") {
+            @Override
+            public ProgressTracker childProgressTracker() {
+                return CollectSignaturesFlow.Companion.tracker();
+            }
+        };
+        private final Step FINALISING_TRANSACTION = new Step("Obtaining notary signature and recording transaction.") {
+            @Override
+            public ProgressTracker childProgressTracker() {
+                return FinalityFlow.Companion.tracker();
+            }
+        };
+
+        private final ProgressTracker progressTracker = new ProgressTracker(
+                GENERATING_TRANSACTION,
+                VERIFYING_TRANSACTION,
+                SIGNING_TRANSACTION,
+                GATHERING_SIGS,
+                FINALISING_TRANSACTION
+        );
+
+        public BatchInitiator(List<Integer> iouValues, Party viewerParty, Party otherParty) {
+            this.iouValues = iouValues;
+            this.otherParty = otherParty;
+            this.viewerParty = viewerParty;
+        }
+
+        @Override
+        public ProgressTracker getProgressTracker() {
+            return progressTracker;
+        }
+
+        @Suspendable
+        @Override
+        public SignedTransaction call() throws FlowException {
+            final Party notary = getServiceHub().getNetworkMapCache().getNotaryIdentities().get(0);
+
+            progressTracker.setCurrentStep(GENERATING_TRANSACTION);
+            Party me = getServiceHub().getMyInfo().getLegalIdentities().get(0);
+            final long date = System.currentTimeMillis();
+            final Command<CompensationContract.Commands.CreateBatch> txCommand = new Command<>(
+                    new CompensationContract.Commands.CreateBatch(),
+                    ImmutableList.of(viewerParty.getOwningKey(), me.getOwningKey(), otherParty.getOwningKey()));
+            final TransactionBuilder txBuilder = new TransactionBuilder(notary).addCommand(txCommand);
+            for (Integer iouValue : iouValues) {
+                txBuilder.addOutputState(new IOUState(iouValue, date, viewerParty, me, otherParty, new UniqueIdentifier()), COMPENSATION_CONTRACT_ID);
+            }
+
+            progressTracker.setCurrentStep(VERIFYING_TRANSACTION);
+            txBuilder.verify(getServiceHub());
+
+            progressTracker.setCurrentStep(SIGNING_TRANSACTION);
+            final SignedTransaction partSignedTx = getServiceHub().signInitialTransaction(txBuilder);
+
+            progressTracker.setCurrentStep(GATHERING_SIGS);
+            FlowSession otherPartySession = initiateFlow(otherParty);
+            FlowSession viewerPartySession = initiateFlow(viewerParty);
+            final SignedTransaction fullySignedTx = subFlow(
+                    new CollectSignaturesFlow(partSignedTx, ImmutableSet.of(otherPartySession, viewerPartySession), CollectSignaturesFlow.Companion.tracker()));
+
+            progressTracker.setCurrentStep(FINALISING_TRANSACTION);
+            return subFlow(new FinalityFlow(fullySignedTx));
+        }
+    }
+
     @InitiatedBy(Initiator.class)
     public static class Acceptor extends FlowLogic<SignedTransaction> {
 
@@ -145,7 +242,41 @@ public class RegularFlow {
                         ContractState output = stx.getTx().getOutputs().get(0).getData();
                         require.using("This must be an IOU transaction.", output instanceof IOUState);
                         IOUState iou = (IOUState) output;
-                        require.using("I won't accept IOUs with a value over 100000.", iou.getValue() <= 100000);
+                        require.using("I won't accept IOUs with a value over " + MAX_IOU_VALUE + ".", iou.getValue() <= MAX_IOU_VALUE);
+                        return null;
+                    });
+                }
+            }
+
+            return subFlow(new SignTxFlow(otherPartyFlow, SignTransactionFlow.Companion.tracker()));
+        }
+    }
+
+    @InitiatedBy(BatchInitiator.class)
+    public static class BatchAcceptor extends FlowLogic<SignedTransaction> {
+
+        private final FlowSession otherPartyFlow;
+
+        public BatchAcceptor(FlowSession otherPartyFlow) {
+            this.otherPartyFlow = otherPartyFlow;
+        }
+
+        @Suspendable
+        @Override
+        public SignedTransaction call() throws FlowException {
+            class SignTxFlow extends SignTransactionFlow {
+                private SignTxFlow(FlowSession otherPartyFlow, ProgressTracker progressTracker) {
+                    super(otherPartyFlow, progressTracker);
+                }
+
+                @Override
+                protected void checkTransaction(SignedTransaction stx) {
+                    requireThat(require -> {
+                        for (TransactionState<ContractState> output : stx.getTx().getOutputs()) {
+                            require.using("This must be an IOU transaction.", output.getData() instanceof IOUState);
+                            IOUState iou = (IOUState) output.getData();
+                            require.using("I won't accept IOUs with a value over " + MAX_IOU_VALUE + ".", iou.getValue() <= MAX_IOU_VALUE);
+                        }
                         return null;
                     });
                 }
@@ -0,0 +1,113 @@
+package com.example.flow;
+
+import co.paralleluniverse.fibers.Suspendable;
+import com.example.service.VolumeRollupService;
+import net.corda.core.flows.FlowException;
+import net.corda.core.flows.FlowLogic;
+import net.corda.core.flows.StartableByRPC;
+import net.corda.core.serialization.CordaSerializable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the daily IOU or IPU volume between parties over a range of days from the rollups kept by
+ * [VolumeRollupService], one row per day and pair, in day order.
+ *
+ * It is a flow only because the rollups are tables of the node's database, which RPC clients cannot query directly.
+ * It reads them and returns, without messaging any other node.
+ */
+@StartableByRPC
+public class VolumeReportFlow extends FlowLogic<List<VolumeReportFlow.Row>> {
+
+    @CordaSerializable
+    public enum Kind { IOU, IPU }
+
+    /**
+     * The volume between a lender and a borrower on a day; for IPUs, between a loaner and a payer.
+     */
+    @CordaSerializable
+    public static class Row {
+        private final long epochDay;
+        private final String lender;
+        private final String borrower;
+        private final long count;
+        private final long sum;
+
+        public Row(long epochDay, String lender, String borrower, long count, long sum) {
+            this.epochDay = epochDay;
+            this.lender = lender;
+            this.borrower = borrower;
+            this.count = count;
+            this.sum = sum;
+        }
+
+        /** Days since 1970-01-01, UTC. */
+        public long getEpochDay() { return epochDay; }
+        public String getLender() { return lender; }
+        public String getBorrower() { return borrower; }
+        public long getCount() { return count; }
+        public long getSum() { return sum; }
+    }
+
+    private final Kind kind;
+    private final long fromDay;
+    private final long toDay;
+    private final String lender;
+    private final String borrower;
+
+    /**
+     * @param fromDay the first day reported, in days since 1970-01-01 UTC.
+     * @param toDay the last day reported, included.
+     * @param lender the lender (loaner for IPUs) to report on, or null for all.
+     * @param borrower the borrower (payer for IPUs) to report on, or null for all.
+     */
+    public VolumeReportFlow(Kind kind, long fromDay, long toDay, String lender, String borrower) {
+        this.kind = kind;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+        this.lender = lender;
+        this.borrower = borrower;
+    }
+
+    @Suspendable
+    @Override
+    public List<Row> call() throws FlowException {
+        final String table = kind == Kind.IOU ? VolumeRollupService.IOU_TABLE : VolumeRollupService.IPU_TABLE;
+        final StringBuilder sql = new StringBuilder("SELECT epoch_day, lender, borrower, state_count, value_sum FROM ")
+                .append(table).append(" WHERE epoch_day >= ? AND epoch_day <= ?");
+        if (lender != null) {
+            sql.append(" AND lender = ?");
+        }
+        if (borrower != null) {
+            sql.append(" AND borrower = ?");
+        }
+        sql.append(" ORDER BY epoch_day, lender, borrower");
+
+        final Connection connection = getServiceHub().jdbcSession();
+        try (PreparedStatement query = connection.prepareStatement(sql.toString())) {
+            int parameter = 1;
+            query.setLong(parameter++, fromDay);
+            query.setLong(parameter++, toDay);
+            if (lender != null) {
+                query.setString(parameter++, lender);
+            }
+            if (borrower != null) {
+                query.setString(parameter, borrower);
+            }
+            final List<Row> rows = new ArrayList<>();
+            try (ResultSet result = query.executeQuery()) {
+                while (result.next()) {
+                    rows.add(new Row(result.getLong(1), result.getString(2), result.getString(3), result.getLong(4), result.getLong(5)));
+                }
+            }
+            return rows;
+        } catch (SQLException ex) {
+            throw new FlowException("The " + kind + " volume report could not be read.", ex);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.plugin;
 
+import com.example.api.CompactJsonModule;
 import com.example.api.NodeApi;
+import com.example.api.SmileBodyWriter;
+import com.example.api.StaticAssets;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import net.corda.client.jackson.JacksonSupport;
 import net.corda.core.messaging.CordaRPCOps;
 import net.corda.webserver.services.WebServerPluginRegistry;
 
@@ -13,9 +18,9 @@ import java.util.function.Function;
 
 public class ExamplePlugin implements WebServerPluginRegistry {
     /**
-     * A list of classes that expose web APIs.
+     * A list of classes that expose web APIs, and the JAX-RS providers they need.
      */
-    private final List<Function<CordaRPCOps, ?>> webApis = ImmutableList.of(NodeApi::new);
+    private final List<Function<CordaRPCOps, ?>> webApis = ImmutableList.of(NodeApi::new, rpcOps -> new StaticAssets(), this::smileWriter);
 
     /**
      * A list of directories in the resources directory that will be served by Jetty under /web.
@@ -27,5 +32,16 @@ public class ExamplePlugin implements WebServerPluginRegistry {
 
     @Override public List<Function<CordaRPCOps, ?>> getWebApis() { return webApis; }
     @Override public Map<String, String> getStaticServeDirs() { return staticServeDirs; }
-    @Override public void customizeJSONSerialization(ObjectMapper objectMapper) { }
+    @Override public void customizeJSONSerialization(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new CompactJsonModule());
+    }
+
+    /**
+     * Serves Smile-encoded responses, with the same mapper configuration as the webserver's JSON responses.
+     */
+    private SmileBodyWriter smileWriter(CordaRPCOps rpcOps) {
+        final ObjectMapper smileMapper = JacksonSupport.createDefaultMapper(rpcOps, new SmileFactory());
+        customizeJSONSerialization(smileMapper);
+        return new SmileBodyWriter(smileMapper);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.example.schema;
+
+/**
+ * The family of schemas for the daily IOU and IPU volume rollups.
+ */
+public class VolumeRollupSchema { }
@@ -0,0 +1,124 @@
+package com.example.schema;
+
+import com.google.common.collect.ImmutableList;
+import net.corda.core.schemas.MappedSchema;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The daily volume rollups: per UTC day and pair of parties, the number of states recorded and the sum of their
+ * values. They are kept by [VolumeRollupService] as states are recorded, so a report over years reads a row per day
+ * and pair instead of every state. For IPUs the loaner is stored as the lender and the payer as the borrower.
+ */
+public class VolumeRollupSchemaV1 extends MappedSchema {
+    public VolumeRollupSchemaV1() {
+        super(VolumeRollupSchema.class, 1, ImmutableList.of(DailyIouVolume.class, DailyIpuVolume.class));
+    }
+
+    @Embeddable
+    public static class Key implements Serializable {
+        /** Days since 1970-01-01, UTC. */
+        @Column(name = "epoch_day") private final long epochDay;
+        @Column(name = "lender") private final String lender;
+        @Column(name = "borrower") private final String borrower;
+
+        public Key(long epochDay, String lender, String borrower) {
+            this.epochDay = epochDay;
+            this.lender = lender;
+            this.borrower = borrower;
+        }
+
+        // Default constructor required by hibernate.
+        public Key() {
+            this.epochDay = 0;
+            this.lender = null;
+            this.borrower = null;
+        }
+
+        public long getEpochDay() {
+            return epochDay;
+        }
+
+        public String getLender() {
+            return lender;
+        }
+
+        public String getBorrower() {
+            return borrower;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return epochDay == key.epochDay && Objects.equals(lender, key.lender) && Objects.equals(borrower, key.borrower);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(epochDay, lender, borrower);
+        }
+    }
+
+    @MappedSuperclass
+    public static class DailyVolume {
+        @EmbeddedId private final Key key;
+        @Column(name = "state_count") private final long count;
+        @Column(name = "value_sum") private final long sum;
+
+        public DailyVolume(Key key, long count, long sum) {
+            this.key = key;
+            this.count = count;
+            this.sum = sum;
+        }
+
+        // Default constructor required by hibernate.
+        public DailyVolume() {
+            this.key = null;
+            this.count = 0;
+            this.sum = 0;
+        }
+
+        public Key getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+    }
+
+    @Entity
+    @Table(name = "iou_daily_volume")
+    public static class DailyIouVolume extends DailyVolume {
+        public DailyIouVolume(Key key, long count, long sum) {
+            super(key, count, sum);
+        }
+
+        // Default constructor required by hibernate.
+        public DailyIouVolume() {
+            super();
+        }
+    }
+
+    @Entity
+    @Table(name = "ipu_daily_volume")
+    public static class DailyIpuVolume extends DailyVolume {
+        public DailyIpuVolume(Key key, long count, long sum) {
+            super(key, count, sum);
+        }
+
+        // Default constructor required by hibernate.
+        public DailyIpuVolume() {
+            super();
+        }
+    }
+}
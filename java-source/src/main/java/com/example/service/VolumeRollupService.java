@@ -0,0 +1,156 @@
+package com.example.service;
+
+import com.example.state.IOUState;
+import com.example.state.IPUState;
+import net.corda.core.contracts.ContractState;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.node.AppServiceHub;
+import net.corda.core.node.services.CordaService;
+import net.corda.core.node.services.Vault;
+import net.corda.core.serialization.SingletonSerializeAsToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the daily volume rollups of [VolumeRollupSchemaV1] current: every IOU and IPU the vault records adds one to
+ * the count, and its value to the sum, of the row for its day and pair of parties.
+ *
+ * It observes the vault's raw updates, which are delivered within the database transaction recording the states, so
+ * a rollup row commits or rolls back with the states it counts. Each state is counted on the UTC day of its date,
+ * and states without one are left out. Notary changes and contract upgrades re-record states that are already
+ * counted, and are left out too.
+ */
+@CordaService
+public class VolumeRollupService extends SingletonSerializeAsToken {
+    static private final Logger logger = LoggerFactory.getLogger(VolumeRollupService.class);
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    public static final String IOU_TABLE = "iou_daily_volume";
+    public static final String IPU_TABLE = "ipu_daily_volume";
+
+    /**
+     * What one update adds to a rollup row.
+     */
+    private static final class Row {
+        final String table;
+        final long epochDay;
+        final String lender;
+        final String borrower;
+        long count;
+        long sum;
+
+        Row(String table, long epochDay, String lender, String borrower) {
+            this.table = table;
+            this.epochDay = epochDay;
+            this.lender = lender;
+            this.borrower = borrower;
+        }
+    }
+
+    private final AppServiceHub serviceHub;
+
+    public VolumeRollupService(AppServiceHub serviceHub) {
+        this.serviceHub = serviceHub;
+        serviceHub.getVaultService().getRawUpdates().subscribe(this::record);
+    }
+
+    /**
+     * Rolls up the states [update] produced, one statement per row they fall in.
+     */
+    private void record(Vault.Update<ContractState> update) {
+        if (update.getType() != Vault.UpdateType.GENERAL || update.getProduced().isEmpty()) {
+            return;
+        }
+        final Map<String, Row> rows = new LinkedHashMap<>();
+        for (StateAndRef<ContractState> produced : update.getProduced()) {
+            final ContractState state = produced.getState().getData();
+            if (state instanceof IOUState) {
+                final IOUState iou = (IOUState) state;
+                add(rows, IOU_TABLE, iou.getDate(), iou.getLender().getName().toString(), iou.getBorrower().getName().toString(), iou.getValue());
+            } else if (state instanceof IPUState) {
+                final IPUState ipu = (IPUState) state;
+                add(rows, IPU_TABLE, ipu.getDate(), ipu.getLoaner().getName().toString(), ipu.getPayer().getName().toString(), ipu.getValue());
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        // Failing here must not fail the recording of the transaction. Every statement runs after a savepoint, which
+        // is rolled back to on failure, since some databases abort the whole transaction on a failed statement;
+        // the update's rows are then all left out, loudly, rather than some of them.
+        final Connection connection = serviceHub.jdbcSession();
+        Savepoint savepoint = null;
+        try {
+            savepoint = connection.setSavepoint();
+            for (Row row : rows.values()) {
+                upsert(connection, row.table, row.epochDay, row.lender, row.borrower, row.count, row.sum);
+            }
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException | RuntimeException ex) {
+            logger.error("Daily volume rollups could not be updated with " + rows.size() + " rows; they now undercount.", ex);
+            if (savepoint != null) {
+                try {
+                    connection.rollback(savepoint);
+                } catch (SQLException rollbackEx) {
+                    logger.error("Rolling back the daily volume rollups failed.", rollbackEx);
+                }
+            }
+        }
+    }
+
+    private static void add(Map<String, Row> rows, String table, Long date, String lender, String borrower, int value) {
+        if (date == null) {
+            return;
+        }
+        final long epochDay = Math.floorDiv(date, DAY_MILLIS);
+        final Row row = rows.computeIfAbsent(table + "|" + epochDay + "|" + lender + "|" + borrower,
+                key -> new Row(table, epochDay, lender, borrower));
+        row.count++;
+        row.sum += value;
+    }
+
+    /**
+     * Adds [count] and [sum] to a row, creating it if it is the first of its day and pair. A transaction recording
+     * states of the same row concurrently may create it first, after which the insert is undone and the update retried.
+     */
+    private static void upsert(Connection connection, String table, long epochDay, String lender, String borrower, long count, long sum) throws SQLException {
+        if (update(connection, table, epochDay, lender, borrower, count, sum)) {
+            return;
+        }
+        final Savepoint savepoint = connection.setSavepoint();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (epoch_day, lender, borrower, state_count, value_sum) VALUES (?, ?, ?, ?, ?)")) {
+            insert.setLong(1, epochDay);
+            insert.setString(2, lender);
+            insert.setString(3, borrower);
+            insert.setLong(4, count);
+            insert.setLong(5, sum);
+            insert.executeUpdate();
+        } catch (SQLException ex) {
+            connection.rollback(savepoint);
+            if (!update(connection, table, epochDay, lender, borrower, count, sum)) {
+                throw ex;
+            }
+        }
+    }
+
+    private static boolean update(Connection connection, String table, long epochDay, String lender, String borrower, long count, long sum) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + table + " SET state_count = state_count + ?, value_sum = value_sum + ? WHERE epoch_day = ? AND lender = ? AND borrower = ?")) {
+            update.setLong(1, count);
+            update.setLong(2, sum);
+            update.setLong(3, epochDay);
+            update.setString(4, lender);
+            update.setString(5, borrower);
+            return update.executeUpdate() > 0;
+        }
+    }
+}
@@ -1,2 +0,0 @@
-!function(e){function t(r){if(n[r])return n[r].exports;var o=n[r]={i:r,l:!1,exports:{}};return e[r].call(o.exports,o,o.exports,t),o.l=!0,o.exports}var n={};t.m=e,t.c=n,t.d=function(e,n,r){t.o(e,n)||Object.defineProperty(e,n,{configurable:!1,enumerable:!0,get:r})},t.n=function(e){var n=e&&e.__esModule?function(){return e.default}:function(){return e};return t.d(n,"a",n),n},t.o=function(e,t){return Object.prototype.hasOwnProperty.call(e,t)},t.p="/web/example/",t(t.s=24)}([function(e,t,n){"use strict";e.exports=n(32)},function(e,t,n){e.exports=n(45)()},function(e,t,n){"use strict";var r=function(e,t,n,r,o,a,i,l){if(!e){var u;if(void 0===t)u=new Error("Minified exception occurred; use the non-minified dev environment for the full error message and additional helpful warnings.");else{var c=[n,r,o,a,i,l],s=0;u=new Error(t.replace(/%s/g,function(){return c[s++]})),u.name="Invariant Violation"}throw u.framesToPop=1,u}};e.exports=r},function(e,t,n){"use strict";var r=function(){};e.exports=r},function(e,t,n){"use strict";var r=n(47);n.d(t,"a",function(){return r.a});var o=n(50);n.d(t,"b",function(){return o.a});var a=n(51);n.d(t,"d",function(){return a.a});var i=n(8);n.d(t,"c",function(){return i.a}),n.d(t,"f",function(){return i.b});var l=n(5);n.d(t,"e",function(){return l.b})},function(e,t,n){"use strict";n.d(t,"a",function(){return r}),n.d(t,"f",function(){return o}),n.d(t,"c",function(){return a}),n.d(t,"e",function(){return i}),n.d(t,"g",function(){return l}),n.d(t,"d",function(){return u}),n.d(t,"b",function(){return c});var r=function(e){return"/"===e.charAt(0)?e:"/"+e},o=function(e){return"/"===e.charAt(0)?e.substr(1):e},a=function(e,t){return new RegExp("^"+t+"(\\/|\\?|#|$)","i").test(e)},i=function(e,t){return a(e,t)?e.substr(t.length):e},l=function(e){return"/"===e.charAt(e.length-1)?e.slice(0,-1):e},u=function(e){var t=e||"/",n="",r="",o=t.indexOf("#");-1!==o&&(r=t.substr(o),t=t.substr(0,o));var a=t.indexOf("?");return-1!==a&&(n=t.substr(a),t=t.substr(0,a)),{pathname:t,search:"?"===n?"":n,hash:"#"===r?"":r}},c=function(e){var t=e.pathname,n=e.search,r=e.hash,o=t||"/";return n&&"?"!==n&&(o+="?"===n.charAt(0)?n:"?"+n),r&&"#"!==r&&(o+="#"===r.charAt(0)?r:"#"+r),o}},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}function i(e){return new Date(e).getTime()}function l(e){return new Date(e).toLocaleString()}function u(e){var t=e.getUTCDate()<10?"0"+e.getUTCDate():e.getUTCDate(),n=e.getUTCMonth()+1<10?"0"+(e.getUTCMonth()+1):e.getUTCMonth()+1;return e.getUTCFullYear()+"-"+n+"-"+t}n.d(t,"d",function(){return i}),n.d(t,"f",function(){return u}),n.d(t,"e",function(){return l}),n.d(t,"a",function(){return h}),n.d(t,"c",function(){return d}),n.d(t,"b",function(){return p});var c=n(0),s=n.n(c),f=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),p=function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}return a(t,e),f(t,[{key:"render",value:function(){return s.a.createElement("div",{className:"alert alert-info",role:"alert"},this.props.msg)}}]),t}(s.a.Component),d=function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}return a(t,e),f(t,[{key:"render",value:function(){return s.a.createElement("div",{className:"alert alert-success",role:"alert"},this.props.msg)}}]),t}(s.a.Component),h=(function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}a(t,e),f(t,[{key:"render",value:function(){return s.a.createElement("div",{className:"alert alert-warning",role:"alert"},this.props.msg)}}])}(s.a.Component),function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}return a(t,e),f(t,[{key:"render",value:function(){return s.a.createElement("div",{className:"alert alert-danger",role:"alert"},this.props.msg)}}]),t}(s.a.Component));!function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}a(t,e),f(t,[{key:"render",value:function(){return s.a.createElement("div",{className:"modal fade bd-example-modal-lg",tabIndex:"-1",role:"dialog","aria-hidden":"false"},s.a.createElement("div",{className:"modal-dialog modal-lg"},s.a.createElement("div",{className:"modal-content"},this.props.msg)))}}])}(s.a.Component)},function(e,t,n){"use strict";var r=function(){};e.exports=r},function(e,t,n){"use strict";n.d(t,"a",function(){return l}),n.d(t,"b",function(){return u});var r=n(48),o=n(49),a=n(5),i=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},l=function(e,t,n,o){var l=void 0;"string"===typeof e?(l=Object(a.d)(e),l.state=t):(l=i({},e),void 0===l.pathname&&(l.pathname=""),l.search?"?"!==l.search.charAt(0)&&(l.search="?"+l.search):l.search="",l.hash?"#"!==l.hash.charAt(0)&&(l.hash="#"+l.hash):l.hash="",void 0!==t&&void 0===l.state&&(l.state=t));try{l.pathname=decodeURI(l.pathname)}catch(e){throw e instanceof URIError?new URIError('Pathname "'+l.pathname+'" could not be decoded. This is likely caused by an invalid percent-encoding.'):e}return n&&(l.key=n),o?l.pathname?"/"!==l.pathname.charAt(0)&&(l.pathname=Object(r.a)(l.pathname,o.pathname)):l.pathname=o.pathname:l.pathname||(l.pathname="/"),l},u=function(e,t){return e.pathname===t.pathname&&e.search===t.search&&e.hash===t.hash&&e.key===t.key&&Object(o.a)(e.state,t.state)}},function(e,t,n){"use strict";function r(e){if(null===e||void 0===e)throw new TypeError("Object.assign cannot be called with null or undefined");return Object(e)}var o=Object.getOwnPropertySymbols,a=Object.prototype.hasOwnProperty,i=Object.prototype.propertyIsEnumerable;e.exports=function(){try{if(!Object.assign)return!1;var e=new String("abc");if(e[5]="de","5"===Object.getOwnPropertyNames(e)[0])return!1;for(var t={},n=0;n<10;n++)t["_"+String.fromCharCode(n)]=n;if("0123456789"!==Object.getOwnPropertyNames(t).map(function(e){return t[e]}).join(""))return!1;var r={};return"abcdefghijklmnopqrst".split("").forEach(function(e){r[e]=e}),"abcdefghijklmnopqrst"===Object.keys(Object.assign({},r)).join("")}catch(e){return!1}}()?Object.assign:function(e,t){for(var n,l,u=r(e),c=1;c<arguments.length;c++){n=Object(arguments[c]);for(var s in n)a.call(n,s)&&(u[s]=n[s]);if(o){l=o(n);for(var f=0;f<l.length;f++)i.call(n,l[f])&&(u[l[f]]=n[l[f]])}}return u}},function(e,t,n){"use strict";var r=n(7),o=n.n(r),a=function(){var e=null,t=function(t){return o()(null==e,"A history supports only one prompt at a time"),e=t,function(){e===t&&(e=null)}},n=function(t,n,r,a){if(null!=e){var i="function"===typeof e?e(t,n):e;"string"===typeof i?"function"===typeof r?r(i,a):(o()(!1,"A history needs a getUserConfirmation function in order to use a prompt message"),a(!0)):a(!1!==i)}else a(!0)},r=[];return{setPrompt:t,confirmTransitionTo:n,appendListener:function(e){var t=!0,n=function(){t&&e.apply(void 0,arguments)};return r.push(n),function(){t=!1,r=r.filter(function(e){return e!==n})}},notifyListeners:function(){for(var e=arguments.length,t=Array(e),n=0;n<e;n++)t[n]=arguments[n];r.forEach(function(e){return e.apply(void 0,t)})}}};t.a=a},function(e,t,n){"use strict";var r=n(12);t.a=r.a},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(3),l=n.n(i),u=n(2),c=n.n(u),s=n(0),f=n.n(s),p=n(1),d=n.n(p),h=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},m=function(e){function t(){var n,a,i;r(this,t);for(var l=arguments.length,u=Array(l),c=0;c<l;c++)u[c]=arguments[c];return n=a=o(this,e.call.apply(e,[this].concat(u))),a.state={match:a.computeMatch(a.props.history.location.pathname)},i=n,o(a,i)}return a(t,e),t.prototype.getChildContext=function(){return{router:h({},this.context.router,{history:this.props.history,route:{location:this.props.history.location,match:this.state.match}})}},t.prototype.computeMatch=function(e){return{path:"/",url:"/",params:{},isExact:"/"===e}},t.prototype.componentWillMount=function(){var e=this,t=this.props,n=t.children,r=t.history;c()(null==n||1===f.a.Children.count(n),"A <Router> may have only one child element"),this.unlisten=r.listen(function(){e.setState({match:e.computeMatch(r.location.pathname)})})},t.prototype.componentWillReceiveProps=function(e){l()(this.props.history===e.history,"You cannot change <Router history>")},t.prototype.componentWillUnmount=function(){this.unlisten()},t.prototype.render=function(){var e=this.props.children;return e?f.a.Children.only(e):null},t}(f.a.Component);m.propTypes={history:d.a.object.isRequired,children:d.a.node},m.contextTypes={router:d.a.object},m.childContextTypes={router:d.a.object.isRequired},t.a=m},function(e,t,n){"use strict";var r=n(22),o=n.n(r),a={},i=0,l=function(e,t){var n=""+t.end+t.strict+t.sensitive,r=a[n]||(a[n]={});if(r[e])return r[e];var l=[],u=o()(e,l,t),c={re:u,keys:l};return i<1e4&&(r[e]=c,i++),c},u=function(e){var t=arguments.length>1&&void 0!==arguments[1]?arguments[1]:{},n=arguments[2];"string"===typeof t&&(t={path:t});var r=t,o=r.path,a=r.exact,i=void 0!==a&&a,u=r.strict,c=void 0!==u&&u,s=r.sensitive,f=void 0!==s&&s;if(null==o)return n;var p=l(o,{end:i,strict:c,sensitive:f}),d=p.re,h=p.keys,m=d.exec(e);if(!m)return null;var y=m[0],v=m.slice(1),b=e===y;return i&&!b?null:{path:o,url:"/"===o&&""===y?"/":y,isExact:b,params:h.reduce(function(e,t,n){return e[t.name]=v[n],e},{})}};t.a=u},function(e,t,n){"use strict";function r(){}function o(e){try{return e.then}catch(e){return v=e,b}}function a(e,t){try{return e(t)}catch(e){return v=e,b}}function i(e,t,n){try{e(t,n)}catch(e){return v=e,b}}function l(e){if("object"!==typeof this)throw new TypeError("Promises must be constructed via new");if("function"!==typeof e)throw new TypeError("Promise constructor's argument is not a function");this._75=0,this._83=0,this._18=null,this._38=null,e!==r&&m(e,this)}function u(e,t,n){return new e.constructor(function(o,a){var i=new l(r);i.then(o,a),c(e,new h(t,n,i))})}function c(e,t){for(;3===e._83;)e=e._18;if(l._47&&l._47(e),0===e._83)return 0===e._75?(e._75=1,void(e._38=t)):1===e._75?(e._75=2,void(e._38=[e._38,t])):void e._38.push(t);s(e,t)}function s(e,t){y(function(){var n=1===e._83?t.onFulfilled:t.onRejected;if(null===n)return void(1===e._83?f(t.promise,e._18):p(t.promise,e._18));var r=a(n,e._18);r===b?p(t.promise,v):f(t.promise,r)})}function f(e,t){if(t===e)return p(e,new TypeError("A promise cannot be resolved with itself."));if(t&&("object"===typeof t||"function"===typeof t)){var n=o(t);if(n===b)return p(e,v);if(n===e.then&&t instanceof l)return e._83=3,e._18=t,void d(e);if("function"===typeof n)return void m(n.bind(t),e)}e._83=1,e._18=t,d(e)}function p(e,t){e._83=2,e._18=t,l._71&&l._71(e,t),d(e)}function d(e){if(1===e._75&&(c(e,e._38),e._38=null),2===e._75){for(var t=0;t<e._38.length;t++)c(e,e._38[t]);e._38=null}}function h(e,t,n){this.onFulfilled="function"===typeof e?e:null,this.onRejected="function"===typeof t?t:null,this.promise=n}function m(e,t){var n=!1,r=i(e,function(e){n||(n=!0,f(t,e))},function(e){n||(n=!0,p(t,e))});n||r!==b||(n=!0,p(t,v))}var y=n(27),v=null,b={};e.exports=l,l._47=null,l._71=null,l._44=r,l.prototype.then=function(e,t){if(this.constructor!==l)return u(this,e,t);var n=new l(r);return c(this,new h(e,t,n)),n}},function(e,t,n){"use strict";function r(e,t,n,r,a,i,l,u){if(o(t),!e){var c;if(void 0===t)c=new Error("Minified exception occurred; use the non-minified dev environment for the full error message and additional helpful warnings.");else{var s=[n,r,a,i,l,u],f=0;c=new Error(t.replace(/%s/g,function(){return s[f++]})),c.name="Invariant Violation"}throw c.framesToPop=1,c}}var o=function(e){};e.exports=r},function(e,t,n){"use strict";var r={};e.exports=r},function(e,t,n){"use strict";function r(e){return function(){return e}}var o=function(){};o.thatReturns=r,o.thatReturnsFalse=r(!1),o.thatReturnsTrue=r(!0),o.thatReturnsNull=r(null),o.thatReturnsThis=function(){return this},o.thatReturnsArgument=function(e){return e},e.exports=o},function(e,t,n){"use strict";n.d(t,"b",function(){return r}),n.d(t,"a",function(){return o}),n.d(t,"e",function(){return a}),n.d(t,"c",function(){return i}),n.d(t,"g",function(){return l}),n.d(t,"h",function(){return u}),n.d(t,"f",function(){return c}),n.d(t,"d",function(){return s});var r=!("undefined"===typeof window||!window.document||!window.document.createElement),o=function(e,t,n){return e.addEventListener?e.addEventListener(t,n,!1):e.attachEvent("on"+t,n)},a=function(e,t,n){return e.removeEventListener?e.removeEventListener(t,n,!1):e.detachEvent("on"+t,n)},i=function(e,t){return t(window.confirm(e))},l=function(){var e=window.navigator.userAgent;return(-1===e.indexOf("Android 2.")&&-1===e.indexOf("Android 4.0")||-1===e.indexOf("Mobile Safari")||-1!==e.indexOf("Chrome")||-1!==e.indexOf("Windows Phone"))&&(window.history&&"pushState"in window.history)},u=function(){return-1===window.navigator.userAgent.indexOf("Trident")},c=function(){return-1===window.navigator.userAgent.indexOf("Firefox")},s=function(e){return void 0===e.state&&-1===navigator.userAgent.indexOf("CriOS")}},function(e,t,n){"use strict";function r(e,t){var n={};for(var r in e)t.indexOf(r)>=0||Object.prototype.hasOwnProperty.call(e,r)&&(n[r]=e[r]);return n}function o(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function a(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function i(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var l=n(0),u=n.n(l),c=n(1),s=n.n(c),f=n(2),p=n.n(f),d=n(4),h=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},m=function(e){return!!(e.metaKey||e.altKey||e.ctrlKey||e.shiftKey)},y=function(e){function t(){var n,r,i;o(this,t);for(var l=arguments.length,u=Array(l),c=0;c<l;c++)u[c]=arguments[c];return n=r=a(this,e.call.apply(e,[this].concat(u))),r.handleClick=function(e){if(r.props.onClick&&r.props.onClick(e),!e.defaultPrevented&&0===e.button&&!r.props.target&&!m(e)){e.preventDefault();var t=r.context.router.history,n=r.props,o=n.replace,a=n.to;o?t.replace(a):t.push(a)}},i=n,a(r,i)}return i(t,e),t.prototype.render=function(){var e=this.props,t=(e.replace,e.to),n=e.innerRef,o=r(e,["replace","to","innerRef"]);p()(this.context.router,"You should not use <Link> outside a <Router>"),p()(void 0!==t,'You must specify the "to" property');var a=this.context.router.history,i="string"===typeof t?Object(d.c)(t,null,null,a.location):t,l=a.createHref(i);return u.a.createElement("a",h({},o,{onClick:this.handleClick,href:l,ref:n}))},t}(u.a.Component);y.propTypes={onClick:s.a.func,target:s.a.string,replace:s.a.bool,to:s.a.oneOfType([s.a.string,s.a.object]).isRequired,innerRef:s.a.oneOfType([s.a.string,s.a.func])},y.defaultProps={replace:!1},y.contextTypes={router:s.a.shape({history:s.a.shape({push:s.a.func.isRequired,replace:s.a.func.isRequired,createHref:s.a.func.isRequired}).isRequired}).isRequired},t.a=y},function(e,t,n){"use strict";var r=n(21);t.a=r.a},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(3),l=n.n(i),u=n(2),c=n.n(u),s=n(0),f=n.n(s),p=n(1),d=n.n(p),h=n(13),m=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},y=function(e){return 0===f.a.Children.count(e)},v=function(e){function t(){var n,a,i;r(this,t);for(var l=arguments.length,u=Array(l),c=0;c<l;c++)u[c]=arguments[c];return n=a=o(this,e.call.apply(e,[this].concat(u))),a.state={match:a.computeMatch(a.props,a.context.router)},i=n,o(a,i)}return a(t,e),t.prototype.getChildContext=function(){return{router:m({},this.context.router,{route:{location:this.props.location||this.context.router.route.location,match:this.state.match}})}},t.prototype.computeMatch=function(e,t){var n=e.computedMatch,r=e.location,o=e.path,a=e.strict,i=e.exact,l=e.sensitive;if(n)return n;c()(t,"You should not use <Route> or withRouter() outside a <Router>");var u=t.route,s=(r||u.location).pathname;return Object(h.a)(s,{path:o,strict:a,exact:i,sensitive:l},u.match)},t.prototype.componentWillMount=function(){l()(!(this.props.component&&this.props.render),"You should not use <Route component> and <Route render> in the same route; <Route render> will be ignored"),l()(!(this.props.component&&this.props.children&&!y(this.props.children)),"You should not use <Route component> and <Route children> in the same route; <Route children> will be ignored"),l()(!(this.props.render&&this.props.children&&!y(this.props.children)),"You should not use <Route render> and <Route children> in the same route; <Route children> will be ignored")},t.prototype.componentWillReceiveProps=function(e,t){l()(!(e.location&&!this.props.location),'<Route> elements should not change from uncontrolled to controlled (or vice versa). You initially used no "location" prop and then provided one on a subsequent render.'),l()(!(!e.location&&this.props.location),'<Route> elements should not change from controlled to uncontrolled (or vice versa). You provided a "location" prop initially but omitted it on a subsequent render.'),this.setState({match:this.computeMatch(e,t.router)})},t.prototype.render=function(){var e=this.state.match,t=this.props,n=t.children,r=t.component,o=t.render,a=this.context.router,i=a.history,l=a.route,u=a.staticContext,c=this.props.location||l.location,s={match:e,location:c,history:i,staticContext:u};return r?e?f.a.createElement(r,s):null:o?e?o(s):null:"function"===typeof n?n(s):n&&!y(n)?f.a.Children.only(n):null},t}(f.a.Component);v.propTypes={computedMatch:d.a.object,path:d.a.string,exact:d.a.bool,strict:d.a.bool,sensitive:d.a.bool,component:d.a.func,render:d.a.func,children:d.a.oneOfType([d.a.func,d.a.node]),location:d.a.object},v.contextTypes={router:d.a.shape({history:d.a.object.isRequired,route:d.a.object.isRequired,staticContext:d.a.object})},v.childContextTypes={router:d.a.object.isRequired},t.a=v},function(e,t,n){function r(e,t){for(var n,r=[],o=0,a=0,i="",l=t&&t.delimiter||"/";null!=(n=b.exec(e));){var s=n[0],f=n[1],p=n.index;if(i+=e.slice(a,p),a=p+s.length,f)i+=f[1];else{var d=e[a],h=n[2],m=n[3],y=n[4],v=n[5],g=n[6],w=n[7];i&&(r.push(i),i="");var E=null!=h&&null!=d&&d!==h,_="+"===g||"*"===g,x="?"===g||"*"===g,k=n[2]||l,C=y||v;r.push({name:m||o++,prefix:h||"",delimiter:k,optional:x,repeat:_,partial:E,asterisk:!!w,pattern:C?c(C):w?".*":"[^"+u(k)+"]+?"})}}return a<e.length&&(i+=e.substr(a)),i&&r.push(i),r}function o(e,t){return l(r(e,t))}function a(e){return encodeURI(e).replace(/[\/?#]/g,function(e){return"%"+e.charCodeAt(0).toString(16).toUpperCase()})}function i(e){return encodeURI(e).replace(/[?#]/g,function(e){return"%"+e.charCodeAt(0).toString(16).toUpperCase()})}function l(e){for(var t=new Array(e.length),n=0;n<e.length;n++)"object"===typeof e[n]&&(t[n]=new RegExp("^(?:"+e[n].pattern+")$"));return function(n,r){for(var o="",l=n||{},u=r||{},c=u.pretty?a:encodeURIComponent,s=0;s<e.length;s++){var f=e[s];if("string"!==typeof f){var p,d=l[f.name];if(null==d){if(f.optional){f.partial&&(o+=f.prefix);continue}throw new TypeError('Expected "'+f.name+'" to be defined')}if(v(d)){if(!f.repeat)throw new TypeError('Expected "'+f.name+'" to not repeat, but received `'+JSON.stringify(d)+"`");if(0===d.length){if(f.optional)continue;throw new TypeError('Expected "'+f.name+'" to not be empty')}for(var h=0;h<d.length;h++){if(p=c(d[h]),!t[s].test(p))throw new TypeError('Expected all "'+f.name+'" to match "'+f.pattern+'", but received `'+JSON.stringify(p)+"`");o+=(0===h?f.prefix:f.delimiter)+p}}else{if(p=f.asterisk?i(d):c(d),!t[s].test(p))throw new TypeError('Expected "'+f.name+'" to match "'+f.pattern+'", but received "'+p+'"');o+=f.prefix+p}}else o+=f}return o}}function u(e){return e.replace(/([.+*?=^!:${}()[\]|\/\\])/g,"\\$1")}function c(e){return e.replace(/([=!:$\/()])/g,"\\$1")}function s(e,t){return e.keys=t,e}function f(e){return e.sensitive?"":"i"}function p(e,t){var n=e.source.match(/\((?!\?)/g);if(n)for(var r=0;r<n.length;r++)t.push({name:r,prefix:null,delimiter:null,optional:!1,repeat:!1,partial:!1,asterisk:!1,pattern:null});return s(e,t)}function d(e,t,n){for(var r=[],o=0;o<e.length;o++)r.push(y(e[o],t,n).source);return s(new RegExp("(?:"+r.join("|")+")",f(n)),t)}function h(e,t,n){return m(r(e,n),t,n)}function m(e,t,n){v(t)||(n=t||n,t=[]),n=n||{};for(var r=n.strict,o=!1!==n.end,a="",i=0;i<e.length;i++){var l=e[i];if("string"===typeof l)a+=u(l);else{var c=u(l.prefix),p="(?:"+l.pattern+")";t.push(l),l.repeat&&(p+="(?:"+c+p+")*"),p=l.optional?l.partial?c+"("+p+")?":"(?:"+c+"("+p+"))?":c+"("+p+")",a+=p}}var d=u(n.delimiter||"/"),h=a.slice(-d.length)===d;return r||(a=(h?a.slice(0,-d.length):a)+"(?:"+d+"(?=$))?"),a+=o?"$":r&&h?"":"(?="+d+"|$)",s(new RegExp("^"+a,f(n)),t)}function y(e,t,n){return v(t)||(n=t||n,t=[]),n=n||{},e instanceof RegExp?p(e,t):v(e)?d(e,t,n):h(e,t,n)}var v=n(56);e.exports=y,e.exports.parse=r,e.exports.compile=o,e.exports.tokensToFunction=l,e.exports.tokensToRegExp=m;var b=new RegExp(["(\\\\.)","([\\/.])?(?:(?:\\:(\\w+)(?:\\(((?:\\\\.|[^\\\\()])+)\\))?|\\(((?:\\\\.|[^\\\\()])+)\\))([+*?])?|(\\*))"].join("|"),"g")},function(e,t,n){"use strict";var r=n(22),o=n.n(r),a={},i=0,l=function(e){var t=e,n=a[t]||(a[t]={});if(n[e])return n[e];var r=o.a.compile(e);return i<1e4&&(n[e]=r,i++),r},u=function(){var e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:"/",t=arguments.length>1&&void 0!==arguments[1]?arguments[1]:{};return"/"===e?e:l(e)(t,{pretty:!0})};t.a=u},function(e,t,n){n(25),e.exports=n(31)},function(e,t,n){"use strict";"undefined"===typeof Promise&&(n(26).enable(),window.Promise=n(29)),n(30),Object.assign=n(9)},function(e,t,n){"use strict";function r(){c=!1,l._47=null,l._71=null}function o(e){function t(t){(e.allRejections||i(f[t].error,e.whitelist||u))&&(f[t].displayId=s++,e.onUnhandled?(f[t].logged=!0,e.onUnhandled(f[t].displayId,f[t].error)):(f[t].logged=!0,a(f[t].displayId,f[t].error)))}function n(t){f[t].logged&&(e.onHandled?e.onHandled(f[t].displayId,f[t].error):f[t].onUnhandled||(console.warn("Promise Rejection Handled (id: "+f[t].displayId+"):"),console.warn('  This means you can ignore any previous messages of the form "Possible Unhandled Promise Rejection" with id '+f[t].displayId+".")))}e=e||{},c&&r(),c=!0;var o=0,s=0,f={};l._47=function(e){2===e._83&&f[e._56]&&(f[e._56].logged?n(e._56):clearTimeout(f[e._56].timeout),delete f[e._56])},l._71=function(e,n){0===e._75&&(e._56=o++,f[e._56]={displayId:null,error:n,timeout:setTimeout(t.bind(null,e._56),i(n,u)?100:2e3),logged:!1})}}function a(e,t){console.warn("Possible Unhandled Promise Rejection (id: "+e+"):"),((t&&(t.stack||t))+"").split("\n").forEach(function(e){console.warn("  "+e)})}function i(e,t){return t.some(function(t){return e instanceof t})}var l=n(14),u=[ReferenceError,TypeError,RangeError],c=!1;t.disable=r,t.enable=o},function(e,t,n){"use strict";(function(t){function n(e){i.length||(a(),l=!0),i[i.length]=e}function r(){for(;u<i.length;){var e=u;if(u+=1,i[e].call(),u>c){for(var t=0,n=i.length-u;t<n;t++)i[t]=i[t+u];i.length-=u,u=0}}i.length=0,u=0,l=!1}function o(e){return function(){function t(){clearTimeout(n),clearInterval(r),e()}var n=setTimeout(t,0),r=setInterval(t,50)}}e.exports=n;var a,i=[],l=!1,u=0,c=1024,s="undefined"!==typeof t?t:self,f=s.MutationObserver||s.WebKitMutationObserver;a="function"===typeof f?function(e){var t=1,n=new f(e),r=document.createTextNode("");return n.observe(r,{characterData:!0}),function(){t=-t,r.data=t}}(r):o(r),n.requestFlush=a,n.makeRequestCallFromTimer=o}).call(t,n(28))},function(e,t){var n;n=function(){return this}();try{n=n||Function("return this")()||(0,eval)("this")}catch(e){"object"===typeof window&&(n=window)}e.exports=n},function(e,t,n){"use strict";function r(e){var t=new o(o._44);return t._83=1,t._18=e,t}var o=n(14);e.exports=o;var a=r(!0),i=r(!1),l=r(null),u=r(void 0),c=r(0),s=r("");o.resolve=function(e){if(e instanceof o)return e;if(null===e)return l;if(void 0===e)return u;if(!0===e)return a;if(!1===e)return i;if(0===e)return c;if(""===e)return s;if("object"===typeof e||"function"===typeof e)try{var t=e.then;if("function"===typeof t)return new o(t.bind(e))}catch(e){return new o(function(t,n){n(e)})}return r(e)},o.all=function(e){var t=Array.prototype.slice.call(e);return new o(function(e,n){function r(i,l){if(l&&("object"===typeof l||"function"===typeof l)){if(l instanceof o&&l.then===o.prototype.then){for(;3===l._83;)l=l._18;return 1===l._83?r(i,l._18):(2===l._83&&n(l._18),void l.then(function(e){r(i,e)},n))}var u=l.then;if("function"===typeof u){return void new o(u.bind(l)).then(function(e){r(i,e)},n)}}t[i]=l,0===--a&&e(t)}if(0===t.length)return e([]);for(var a=t.length,i=0;i<t.length;i++)r(i,t[i])})},o.reject=function(e){return new o(function(t,n){n(e)})},o.race=function(e){return new o(function(t,n){e.forEach(function(e){o.resolve(e).then(t,n)})})},o.prototype.catch=function(e){return this.then(null,e)}},function(e,t){!function(e){"use strict";function t(e){if("string"!==typeof e&&(e=String(e)),/[^a-z0-9\-#$%&'*+.\^_`|~]/i.test(e))throw new TypeError("Invalid character in header field name");return e.toLowerCase()}function n(e){return"string"!==typeof e&&(e=String(e)),e}function r(e){var t={next:function(){var t=e.shift();return{done:void 0===t,value:t}}};return v.iterable&&(t[Symbol.iterator]=function(){return t}),t}function o(e){this.map={},e instanceof o?e.forEach(function(e,t){this.append(t,e)},this):Array.isArray(e)?e.forEach(function(e){this.append(e[0],e[1])},this):e&&Object.getOwnPropertyNames(e).forEach(function(t){this.append(t,e[t])},this)}function a(e){if(e.bodyUsed)return Promise.reject(new TypeError("Already read"));e.bodyUsed=!0}function i(e){return new Promise(function(t,n){e.onload=function(){t(e.result)},e.onerror=function(){n(e.error)}})}function l(e){var t=new FileReader,n=i(t);return t.readAsArrayBuffer(e),n}function u(e){var t=new FileReader,n=i(t);return t.readAsText(e),n}function c(e){for(var t=new Uint8Array(e),n=new Array(t.length),r=0;r<t.length;r++)n[r]=String.fromCharCode(t[r]);return n.join("")}function s(e){if(e.slice)return e.slice(0);var t=new Uint8Array(e.byteLength);return t.set(new Uint8Array(e)),t.buffer}function f(){return this.bodyUsed=!1,this._initBody=function(e){if(this._bodyInit=e,e)if("string"===typeof e)this._bodyText=e;else if(v.blob&&Blob.prototype.isPrototypeOf(e))this._bodyBlob=e;else if(v.formData&&FormData.prototype.isPrototypeOf(e))this._bodyFormData=e;else if(v.searchParams&&URLSearchParams.prototype.isPrototypeOf(e))this._bodyText=e.toString();else if(v.arrayBuffer&&v.blob&&g(e))this._bodyArrayBuffer=s(e.buffer),this._bodyInit=new Blob([this._bodyArrayBuffer]);else{if(!v.arrayBuffer||!ArrayBuffer.prototype.isPrototypeOf(e)&&!w(e))throw new Error("unsupported BodyInit type");this._bodyArrayBuffer=s(e)}else this._bodyText="";this.headers.get("content-type")||("string"===typeof e?this.headers.set("content-type","text/plain;charset=UTF-8"):this._bodyBlob&&this._bodyBlob.type?this.headers.set("content-type",this._bodyBlob.type):v.searchParams&&URLSearchParams.prototype.isPrototypeOf(e)&&this.headers.set("content-type","application/x-www-form-urlencoded;charset=UTF-8"))},v.blob&&(this.blob=function(){var e=a(this);if(e)return e;if(this._bodyBlob)return Promise.resolve(this._bodyBlob);if(this._bodyArrayBuffer)return Promise.resolve(new Blob([this._bodyArrayBuffer]));if(this._bodyFormData)throw new Error("could not read FormData body as blob");return Promise.resolve(new Blob([this._bodyText]))},this.arrayBuffer=function(){return this._bodyArrayBuffer?a(this)||Promise.resolve(this._bodyArrayBuffer):this.blob().then(l)}),this.text=function(){var e=a(this);if(e)return e;if(this._bodyBlob)return u(this._bodyBlob);if(this._bodyArrayBuffer)return Promise.resolve(c(this._bodyArrayBuffer));if(this._bodyFormData)throw new Error("could not read FormData body as text");return Promise.resolve(this._bodyText)},v.formData&&(this.formData=function(){return this.text().then(h)}),this.json=function(){return this.text().then(JSON.parse)},this}function p(e){var t=e.toUpperCase();return E.indexOf(t)>-1?t:e}function d(e,t){t=t||{};var n=t.body;if(e instanceof d){if(e.bodyUsed)throw new TypeError("Already read");this.url=e.url,this.credentials=e.credentials,t.headers||(this.headers=new o(e.headers)),this.method=e.method,this.mode=e.mode,n||null==e._bodyInit||(n=e._bodyInit,e.bodyUsed=!0)}else this.url=String(e);if(this.credentials=t.credentials||this.credentials||"omit",!t.headers&&this.headers||(this.headers=new o(t.headers)),this.method=p(t.method||this.method||"GET"),this.mode=t.mode||this.mode||null,this.referrer=null,("GET"===this.method||"HEAD"===this.method)&&n)throw new TypeError("Body not allowed for GET or HEAD requests");this._initBody(n)}function h(e){var t=new FormData;return e.trim().split("&").forEach(function(e){if(e){var n=e.split("="),r=n.shift().replace(/\+/g," "),o=n.join("=").replace(/\+/g," ");t.append(decodeURIComponent(r),decodeURIComponent(o))}}),t}function m(e){var t=new o;return e.split(/\r?\n/).forEach(function(e){var n=e.split(":"),r=n.shift().trim();if(r){var o=n.join(":").trim();t.append(r,o)}}),t}function y(e,t){t||(t={}),this.type="default",this.status="status"in t?t.status:200,this.ok=this.status>=200&&this.status<300,this.statusText="statusText"in t?t.statusText:"OK",this.headers=new o(t.headers),this.url=t.url||"",this._initBody(e)}if(!e.fetch){var v={searchParams:"URLSearchParams"in e,iterable:"Symbol"in e&&"iterator"in Symbol,blob:"FileReader"in e&&"Blob"in e&&function(){try{return new Blob,!0}catch(e){return!1}}(),formData:"FormData"in e,arrayBuffer:"ArrayBuffer"in e};if(v.arrayBuffer)var b=["[object Int8Array]","[object Uint8Array]","[object Uint8ClampedArray]","[object Int16Array]","[object Uint16Array]","[object Int32Array]","[object Uint32Array]","[object Float32Array]","[object Float64Array]"],g=function(e){return e&&DataView.prototype.isPrototypeOf(e)},w=ArrayBuffer.isView||function(e){return e&&b.indexOf(Object.prototype.toString.call(e))>-1};o.prototype.append=function(e,r){e=t(e),r=n(r);var o=this.map[e];this.map[e]=o?o+","+r:r},o.prototype.delete=function(e){delete this.map[t(e)]},o.prototype.get=function(e){return e=t(e),this.has(e)?this.map[e]:null},o.prototype.has=function(e){return this.map.hasOwnProperty(t(e))},o.prototype.set=function(e,r){this.map[t(e)]=n(r)},o.prototype.forEach=function(e,t){for(var n in this.map)this.map.hasOwnProperty(n)&&e.call(t,this.map[n],n,this)},o.prototype.keys=function(){var e=[];return this.forEach(function(t,n){e.push(n)}),r(e)},o.prototype.values=function(){var e=[];return this.forEach(function(t){e.push(t)}),r(e)},o.prototype.entries=function(){var e=[];return this.forEach(function(t,n){e.push([n,t])}),r(e)},v.iterable&&(o.prototype[Symbol.iterator]=o.prototype.entries);var E=["DELETE","GET","HEAD","OPTIONS","POST","PUT"];d.prototype.clone=function(){return new d(this,{body:this._bodyInit})},f.call(d.prototype),f.call(y.prototype),y.prototype.clone=function(){return new y(this._bodyInit,{status:this.status,statusText:this.statusText,headers:new o(this.headers),url:this.url})},y.error=function(){var e=new y(null,{status:0,statusText:""});return e.type="error",e};var _=[301,302,303,307,308];y.redirect=function(e,t){if(-1===_.indexOf(t))throw new RangeError("Invalid status code");return new y(null,{status:t,headers:{location:e}})},e.Headers=o,e.Request=d,e.Response=y,e.fetch=function(e,t){return new Promise(function(n,r){var o=new d(e,t),a=new XMLHttpRequest;a.onload=function(){var e={status:a.status,statusText:a.statusText,headers:m(a.getAllResponseHeaders()||"")};e.url="responseURL"in a?a.responseURL:e.headers.get("X-Request-URL");var t="response"in a?a.response:a.responseText;n(new y(t,e))},a.onerror=function(){r(new TypeError("Network request failed"))},a.ontimeout=function(){r(new TypeError("Network request failed"))},a.open(o.method,o.url,!0),"include"===o.credentials&&(a.withCredentials=!0),"responseType"in a&&v.blob&&(a.responseType="blob"),o.headers.forEach(function(e,t){a.setRequestHeader(t,e)}),a.send("undefined"===typeof o._bodyInit?null:o._bodyInit)})},e.fetch.polyfill=!0}}("undefined"!==typeof self?self:this)},function(e,t,n){"use strict";Object.defineProperty(t,"__esModule",{value:!0});var r=n(0),o=n.n(r),a=n(33),i=n.n(a),l=n(41),u=(n.n(l),n(42)),c=n(79);i.a.render(o.a.createElement(u.a,null),document.getElementById("root")),Object(c.a)()},function(e,t,n){"use strict";function r(e){for(var t=arguments.length-1,n="https://reactjs.org/docs/error-decoder.html?invariant="+e,r=0;r<t;r++)n+="&args[]="+encodeURIComponent(arguments[r+1]);b(!1,"Minified React error #"+e+"; visit %s for the full message or use the non-minified dev environment for full errors and additional helpful warnings. ",n)}function o(e,t,n){this.props=e,this.context=t,this.refs=g,this.updater=n||R}function a(){}function i(e,t,n){this.props=e,this.context=t,this.refs=g,this.updater=n||R}function l(e,t,n){var r=void 0,o={},a=null,i=null;if(null!=t)for(r in void 0!==t.ref&&(i=t.ref),void 0!==t.key&&(a=""+t.key),t)L.call(t,r)&&!A.hasOwnProperty(r)&&(o[r]=t[r]);var l=arguments.length-2;if(1===l)o.children=n;else if(1<l){for(var u=Array(l),c=0;c<l;c++)u[c]=arguments[c+2];o.children=u}if(e&&e.defaultProps)for(r in l=e.defaultProps)void 0===o[r]&&(o[r]=l[r]);return{$$typeof:_,type:e,key:a,ref:i,props:o,_owner:I.current}}function u(e){return"object"===typeof e&&null!==e&&e.$$typeof===_}function c(e){var t={"=":"=0",":":"=2"};return"$"+(""+e).replace(/[=:]/g,function(e){return t[e]})}function s(e,t,n,r){if(M.length){var o=M.pop();return o.result=e,o.keyPrefix=t,o.func=n,o.context=r,o.count=0,o}return{result:e,keyPrefix:t,func:n,context:r,count:0}}function f(e){e.result=null,e.keyPrefix=null,e.func=null,e.context=null,e.count=0,10>M.length&&M.push(e)}function p(e,t,n,o){var a=typeof e;"undefined"!==a&&"boolean"!==a||(e=null);var i=!1;if(null===e)i=!0;else switch(a){case"string":case"number":i=!0;break;case"object":switch(e.$$typeof){case _:case x:i=!0}}if(i)return n(o,e,""===t?"."+d(e,0):t),1;if(i=0,t=""===t?".":t+":",Array.isArray(e))for(var l=0;l<e.length;l++){a=e[l];var u=t+d(a,l);i+=p(a,u,n,o)}else if(null===e||"undefined"===typeof e?u=null:(u=N&&e[N]||e["@@iterator"],u="function"===typeof u?u:null),"function"===typeof u)for(e=u.call(e),l=0;!(a=e.next()).done;)a=a.value,u=t+d(a,l++),i+=p(a,u,n,o);else"object"===a&&(n=""+e,r("31","[object Object]"===n?"object with keys {"+Object.keys(e).join(", ")+"}":n,""));return i}function d(e,t){return"object"===typeof e&&null!==e&&null!=e.key?c(e.key):t.toString(36)}function h(e,t){e.func.call(e.context,t,e.count++)}function m(e,t,n){var r=e.result,o=e.keyPrefix;e=e.func.call(e.context,t,e.count++),Array.isArray(e)?y(e,r,n,w.thatReturnsArgument):null!=e&&(u(e)&&(t=o+(!e.key||t&&t.key===e.key?"":(""+e.key).replace(F,"$&/")+"/")+n,e={$$typeof:_,type:e.type,key:t,ref:e.ref,props:e.props,_owner:e._owner}),r.push(e))}function y(e,t,n,r,o){var a="";null!=n&&(a=(""+n).replace(F,"$&/")+"/"),t=s(t,a,r,o),null==e||p(e,"",m,t),f(t)}var v=n(9),b=n(15),g=n(16),w=n(17),E="function"===typeof Symbol&&Symbol.for,_=E?Symbol.for("react.element"):60103,x=E?Symbol.for("react.portal"):60106,k=E?Symbol.for("react.fragment"):60107,C=E?Symbol.for("react.strict_mode"):60108,O=E?Symbol.for("react.profiler"):60114,T=E?Symbol.for("react.provider"):60109,P=E?Symbol.for("react.context"):60110,S=E?Symbol.for("react.async_mode"):60111,j=E?Symbol.for("react.forward_ref"):60112;E&&Symbol.for("react.timeout");var N="function"===typeof Symbol&&Symbol.iterator,R={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}};o.prototype.isReactComponent={},o.prototype.setState=function(e,t){"object"!==typeof e&&"function"!==typeof e&&null!=e&&r("85"),this.updater.enqueueSetState(this,e,t,"setState")},o.prototype.forceUpdate=function(e){this.updater.enqueueForceUpdate(this,e,"forceUpdate")},a.prototype=o.prototype;var U=i.prototype=new a;U.constructor=i,v(U,o.prototype),U.isPureReactComponent=!0;var I={current:null},L=Object.prototype.hasOwnProperty,A={key:!0,ref:!0,__self:!0,__source:!0},F=/\/+/g,M=[],D={Children:{map:function(e,t,n){if(null==e)return e;var r=[];return y(e,r,null,t,n),r},forEach:function(e,t,n){if(null==e)return e;t=s(null,null,t,n),null==e||p(e,"",h,t),f(t)},count:function(e){return null==e?0:p(e,"",w.thatReturnsNull,null)},toArray:function(e){var t=[];return y(e,t,null,w.thatReturnsArgument),t},only:function(e){return u(e)||r("143"),e}},createRef:function(){return{current:null}},Component:o,PureComponent:i,createContext:function(e,t){return void 0===t&&(t=null),e={$$typeof:P,_calculateChangedBits:t,_defaultValue:e,_currentValue:e,_currentValue2:e,_changedBits:0,_changedBits2:0,Provider:null,Consumer:null},e.Provider={$$typeof:T,_context:e},e.Consumer=e},forwardRef:function(e){return{$$typeof:j,render:e}},Fragment:k,StrictMode:C,unstable_AsyncMode:S,unstable_Profiler:O,createElement:l,cloneElement:function(e,t,n){(null===e||void 0===e)&&r("267",e);var o=void 0,a=v({},e.props),i=e.key,l=e.ref,u=e._owner;if(null!=t){void 0!==t.ref&&(l=t.ref,u=I.current),void 0!==t.key&&(i=""+t.key);var c=void 0;e.type&&e.type.defaultProps&&(c=e.type.defaultProps);for(o in t)L.call(t,o)&&!A.hasOwnProperty(o)&&(a[o]=void 0===t[o]&&void 0!==c?c[o]:t[o])}if(1===(o=arguments.length-2))a.children=n;else if(1<o){c=Array(o);for(var s=0;s<o;s++)c[s]=arguments[s+2];a.children=c}return{$$typeof:_,type:e.type,key:i,ref:l,props:a,_owner:u}},createFactory:function(e){var t=l.bind(null,e);return t.type=e,t},isValidElement:u,version:"16.4.2",__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED:{ReactCurrentOwner:I,assign:v}},z={default:D},B=z&&D||z;e.exports=B.default?B.default:B},function(e,t,n){"use strict";function r(){if("undefined"!==typeof __REACT_DEVTOOLS_GLOBAL_HOOK__&&"function"===typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE)try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(r)}catch(e){console.error(e)}}r(),e.exports=n(34)},function(e,t,n){"use strict";function r(e){for(var t=arguments.length-1,n="https://reactjs.org/docs/error-decoder.html?invariant="+e,r=0;r<t;r++)n+="&args[]="+encodeURIComponent(arguments[r+1]);Ir(!1,"Minified React error #"+e+"; visit %s for the full message or use the non-minified dev environment for full errors and additional helpful warnings. ",n)}function o(e,t,n,r,o,a,i,l,u){this._hasCaughtError=!1,this._caughtError=null;var c=Array.prototype.slice.call(arguments,3);try{t.apply(n,c)}catch(e){this._caughtError=e,this._hasCaughtError=!0}}function a(){if(Hr._hasRethrowError){var e=Hr._rethrowError;throw Hr._rethrowError=null,Hr._hasRethrowError=!1,e}}function i(){if(Wr)for(var e in qr){var t=qr[e],n=Wr.indexOf(e);if(-1<n||r("96",e),!$r[n]){t.extractEvents||r("97",e),$r[n]=t,n=t.eventTypes;for(var o in n){var a=void 0,i=n[o],u=t,c=o;Yr.hasOwnProperty(c)&&r("99",c),Yr[c]=i;var s=i.phasedRegistrationNames;if(s){for(a in s)s.hasOwnProperty(a)&&l(s[a],u,c);a=!0}else i.registrationName?(l(i.registrationName,u,c),a=!0):a=!1;a||r("98",o,e)}}}}function l(e,t,n){Kr[e]&&r("100",e),Kr[e]=t,Qr[e]=t.eventTypes[n].dependencies}function u(e){Wr&&r("101"),Wr=Array.prototype.slice.call(e),i()}function c(e){var t,n=!1;for(t in e)if(e.hasOwnProperty(t)){var o=e[t];qr.hasOwnProperty(t)&&qr[t]===o||(qr[t]&&r("102",t),qr[t]=o,n=!0)}n&&i()}function s(e,t,n,r){t=e.type||"unknown-event",e.currentTarget=Zr(r),Hr.invokeGuardedCallbackAndCatchFirstError(t,n,void 0,e),e.currentTarget=null}function f(e,t){return null==t&&r("30"),null==e?t:Array.isArray(e)?Array.isArray(t)?(e.push.apply(e,t),e):(e.push(t),e):Array.isArray(t)?[e].concat(t):[e,t]}function p(e,t,n){Array.isArray(e)?e.forEach(t,n):e&&t.call(n,e)}function d(e,t){if(e){var n=e._dispatchListeners,r=e._dispatchInstances;if(Array.isArray(n))for(var o=0;o<n.length&&!e.isPropagationStopped();o++)s(e,t,n[o],r[o]);else n&&s(e,t,n,r);e._dispatchListeners=null,e._dispatchInstances=null,e.isPersistent()||e.constructor.release(e)}}function h(e){return d(e,!0)}function m(e){return d(e,!1)}function y(e,t){var n=e.stateNode;if(!n)return null;var o=Xr(n);if(!o)return null;n=o[t];e:switch(t){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":(o=!o.disabled)||(e=e.type,o=!("button"===e||"input"===e||"select"===e||"textarea"===e)),e=!o;break e;default:e=!1}return e?null:(n&&"function"!==typeof n&&r("231",t,typeof n),n)}function v(e,t){null!==e&&(eo=f(eo,e)),e=eo,eo=null,e&&(t?p(e,h):p(e,m),eo&&r("95"),Hr.rethrowCaughtError())}function b(e,t,n,r){for(var o=null,a=0;a<$r.length;a++){var i=$r[a];i&&(i=i.extractEvents(e,t,n,r))&&(o=f(o,i))}v(o,!1)}function g(e){if(e[oo])return e[oo];for(;!e[oo];){if(!e.parentNode)return null;e=e.parentNode}return e=e[oo],5===e.tag||6===e.tag?e:null}function w(e){if(5===e.tag||6===e.tag)return e.stateNode;r("33")}function E(e){return e[ao]||null}function _(e){do{e=e.return}while(e&&5!==e.tag);return e||null}function x(e,t,n){for(var r=[];e;)r.push(e),e=_(e);for(e=r.length;0<e--;)t(r[e],"captured",n);for(e=0;e<r.length;e++)t(r[e],"bubbled",n)}function k(e,t,n){(t=y(e,n.dispatchConfig.phasedRegistrationNames[t]))&&(n._dispatchListeners=f(n._dispatchListeners,t),n._dispatchInstances=f(n._dispatchInstances,e))}function C(e){e&&e.dispatchConfig.phasedRegistrationNames&&x(e._targetInst,k,e)}function O(e){if(e&&e.dispatchConfig.phasedRegistrationNames){var t=e._targetInst;t=t?_(t):null,x(t,k,e)}}function T(e,t,n){e&&n&&n.dispatchConfig.registrationName&&(t=y(e,n.dispatchConfig.registrationName))&&(n._dispatchListeners=f(n._dispatchListeners,t),n._dispatchInstances=f(n._dispatchInstances,e))}function P(e){e&&e.dispatchConfig.registrationName&&T(e._targetInst,null,e)}function S(e){p(e,C)}function j(e,t,n,r){if(n&&r)e:{for(var o=n,a=r,i=0,l=o;l;l=_(l))i++;l=0;for(var u=a;u;u=_(u))l++;for(;0<i-l;)o=_(o),i--;for(;0<l-i;)a=_(a),l--;for(;i--;){if(o===a||o===a.alternate)break e;o=_(o),a=_(a)}o=null}else o=null;for(a=o,o=[];n&&n!==a&&(null===(i=n.alternate)||i!==a);)o.push(n),n=_(n);for(n=[];r&&r!==a&&(null===(i=r.alternate)||i!==a);)n.push(r),r=_(r);for(r=0;r<o.length;r++)T(o[r],"bubbled",e);for(e=n.length;0<e--;)T(n[e],"captured",t)}function N(e,t){var n={};return n[e.toLowerCase()]=t.toLowerCase(),n["Webkit"+e]="webkit"+t,n["Moz"+e]="moz"+t,n["ms"+e]="MS"+t,n["O"+e]="o"+t.toLowerCase(),n}function R(e){if(co[e])return co[e];if(!uo[e])return e;var t,n=uo[e];for(t in n)if(n.hasOwnProperty(t)&&t in so)return co[e]=n[t];return e}function U(){return!vo&&Ar.canUseDOM&&(vo="textContent"in document.documentElement?"textContent":"innerText"),vo}function I(){if(bo._fallbackText)return bo._fallbackText;var e,t,n=bo._startText,r=n.length,o=L(),a=o.length;for(e=0;e<r&&n[e]===o[e];e++);var i=r-e;for(t=1;t<=i&&n[r-t]===o[a-t];t++);return bo._fallbackText=o.slice(e,1<t?1-t:void 0),bo._fallbackText}function L(){return"value"in bo._root?bo._root.value:bo._root[U()]}function A(e,t,n,r){this.dispatchConfig=e,this._targetInst=t,this.nativeEvent=n,e=this.constructor.Interface;for(var o in e)e.hasOwnProperty(o)&&((t=e[o])?this[o]=t(n):"target"===o?this.target=r:this[o]=n[o]);return this.isDefaultPrevented=(null!=n.defaultPrevented?n.defaultPrevented:!1===n.returnValue)?Mr.thatReturnsTrue:Mr.thatReturnsFalse,this.isPropagationStopped=Mr.thatReturnsFalse,this}function F(e,t,n,r){if(this.eventPool.length){var o=this.eventPool.pop();return this.call(o,e,t,n,r),o}return new this(e,t,n,r)}function M(e){e instanceof this||r("223"),e.destructor(),10>this.eventPool.length&&this.eventPool.push(e)}function D(e){e.eventPool=[],e.getPooled=F,e.release=M}function z(e,t){switch(e){case"keyup":return-1!==xo.indexOf(t.keyCode);case"keydown":return 229!==t.keyCode;case"keypress":case"mousedown":case"blur":return!0;default:return!1}}function B(e){return e=e.detail,"object"===typeof e&&"data"in e?e.data:null}function V(e,t){switch(e){case"compositionend":return B(t);case"keypress":return 32!==t.which?null:(jo=!0,Po);case"textInput":return e=t.data,e===Po&&jo?null:e;default:return null}}function H(e,t){if(No)return"compositionend"===e||!ko&&z(e,t)?(e=I(),bo._root=null,bo._startText=null,bo._fallbackText=null,No=!1,e):null;switch(e){case"paste":return null;case"keypress":if(!(t.ctrlKey||t.altKey||t.metaKey)||t.ctrlKey&&t.altKey){if(t.char&&1<t.char.length)return t.char;if(t.which)return String.fromCharCode(t.which)}return null;case"compositionend":return To?null:t.data;default:return null}}function W(e){if(e=Jr(e)){Uo&&"function"===typeof Uo.restoreControlledState||r("194");var t=Xr(e.stateNode);Uo.restoreControlledState(e.stateNode,e.type,t)}}function q(e){Lo?Ao?Ao.push(e):Ao=[e]:Lo=e}function $(){return null!==Lo||null!==Ao}function Y(){if(Lo){var e=Lo,t=Ao;if(Ao=Lo=null,W(e),t)for(e=0;e<t.length;e++)W(t[e])}}function K(e,t){return e(t)}function Q(e,t,n){return e(t,n)}function G(){}function X(e,t){if(Mo)return e(t);Mo=!0;try{return K(e,t)}finally{Mo=!1,$()&&(G(),Y())}}function J(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return"input"===t?!!Do[e.type]:"textarea"===t}function Z(e){return e=e.target||e.srcElement||window,e.correspondingUseElement&&(e=e.correspondingUseElement),3===e.nodeType?e.parentNode:e}function ee(e,t){return!(!Ar.canUseDOM||t&&!("addEventListener"in document))&&(e="on"+e,t=e in document,t||(t=document.createElement("div"),t.setAttribute(e,"return;"),t="function"===typeof t[e]),t)}function te(e){var t=e.type;return(e=e.nodeName)&&"input"===e.toLowerCase()&&("checkbox"===t||"radio"===t)}function ne(e){var t=te(e)?"checked":"value",n=Object.getOwnPropertyDescriptor(e.constructor.prototype,t),r=""+e[t];if(!e.hasOwnProperty(t)&&"undefined"!==typeof n&&"function"===typeof n.get&&"function"===typeof n.set){var o=n.get,a=n.set;return Object.defineProperty(e,t,{configurable:!0,get:function(){return o.call(this)},set:function(e){r=""+e,a.call(this,e)}}),Object.defineProperty(e,t,{enumerable:n.enumerable}),{getValue:function(){return r},setValue:function(e){r=""+e},stopTracking:function(){e._valueTracker=null,delete e[t]}}}}function re(e){e._valueTracker||(e._valueTracker=ne(e))}function oe(e){if(!e)return!1;var t=e._valueTracker;if(!t)return!0;var n=t.getValue(),r="";return e&&(r=te(e)?e.checked?"true":"false":e.value),(e=r)!==n&&(t.setValue(e),!0)}function ae(e){return null===e||"undefined"===typeof e?null:(e=Jo&&e[Jo]||e["@@iterator"],"function"===typeof e?e:null)}function ie(e){var t=e.type;if("function"===typeof t)return t.displayName||t.name;if("string"===typeof t)return t;switch(t){case Qo:return"AsyncMode";case Ko:return"Context.Consumer";case Wo:return"ReactFragment";case Ho:return"ReactPortal";case $o:return"Profiler("+e.pendingProps.id+")";case Yo:return"Context.Provider";case qo:return"StrictMode";case Xo:return"Timeout"}if("object"===typeof t&&null!==t)switch(t.$$typeof){case Go:return e=t.render.displayName||t.render.name||"",""!==e?"ForwardRef("+e+")":"ForwardRef"}return null}function le(e){var t="";do{e:switch(e.tag){case 0:case 1:case 2:case 5:var n=e._debugOwner,r=e._debugSource,o=ie(e),a=null;n&&(a=ie(n)),n=r,o="\n    in "+(o||"Unknown")+(n?" (at "+n.fileName.replace(/^.*[\\\/]/,"")+":"+n.lineNumber+")":a?" (created by "+a+")":"");break e;default:o=""}t+=o,e=e.return}while(e);return t}function ue(e){return!!ea.call(na,e)||!ea.call(ta,e)&&(Zo.test(e)?na[e]=!0:(ta[e]=!0,!1))}function ce(e,t,n,r){if(null!==n&&0===n.type)return!1;switch(typeof t){case"function":case"symbol":return!0;case"boolean":return!r&&(null!==n?!n.acceptsBooleans:"data-"!==(e=e.toLowerCase().slice(0,5))&&"aria-"!==e);default:return!1}}function se(e,t,n,r){if(null===t||"undefined"===typeof t||ce(e,t,n,r))return!0;if(r)return!1;if(null!==n)switch(n.type){case 3:return!t;case 4:return!1===t;case 5:return isNaN(t);case 6:return isNaN(t)||1>t}return!1}function fe(e,t,n,r,o){this.acceptsBooleans=2===t||3===t||4===t,this.attributeName=r,this.attributeNamespace=o,this.mustUseProperty=n,this.propertyName=e,this.type=t}function pe(e){return e[1].toUpperCase()}function de(e,t,n,r){var o=ra.hasOwnProperty(t)?ra[t]:null;(null!==o?0===o.type:!r&&(2<t.length&&("o"===t[0]||"O"===t[0])&&("n"===t[1]||"N"===t[1])))||(se(t,n,o,r)&&(n=null),r||null===o?ue(t)&&(null===n?e.removeAttribute(t):e.setAttribute(t,""+n)):o.mustUseProperty?e[o.propertyName]=null===n?3!==o.type&&"":n:(t=o.attributeName,r=o.attributeNamespace,null===n?e.removeAttribute(t):(o=o.type,n=3===o||4===o&&!0===n?"":""+n,r?e.setAttributeNS(r,t,n):e.setAttribute(t,n))))}function he(e,t){var n=t.checked;return Fr({},t,{defaultChecked:void 0,defaultValue:void 0,value:void 0,checked:null!=n?n:e._wrapperState.initialChecked})}function me(e,t){var n=null==t.defaultValue?"":t.defaultValue,r=null!=t.checked?t.checked:t.defaultChecked;n=we(null!=t.value?t.value:n),e._wrapperState={initialChecked:r,initialValue:n,controlled:"checkbox"===t.type||"radio"===t.type?null!=t.checked:null!=t.value}}function ye(e,t){null!=(t=t.checked)&&de(e,"checked",t,!1)}function ve(e,t){ye(e,t);var n=we(t.value);null!=n&&("number"===t.type?(0===n&&""===e.value||e.value!=n)&&(e.value=""+n):e.value!==""+n&&(e.value=""+n)),t.hasOwnProperty("value")?ge(e,t.type,n):t.hasOwnProperty("defaultValue")&&ge(e,t.type,we(t.defaultValue)),null==t.checked&&null!=t.defaultChecked&&(e.defaultChecked=!!t.defaultChecked)}function be(e,t,n){if(t.hasOwnProperty("value")||t.hasOwnProperty("defaultValue")){t=""+e._wrapperState.initialValue;var r=e.value;n||t===r||(e.value=t),e.defaultValue=t}n=e.name,""!==n&&(e.name=""),e.defaultChecked=!e.defaultChecked,e.defaultChecked=!e.defaultChecked,""!==n&&(e.name=n)}function ge(e,t,n){"number"===t&&e.ownerDocument.activeElement===e||(null==n?e.defaultValue=""+e._wrapperState.initialValue:e.defaultValue!==""+n&&(e.defaultValue=""+n))}function we(e){switch(typeof e){case"boolean":case"number":case"object":case"string":case"undefined":return e;default:return""}}function Ee(e,t,n){return e=A.getPooled(aa.change,e,t,n),e.type="change",q(n),S(e),e}function _e(e){v(e,!1)}function xe(e){if(oe(w(e)))return e}function ke(e,t){if("change"===e)return t}function Ce(){ia&&(ia.detachEvent("onpropertychange",Oe),la=ia=null)}function Oe(e){"value"===e.propertyName&&xe(la)&&(e=Ee(la,e,Z(e)),X(_e,e))}function Te(e,t,n){"focus"===e?(Ce(),ia=t,la=n,ia.attachEvent("onpropertychange",Oe)):"blur"===e&&Ce()}function Pe(e){if("selectionchange"===e||"keyup"===e||"keydown"===e)return xe(la)}function Se(e,t){if("click"===e)return xe(t)}function je(e,t){if("input"===e||"change"===e)return xe(t)}function Ne(e){var t=this.nativeEvent;return t.getModifierState?t.getModifierState(e):!!(e=fa[e])&&!!t[e]}function Re(){return Ne}function Ue(e){var t=e;if(e.alternate)for(;t.return;)t=t.return;else{if(0!==(2&t.effectTag))return 1;for(;t.return;)if(t=t.return,0!==(2&t.effectTag))return 1}return 3===t.tag?2:3}function Ie(e){2!==Ue(e)&&r("188")}function Le(e){var t=e.alternate;if(!t)return t=Ue(e),3===t&&r("188"),1===t?null:e;for(var n=e,o=t;;){var a=n.return,i=a?a.alternate:null;if(!a||!i)break;if(a.child===i.child){for(var l=a.child;l;){if(l===n)return Ie(a),e;if(l===o)return Ie(a),t;l=l.sibling}r("188")}if(n.return!==o.return)n=a,o=i;else{l=!1;for(var u=a.child;u;){if(u===n){l=!0,n=a,o=i;break}if(u===o){l=!0,o=a,n=i;break}u=u.sibling}if(!l){for(u=i.child;u;){if(u===n){l=!0,n=i,o=a;break}if(u===o){l=!0,o=i,n=a;break}u=u.sibling}l||r("189")}}n.alternate!==o&&r("190")}return 3!==n.tag&&r("188"),n.stateNode.current===n?e:t}function Ae(e){if(!(e=Le(e)))return null;for(var t=e;;){if(5===t.tag||6===t.tag)return t;if(t.child)t.child.return=t,t=t.child;else{if(t===e)break;for(;!t.sibling;){if(!t.return||t.return===e)return null;t=t.return}t.sibling.return=t.return,t=t.sibling}}return null}function Fe(e){if(!(e=Le(e)))return null;for(var t=e;;){if(5===t.tag||6===t.tag)return t;if(t.child&&4!==t.tag)t.child.return=t,t=t.child;else{if(t===e)break;for(;!t.sibling;){if(!t.return||t.return===e)return null;t=t.return}t.sibling.return=t.return,t=t.sibling}}return null}function Me(e){var t=e.keyCode;return"charCode"in e?0===(e=e.charCode)&&13===t&&(e=13):e=t,10===e&&(e=13),32<=e||13===e?e:0}function De(e,t){var n=e[0];e=e[1];var r="on"+(e[0].toUpperCase()+e.slice(1));t={phasedRegistrationNames:{bubbled:r,captured:r+"Capture"},dependencies:[n],isInteractive:t},Ta[e]=t,Pa[n]=t}function ze(e){var t=e.targetInst;do{if(!t){e.ancestors.push(t);break}var n;for(n=t;n.return;)n=n.return;if(!(n=3!==n.tag?null:n.stateNode.containerInfo))break;e.ancestors.push(t),t=g(n)}while(t);for(n=0;n<e.ancestors.length;n++)t=e.ancestors[n],b(e.topLevelType,t,e.nativeEvent,Z(e.nativeEvent))}function Be(e){Ra=!!e}function Ve(e,t){if(!t)return null;var n=(ja(e)?We:qe).bind(null,e);t.addEventListener(e,n,!1)}function He(e,t){if(!t)return null;var n=(ja(e)?We:qe).bind(null,e);t.addEventListener(e,n,!0)}function We(e,t){Q(qe,e,t)}function qe(e,t){if(Ra){var n=Z(t);if(n=g(n),null===n||"number"!==typeof n.tag||2===Ue(n)||(n=null),Na.length){var r=Na.pop();r.topLevelType=e,r.nativeEvent=t,r.targetInst=n,e=r}else e={topLevelType:e,nativeEvent:t,targetInst:n,ancestors:[]};try{X(ze,e)}finally{e.topLevelType=null,e.nativeEvent=null,e.targetInst=null,e.ancestors.length=0,10>Na.length&&Na.push(e)}}}function $e(e){return Object.prototype.hasOwnProperty.call(e,Aa)||(e[Aa]=La++,Ia[e[Aa]]={}),Ia[e[Aa]]}function Ye(e){for(;e&&e.firstChild;)e=e.firstChild;return e}function Ke(e,t){var n=Ye(e);e=0;for(var r;n;){if(3===n.nodeType){if(r=e+n.textContent.length,e<=t&&r>=t)return{node:n,offset:t-e};e=r}e:{for(;n;){if(n.nextSibling){n=n.nextSibling;break e}n=n.parentNode}n=void 0}n=Ye(n)}}function Qe(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return t&&("input"===t&&("text"===e.type||"search"===e.type||"tel"===e.type||"url"===e.type||"password"===e.type)||"textarea"===t||"true"===e.contentEditable)}function Ge(e,t){if(Va||null==Da||Da!==Dr())return null;var n=Da;return"selectionStart"in n&&Qe(n)?n={start:n.selectionStart,end:n.selectionEnd}:window.getSelection?(n=window.getSelection(),n={anchorNode:n.anchorNode,anchorOffset:n.anchorOffset,focusNode:n.focusNode,focusOffset:n.focusOffset}):n=void 0,Ba&&zr(Ba,n)?null:(Ba=n,e=A.getPooled(Ma.select,za,e,t),e.type="select",e.target=Da,S(e),e)}function Xe(e){var t="";return Lr.Children.forEach(e,function(e){null==e||"string"!==typeof e&&"number"!==typeof e||(t+=e)}),t}function Je(e,t){return e=Fr({children:void 0},t),(t=Xe(t.children))&&(e.children=t),e}function Ze(e,t,n,r){if(e=e.options,t){t={};for(var o=0;o<n.length;o++)t["$"+n[o]]=!0;for(n=0;n<e.length;n++)o=t.hasOwnProperty("$"+e[n].value),e[n].selected!==o&&(e[n].selected=o),o&&r&&(e[n].defaultSelected=!0)}else{for(n=""+n,t=null,o=0;o<e.length;o++){if(e[o].value===n)return e[o].selected=!0,void(r&&(e[o].defaultSelected=!0));null!==t||e[o].disabled||(t=e[o])}null!==t&&(t.selected=!0)}}function et(e,t){var n=t.value;e._wrapperState={initialValue:null!=n?n:t.defaultValue,wasMultiple:!!t.multiple}}function tt(e,t){return null!=t.dangerouslySetInnerHTML&&r("91"),Fr({},t,{value:void 0,defaultValue:void 0,children:""+e._wrapperState.initialValue})}function nt(e,t){var n=t.value;null==n&&(n=t.defaultValue,t=t.children,null!=t&&(null!=n&&r("92"),Array.isArray(t)&&(1>=t.length||r("93"),t=t[0]),n=""+t),null==n&&(n="")),e._wrapperState={initialValue:""+n}}function rt(e,t){var n=t.value;null!=n&&(n=""+n,n!==e.value&&(e.value=n),null==t.defaultValue&&(e.defaultValue=n)),null!=t.defaultValue&&(e.defaultValue=t.defaultValue)}function ot(e){var t=e.textContent;t===e._wrapperState.initialValue&&(e.value=t)}function at(e){switch(e){case"svg":return"http://www.w3.org/2000/svg";case"math":return"http://www.w3.org/1998/Math/MathML";default:return"http://www.w3.org/1999/xhtml"}}function it(e,t){return null==e||"http://www.w3.org/1999/xhtml"===e?at(t):"http://www.w3.org/2000/svg"===e&&"foreignObject"===t?"http://www.w3.org/1999/xhtml":e}function lt(e,t){if(t){var n=e.firstChild;if(n&&n===e.lastChild&&3===n.nodeType)return void(n.nodeValue=t)}e.textContent=t}function ut(e,t){e=e.style;for(var n in t)if(t.hasOwnProperty(n)){var r=0===n.indexOf("--"),o=n,a=t[n];o=null==a||"boolean"===typeof a||""===a?"":r||"number"!==typeof a||0===a||mi.hasOwnProperty(o)&&mi[o]?(""+a).trim():a+"px","float"===n&&(n="cssFloat"),r?e.setProperty(n,o):e[n]=o}}function ct(e,t,n){t&&(vi[e]&&(null!=t.children||null!=t.dangerouslySetInnerHTML)&&r("137",e,n()),null!=t.dangerouslySetInnerHTML&&(null!=t.children&&r("60"),"object"===typeof t.dangerouslySetInnerHTML&&"__html"in t.dangerouslySetInnerHTML||r("61")),null!=t.style&&"object"!==typeof t.style&&r("62",n()))}function st(e,t){if(-1===e.indexOf("-"))return"string"===typeof t.is;switch(e){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}function ft(e,t){e=9===e.nodeType||11===e.nodeType?e:e.ownerDocument;var n=$e(e);t=Qr[t];for(var r=0;r<t.length;r++){var o=t[r];if(!n.hasOwnProperty(o)||!n[o]){switch(o){case"scroll":He("scroll",e);break;case"focus":case"blur":He("focus",e),He("blur",e),n.blur=!0,n.focus=!0;break;case"cancel":case"close":ee(o,!0)&&He(o,e);break;case"invalid":case"submit":case"reset":break;default:-1===yo.indexOf(o)&&Ve(o,e)}n[o]=!0}}}function pt(e,t,n,r){return n=9===n.nodeType?n:n.ownerDocument,r===pi.html&&(r=at(e)),r===pi.html?"script"===e?(e=n.createElement("div"),e.innerHTML="<script><\/script>",e=e.removeChild(e.firstChild)):e="string"===typeof t.is?n.createElement(e,{is:t.is}):n.createElement(e):e=n.createElementNS(r,e),e}function dt(e,t){return(9===t.nodeType?t:t.ownerDocument).createTextNode(e)}function ht(e,t,n,r){var o=st(t,n);switch(t){case"iframe":case"object":Ve("load",e);var a=n;break;case"video":case"audio":for(a=0;a<yo.length;a++)Ve(yo[a],e);a=n;break;case"source":Ve("error",e),a=n;break;case"img":case"image":case"link":Ve("error",e),Ve("load",e),a=n;break;case"form":Ve("reset",e),Ve("submit",e),a=n;break;case"details":Ve("toggle",e),a=n;break;case"input":me(e,n),a=he(e,n),Ve("invalid",e),ft(r,"onChange");break;case"option":a=Je(e,n);break;case"select":et(e,n),a=Fr({},n,{value:void 0}),Ve("invalid",e),ft(r,"onChange");break;case"textarea":nt(e,n),a=tt(e,n),Ve("invalid",e),ft(r,"onChange");break;default:a=n}ct(t,a,bi);var i,l=a;for(i in l)if(l.hasOwnProperty(i)){var u=l[i];"style"===i?ut(e,u,bi):"dangerouslySetInnerHTML"===i?null!=(u=u?u.__html:void 0)&&hi(e,u):"children"===i?"string"===typeof u?("textarea"!==t||""!==u)&&lt(e,u):"number"===typeof u&&lt(e,""+u):"suppressContentEditableWarning"!==i&&"suppressHydrationWarning"!==i&&"autoFocus"!==i&&(Kr.hasOwnProperty(i)?null!=u&&ft(r,i):null!=u&&de(e,i,u,o))}switch(t){case"input":re(e),be(e,n,!1);break;case"textarea":re(e),ot(e,n);break;case"option":null!=n.value&&e.setAttribute("value",n.value);break;case"select":e.multiple=!!n.multiple,t=n.value,null!=t?Ze(e,!!n.multiple,t,!1):null!=n.defaultValue&&Ze(e,!!n.multiple,n.defaultValue,!0);break;default:"function"===typeof a.onClick&&(e.onclick=Mr)}}function mt(e,t,n,r,o){var a=null;switch(t){case"input":n=he(e,n),r=he(e,r),a=[];break;case"option":n=Je(e,n),r=Je(e,r),a=[];break;case"select":n=Fr({},n,{value:void 0}),r=Fr({},r,{value:void 0}),a=[];break;case"textarea":n=tt(e,n),r=tt(e,r),a=[];break;default:"function"!==typeof n.onClick&&"function"===typeof r.onClick&&(e.onclick=Mr)}ct(t,r,bi),t=e=void 0;var i=null;for(e in n)if(!r.hasOwnProperty(e)&&n.hasOwnProperty(e)&&null!=n[e])if("style"===e){var l=n[e];for(t in l)l.hasOwnProperty(t)&&(i||(i={}),i[t]="")}else"dangerouslySetInnerHTML"!==e&&"children"!==e&&"suppressContentEditableWarning"!==e&&"suppressHydrationWarning"!==e&&"autoFocus"!==e&&(Kr.hasOwnProperty(e)?a||(a=[]):(a=a||[]).push(e,null));for(e in r){var u=r[e];if(l=null!=n?n[e]:void 0,r.hasOwnProperty(e)&&u!==l&&(null!=u||null!=l))if("style"===e)if(l){for(t in l)!l.hasOwnProperty(t)||u&&u.hasOwnProperty(t)||(i||(i={}),i[t]="");for(t in u)u.hasOwnProperty(t)&&l[t]!==u[t]&&(i||(i={}),i[t]=u[t])}else i||(a||(a=[]),a.push(e,i)),i=u;else"dangerouslySetInnerHTML"===e?(u=u?u.__html:void 0,l=l?l.__html:void 0,null!=u&&l!==u&&(a=a||[]).push(e,""+u)):"children"===e?l===u||"string"!==typeof u&&"number"!==typeof u||(a=a||[]).push(e,""+u):"suppressContentEditableWarning"!==e&&"suppressHydrationWarning"!==e&&(Kr.hasOwnProperty(e)?(null!=u&&ft(o,e),a||l===u||(a=[])):(a=a||[]).push(e,u))}return i&&(a=a||[]).push("style",i),a}function yt(e,t,n,r,o){"input"===n&&"radio"===o.type&&null!=o.name&&ye(e,o),st(n,r),r=st(n,o);for(var a=0;a<t.length;a+=2){var i=t[a],l=t[a+1];"style"===i?ut(e,l,bi):"dangerouslySetInnerHTML"===i?hi(e,l):"children"===i?lt(e,l):de(e,i,l,r)}switch(n){case"input":ve(e,o);break;case"textarea":rt(e,o);break;case"select":e._wrapperState.initialValue=void 0,t=e._wrapperState.wasMultiple,e._wrapperState.wasMultiple=!!o.multiple,n=o.value,null!=n?Ze(e,!!o.multiple,n,!1):t!==!!o.multiple&&(null!=o.defaultValue?Ze(e,!!o.multiple,o.defaultValue,!0):Ze(e,!!o.multiple,o.multiple?[]:"",!1))}}function vt(e,t,n,r,o){switch(t){case"iframe":case"object":Ve("load",e);break;case"video":case"audio":for(r=0;r<yo.length;r++)Ve(yo[r],e);break;case"source":Ve("error",e);break;case"img":case"image":case"link":Ve("error",e),Ve("load",e);break;case"form":Ve("reset",e),Ve("submit",e);break;case"details":Ve("toggle",e);break;case"input":me(e,n),Ve("invalid",e),ft(o,"onChange");break;case"select":et(e,n),Ve("invalid",e),ft(o,"onChange");break;case"textarea":nt(e,n),Ve("invalid",e),ft(o,"onChange")}ct(t,n,bi),r=null;for(var a in n)if(n.hasOwnProperty(a)){var i=n[a];"children"===a?"string"===typeof i?e.textContent!==i&&(r=["children",i]):"number"===typeof i&&e.textContent!==""+i&&(r=["children",""+i]):Kr.hasOwnProperty(a)&&null!=i&&ft(o,a)}switch(t){case"input":re(e),be(e,n,!0);break;case"textarea":re(e),ot(e,n);break;case"select":case"option":break;default:"function"===typeof n.onClick&&(e.onclick=Mr)}return r}function bt(e,t){return e.nodeValue!==t}function gt(e,t){switch(e){case"button":case"input":case"select":case"textarea":return!!t.autoFocus}return!1}function wt(e,t){return"textarea"===e||"string"===typeof t.children||"number"===typeof t.children||"object"===typeof t.dangerouslySetInnerHTML&&null!==t.dangerouslySetInnerHTML&&"string"===typeof t.dangerouslySetInnerHTML.__html}function Et(e){for(e=e.nextSibling;e&&1!==e.nodeType&&3!==e.nodeType;)e=e.nextSibling;return e}function _t(e){for(e=e.firstChild;e&&1!==e.nodeType&&3!==e.nodeType;)e=e.nextSibling;return e}function xt(e){return{current:e}}function kt(e){0>Oi||(e.current=Ci[Oi],Ci[Oi]=null,Oi--)}function Ct(e,t){Oi++,Ci[Oi]=e.current,e.current=t}function Ot(e){return Pt(e)?Si:Ti.current}function Tt(e,t){var n=e.type.contextTypes;if(!n)return Vr;var r=e.stateNode;if(r&&r.__reactInternalMemoizedUnmaskedChildContext===t)return r.__reactInternalMemoizedMaskedChildContext;var o,a={};for(o in n)a[o]=t[o];return r&&(e=e.stateNode,e.__reactInternalMemoizedUnmaskedChildContext=t,e.__reactInternalMemoizedMaskedChildContext=a),a}function Pt(e){return 2===e.tag&&null!=e.type.childContextTypes}function St(e){Pt(e)&&(kt(Pi,e),kt(Ti,e))}function jt(e){kt(Pi,e),kt(Ti,e)}function Nt(e,t,n){Ti.current!==Vr&&r("168"),Ct(Ti,t,e),Ct(Pi,n,e)}function Rt(e,t){var n=e.stateNode,o=e.type.childContextTypes;if("function"!==typeof n.getChildContext)return t;n=n.getChildContext();for(var a in n)a in o||r("108",ie(e)||"Unknown",a);return Fr({},t,n)}function Ut(e){if(!Pt(e))return!1;var t=e.stateNode;return t=t&&t.__reactInternalMemoizedMergedChildContext||Vr,Si=Ti.current,Ct(Ti,t,e),Ct(Pi,Pi.current,e),!0}function It(e,t){var n=e.stateNode;if(n||r("169"),t){var o=Rt(e,Si);n.__reactInternalMemoizedMergedChildContext=o,kt(Pi,e),kt(Ti,e),Ct(Ti,o,e)}else kt(Pi,e);Ct(Pi,t,e)}function Lt(e,t,n,r){this.tag=e,this.key=n,this.sibling=this.child=this.return=this.stateNode=this.type=null,this.index=0,this.ref=null,this.pendingProps=t,this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=r,this.effectTag=0,this.lastEffect=this.firstEffect=this.nextEffect=null,this.expirationTime=0,this.alternate=null}function At(e,t,n){var r=e.alternate;return null===r?(r=new Lt(e.tag,t,e.key,e.mode),r.type=e.type,r.stateNode=e.stateNode,r.alternate=e,e.alternate=r):(r.pendingProps=t,r.effectTag=0,r.nextEffect=null,r.firstEffect=null,r.lastEffect=null),r.expirationTime=n,r.child=e.child,r.memoizedProps=e.memoizedProps,r.memoizedState=e.memoizedState,r.updateQueue=e.updateQueue,r.sibling=e.sibling,r.index=e.index,r.ref=e.ref,r}function Ft(e,t,n){var o=e.type,a=e.key;if(e=e.props,"function"===typeof o)var i=o.prototype&&o.prototype.isReactComponent?2:0;else if("string"===typeof o)i=5;else switch(o){case Wo:return Mt(e.children,t,n,a);case Qo:i=11,t|=3;break;case qo:i=11,t|=2;break;case $o:return o=new Lt(15,e,a,4|t),o.type=$o,o.expirationTime=n,o;case Xo:i=16,t|=2;break;default:e:{switch("object"===typeof o&&null!==o?o.$$typeof:null){case Yo:i=13;break e;case Ko:i=12;break e;case Go:i=14;break e;default:r("130",null==o?o:typeof o,"")}i=void 0}}return t=new Lt(i,e,a,t),t.type=o,t.expirationTime=n,t}function Mt(e,t,n,r){return e=new Lt(10,e,r,t),e.expirationTime=n,e}function Dt(e,t,n){return e=new Lt(6,e,null,t),e.expirationTime=n,e}function zt(e,t,n){return t=new Lt(4,null!==e.children?e.children:[],e.key,t),t.expirationTime=n,t.stateNode={containerInfo:e.containerInfo,pendingChildren:null,implementation:e.implementation},t}function Bt(e,t,n){return t=new Lt(3,null,null,t?3:0),e={current:t,containerInfo:e,pendingChildren:null,earliestPendingTime:0,latestPendingTime:0,earliestSuspendedTime:0,latestSuspendedTime:0,latestPingedTime:0,pendingCommitExpirationTime:0,finishedWork:null,context:null,pendingContext:null,hydrate:n,remainingExpirationTime:0,firstBatch:null,nextScheduledRoot:null},t.stateNode=e}function Vt(e){return function(t){try{return e(t)}catch(e){}}}function Ht(e){if("undefined"===typeof __REACT_DEVTOOLS_GLOBAL_HOOK__)return!1;var t=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(t.isDisabled||!t.supportsFiber)return!0;try{var n=t.inject(e);ji=Vt(function(e){return t.onCommitFiberRoot(n,e)}),Ni=Vt(function(e){return t.onCommitFiberUnmount(n,e)})}catch(e){}return!0}function Wt(e){"function"===typeof ji&&ji(e)}function qt(e){"function"===typeof Ni&&Ni(e)}function $t(e){return{expirationTime:0,baseState:e,firstUpdate:null,lastUpdate:null,firstCapturedUpdate:null,lastCapturedUpdate:null,firstEffect:null,lastEffect:null,firstCapturedEffect:null,lastCapturedEffect:null}}function Yt(e){return{expirationTime:e.expirationTime,baseState:e.baseState,firstUpdate:e.firstUpdate,lastUpdate:e.lastUpdate,firstCapturedUpdate:null,lastCapturedUpdate:null,firstEffect:null,lastEffect:null,firstCapturedEffect:null,lastCapturedEffect:null}}function Kt(e){return{expirationTime:e,tag:0,payload:null,callback:null,next:null,nextEffect:null}}function Qt(e,t,n){null===e.lastUpdate?e.firstUpdate=e.lastUpdate=t:(e.lastUpdate.next=t,e.lastUpdate=t),(0===e.expirationTime||e.expirationTime>n)&&(e.expirationTime=n)}function Gt(e,t,n){var r=e.alternate;if(null===r){var o=e.updateQueue,a=null;null===o&&(o=e.updateQueue=$t(e.memoizedState))}else o=e.updateQueue,a=r.updateQueue,null===o?null===a?(o=e.updateQueue=$t(e.memoizedState),a=r.updateQueue=$t(r.memoizedState)):o=e.updateQueue=Yt(a):null===a&&(a=r.updateQueue=Yt(o));null===a||o===a?Qt(o,t,n):null===o.lastUpdate||null===a.lastUpdate?(Qt(o,t,n),Qt(a,t,n)):(Qt(o,t,n),a.lastUpdate=t)}function Xt(e,t,n){var r=e.updateQueue;r=null===r?e.updateQueue=$t(e.memoizedState):Jt(e,r),null===r.lastCapturedUpdate?r.firstCapturedUpdate=r.lastCapturedUpdate=t:(r.lastCapturedUpdate.next=t,r.lastCapturedUpdate=t),(0===r.expirationTime||r.expirationTime>n)&&(r.expirationTime=n)}function Jt(e,t){var n=e.alternate;return null!==n&&t===n.updateQueue&&(t=e.updateQueue=Yt(t)),t}function Zt(e,t,n,r,o,a){switch(n.tag){case 1:return e=n.payload,"function"===typeof e?e.call(a,r,o):e;case 3:e.effectTag=-1025&e.effectTag|64;case 0:if(e=n.payload,null===(o="function"===typeof e?e.call(a,r,o):e)||void 0===o)break;return Fr({},r,o);case 2:Ri=!0}return r}function en(e,t,n,r,o){if(Ri=!1,!(0===t.expirationTime||t.expirationTime>o)){t=Jt(e,t);for(var a=t.baseState,i=null,l=0,u=t.firstUpdate,c=a;null!==u;){var s=u.expirationTime;s>o?(null===i&&(i=u,a=c),(0===l||l>s)&&(l=s)):(c=Zt(e,t,u,c,n,r),null!==u.callback&&(e.effectTag|=32,u.nextEffect=null,null===t.lastEffect?t.firstEffect=t.lastEffect=u:(t.lastEffect.nextEffect=u,t.lastEffect=u))),u=u.next}for(s=null,u=t.firstCapturedUpdate;null!==u;){var f=u.expirationTime;f>o?(null===s&&(s=u,null===i&&(a=c)),(0===l||l>f)&&(l=f)):(c=Zt(e,t,u,c,n,r),null!==u.callback&&(e.effectTag|=32,u.nextEffect=null,null===t.lastCapturedEffect?t.firstCapturedEffect=t.lastCapturedEffect=u:(t.lastCapturedEffect.nextEffect=u,t.lastCapturedEffect=u))),u=u.next}null===i&&(t.lastUpdate=null),null===s?t.lastCapturedUpdate=null:e.effectTag|=32,null===i&&null===s&&(a=c),t.baseState=a,t.firstUpdate=i,t.firstCapturedUpdate=s,t.expirationTime=l,e.memoizedState=c}}function tn(e,t){"function"!==typeof e&&r("191",e),e.call(t)}function nn(e,t,n){for(null!==t.firstCapturedUpdate&&(null!==t.lastUpdate&&(t.lastUpdate.next=t.firstCapturedUpdate,t.lastUpdate=t.lastCapturedUpdate),t.firstCapturedUpdate=t.lastCapturedUpdate=null),e=t.firstEffect,t.firstEffect=t.lastEffect=null;null!==e;){var r=e.callback;null!==r&&(e.callback=null,tn(r,n)),e=e.nextEffect}for(e=t.firstCapturedEffect,t.firstCapturedEffect=t.lastCapturedEffect=null;null!==e;)t=e.callback,null!==t&&(e.callback=null,tn(t,n)),e=e.nextEffect}function rn(e,t){return{value:e,source:t,stack:le(t)}}function on(e){var t=e.type._context;Ct(Li,t._changedBits,e),Ct(Ii,t._currentValue,e),Ct(Ui,e,e),t._currentValue=e.pendingProps.value,t._changedBits=e.stateNode}function an(e){var t=Li.current,n=Ii.current;kt(Ui,e),kt(Ii,e),kt(Li,e),e=e.type._context,e._currentValue=n,e._changedBits=t}function ln(e){return e===Ai&&r("174"),e}function un(e,t){Ct(Di,t,e),Ct(Mi,e,e),Ct(Fi,Ai,e);var n=t.nodeType;switch(n){case 9:case 11:t=(t=t.documentElement)?t.namespaceURI:it(null,"");break;default:n=8===n?t.parentNode:t,t=n.namespaceURI||null,n=n.tagName,t=it(t,n)}kt(Fi,e),Ct(Fi,t,e)}function cn(e){kt(Fi,e),kt(Mi,e),kt(Di,e)}function sn(e){Mi.current===e&&(kt(Fi,e),kt(Mi,e))}function fn(e,t,n){var r=e.memoizedState;t=t(n,r),r=null===t||void 0===t?r:Fr({},r,t),e.memoizedState=r,null!==(e=e.updateQueue)&&0===e.expirationTime&&(e.baseState=r)}function pn(e,t,n,r,o,a){var i=e.stateNode;return e=e.type,"function"===typeof i.shouldComponentUpdate?i.shouldComponentUpdate(n,o,a):!e.prototype||!e.prototype.isPureReactComponent||(!zr(t,n)||!zr(r,o))}function dn(e,t,n,r){e=t.state,"function"===typeof t.componentWillReceiveProps&&t.componentWillReceiveProps(n,r),"function"===typeof t.UNSAFE_componentWillReceiveProps&&t.UNSAFE_componentWillReceiveProps(n,r),t.state!==e&&zi.enqueueReplaceState(t,t.state,null)}function hn(e,t){var n=e.type,r=e.stateNode,o=e.pendingProps,a=Ot(e);r.props=o,r.state=e.memoizedState,r.refs=Vr,r.context=Tt(e,a),a=e.updateQueue,null!==a&&(en(e,a,o,r,t),r.state=e.memoizedState),a=e.type.getDerivedStateFromProps,"function"===typeof a&&(fn(e,a,o),r.state=e.memoizedState),"function"===typeof n.getDerivedStateFromProps||"function"===typeof r.getSnapshotBeforeUpdate||"function"!==typeof r.UNSAFE_componentWillMount&&"function"!==typeof r.componentWillMount||(n=r.state,"function"===typeof r.componentWillMount&&r.componentWillMount(),"function"===typeof r.UNSAFE_componentWillMount&&r.UNSAFE_componentWillMount(),n!==r.state&&zi.enqueueReplaceState(r,r.state,null),null!==(a=e.updateQueue)&&(en(e,a,o,r,t),r.state=e.memoizedState)),"function"===typeof r.componentDidMount&&(e.effectTag|=4)}function mn(e,t,n){if(null!==(e=n.ref)&&"function"!==typeof e&&"object"!==typeof e){if(n._owner){n=n._owner;var o=void 0;n&&(2!==n.tag&&r("110"),o=n.stateNode),o||r("147",e);var a=""+e;return null!==t&&null!==t.ref&&"function"===typeof t.ref&&t.ref._stringRef===a?t.ref:(t=function(e){var t=o.refs===Vr?o.refs={}:o.refs;null===e?delete t[a]:t[a]=e},t._stringRef=a,t)}"string"!==typeof e&&r("148"),n._owner||r("254",e)}return e}function yn(e,t){"textarea"!==e.type&&r("31","[object Object]"===Object.prototype.toString.call(t)?"object with keys {"+Object.keys(t).join(", ")+"}":t,"")}function vn(e){function t(t,n){if(e){var r=t.lastEffect;null!==r?(r.nextEffect=n,t.lastEffect=n):t.firstEffect=t.lastEffect=n,n.nextEffect=null,n.effectTag=8}}function n(n,r){if(!e)return null;for(;null!==r;)t(n,r),r=r.sibling;return null}function o(e,t){for(e=new Map;null!==t;)null!==t.key?e.set(t.key,t):e.set(t.index,t),t=t.sibling;return e}function a(e,t,n){return e=At(e,t,n),e.index=0,e.sibling=null,e}function i(t,n,r){return t.index=r,e?null!==(r=t.alternate)?(r=r.index,r<n?(t.effectTag=2,n):r):(t.effectTag=2,n):n}function l(t){return e&&null===t.alternate&&(t.effectTag=2),t}function u(e,t,n,r){return null===t||6!==t.tag?(t=Dt(n,e.mode,r),t.return=e,t):(t=a(t,n,r),t.return=e,t)}function c(e,t,n,r){return null!==t&&t.type===n.type?(r=a(t,n.props,r),r.ref=mn(e,t,n),r.return=e,r):(r=Ft(n,e.mode,r),r.ref=mn(e,t,n),r.return=e,r)}function s(e,t,n,r){return null===t||4!==t.tag||t.stateNode.containerInfo!==n.containerInfo||t.stateNode.implementation!==n.implementation?(t=zt(n,e.mode,r),t.return=e,t):(t=a(t,n.children||[],r),t.return=e,t)}function f(e,t,n,r,o){return null===t||10!==t.tag?(t=Mt(n,e.mode,r,o),t.return=e,t):(t=a(t,n,r),t.return=e,t)}function p(e,t,n){if("string"===typeof t||"number"===typeof t)return t=Dt(""+t,e.mode,n),t.return=e,t;if("object"===typeof t&&null!==t){switch(t.$$typeof){case Vo:return n=Ft(t,e.mode,n),n.ref=mn(e,null,t),n.return=e,n;case Ho:return t=zt(t,e.mode,n),t.return=e,t}if(Bi(t)||ae(t))return t=Mt(t,e.mode,n,null),t.return=e,t;yn(e,t)}return null}function d(e,t,n,r){var o=null!==t?t.key:null;if("string"===typeof n||"number"===typeof n)return null!==o?null:u(e,t,""+n,r);if("object"===typeof n&&null!==n){switch(n.$$typeof){case Vo:return n.key===o?n.type===Wo?f(e,t,n.props.children,r,o):c(e,t,n,r):null;case Ho:return n.key===o?s(e,t,n,r):null}if(Bi(n)||ae(n))return null!==o?null:f(e,t,n,r,null);yn(e,n)}return null}function h(e,t,n,r,o){if("string"===typeof r||"number"===typeof r)return e=e.get(n)||null,u(t,e,""+r,o);if("object"===typeof r&&null!==r){switch(r.$$typeof){case Vo:return e=e.get(null===r.key?n:r.key)||null,r.type===Wo?f(t,e,r.props.children,o,r.key):c(t,e,r,o);case Ho:return e=e.get(null===r.key?n:r.key)||null,s(t,e,r,o)}if(Bi(r)||ae(r))return e=e.get(n)||null,f(t,e,r,o,null);yn(t,r)}return null}function m(r,a,l,u){for(var c=null,s=null,f=a,m=a=0,y=null;null!==f&&m<l.length;m++){f.index>m?(y=f,f=null):y=f.sibling;var v=d(r,f,l[m],u);if(null===v){null===f&&(f=y);break}e&&f&&null===v.alternate&&t(r,f),a=i(v,a,m),null===s?c=v:s.sibling=v,s=v,f=y}if(m===l.length)return n(r,f),c;if(null===f){for(;m<l.length;m++)(f=p(r,l[m],u))&&(a=i(f,a,m),null===s?c=f:s.sibling=f,s=f);return c}for(f=o(r,f);m<l.length;m++)(y=h(f,r,m,l[m],u))&&(e&&null!==y.alternate&&f.delete(null===y.key?m:y.key),a=i(y,a,m),null===s?c=y:s.sibling=y,s=y);return e&&f.forEach(function(e){return t(r,e)}),c}function y(a,l,u,c){var s=ae(u);"function"!==typeof s&&r("150"),null==(u=s.call(u))&&r("151");for(var f=s=null,m=l,y=l=0,v=null,b=u.next();null!==m&&!b.done;y++,b=u.next()){m.index>y?(v=m,m=null):v=m.sibling;var g=d(a,m,b.value,c);if(null===g){m||(m=v);break}e&&m&&null===g.alternate&&t(a,m),l=i(g,l,y),null===f?s=g:f.sibling=g,f=g,m=v}if(b.done)return n(a,m),s;if(null===m){for(;!b.done;y++,b=u.next())null!==(b=p(a,b.value,c))&&(l=i(b,l,y),null===f?s=b:f.sibling=b,f=b);return s}for(m=o(a,m);!b.done;y++,b=u.next())null!==(b=h(m,a,y,b.value,c))&&(e&&null!==b.alternate&&m.delete(null===b.key?y:b.key),l=i(b,l,y),null===f?s=b:f.sibling=b,f=b);return e&&m.forEach(function(e){return t(a,e)}),s}return function(e,o,i,u){var c="object"===typeof i&&null!==i&&i.type===Wo&&null===i.key;c&&(i=i.props.children);var s="object"===typeof i&&null!==i;if(s)switch(i.$$typeof){case Vo:e:{for(s=i.key,c=o;null!==c;){if(c.key===s){if(10===c.tag?i.type===Wo:c.type===i.type){n(e,c.sibling),o=a(c,i.type===Wo?i.props.children:i.props,u),o.ref=mn(e,c,i),o.return=e,e=o;break e}n(e,c);break}t(e,c),c=c.sibling}i.type===Wo?(o=Mt(i.props.children,e.mode,u,i.key),o.return=e,e=o):(u=Ft(i,e.mode,u),u.ref=mn(e,o,i),u.return=e,e=u)}return l(e);case Ho:e:{for(c=i.key;null!==o;){if(o.key===c){if(4===o.tag&&o.stateNode.containerInfo===i.containerInfo&&o.stateNode.implementation===i.implementation){n(e,o.sibling),o=a(o,i.children||[],u),o.return=e,e=o;break e}n(e,o);break}t(e,o),o=o.sibling}o=zt(i,e.mode,u),o.return=e,e=o}return l(e)}if("string"===typeof i||"number"===typeof i)return i=""+i,null!==o&&6===o.tag?(n(e,o.sibling),o=a(o,i,u),o.return=e,e=o):(n(e,o),o=Dt(i,e.mode,u),o.return=e,e=o),l(e);if(Bi(i))return m(e,o,i,u);if(ae(i))return y(e,o,i,u);if(s&&yn(e,i),"undefined"===typeof i&&!c)switch(e.tag){case 2:case 1:u=e.type,r("152",u.displayName||u.name||"Component")}return n(e,o)}}function bn(e,t){var n=new Lt(5,null,null,0);n.type="DELETED",n.stateNode=t,n.return=e,n.effectTag=8,null!==e.lastEffect?(e.lastEffect.nextEffect=n,e.lastEffect=n):e.firstEffect=e.lastEffect=n}function gn(e,t){switch(e.tag){case 5:var n=e.type;return null!==(t=1!==t.nodeType||n.toLowerCase()!==t.nodeName.toLowerCase()?null:t)&&(e.stateNode=t,!0);case 6:return null!==(t=""===e.pendingProps||3!==t.nodeType?null:t)&&(e.stateNode=t,!0);default:return!1}}function wn(e){if($i){var t=qi;if(t){var n=t;if(!gn(e,t)){if(!(t=Et(n))||!gn(e,t))return e.effectTag|=2,$i=!1,void(Wi=e);bn(Wi,n)}Wi=e,qi=_t(t)}else e.effectTag|=2,$i=!1,Wi=e}}function En(e){for(e=e.return;null!==e&&5!==e.tag&&3!==e.tag;)e=e.return;Wi=e}function _n(e){if(e!==Wi)return!1;if(!$i)return En(e),$i=!0,!1;var t=e.type;if(5!==e.tag||"head"!==t&&"body"!==t&&!wt(t,e.memoizedProps))for(t=qi;t;)bn(e,t),t=Et(t);return En(e),qi=Wi?Et(e.stateNode):null,!0}function xn(){qi=Wi=null,$i=!1}function kn(e,t,n){Cn(e,t,n,t.expirationTime)}function Cn(e,t,n,r){t.child=null===e?Hi(t,null,n,r):Vi(t,e.child,n,r)}function On(e,t){var n=t.ref;(null===e&&null!==n||null!==e&&e.ref!==n)&&(t.effectTag|=128)}function Tn(e,t,n,r,o){On(e,t);var a=0!==(64&t.effectTag);if(!n&&!a)return r&&It(t,!1),Nn(e,t);n=t.stateNode,zo.current=t;var i=a?null:n.render();return t.effectTag|=1,a&&(Cn(e,t,null,o),t.child=null),Cn(e,t,i,o),t.memoizedState=n.state,t.memoizedProps=n.props,r&&It(t,!0),t.child}function Pn(e){var t=e.stateNode;t.pendingContext?Nt(e,t.pendingContext,t.pendingContext!==t.context):t.context&&Nt(e,t.context,!1),un(e,t.containerInfo)}function Sn(e,t,n,r){var o=e.child;for(null!==o&&(o.return=e);null!==o;){switch(o.tag){case 12:var a=0|o.stateNode;if(o.type===t&&0!==(a&n)){for(a=o;null!==a;){var i=a.alternate;if(0===a.expirationTime||a.expirationTime>r)a.expirationTime=r,null!==i&&(0===i.expirationTime||i.expirationTime>r)&&(i.expirationTime=r);else{if(null===i||!(0===i.expirationTime||i.expirationTime>r))break;i.expirationTime=r}a=a.return}a=null}else a=o.child;break;case 13:a=o.type===e.type?null:o.child;break;default:a=o.child}if(null!==a)a.return=o;else for(a=o;null!==a;){if(a===e){a=null;break}if(null!==(o=a.sibling)){o.return=a.return,a=o;break}a=a.return}o=a}}function jn(e,t,n){var r=t.type._context,o=t.pendingProps,a=t.memoizedProps,i=!0;if(Pi.current)i=!1;else if(a===o)return t.stateNode=0,on(t),Nn(e,t);var l=o.value;if(t.memoizedProps=o,null===a)l=1073741823;else if(a.value===o.value){if(a.children===o.children&&i)return t.stateNode=0,on(t),Nn(e,t);l=0}else{var u=a.value;if(u===l&&(0!==u||1/u===1/l)||u!==u&&l!==l){if(a.children===o.children&&i)return t.stateNode=0,on(t),Nn(e,t);l=0}else if(l="function"===typeof r._calculateChangedBits?r._calculateChangedBits(u,l):1073741823,0===(l|=0)){if(a.children===o.children&&i)return t.stateNode=0,on(t),Nn(e,t)}else Sn(t,r,l,n)}return t.stateNode=l,on(t),kn(e,t,o.children),t.child}function Nn(e,t){if(null!==e&&t.child!==e.child&&r("153"),null!==t.child){e=t.child;var n=At(e,e.pendingProps,e.expirationTime);for(t.child=n,n.return=t;null!==e.sibling;)e=e.sibling,n=n.sibling=At(e,e.pendingProps,e.expirationTime),n.return=t;n.sibling=null}return t.child}function Rn(e,t,n){if(0===t.expirationTime||t.expirationTime>n){switch(t.tag){case 3:Pn(t);break;case 2:Ut(t);break;case 4:un(t,t.stateNode.containerInfo);break;case 13:on(t)}return null}switch(t.tag){case 0:null!==e&&r("155");var o=t.type,a=t.pendingProps,i=Ot(t);return i=Tt(t,i),o=o(a,i),t.effectTag|=1,"object"===typeof o&&null!==o&&"function"===typeof o.render&&void 0===o.$$typeof?(i=t.type,t.tag=2,t.memoizedState=null!==o.state&&void 0!==o.state?o.state:null,i=i.getDerivedStateFromProps,"function"===typeof i&&fn(t,i,a),a=Ut(t),o.updater=zi,t.stateNode=o,o._reactInternalFiber=t,hn(t,n),e=Tn(e,t,!0,a,n)):(t.tag=1,kn(e,t,o),t.memoizedProps=a,e=t.child),e;case 1:return a=t.type,n=t.pendingProps,Pi.current||t.memoizedProps!==n?(o=Ot(t),o=Tt(t,o),a=a(n,o),t.effectTag|=1,kn(e,t,a),t.memoizedProps=n,e=t.child):e=Nn(e,t),e;case 2:if(a=Ut(t),null===e)if(null===t.stateNode){var l=t.pendingProps,u=t.type;o=Ot(t);var c=2===t.tag&&null!=t.type.contextTypes;i=c?Tt(t,o):Vr,l=new u(l,i),t.memoizedState=null!==l.state&&void 0!==l.state?l.state:null,l.updater=zi,t.stateNode=l,l._reactInternalFiber=t,c&&(c=t.stateNode,c.__reactInternalMemoizedUnmaskedChildContext=o,c.__reactInternalMemoizedMaskedChildContext=i),hn(t,n),o=!0}else{u=t.type,o=t.stateNode,c=t.memoizedProps,i=t.pendingProps,o.props=c;var s=o.context;l=Ot(t),l=Tt(t,l);var f=u.getDerivedStateFromProps;(u="function"===typeof f||"function"===typeof o.getSnapshotBeforeUpdate)||"function"!==typeof o.UNSAFE_componentWillReceiveProps&&"function"!==typeof o.componentWillReceiveProps||(c!==i||s!==l)&&dn(t,o,i,l),Ri=!1;var p=t.memoizedState;s=o.state=p;var d=t.updateQueue;null!==d&&(en(t,d,i,o,n),s=t.memoizedState),c!==i||p!==s||Pi.current||Ri?("function"===typeof f&&(fn(t,f,i),s=t.memoizedState),(c=Ri||pn(t,c,i,p,s,l))?(u||"function"!==typeof o.UNSAFE_componentWillMount&&"function"!==typeof o.componentWillMount||("function"===typeof o.componentWillMount&&o.componentWillMount(),"function"===typeof o.UNSAFE_componentWillMount&&o.UNSAFE_componentWillMount()),"function"===typeof o.componentDidMount&&(t.effectTag|=4)):("function"===typeof o.componentDidMount&&(t.effectTag|=4),t.memoizedProps=i,t.memoizedState=s),o.props=i,o.state=s,o.context=l,o=c):("function"===typeof o.componentDidMount&&(t.effectTag|=4),o=!1)}else u=t.type,o=t.stateNode,i=t.memoizedProps,c=t.pendingProps,o.props=i,s=o.context,l=Ot(t),l=Tt(t,l),f=u.getDerivedStateFromProps,(u="function"===typeof f||"function"===typeof o.getSnapshotBeforeUpdate)||"function"!==typeof o.UNSAFE_componentWillReceiveProps&&"function"!==typeof o.componentWillReceiveProps||(i!==c||s!==l)&&dn(t,o,c,l),Ri=!1,s=t.memoizedState,p=o.state=s,d=t.updateQueue,null!==d&&(en(t,d,c,o,n),p=t.memoizedState),i!==c||s!==p||Pi.current||Ri?("function"===typeof f&&(fn(t,f,c),p=t.memoizedState),(f=Ri||pn(t,i,c,s,p,l))?(u||"function"!==typeof o.UNSAFE_componentWillUpdate&&"function"!==typeof o.componentWillUpdate||("function"===typeof o.componentWillUpdate&&o.componentWillUpdate(c,p,l),"function"===typeof o.UNSAFE_componentWillUpdate&&o.UNSAFE_componentWillUpdate(c,p,l)),"function"===typeof o.componentDidUpdate&&(t.effectTag|=4),"function"===typeof o.getSnapshotBeforeUpdate&&(t.effectTag|=256)):("function"!==typeof o.componentDidUpdate||i===e.memoizedProps&&s===e.memoizedState||(t.effectTag|=4),"function"!==typeof o.getSnapshotBeforeUpdate||i===e.memoizedProps&&s===e.memoizedState||(t.effectTag|=256),t.memoizedProps=c,t.memoizedState=p),o.props=c,o.state=p,o.context=l,o=f):("function"!==typeof o.componentDidUpdate||i===e.memoizedProps&&s===e.memoizedState||(t.effectTag|=4),"function"!==typeof o.getSnapshotBeforeUpdate||i===e.memoizedProps&&s===e.memoizedState||(t.effectTag|=256),o=!1);return Tn(e,t,o,a,n);case 3:return Pn(t),a=t.updateQueue,null!==a?(o=t.memoizedState,o=null!==o?o.element:null,en(t,a,t.pendingProps,null,n),(a=t.memoizedState.element)===o?(xn(),e=Nn(e,t)):(o=t.stateNode,(o=(null===e||null===e.child)&&o.hydrate)&&(qi=_t(t.stateNode.containerInfo),Wi=t,o=$i=!0),o?(t.effectTag|=2,t.child=Hi(t,null,a,n)):(xn(),kn(e,t,a)),e=t.child)):(xn(),e=Nn(e,t)),e;case 5:return ln(Di.current),a=ln(Fi.current),o=it(a,t.type),a!==o&&(Ct(Mi,t,t),Ct(Fi,o,t)),null===e&&wn(t),a=t.type,c=t.memoizedProps,o=t.pendingProps,i=null!==e?e.memoizedProps:null,Pi.current||c!==o||((c=1&t.mode&&!!o.hidden)&&(t.expirationTime=1073741823),c&&1073741823===n)?(c=o.children,wt(a,o)?c=null:i&&wt(a,i)&&(t.effectTag|=16),On(e,t),1073741823!==n&&1&t.mode&&o.hidden?(t.expirationTime=1073741823,t.memoizedProps=o,e=null):(kn(e,t,c),t.memoizedProps=o,e=t.child)):e=Nn(e,t),e;case 6:return null===e&&wn(t),t.memoizedProps=t.pendingProps,null;case 16:return null;case 4:return un(t,t.stateNode.containerInfo),a=t.pendingProps,Pi.current||t.memoizedProps!==a?(null===e?t.child=Vi(t,null,a,n):kn(e,t,a),t.memoizedProps=a,e=t.child):e=Nn(e,t),e;case 14:return a=t.type.render,n=t.pendingProps,o=t.ref,Pi.current||t.memoizedProps!==n||o!==(null!==e?e.ref:null)?(a=a(n,o),kn(e,t,a),t.memoizedProps=n,e=t.child):e=Nn(e,t),e;case 10:return n=t.pendingProps,Pi.current||t.memoizedProps!==n?(kn(e,t,n),t.memoizedProps=n,e=t.child):e=Nn(e,t),e;case 11:return n=t.pendingProps.children,Pi.current||null!==n&&t.memoizedProps!==n?(kn(e,t,n),t.memoizedProps=n,e=t.child):e=Nn(e,t),e;case 15:return n=t.pendingProps,t.memoizedProps===n?e=Nn(e,t):(kn(e,t,n.children),t.memoizedProps=n,e=t.child),e;case 13:return jn(e,t,n);case 12:e:if(o=t.type,i=t.pendingProps,c=t.memoizedProps,a=o._currentValue,l=o._changedBits,Pi.current||0!==l||c!==i){if(t.memoizedProps=i,u=i.unstable_observedBits,void 0!==u&&null!==u||(u=1073741823),t.stateNode=u,0!==(l&u))Sn(t,o,l,n);else if(c===i){e=Nn(e,t);break e}n=i.children,n=n(a),t.effectTag|=1,kn(e,t,n),e=t.child}else e=Nn(e,t);return e;default:r("156")}}function Un(e){e.effectTag|=4}function In(e,t){var n=t.pendingProps;switch(t.tag){case 1:return null;case 2:return St(t),null;case 3:cn(t),jt(t);var o=t.stateNode;return o.pendingContext&&(o.context=o.pendingContext,o.pendingContext=null),null!==e&&null!==e.child||(_n(t),t.effectTag&=-3),Yi(t),null;case 5:sn(t),o=ln(Di.current);var a=t.type;if(null!==e&&null!=t.stateNode){var i=e.memoizedProps,l=t.stateNode,u=ln(Fi.current);l=mt(l,a,i,n,o),Ki(e,t,l,a,i,n,o,u),e.ref!==t.ref&&(t.effectTag|=128)}else{if(!n)return null===t.stateNode&&r("166"),null;if(e=ln(Fi.current),_n(t))n=t.stateNode,a=t.type,i=t.memoizedProps,n[oo]=t,n[ao]=i,o=vt(n,a,i,e,o),t.updateQueue=o,null!==o&&Un(t);else{e=pt(a,n,o,e),e[oo]=t,e[ao]=n;e:for(i=t.child;null!==i;){if(5===i.tag||6===i.tag)e.appendChild(i.stateNode);else if(4!==i.tag&&null!==i.child){i.child.return=i,i=i.child;continue}if(i===t)break;for(;null===i.sibling;){if(null===i.return||i.return===t)break e;i=i.return}i.sibling.return=i.return,i=i.sibling}ht(e,a,n,o),gt(a,n)&&Un(t),t.stateNode=e}null!==t.ref&&(t.effectTag|=128)}return null;case 6:if(e&&null!=t.stateNode)Qi(e,t,e.memoizedProps,n);else{if("string"!==typeof n)return null===t.stateNode&&r("166"),null;o=ln(Di.current),ln(Fi.current),_n(t)?(o=t.stateNode,n=t.memoizedProps,o[oo]=t,bt(o,n)&&Un(t)):(o=dt(n,o),o[oo]=t,t.stateNode=o)}return null;case 14:case 16:case 10:case 11:case 15:return null;case 4:return cn(t),Yi(t),null;case 13:return an(t),null;case 12:return null;case 0:r("167");default:r("156")}}function Ln(e,t){var n=t.source;null===t.stack&&null!==n&&le(n),null!==n&&ie(n),t=t.value,null!==e&&2===e.tag&&ie(e);try{t&&t.suppressReactErrorLogging||console.error(t)}catch(e){e&&e.suppressReactErrorLogging||console.error(e)}}function An(e){var t=e.ref;if(null!==t)if("function"===typeof t)try{t(null)}catch(t){Gn(e,t)}else t.current=null}function Fn(e){switch("function"===typeof qt&&qt(e),e.tag){case 2:An(e);var t=e.stateNode;if("function"===typeof t.componentWillUnmount)try{t.props=e.memoizedProps,t.state=e.memoizedState,t.componentWillUnmount()}catch(t){Gn(e,t)}break;case 5:An(e);break;case 4:zn(e)}}function Mn(e){return 5===e.tag||3===e.tag||4===e.tag}function Dn(e){e:{for(var t=e.return;null!==t;){if(Mn(t)){var n=t;break e}t=t.return}r("160"),n=void 0}var o=t=void 0;switch(n.tag){case 5:t=n.stateNode,o=!1;break;case 3:case 4:t=n.stateNode.containerInfo,o=!0;break;default:r("161")}16&n.effectTag&&(lt(t,""),n.effectTag&=-17);e:t:for(n=e;;){for(;null===n.sibling;){if(null===n.return||Mn(n.return)){n=null;break e}n=n.return}for(n.sibling.return=n.return,n=n.sibling;5!==n.tag&&6!==n.tag;){if(2&n.effectTag)continue t;if(null===n.child||4===n.tag)continue t;n.child.return=n,n=n.child}if(!(2&n.effectTag)){n=n.stateNode;break e}}for(var a=e;;){if(5===a.tag||6===a.tag)if(n)if(o){var i=t,l=a.stateNode,u=n;8===i.nodeType?i.parentNode.insertBefore(l,u):i.insertBefore(l,u)}else t.insertBefore(a.stateNode,n);else o?(i=t,l=a.stateNode,8===i.nodeType?i.parentNode.insertBefore(l,i):i.appendChild(l)):t.appendChild(a.stateNode);else if(4!==a.tag&&null!==a.child){a.child.return=a,a=a.child;continue}if(a===e)break;for(;null===a.sibling;){if(null===a.return||a.return===e)return;a=a.return}a.sibling.return=a.return,a=a.sibling}}function zn(e){for(var t=e,n=!1,o=void 0,a=void 0;;){if(!n){n=t.return;e:for(;;){switch(null===n&&r("160"),n.tag){case 5:o=n.stateNode,a=!1;break e;case 3:case 4:o=n.stateNode.containerInfo,a=!0;break e}n=n.return}n=!0}if(5===t.tag||6===t.tag){e:for(var i=t,l=i;;)if(Fn(l),null!==l.child&&4!==l.tag)l.child.return=l,l=l.child;else{if(l===i)break;for(;null===l.sibling;){if(null===l.return||l.return===i)break e;l=l.return}l.sibling.return=l.return,l=l.sibling}a?(i=o,l=t.stateNode,8===i.nodeType?i.parentNode.removeChild(l):i.removeChild(l)):o.removeChild(t.stateNode)}else if(4===t.tag?o=t.stateNode.containerInfo:Fn(t),null!==t.child){t.child.return=t,t=t.child;continue}if(t===e)break;for(;null===t.sibling;){if(null===t.return||t.return===e)return;t=t.return,4===t.tag&&(n=!1)}t.sibling.return=t.return,t=t.sibling}}function Bn(e,t){switch(t.tag){case 2:break;case 5:var n=t.stateNode;if(null!=n){var o=t.memoizedProps;e=null!==e?e.memoizedProps:o;var a=t.type,i=t.updateQueue;t.updateQueue=null,null!==i&&(n[ao]=o,yt(n,i,a,e,o))}break;case 6:null===t.stateNode&&r("162"),t.stateNode.nodeValue=t.memoizedProps;break;case 3:case 15:case 16:break;default:r("163")}}function Vn(e,t,n){n=Kt(n),n.tag=3,n.payload={element:null};var r=t.value;return n.callback=function(){hr(r),Ln(e,t)},n}function Hn(e,t,n){n=Kt(n),n.tag=3;var r=e.stateNode;return null!==r&&"function"===typeof r.componentDidCatch&&(n.callback=function(){null===sl?sl=new Set([this]):sl.add(this);var n=t.value,r=t.stack;Ln(e,t),this.componentDidCatch(n,{componentStack:null!==r?r:""})}),n}function Wn(e,t,n,r,o,a){n.effectTag|=512,n.firstEffect=n.lastEffect=null,r=rn(r,n),e=t;do{switch(e.tag){case 3:return e.effectTag|=1024,r=Vn(e,r,a),void Xt(e,r,a);case 2:if(t=r,n=e.stateNode,0===(64&e.effectTag)&&null!==n&&"function"===typeof n.componentDidCatch&&(null===sl||!sl.has(n)))return e.effectTag|=1024,r=Hn(e,t,a),void Xt(e,r,a)}e=e.return}while(null!==e)}function qn(e){switch(e.tag){case 2:St(e);var t=e.effectTag;return 1024&t?(e.effectTag=-1025&t|64,e):null;case 3:return cn(e),jt(e),t=e.effectTag,1024&t?(e.effectTag=-1025&t|64,e):null;case 5:return sn(e),null;case 16:return t=e.effectTag,1024&t?(e.effectTag=-1025&t|64,e):null;case 4:return cn(e),null;case 13:return an(e),null;default:return null}}function $n(){if(null!==nl)for(var e=nl.return;null!==e;){var t=e;switch(t.tag){case 2:St(t);break;case 3:cn(t),jt(t);break;case 5:sn(t);break;case 4:cn(t);break;case 13:an(t)}e=e.return}rl=null,ol=0,al=-1,il=!1,nl=null,cl=!1}function Yn(e){for(;;){var t=e.alternate,n=e.return,r=e.sibling;if(0===(512&e.effectTag)){t=In(t,e,ol);var o=e;if(1073741823===ol||1073741823!==o.expirationTime){var a=0;switch(o.tag){case 3:case 2:var i=o.updateQueue;null!==i&&(a=i.expirationTime)}for(i=o.child;null!==i;)0!==i.expirationTime&&(0===a||a>i.expirationTime)&&(a=i.expirationTime),i=i.sibling;o.expirationTime=a}if(null!==t)return t;if(null!==n&&0===(512&n.effectTag)&&(null===n.firstEffect&&(n.firstEffect=e.firstEffect),null!==e.lastEffect&&(null!==n.lastEffect&&(n.lastEffect.nextEffect=e.firstEffect),n.lastEffect=e.lastEffect),1<e.effectTag&&(null!==n.lastEffect?n.lastEffect.nextEffect=e:n.firstEffect=e,n.lastEffect=e)),null!==r)return r;if(null===n){cl=!0;break}e=n}else{if(null!==(e=qn(e,il,ol)))return e.effectTag&=511,e;if(null!==n&&(n.firstEffect=n.lastEffect=null,n.effectTag|=512),null!==r)return r;if(null===n)break;e=n}}return null}function Kn(e){var t=Rn(e.alternate,e,ol);return null===t&&(t=Yn(e)),zo.current=null,t}function Qn(e,t,n){tl&&r("243"),tl=!0,t===ol&&e===rl&&null!==nl||($n(),rl=e,ol=t,al=-1,nl=At(rl.current,null,ol),e.pendingCommitExpirationTime=0);var o=!1;for(il=!n||ol<=Xi;;){try{if(n)for(;null!==nl&&!dr();)nl=Kn(nl);else for(;null!==nl;)nl=Kn(nl)}catch(t){if(null===nl)o=!0,hr(t);else{null===nl&&r("271"),n=nl;var a=n.return;if(null===a){o=!0,hr(t);break}Wn(e,a,n,t,il,ol,Ji),nl=Yn(n)}}break}if(tl=!1,o)return null;if(null===nl){if(cl)return e.pendingCommitExpirationTime=t,e.current.alternate;il&&r("262"),0<=al&&setTimeout(function(){var t=e.current.expirationTime;0!==t&&(0===e.remainingExpirationTime||e.remainingExpirationTime<t)&&or(e,t)},al),mr(e.current.expirationTime)}return null}function Gn(e,t){var n;e:{for(tl&&!ul&&r("263"),n=e.return;null!==n;){switch(n.tag){case 2:var o=n.stateNode;if("function"===typeof n.type.getDerivedStateFromCatch||"function"===typeof o.componentDidCatch&&(null===sl||!sl.has(o))){e=rn(t,e),e=Hn(n,e,1),Gt(n,e,1),Zn(n,1),n=void 0;break e}break;case 3:e=rn(t,e),e=Vn(n,e,1),Gt(n,e,1),Zn(n,1),n=void 0;break e}n=n.return}3===e.tag&&(n=rn(t,e),n=Vn(e,n,1),Gt(e,n,1),Zn(e,1)),n=void 0}return n}function Xn(){var e=2+25*(1+((er()-2+500)/25|0));return e<=Zi&&(e=Zi+1),Zi=e}function Jn(e,t){return e=0!==el?el:tl?ul?1:ol:1&t.mode?Cl?2+10*(1+((e-2+15)/10|0)):2+25*(1+((e-2+500)/25|0)):1,Cl&&(0===bl||e>bl)&&(bl=e),e}function Zn(e,t){for(;null!==e;){if((0===e.expirationTime||e.expirationTime>t)&&(e.expirationTime=t),null!==e.alternate&&(0===e.alternate.expirationTime||e.alternate.expirationTime>t)&&(e.alternate.expirationTime=t),null===e.return){if(3!==e.tag)break;var n=e.stateNode;!tl&&0!==ol&&t<ol&&$n();var o=n.current.expirationTime;tl&&!ul&&rl===n||or(n,o),Pl>Tl&&r("185")}e=e.return}}function er(){return Ji=_i()-Gi,Xi=2+(Ji/10|0)}function tr(e){var t=el;el=2+25*(1+((er()-2+500)/25|0));try{return e()}finally{el=t}}function nr(e,t,n,r,o){var a=el;el=1;try{return e(t,n,r,o)}finally{el=a}}function rr(e){if(0!==dl){if(e>dl)return;null!==hl&&ki(hl)}var t=_i()-Gi;dl=e,hl=xi(ir,{timeout:10*(e-2)-t})}function or(e,t){if(null===e.nextScheduledRoot)e.remainingExpirationTime=t,null===pl?(fl=pl=e,e.nextScheduledRoot=e):(pl=pl.nextScheduledRoot=e,pl.nextScheduledRoot=fl);else{var n=e.remainingExpirationTime;(0===n||t<n)&&(e.remainingExpirationTime=t)}ml||(xl?kl&&(yl=e,vl=1,fr(e,1,!1)):1===t?lr():rr(t))}function ar(){var e=0,t=null;if(null!==pl)for(var n=pl,o=fl;null!==o;){var a=o.remainingExpirationTime;if(0===a){if((null===n||null===pl)&&r("244"),o===o.nextScheduledRoot){fl=pl=o.nextScheduledRoot=null;break}if(o===fl)fl=a=o.nextScheduledRoot,pl.nextScheduledRoot=a,o.nextScheduledRoot=null;else{if(o===pl){pl=n,pl.nextScheduledRoot=fl,o.nextScheduledRoot=null;break}n.nextScheduledRoot=o.nextScheduledRoot,o.nextScheduledRoot=null}o=n.nextScheduledRoot}else{if((0===e||a<e)&&(e=a,t=o),o===pl)break;n=o,o=o.nextScheduledRoot}}n=yl,null!==n&&n===t&&1===e?Pl++:Pl=0,yl=t,vl=e}function ir(e){ur(0,!0,e)}function lr(){ur(1,!1,null)}function ur(e,t,n){if(_l=n,ar(),t)for(;null!==yl&&0!==vl&&(0===e||e>=vl)&&(!gl||er()>=vl);)er(),fr(yl,vl,!gl),ar();else for(;null!==yl&&0!==vl&&(0===e||e>=vl);)fr(yl,vl,!1),ar();null!==_l&&(dl=0,hl=null),0!==vl&&rr(vl),_l=null,gl=!1,sr()}function cr(e,t){ml&&r("253"),yl=e,vl=t,fr(e,t,!1),lr(),sr()}function sr(){if(Pl=0,null!==Ol){var e=Ol;Ol=null;for(var t=0;t<e.length;t++){var n=e[t];try{n._onComplete()}catch(e){wl||(wl=!0,El=e)}}}if(wl)throw e=El,El=null,wl=!1,e}function fr(e,t,n){ml&&r("245"),ml=!0,n?(n=e.finishedWork,null!==n?pr(e,n,t):null!==(n=Qn(e,t,!0))&&(dr()?e.finishedWork=n:pr(e,n,t))):(n=e.finishedWork,null!==n?pr(e,n,t):null!==(n=Qn(e,t,!1))&&pr(e,n,t)),ml=!1}function pr(e,t,n){var o=e.firstBatch;if(null!==o&&o._expirationTime<=n&&(null===Ol?Ol=[o]:Ol.push(o),o._defer))return e.finishedWork=t,void(e.remainingExpirationTime=0);if(e.finishedWork=null,ul=tl=!0,n=t.stateNode,n.current===t&&r("177"),o=n.pendingCommitExpirationTime,0===o&&r("261"),n.pendingCommitExpirationTime=0,er(),zo.current=null,1<t.effectTag)if(null!==t.lastEffect){t.lastEffect.nextEffect=t;var a=t.firstEffect}else a=t;else a=t.firstEffect;wi=Ra;var i=Dr();if(Qe(i)){if("selectionStart"in i)var l={start:i.selectionStart,end:i.selectionEnd};else e:{var u=window.getSelection&&window.getSelection();if(u&&0!==u.rangeCount){l=u.anchorNode;var c=u.anchorOffset,s=u.focusNode;u=u.focusOffset;try{l.nodeType,s.nodeType}catch(e){l=null;break e}var f=0,p=-1,d=-1,h=0,m=0,y=i,v=null;t:for(;;){for(var b;y!==l||0!==c&&3!==y.nodeType||(p=f+c),y!==s||0!==u&&3!==y.nodeType||(d=f+u),3===y.nodeType&&(f+=y.nodeValue.length),null!==(b=y.firstChild);)v=y,y=b;for(;;){if(y===i)break t;if(v===l&&++h===c&&(p=f),v===s&&++m===u&&(d=f),null!==(b=y.nextSibling))break;y=v,v=y.parentNode}y=b}l=-1===p||-1===d?null:{start:p,end:d}}else l=null}l=l||{start:0,end:0}}else l=null;for(Ei={focusedElem:i,selectionRange:l},Be(!1),ll=a;null!==ll;){i=!1,l=void 0;try{for(;null!==ll;){if(256&ll.effectTag){var g=ll.alternate;switch(c=ll,c.tag){case 2:if(256&c.effectTag&&null!==g){var w=g.memoizedProps,E=g.memoizedState,_=c.stateNode;_.props=c.memoizedProps,_.state=c.memoizedState;var x=_.getSnapshotBeforeUpdate(w,E);_.__reactInternalSnapshotBeforeUpdate=x}break;case 3:case 5:case 6:case 4:break;default:r("163")}}ll=ll.nextEffect}}catch(e){i=!0,l=e}i&&(null===ll&&r("178"),Gn(ll,l),null!==ll&&(ll=ll.nextEffect))}for(ll=a;null!==ll;){g=!1,w=void 0;try{for(;null!==ll;){var k=ll.effectTag;if(16&k&&lt(ll.stateNode,""),128&k){var C=ll.alternate;if(null!==C){var O=C.ref;null!==O&&("function"===typeof O?O(null):O.current=null)}}switch(14&k){case 2:Dn(ll),ll.effectTag&=-3;break;case 6:Dn(ll),ll.effectTag&=-3,Bn(ll.alternate,ll);break;case 4:Bn(ll.alternate,ll);break;case 8:E=ll,zn(E),E.return=null,E.child=null,E.alternate&&(E.alternate.child=null,E.alternate.return=null)}ll=ll.nextEffect}}catch(e){g=!0,w=e}g&&(null===ll&&r("178"),Gn(ll,w),null!==ll&&(ll=ll.nextEffect))}if(O=Ei,C=Dr(),k=O.focusedElem,g=O.selectionRange,C!==k&&Br(document.documentElement,k)){null!==g&&Qe(k)&&(C=g.start,O=g.end,void 0===O&&(O=C),"selectionStart"in k?(k.selectionStart=C,k.selectionEnd=Math.min(O,k.value.length)):window.getSelection&&(C=window.getSelection(),w=k[U()].length,O=Math.min(g.start,w),g=void 0===g.end?O:Math.min(g.end,w),!C.extend&&O>g&&(w=g,g=O,O=w),w=Ke(k,O),E=Ke(k,g),w&&E&&(1!==C.rangeCount||C.anchorNode!==w.node||C.anchorOffset!==w.offset||C.focusNode!==E.node||C.focusOffset!==E.offset)&&(_=document.createRange(),_.setStart(w.node,w.offset),C.removeAllRanges(),O>g?(C.addRange(_),C.extend(E.node,E.offset)):(_.setEnd(E.node,E.offset),C.addRange(_))))),C=[];for(O=k;O=O.parentNode;)1===O.nodeType&&C.push({element:O,left:O.scrollLeft,top:O.scrollTop});for("function"===typeof k.focus&&k.focus(),k=0;k<C.length;k++)O=C[k],O.element.scrollLeft=O.left,O.element.scrollTop=O.top}for(Ei=null,Be(wi),wi=null,n.current=t,ll=a;null!==ll;){a=!1,k=void 0;try{for(C=o;null!==ll;){var T=ll.effectTag;if(36&T){var P=ll.alternate;switch(O=ll,g=C,O.tag){case 2:var S=O.stateNode;if(4&O.effectTag)if(null===P)S.props=O.memoizedProps,S.state=O.memoizedState,S.componentDidMount();else{var j=P.memoizedProps,N=P.memoizedState;S.props=O.memoizedProps,S.state=O.memoizedState,S.componentDidUpdate(j,N,S.__reactInternalSnapshotBeforeUpdate)}var R=O.updateQueue;null!==R&&(S.props=O.memoizedProps,S.state=O.memoizedState,nn(O,R,S,g));break;case 3:var I=O.updateQueue;if(null!==I){if(w=null,null!==O.child)switch(O.child.tag){case 5:w=O.child.stateNode;break;case 2:w=O.child.stateNode}nn(O,I,w,g)}break;case 5:var L=O.stateNode;null===P&&4&O.effectTag&&gt(O.type,O.memoizedProps)&&L.focus();break;case 6:case 4:case 15:case 16:break;default:r("163")}}if(128&T){O=void 0;var A=ll.ref;if(null!==A){var F=ll.stateNode;switch(ll.tag){case 5:O=F;break;default:O=F}"function"===typeof A?A(O):A.current=O}}var M=ll.nextEffect;ll.nextEffect=null,ll=M}}catch(e){a=!0,k=e}a&&(null===ll&&r("178"),Gn(ll,k),null!==ll&&(ll=ll.nextEffect))}tl=ul=!1,"function"===typeof Wt&&Wt(t.stateNode),t=n.current.expirationTime,0===t&&(sl=null),e.remainingExpirationTime=t}function dr(){return!(null===_l||_l.timeRemaining()>Sl)&&(gl=!0)}function hr(e){null===yl&&r("246"),yl.remainingExpirationTime=0,wl||(wl=!0,El=e)}function mr(e){null===yl&&r("246"),yl.remainingExpirationTime=e}function yr(e,t){var n=xl;xl=!0;try{return e(t)}finally{(xl=n)||ml||lr()}}function vr(e,t){if(xl&&!kl){kl=!0;try{return e(t)}finally{kl=!1}}return e(t)}function br(e,t){ml&&r("187");var n=xl;xl=!0;try{return nr(e,t)}finally{xl=n,lr()}}function gr(e,t,n){if(Cl)return e(t,n);xl||ml||0===bl||(ur(bl,!1,null),bl=0);var r=Cl,o=xl;xl=Cl=!0;try{return e(t,n)}finally{Cl=r,(xl=o)||ml||lr()}}function wr(e){var t=xl;xl=!0;try{nr(e)}finally{(xl=t)||ml||ur(1,!1,null)}}function Er(e,t,n,o,a){var i=t.current;if(n){n=n._reactInternalFiber;var l;e:{for(2===Ue(n)&&2===n.tag||r("170"),l=n;3!==l.tag;){if(Pt(l)){l=l.stateNode.__reactInternalMemoizedMergedChildContext;break e}(l=l.return)||r("171")}l=l.stateNode.context}n=Pt(n)?Rt(n,l):l}else n=Vr;return null===t.context?t.context=n:t.pendingContext=n,t=a,a=Kt(o),a.payload={element:e},t=void 0===t?null:t,null!==t&&(a.callback=t),Gt(i,a,o),Zn(i,o),o}function _r(e){var t=e._reactInternalFiber;return void 0===t&&("function"===typeof e.render?r("188"):r("268",Object.keys(e))),e=Ae(t),null===e?null:e.stateNode}function xr(e,t,n,r){var o=t.current;return o=Jn(er(),o),Er(e,t,n,o,r)}function kr(e){if(e=e.current,!e.child)return null;switch(e.child.tag){case 5:default:return e.child.stateNode}}function Cr(e){var t=e.findFiberByHostInstance;return Ht(Fr({},e,{findHostInstanceByFiber:function(e){return e=Ae(e),null===e?null:e.stateNode},findFiberByHostInstance:function(e){return t?t(e):null}}))}function Or(e,t,n){var r=3<arguments.length&&void 0!==arguments[3]?arguments[3]:null;return{$$typeof:Ho,key:null==r?null:""+r,children:e,containerInfo:t,implementation:n}}function Tr(e){this._expirationTime=Xn(),this._root=e,this._callbacks=this._next=null,this._hasChildren=this._didComplete=!1,this._children=null,this._defer=!0}function Pr(){this._callbacks=null,this._didCommit=!1,this._onCommit=this._onCommit.bind(this)}function Sr(e,t,n){this._internalRoot=Bt(e,t,n)}function jr(e){return!(!e||1!==e.nodeType&&9!==e.nodeType&&11!==e.nodeType&&(8!==e.nodeType||" react-mount-point-unstable "!==e.nodeValue))}function Nr(e,t){if(t||(t=e?9===e.nodeType?e.documentElement:e.firstChild:null,t=!(!t||1!==t.nodeType||!t.hasAttribute("data-reactroot"))),!t)for(var n;n=e.lastChild;)e.removeChild(n);return new Sr(e,!1,t)}function Rr(e,t,n,o,a){jr(n)||r("200");var i=n._reactRootContainer;if(i){if("function"===typeof a){var l=a;a=function(){var e=kr(i._internalRoot);l.call(e)}}null!=e?i.legacy_renderSubtreeIntoContainer(e,t,a):i.render(t,a)}else{if(i=n._reactRootContainer=Nr(n,o),"function"===typeof a){var u=a;a=function(){var e=kr(i._internalRoot);u.call(e)}}vr(function(){null!=e?i.legacy_renderSubtreeIntoContainer(e,t,a):i.render(t,a)})}return kr(i._internalRoot)}function Ur(e,t){var n=2<arguments.length&&void 0!==arguments[2]?arguments[2]:null;return jr(t)||r("200"),Or(e,t,null,n)}var Ir=n(15),Lr=n(0),Ar=n(35),Fr=n(9),Mr=n(17),Dr=n(36),zr=n(37),Br=n(38),Vr=n(16);Lr||r("227");var Hr={_caughtError:null,_hasCaughtError:!1,_rethrowError:null,_hasRethrowError:!1,invokeGuardedCallback:function(e,t,n,r,a,i,l,u,c){o.apply(Hr,arguments)},invokeGuardedCallbackAndCatchFirstError:function(e,t,n,r,o,a,i,l,u){if(Hr.invokeGuardedCallback.apply(this,arguments),Hr.hasCaughtError()){var c=Hr.clearCaughtError();Hr._hasRethrowError||(Hr._hasRethrowError=!0,Hr._rethrowError=c)}},rethrowCaughtError:function(){return a.apply(Hr,arguments)},hasCaughtError:function(){return Hr._hasCaughtError},clearCaughtError:function(){if(Hr._hasCaughtError){var e=Hr._caughtError;return Hr._caughtError=null,Hr._hasCaughtError=!1,e}r("198")}},Wr=null,qr={},$r=[],Yr={},Kr={},Qr={},Gr={plugins:$r,eventNameDispatchConfigs:Yr,registrationNameModules:Kr,registrationNameDependencies:Qr,possibleRegistrationNames:null,injectEventPluginOrder:u,injectEventPluginsByName:c},Xr=null,Jr=null,Zr=null,eo=null,to={injectEventPluginOrder:u,injectEventPluginsByName:c},no={injection:to,getListener:y,runEventsInBatch:v,runExtractedEventsInBatch:b},ro=Math.random().toString(36).slice(2),oo="__reactInternalInstance$"+ro,ao="__reactEventHandlers$"+ro,io={precacheFiberNode:function(e,t){t[oo]=e},getClosestInstanceFromNode:g,getInstanceFromNode:function(e){return e=e[oo],!e||5!==e.tag&&6!==e.tag?null:e},getNodeFromInstance:w,getFiberCurrentPropsFromNode:E,updateFiberProps:function(e,t){e[ao]=t}},lo={accumulateTwoPhaseDispatches:S,accumulateTwoPhaseDispatchesSkipTarget:function(e){p(e,O)},accumulateEnterLeaveDispatches:j,accumulateDirectDispatches:function(e){p(e,P)}},uo={animationend:N("Animation","AnimationEnd"),animationiteration:N("Animation","AnimationIteration"),animationstart:N("Animation","AnimationStart"),transitionend:N("Transition","TransitionEnd")},co={},so={};Ar.canUseDOM&&(so=document.createElement("div").style,"AnimationEvent"in window||(delete uo.animationend.animation,delete uo.animationiteration.animation,delete uo.animationstart.animation),"TransitionEvent"in window||delete uo.transitionend.transition);var fo=R("animationend"),po=R("animationiteration"),ho=R("animationstart"),mo=R("transitionend"),yo="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),vo=null,bo={_root:null,_startText:null,_fallbackText:null},go="dispatchConfig _targetInst nativeEvent isDefaultPrevented isPropagationStopped _dispatchListeners _dispatchInstances".split(" "),wo={type:null,target:null,currentTarget:Mr.thatReturnsNull,eventPhase:null,bubbles:null,cancelable:null,timeStamp:function(e){return e.timeStamp||Date.now()},defaultPrevented:null,isTrusted:null};Fr(A.prototype,{preventDefault:function(){this.defaultPrevented=!0;var e=this.nativeEvent;e&&(e.preventDefault?e.preventDefault():"unknown"!==typeof e.returnValue&&(e.returnValue=!1),this.isDefaultPrevented=Mr.thatReturnsTrue)},stopPropagation:function(){var e=this.nativeEvent;e&&(e.stopPropagation?e.stopPropagation():"unknown"!==typeof e.cancelBubble&&(e.cancelBubble=!0),this.isPropagationStopped=Mr.thatReturnsTrue)},persist:function(){this.isPersistent=Mr.thatReturnsTrue},isPersistent:Mr.thatReturnsFalse,destructor:function(){var e,t=this.constructor.Interface;for(e in t)this[e]=null;for(t=0;t<go.length;t++)this[go[t]]=null}}),A.Interface=wo,A.extend=function(e){function t(){}function n(){return r.apply(this,arguments)}var r=this;t.prototype=r.prototype;var o=new t;return Fr(o,n.prototype),n.prototype=o,n.prototype.constructor=n,n.Interface=Fr({},r.Interface,e),n.extend=r.extend,D(n),n},D(A);var Eo=A.extend({data:null}),_o=A.extend({data:null}),xo=[9,13,27,32],ko=Ar.canUseDOM&&"CompositionEvent"in window,Co=null;Ar.canUseDOM&&"documentMode"in document&&(Co=document.documentMode);var Oo=Ar.canUseDOM&&"TextEvent"in window&&!Co,To=Ar.canUseDOM&&(!ko||Co&&8<Co&&11>=Co),Po=String.fromCharCode(32),So={beforeInput:{phasedRegistrationNames:{bubbled:"onBeforeInput",captured:"onBeforeInputCapture"},dependencies:["compositionend","keypress","textInput","paste"]},compositionEnd:{phasedRegistrationNames:{bubbled:"onCompositionEnd",captured:"onCompositionEndCapture"},dependencies:"blur compositionend keydown keypress keyup mousedown".split(" ")},compositionStart:{phasedRegistrationNames:{bubbled:"onCompositionStart",captured:"onCompositionStartCapture"},dependencies:"blur compositionstart keydown keypress keyup mousedown".split(" ")},compositionUpdate:{phasedRegistrationNames:{bubbled:"onCompositionUpdate",captured:"onCompositionUpdateCapture"},dependencies:"blur compositionupdate keydown keypress keyup mousedown".split(" ")}},jo=!1,No=!1,Ro={eventTypes:So,extractEvents:function(e,t,n,r){var o=void 0,a=void 0;if(ko)e:{switch(e){case"compositionstart":o=So.compositionStart;break e;case"compositionend":o=So.compositionEnd;break e;case"compositionupdate":o=So.compositionUpdate;break e}o=void 0}else No?z(e,n)&&(o=So.compositionEnd):"keydown"===e&&229===n.keyCode&&(o=So.compositionStart);return o?(To&&(No||o!==So.compositionStart?o===So.compositionEnd&&No&&(a=I()):(bo._root=r,bo._startText=L(),No=!0)),o=Eo.getPooled(o,t,n,r),a?o.data=a:null!==(a=B(n))&&(o.data=a),S(o),a=o):a=null,(e=Oo?V(e,n):H(e,n))?(t=_o.getPooled(So.beforeInput,t,n,r),t.data=e,S(t)):t=null,null===a?t:null===t?a:[a,t]}},Uo=null,Io={injectFiberControlledHostComponent:function(e){Uo=e}},Lo=null,Ao=null,Fo={injection:Io,enqueueStateRestore:q,needsStateRestore:$,restoreStateIfNeeded:Y},Mo=!1,Do={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0},zo=Lr.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED.ReactCurrentOwner,Bo="function"===typeof Symbol&&Symbol.for,Vo=Bo?Symbol.for("react.element"):60103,Ho=Bo?Symbol.for("react.portal"):60106,Wo=Bo?Symbol.for("react.fragment"):60107,qo=Bo?Symbol.for("react.strict_mode"):60108,$o=Bo?Symbol.for("react.profiler"):60114,Yo=Bo?Symbol.for("react.provider"):60109,Ko=Bo?Symbol.for("react.context"):60110,Qo=Bo?Symbol.for("react.async_mode"):60111,Go=Bo?Symbol.for("react.forward_ref"):60112,Xo=Bo?Symbol.for("react.timeout"):60113,Jo="function"===typeof Symbol&&Symbol.iterator,Zo=/^[:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD][:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD\-.0-9\u00B7\u0300-\u036F\u203F-\u2040]*$/,ea=Object.prototype.hasOwnProperty,ta={},na={},ra={};"children dangerouslySetInnerHTML defaultValue defaultChecked innerHTML suppressContentEditableWarning suppressHydrationWarning style".split(" ").forEach(function(e){ra[e]=new fe(e,0,!1,e,null)}),[["acceptCharset","accept-charset"],["className","class"],["htmlFor","for"],["httpEquiv","http-equiv"]].forEach(function(e){var t=e[0];ra[t]=new fe(t,1,!1,e[1],null)}),["contentEditable","draggable","spellCheck","value"].forEach(function(e){ra[e]=new fe(e,2,!1,e.toLowerCase(),null)}),["autoReverse","externalResourcesRequired","preserveAlpha"].forEach(function(e){ra[e]=new fe(e,2,!1,e,null)}),"allowFullScreen async autoFocus autoPlay controls default defer disabled formNoValidate hidden loop noModule noValidate open playsInline readOnly required reversed scoped seamless itemScope".split(" ").forEach(function(e){ra[e]=new fe(e,3,!1,e.toLowerCase(),null)}),["checked","multiple","muted","selected"].forEach(function(e){ra[e]=new fe(e,3,!0,e.toLowerCase(),null)}),["capture","download"].forEach(function(e){ra[e]=new fe(e,4,!1,e.toLowerCase(),null)}),["cols","rows","size","span"].forEach(function(e){ra[e]=new fe(e,6,!1,e.toLowerCase(),null)}),["rowSpan","start"].forEach(function(e){ra[e]=new fe(e,5,!1,e.toLowerCase(),null)});var oa=/[\-:]([a-z])/g;"accent-height alignment-baseline arabic-form baseline-shift cap-height clip-path clip-rule color-interpolation color-interpolation-filters color-profile color-rendering dominant-baseline enable-background fill-opacity fill-rule flood-color flood-opacity font-family font-size font-size-adjust font-stretch font-style font-variant font-weight glyph-name glyph-orientation-horizontal glyph-orientation-vertical horiz-adv-x horiz-origin-x image-rendering letter-spacing lighting-color marker-end marker-mid marker-start overline-position overline-thickness paint-order panose-1 pointer-events rendering-intent shape-rendering stop-color stop-opacity strikethrough-position strikethrough-thickness stroke-dasharray stroke-dashoffset stroke-linecap stroke-linejoin stroke-miterlimit stroke-opacity stroke-width text-anchor text-decoration text-rendering underline-position underline-thickness unicode-bidi unicode-range units-per-em v-alphabetic v-hanging v-ideographic v-mathematical vector-effect vert-adv-y vert-origin-x vert-origin-y word-spacing writing-mode xmlns:xlink x-height".split(" ").forEach(function(e){var t=e.replace(oa,pe);ra[t]=new fe(t,1,!1,e,null)}),"xlink:actuate xlink:arcrole xlink:href xlink:role xlink:show xlink:title xlink:type".split(" ").forEach(function(e){var t=e.replace(oa,pe);ra[t]=new fe(t,1,!1,e,"http://www.w3.org/1999/xlink")}),["xml:base","xml:lang","xml:space"].forEach(function(e){var t=e.replace(oa,pe);ra[t]=new fe(t,1,!1,e,"http://www.w3.org/XML/1998/namespace")}),ra.tabIndex=new fe("tabIndex",1,!1,"tabindex",null);var aa={change:{phasedRegistrationNames:{bubbled:"onChange",captured:"onChangeCapture"},dependencies:"blur change click focus input keydown keyup selectionchange".split(" ")}},ia=null,la=null,ua=!1;Ar.canUseDOM&&(ua=ee("input")&&(!document.documentMode||9<document.documentMode));var ca={eventTypes:aa,_isInputEventSupported:ua,extractEvents:function(e,t,n,r){var o=t?w(t):window,a=void 0,i=void 0,l=o.nodeName&&o.nodeName.toLowerCase();if("select"===l||"input"===l&&"file"===o.type?a=ke:J(o)?ua?a=je:(a=Pe,i=Te):(l=o.nodeName)&&"input"===l.toLowerCase()&&("checkbox"===o.type||"radio"===o.type)&&(a=Se),a&&(a=a(e,t)))return Ee(a,n,r);i&&i(e,o,t),"blur"===e&&(e=o._wrapperState)&&e.controlled&&"number"===o.type&&ge(o,"number",o.value)}},sa=A.extend({view:null,detail:null}),fa={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"},pa=sa.extend({screenX:null,screenY:null,clientX:null,clientY:null,pageX:null,pageY:null,ctrlKey:null,shiftKey:null,altKey:null,metaKey:null,getModifierState:Re,button:null,buttons:null,relatedTarget:function(e){return e.relatedTarget||(e.fromElement===e.srcElement?e.toElement:e.fromElement)}}),da=pa.extend({pointerId:null,width:null,height:null,pressure:null,tiltX:null,tiltY:null,pointerType:null,isPrimary:null}),ha={mouseEnter:{registrationName:"onMouseEnter",dependencies:["mouseout","mouseover"]},mouseLeave:{registrationName:"onMouseLeave",dependencies:["mouseout","mouseover"]},pointerEnter:{registrationName:"onPointerEnter",dependencies:["pointerout","pointerover"]},pointerLeave:{registrationName:"onPointerLeave",dependencies:["pointerout","pointerover"]}},ma={eventTypes:ha,extractEvents:function(e,t,n,r){var o="mouseover"===e||"pointerover"===e,a="mouseout"===e||"pointerout"===e;if(o&&(n.relatedTarget||n.fromElement)||!a&&!o)return null;if(o=r.window===r?r:(o=r.ownerDocument)?o.defaultView||o.parentWindow:window,a?(a=t,t=(t=n.relatedTarget||n.toElement)?g(t):null):a=null,a===t)return null;var i=void 0,l=void 0,u=void 0,c=void 0;return"mouseout"===e||"mouseover"===e?(i=pa,l=ha.mouseLeave,u=ha.mouseEnter,c="mouse"):"pointerout"!==e&&"pointerover"!==e||(i=da,l=ha.pointerLeave,u=ha.pointerEnter,c="pointer"),e=null==a?o:w(a),o=null==t?o:w(t),l=i.getPooled(l,a,n,r),l.type=c+"leave",l.target=e,l.relatedTarget=o,n=i.getPooled(u,t,n,r),n.type=c+"enter",n.target=o,n.relatedTarget=e,j(l,n,a,t),[l,n]}},ya=A.extend({animationName:null,elapsedTime:null,pseudoElement:null}),va=A.extend({clipboardData:function(e){return"clipboardData"in e?e.clipboardData:window.clipboardData}}),ba=sa.extend({relatedTarget:null}),ga={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},wa={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},Ea=sa.extend({key:function(e){if(e.key){var t=ga[e.key]||e.key;if("Unidentified"!==t)return t}return"keypress"===e.type?(e=Me(e),13===e?"Enter":String.fromCharCode(e)):"keydown"===e.type||"keyup"===e.type?wa[e.keyCode]||"Unidentified":""},location:null,ctrlKey:null,shiftKey:null,altKey:null,metaKey:null,repeat:null,locale:null,getModifierState:Re,charCode:function(e){return"keypress"===e.type?Me(e):0},keyCode:function(e){return"keydown"===e.type||"keyup"===e.type?e.keyCode:0},which:function(e){return"keypress"===e.type?Me(e):"keydown"===e.type||"keyup"===e.type?e.keyCode:0}}),_a=pa.extend({dataTransfer:null}),xa=sa.extend({touches:null,targetTouches:null,changedTouches:null,altKey:null,metaKey:null,ctrlKey:null,shiftKey:null,getModifierState:Re}),ka=A.extend({propertyName:null,elapsedTime:null,pseudoElement:null}),Ca=pa.extend({deltaX:function(e){return"deltaX"in e?e.deltaX:"wheelDeltaX"in e?-e.wheelDeltaX:0},deltaY:function(e){return"deltaY"in e?e.deltaY:"wheelDeltaY"in e?-e.wheelDeltaY:"wheelDelta"in e?-e.wheelDelta:0},deltaZ:null,deltaMode:null}),Oa=[["abort","abort"],[fo,"animationEnd"],[po,"animationIteration"],[ho,"animationStart"],["canplay","canPlay"],["canplaythrough","canPlayThrough"],["drag","drag"],["dragenter","dragEnter"],["dragexit","dragExit"],["dragleave","dragLeave"],["dragover","dragOver"],["durationchange","durationChange"],["emptied","emptied"],["encrypted","encrypted"],["ended","ended"],["error","error"],["gotpointercapture","gotPointerCapture"],["load","load"],["loadeddata","loadedData"],["loadedmetadata","loadedMetadata"],["loadstart","loadStart"],["lostpointercapture","lostPointerCapture"],["mousemove","mouseMove"],["mouseout","mouseOut"],["mouseover","mouseOver"],["playing","playing"],["pointermove","pointerMove"],["pointerout","pointerOut"],["pointerover","pointerOver"],["progress","progress"],["scroll","scroll"],["seeking","seeking"],["stalled","stalled"],["suspend","suspend"],["timeupdate","timeUpdate"],["toggle","toggle"],["touchmove","touchMove"],[mo,"transitionEnd"],["waiting","waiting"],["wheel","wheel"]],Ta={},Pa={};[["blur","blur"],["cancel","cancel"],["click","click"],["close","close"],["contextmenu","contextMenu"],["copy","copy"],["cut","cut"],["dblclick","doubleClick"],["dragend","dragEnd"],["dragstart","dragStart"],["drop","drop"],["focus","focus"],["input","input"],["invalid","invalid"],["keydown","keyDown"],["keypress","keyPress"],["keyup","keyUp"],["mousedown","mouseDown"],["mouseup","mouseUp"],["paste","paste"],["pause","pause"],["play","play"],["pointercancel","pointerCancel"],["pointerdown","pointerDown"],["pointerup","pointerUp"],["ratechange","rateChange"],["reset","reset"],["seeked","seeked"],["submit","submit"],["touchcancel","touchCancel"],["touchend","touchEnd"],["touchstart","touchStart"],["volumechange","volumeChange"]].forEach(function(e){De(e,!0)}),Oa.forEach(function(e){De(e,!1)});var Sa={eventTypes:Ta,isInteractiveTopLevelEventType:function(e){return void 0!==(e=Pa[e])&&!0===e.isInteractive},extractEvents:function(e,t,n,r){var o=Pa[e];if(!o)return null;switch(e){case"keypress":if(0===Me(n))return null;case"keydown":case"keyup":e=Ea;break;case"blur":case"focus":e=ba;break;case"click":if(2===n.button)return null;case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":e=pa;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":e=_a;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":e=xa;break;case fo:case po:case ho:e=ya;break;case mo:e=ka;break;case"scroll":e=sa;break;case"wheel":e=Ca;break;case"copy":case"cut":case"paste":e=va;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":e=da;break;default:e=A}return t=e.getPooled(o,t,n,r),S(t),t}},ja=Sa.isInteractiveTopLevelEventType,Na=[],Ra=!0,Ua={get _enabled(){return Ra},setEnabled:Be,isEnabled:function(){return Ra},trapBubbledEvent:Ve,trapCapturedEvent:He,dispatchEvent:qe},Ia={},La=0,Aa="_reactListenersID"+(""+Math.random()).slice(2),Fa=Ar.canUseDOM&&"documentMode"in document&&11>=document.documentMode,Ma={select:{phasedRegistrationNames:{bubbled:"onSelect",captured:"onSelectCapture"},dependencies:"blur contextmenu focus keydown keyup mousedown mouseup selectionchange".split(" ")}},Da=null,za=null,Ba=null,Va=!1,Ha={eventTypes:Ma,extractEvents:function(e,t,n,r){var o,a=r.window===r?r.document:9===r.nodeType?r:r.ownerDocument;if(!(o=!a)){e:{a=$e(a),o=Qr.onSelect;for(var i=0;i<o.length;i++){var l=o[i];if(!a.hasOwnProperty(l)||!a[l]){a=!1;break e}}a=!0}o=!a}if(o)return null;switch(a=t?w(t):window,e){case"focus":(J(a)||"true"===a.contentEditable)&&(Da=a,za=t,Ba=null);break;case"blur":Ba=za=Da=null;break;case"mousedown":Va=!0;break;case"contextmenu":case"mouseup":return Va=!1,Ge(n,r);case"selectionchange":if(Fa)break;case"keydown":case"keyup":return Ge(n,r)}return null}};to.injectEventPluginOrder("ResponderEventPlugin SimpleEventPlugin TapEventPlugin EnterLeaveEventPlugin ChangeEventPlugin SelectEventPlugin BeforeInputEventPlugin".split(" ")),Xr=io.getFiberCurrentPropsFromNode,Jr=io.getInstanceFromNode,Zr=io.getNodeFromInstance,to.injectEventPluginsByName({SimpleEventPlugin:Sa,EnterLeaveEventPlugin:ma,ChangeEventPlugin:ca,SelectEventPlugin:Ha,BeforeInputEventPlugin:Ro});var Wa="function"===typeof requestAnimationFrame?requestAnimationFrame:void 0,qa=Date,$a=setTimeout,Ya=clearTimeout,Ka=void 0;if("object"===typeof performance&&"function"===typeof performance.now){var Qa=performance;Ka=function(){return Qa.now()}}else Ka=function(){return qa.now()};var Ga=void 0,Xa=void 0;if(Ar.canUseDOM){var Ja="function"===typeof Wa?Wa:function(){r("276")},Za=null,ei=null,ti=-1,ni=!1,ri=!1,oi=0,ai=33,ii=33,li={didTimeout:!1,timeRemaining:function(){var e=oi-Ka();return 0<e?e:0}},ui=function(e,t){var n=e.scheduledCallback,r=!1;try{n(t),r=!0}finally{Xa(e),r||(ni=!0,window.postMessage(ci,"*"))}},ci="__reactIdleCallback$"+Math.random().toString(36).slice(2);window.addEventListener("message",function(e){if(e.source===window&&e.data===ci&&(ni=!1,null!==Za)){if(null!==Za){var t=Ka();if(!(-1===ti||ti>t)){e=-1;for(var n=[],r=Za;null!==r;){var o=r.timeoutTime;-1!==o&&o<=t?n.push(r):-1!==o&&(-1===e||o<e)&&(e=o),r=r.next}if(0<n.length)for(li.didTimeout=!0,t=0,r=n.length;t<r;t++)ui(n[t],li);ti=e}}for(e=Ka();0<oi-e&&null!==Za;)e=Za,li.didTimeout=!1,ui(e,li),e=Ka();null===Za||ri||(ri=!0,Ja(si))}},!1);var si=function(e){ri=!1;var t=e-oi+ii;t<ii&&ai<ii?(8>t&&(t=8),ii=t<ai?ai:t):ai=t,oi=e+ii,ni||(ni=!0,window.postMessage(ci,"*"))};Ga=function(e,t){var n=-1;return null!=t&&"number"===typeof t.timeout&&(n=Ka()+t.timeout),(-1===ti||-1!==n&&n<ti)&&(ti=n),e={scheduledCallback:e,timeoutTime:n,prev:null,next:null},null===Za?Za=e:null!==(t=e.prev=ei)&&(t.next=e),ei=e,ri||(ri=!0,Ja(si)),e},Xa=function(e){if(null!==e.prev||Za===e){var t=e.next,n=e.prev;e.next=null,e.prev=null,null!==t?null!==n?(n.next=t,t.prev=n):(t.prev=null,Za=t):null!==n?(n.next=null,ei=n):ei=Za=null}}}else{var fi=new Map;Ga=function(e){var t={scheduledCallback:e,timeoutTime:0,next:null,prev:null},n=$a(function(){e({timeRemaining:function(){return 1/0},didTimeout:!1})});return fi.set(e,n),t},Xa=function(e){var t=fi.get(e.scheduledCallback);fi.delete(e),Ya(t)}}var pi={html:"http://www.w3.org/1999/xhtml",mathml:"http://www.w3.org/1998/Math/MathML",svg:"http://www.w3.org/2000/svg"},di=void 0,hi=function(e){return"undefined"!==typeof MSApp&&MSApp.execUnsafeLocalFunction?function(t,n,r,o){MSApp.execUnsafeLocalFunction(function(){return e(t,n)})}:e}(function(e,t){if(e.namespaceURI!==pi.svg||"innerHTML"in e)e.innerHTML=t;else{for(di=di||document.createElement("div"),di.innerHTML="<svg>"+t+"</svg>",t=di.firstChild;e.firstChild;)e.removeChild(e.firstChild);for(;t.firstChild;)e.appendChild(t.firstChild)}}),mi={animationIterationCount:!0,borderImageOutset:!0,borderImageSlice:!0,borderImageWidth:!0,boxFlex:!0,boxFlexGroup:!0,boxOrdinalGroup:!0,columnCount:!0,columns:!0,flex:!0,flexGrow:!0,flexPositive:!0,flexShrink:!0,flexNegative:!0,flexOrder:!0,gridRow:!0,gridRowEnd:!0,gridRowSpan:!0,gridRowStart:!0,gridColumn:!0,gridColumnEnd:!0,gridColumnSpan:!0,gridColumnStart:!0,fontWeight:!0,lineClamp:!0,lineHeight:!0,opacity:!0,order:!0,orphans:!0,tabSize:!0,widows:!0,zIndex:!0,zoom:!0,fillOpacity:!0,floodOpacity:!0,stopOpacity:!0,strokeDasharray:!0,strokeDashoffset:!0,strokeMiterlimit:!0,strokeOpacity:!0,strokeWidth:!0},yi=["Webkit","ms","Moz","O"];Object.keys(mi).forEach(function(e){yi.forEach(function(t){t=t+e.charAt(0).toUpperCase()+e.substring(1),mi[t]=mi[e]})});var vi=Fr({menuitem:!0},{area:!0,base:!0,br:!0,col:!0,embed:!0,hr:!0,img:!0,input:!0,keygen:!0,link:!0,meta:!0,param:!0,source:!0,track:!0,wbr:!0}),bi=Mr.thatReturns(""),gi={createElement:pt,createTextNode:dt,setInitialProperties:ht,diffProperties:mt,updateProperties:yt,diffHydratedProperties:vt,diffHydratedText:bt,warnForUnmatchedText:function(){},warnForDeletedHydratableElement:function(){},warnForDeletedHydratableText:function(){},warnForInsertedHydratedElement:function(){},warnForInsertedHydratedText:function(){},restoreControlledState:function(e,t,n){switch(t){case"input":if(ve(e,n),t=n.name,"radio"===n.type&&null!=t){for(n=e;n.parentNode;)n=n.parentNode;for(n=n.querySelectorAll("input[name="+JSON.stringify(""+t)+'][type="radio"]'),t=0;t<n.length;t++){var o=n[t];if(o!==e&&o.form===e.form){var a=E(o);a||r("90"),oe(o),ve(o,a)}}}break;case"textarea":rt(e,n);break;case"select":null!=(t=n.value)&&Ze(e,!!n.multiple,t,!1)}}},wi=null,Ei=null,_i=Ka,xi=Ga,ki=Xa;new Set;var Ci=[],Oi=-1,Ti=xt(Vr),Pi=xt(!1),Si=Vr,ji=null,Ni=null,Ri=!1,Ui=xt(null),Ii=xt(null),Li=xt(0),Ai={},Fi=xt(Ai),Mi=xt(Ai),Di=xt(Ai),zi={isMounted:function(e){return!!(e=e._reactInternalFiber)&&2===Ue(e)},enqueueSetState:function(e,t,n){e=e._reactInternalFiber;var r=er();r=Jn(r,e);var o=Kt(r);o.payload=t,void 0!==n&&null!==n&&(o.callback=n),Gt(e,o,r),Zn(e,r)},enqueueReplaceState:function(e,t,n){e=e._reactInternalFiber;var r=er();r=Jn(r,e);var o=Kt(r);o.tag=1,o.payload=t,void 0!==n&&null!==n&&(o.callback=n),Gt(e,o,r),Zn(e,r)},enqueueForceUpdate:function(e,t){e=e._reactInternalFiber;var n=er();n=Jn(n,e);var r=Kt(n);r.tag=2,void 0!==t&&null!==t&&(r.callback=t),Gt(e,r,n),Zn(e,n)}},Bi=Array.isArray,Vi=vn(!0),Hi=vn(!1),Wi=null,qi=null,$i=!1,Yi=void 0,Ki=void 0,Qi=void 0;Yi=function(){},Ki=function(e,t,n){(t.updateQueue=n)&&Un(t)},Qi=function(e,t,n,r){n!==r&&Un(t)};var Gi=_i(),Xi=2,Ji=Gi,Zi=0,el=0,tl=!1,nl=null,rl=null,ol=0,al=-1,il=!1,ll=null,ul=!1,cl=!1,sl=null,fl=null,pl=null,dl=0,hl=void 0,ml=!1,yl=null,vl=0,bl=0,gl=!1,wl=!1,El=null,_l=null,xl=!1,kl=!1,Cl=!1,Ol=null,Tl=1e3,Pl=0,Sl=1,jl={updateContainerAtExpirationTime:Er,createContainer:function(e,t,n){return Bt(e,t,n)},updateContainer:xr,flushRoot:cr,requestWork:or,computeUniqueAsyncExpiration:Xn,batchedUpdates:yr,unbatchedUpdates:vr,deferredUpdates:tr,syncUpdates:nr,interactiveUpdates:gr,flushInteractiveUpdates:function(){ml||0===bl||(ur(bl,!1,null),bl=0)},flushControlled:wr,flushSync:br,getPublicRootInstance:kr,findHostInstance:_r,findHostInstanceWithNoPortals:function(e){return e=Fe(e),null===e?null:e.stateNode},injectIntoDevTools:Cr};Io.injectFiberControlledHostComponent(gi),Tr.prototype.render=function(e){this._defer||r("250"),this._hasChildren=!0,this._children=e;var t=this._root._internalRoot,n=this._expirationTime,o=new Pr;return Er(e,t,null,n,o._onCommit),o},Tr.prototype.then=function(e){if(this._didComplete)e();else{var t=this._callbacks;null===t&&(t=this._callbacks=[]),t.push(e)}},Tr.prototype.commit=function(){var e=this._root._internalRoot,t=e.firstBatch;if(this._defer&&null!==t||r("251"),this._hasChildren){var n=this._expirationTime;if(t!==this){this._hasChildren&&(n=this._expirationTime=t._expirationTime,this.render(this._children));for(var o=null,a=t;a!==this;)o=a,a=a._next;null===o&&r("251"),o._next=a._next,this._next=t,e.firstBatch=this}this._defer=!1,cr(e,n),t=this._next,this._next=null,t=e.firstBatch=t,null!==t&&t._hasChildren&&t.render(t._children)}else this._next=null,this._defer=!1},Tr.prototype._onComplete=function(){if(!this._didComplete){this._didComplete=!0;var e=this._callbacks;if(null!==e)for(var t=0;t<e.length;t++)(0,e[t])()}},Pr.prototype.then=function(e){if(this._didCommit)e();else{var t=this._callbacks;null===t&&(t=this._callbacks=[]),t.push(e)}},Pr.prototype._onCommit=function(){if(!this._didCommit){this._didCommit=!0;var e=this._callbacks;if(null!==e)for(var t=0;t<e.length;t++){var n=e[t];"function"!==typeof n&&r("191",n),n()}}},Sr.prototype.render=function(e,t){var n=this._internalRoot,r=new Pr;return t=void 0===t?null:t,null!==t&&r.then(t),xr(e,n,null,r._onCommit),r},Sr.prototype.unmount=function(e){var t=this._internalRoot,n=new Pr;return e=void 0===e?null:e,null!==e&&n.then(e),xr(null,t,null,n._onCommit),n},Sr.prototype.legacy_renderSubtreeIntoContainer=function(e,t,n){var r=this._internalRoot,o=new Pr;return n=void 0===n?null:n,null!==n&&o.then(n),xr(t,r,e,o._onCommit),o},Sr.prototype.createBatch=function(){var e=new Tr(this),t=e._expirationTime,n=this._internalRoot,r=n.firstBatch;if(null===r)n.firstBatch=e,e._next=null;else{for(n=null;null!==r&&r._expirationTime<=t;)n=r,r=r._next;e._next=r,null!==n&&(n._next=e)}return e},K=jl.batchedUpdates,Q=jl.interactiveUpdates,G=jl.flushInteractiveUpdates;var Nl={createPortal:Ur,findDOMNode:function(e){return null==e?null:1===e.nodeType?e:_r(e)},hydrate:function(e,t,n){return Rr(null,e,t,!0,n)},render:function(e,t,n){return Rr(null,e,t,!1,n)},unstable_renderSubtreeIntoContainer:function(e,t,n,o){return(null==e||void 0===e._reactInternalFiber)&&r("38"),Rr(e,t,n,!1,o)},unmountComponentAtNode:function(e){return jr(e)||r("40"),!!e._reactRootContainer&&(vr(function(){Rr(null,null,e,!1,function(){e._reactRootContainer=null})}),!0)},unstable_createPortal:function(){return Ur.apply(void 0,arguments)},unstable_batchedUpdates:yr,unstable_deferredUpdates:tr,unstable_interactiveUpdates:gr,flushSync:br,unstable_flushControlled:wr,__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED:{EventPluginHub:no,EventPluginRegistry:Gr,EventPropagators:lo,ReactControlledComponent:Fo,ReactDOMComponentTree:io,ReactDOMEventListener:Ua},unstable_createRoot:function(e,t){return new Sr(e,!0,null!=t&&!0===t.hydrate)}};Cr({findFiberByHostInstance:g,bundleType:0,version:"16.4.2",rendererPackageName:"react-dom"});var Rl={default:Nl},Ul=Rl&&Nl||Rl;e.exports=Ul.default?Ul.default:Ul},function(e,t,n){"use strict";var r=!("undefined"===typeof window||!window.document||!window.document.createElement),o={canUseDOM:r,canUseWorkers:"undefined"!==typeof Worker,canUseEventListeners:r&&!(!window.addEventListener&&!window.attachEvent),canUseViewport:r&&!!window.screen,isInWorker:!r};e.exports=o},function(e,t,n){"use strict";function r(e){if("undefined"===typeof(e=e||("undefined"!==typeof document?document:void 0)))return null;try{return e.activeElement||e.body}catch(t){return e.body}}e.exports=r},function(e,t,n){"use strict";function r(e,t){return e===t?0!==e||0!==t||1/e===1/t:e!==e&&t!==t}function o(e,t){if(r(e,t))return!0;if("object"!==typeof e||null===e||"object"!==typeof t||null===t)return!1;var n=Object.keys(e),o=Object.keys(t);if(n.length!==o.length)return!1;for(var i=0;i<n.length;i++)if(!a.call(t,n[i])||!r(e[n[i]],t[n[i]]))return!1;return!0}var a=Object.prototype.hasOwnProperty;e.exports=o},function(e,t,n){"use strict";function r(e,t){return!(!e||!t)&&(e===t||!o(e)&&(o(t)?r(e,t.parentNode):"contains"in e?e.contains(t):!!e.compareDocumentPosition&&!!(16&e.compareDocumentPosition(t))))}var o=n(39);e.exports=r},function(e,t,n){"use strict";function r(e){return o(e)&&3==e.nodeType}var o=n(40);e.exports=r},function(e,t,n){"use strict";function r(e){var t=e?e.ownerDocument||e:document,n=t.defaultView||window;return!(!e||!("function"===typeof n.Node?e instanceof n.Node:"object"===typeof e&&"number"===typeof e.nodeType&&"string"===typeof e.nodeName))}e.exports=r},function(e,t){},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(43),l=n(0),u=n.n(l),c=n(70),s=n(71),f=n(72),p=n(74),d=n(76),h=n(78),m=(n.n(h),function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}()),y=function(e){function t(e){r(this,t);var n=o(this,(t.__proto__||Object.getPrototypeOf(t)).call(this,e));return n.state={error:null,isLoaded:!1,isSubmited:null,msg:"",me:""},n}return a(t,e),m(t,[{key:"componentDidMount",value:function(){var e=this;fetch("/api/example/me").then(function(e){return e.json()}).then(function(t){e.setState({isLoaded:!0,me:"undefined"===typeof t.me?[]:t.me})},function(t){e.setState({isLoaded:!0,error:t})})}},{key:"render",value:function(){var e=this.state,t=e.error,n=e.isLoaded,r=e.me;return t&&n?u.a.createElement("div",null,"Error: ",t.message):n?u.a.createElement("div",null,u.a.createElement("nav",{className:"navbar navbar navbar-dark bg-dark"},u.a.createElement("span",{className:"navbar-brand mb-0 h1"},"R3 Corda Example"," --- ",r)),u.a.createElement("div",{className:"container-fluid"},u.a.createElement("div",{className:"row content"},u.a.createElement("div",{className:"col-sm-3 sidenav"},u.a.createElement("br",null),u.a.createElement("div",{className:"list-group"},u.a.createElement("a",{href:"/create-iou",className:"list-group-item list-group-item-action"},"create-iou"),u.a.createElement("a",{href:"/create-ipu",className:"list-group-item list-group-item-action"},"create-ipu"),u.a.createElement("a",{href:"/list-ious",className:"list-group-item list-group-item-action"},"list-ious"),u.a.createElement("a",{href:"/list-ipus",className:"list-group-item list-group-item-action"},"list-ipus"),u.a.createElement("a",{href:"/list-corda-nodes",className:"list-group-item list-group-item-action"},"list-corda-nodes")),u.a.createElement("br",null)),u.a.createElement("div",{className:"col-sm-9"},u.a.createElement(i.a,null,u.a.createElement("div",{id:"content",className:"container bs-docs-container"},u.a.createElement("div",{className:"contenido"},u.a.createElement("div",{className:"panel-body"},u.a.createElement("br",null),u.a.createElement("div",null,u.a.createElement(i.c,{exact:!0,path:"/create-ipu",component:c.a}),u.a.createElement(i.c,{path:"/create-iou",component:s.a}),u.a.createElement(i.c,{path:"/list-ious",component:f.a}),u.a.createElement(i.c,{path:"/list-ipus",component:p.a}),u.a.createElement(i.c,{path:"/list-corda-nodes",component:d.a}))))))))),u.a.createElement("footer",{className:"container-fluid"},u.a.createElement("p",null,"2018"))):u.a.createElement("div",null,"Loading...")}}]),t}(u.a.Component);t.a=y},function(e,t,n){"use strict";var r=n(44);n.d(t,"a",function(){return r.a});var o=(n(52),n(19));n.d(t,"b",function(){return o.a});var a=(n(53),n(55),n(57),n(59),n(20));n.d(t,"c",function(){return a.a});n(11),n(61),n(63),n(65),n(66),n(67)},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(3),l=n.n(i),u=n(0),c=n.n(u),s=n(1),f=n.n(s),p=n(4),d=n(11),h=function(e){function t(){var n,a,i;r(this,t);for(var l=arguments.length,u=Array(l),c=0;c<l;c++)u[c]=arguments[c];return n=a=o(this,e.call.apply(e,[this].concat(u))),a.history=Object(p.a)(a.props),i=n,o(a,i)}return a(t,e),t.prototype.componentWillMount=function(){l()(!this.props.history,"<BrowserRouter> ignores the history prop. To use a custom history, use `import { Router }` instead of `import { BrowserRouter as Router }`.")},t.prototype.render=function(){return c.a.createElement(d.a,{history:this.history,children:this.props.children})},t}(c.a.Component);h.propTypes={basename:f.a.string,forceRefresh:f.a.bool,getUserConfirmation:f.a.func,keyLength:f.a.number,children:f.a.node},t.a=h},function(e,t,n){"use strict";function r(){}var o=n(46);e.exports=function(){function e(e,t,n,r,a,i){if(i!==o){var l=new Error("Calling PropTypes validators directly is not supported by the `prop-types` package. Use PropTypes.checkPropTypes() to call them. Read more at http://fb.me/use-check-prop-types");throw l.name="Invariant Violation",l}}function t(){return e}e.isRequired=e;var n={array:e,bool:e,func:e,number:e,object:e,string:e,symbol:e,any:e,arrayOf:t,element:e,instanceOf:t,node:e,objectOf:t,oneOf:t,oneOfType:t,shape:t,exact:t};return n.checkPropTypes=r,n.PropTypes=n,n}},function(e,t,n){"use strict";e.exports="SECRET_DO_NOT_PASS_THIS_OR_YOU_WILL_BE_FIRED"},function(e,t,n){"use strict";var r=n(7),o=n.n(r),a=n(2),i=n.n(a),l=n(8),u=n(5),c=n(10),s=n(18),f="function"===typeof Symbol&&"symbol"===typeof Symbol.iterator?function(e){return typeof e}:function(e){return e&&"function"===typeof Symbol&&e.constructor===Symbol&&e!==Symbol.prototype?"symbol":typeof e},p=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},d=function(){try{return window.history.state||{}}catch(e){return{}}},h=function(){var e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:{};i()(s.b,"Browser history needs a DOM");var t=window.history,n=Object(s.g)(),r=!Object(s.h)(),a=e.forceRefresh,h=void 0!==a&&a,m=e.getUserConfirmation,y=void 0===m?s.c:m,v=e.keyLength,b=void 0===v?6:v,g=e.basename?Object(u.g)(Object(u.a)(e.basename)):"",w=function(e){var t=e||{},n=t.key,r=t.state,a=window.location,i=a.pathname,c=a.search,s=a.hash,f=i+c+s;return o()(!g||Object(u.c)(f,g),'You are attempting to use a basename on a page whose URL path does not begin with the basename. Expected path "'+f+'" to begin with "'+g+'".'),g&&(f=Object(u.e)(f,g)),Object(l.a)(f,r,n)},E=function(){return Math.random().toString(36).substr(2,b)},_=Object(c.a)(),x=function(e){p(V,e),V.length=t.length,_.notifyListeners(V.location,V.action)},k=function(e){Object(s.d)(e)||T(w(e.state))},C=function(){T(w(d()))},O=!1,T=function(e){if(O)O=!1,x();else{_.confirmTransitionTo(e,"POP",y,function(t){t?x({action:"POP",location:e}):P(e)})}},P=function(e){var t=V.location,n=j.indexOf(t.key);-1===n&&(n=0);var r=j.indexOf(e.key);-1===r&&(r=0);var o=n-r;o&&(O=!0,I(o))},S=w(d()),j=[S.key],N=function(e){return g+Object(u.b)(e)},R=function(e,r){o()(!("object"===("undefined"===typeof e?"undefined":f(e))&&void 0!==e.state&&void 0!==r),"You should avoid providing a 2nd state argument to push when the 1st argument is a location-like object that already has state; it is ignored");var a=Object(l.a)(e,r,E(),V.location);_.confirmTransitionTo(a,"PUSH",y,function(e){if(e){var r=N(a),i=a.key,l=a.state;if(n)if(t.pushState({key:i,state:l},null,r),h)window.location.href=r;else{var u=j.indexOf(V.location.key),c=j.slice(0,-1===u?0:u+1);c.push(a.key),j=c,x({action:"PUSH",location:a})}else o()(void 0===l,"Browser history cannot push state in browsers that do not support HTML5 history"),window.location.href=r}})},U=function(e,r){o()(!("object"===("undefined"===typeof e?"undefined":f(e))&&void 0!==e.state&&void 0!==r),"You should avoid providing a 2nd state argument to replace when the 1st argument is a location-like object that already has state; it is ignored");var a=Object(l.a)(e,r,E(),V.location);_.confirmTransitionTo(a,"REPLACE",y,function(e){if(e){var r=N(a),i=a.key,l=a.state;if(n)if(t.replaceState({key:i,state:l},null,r),h)window.location.replace(r);else{var u=j.indexOf(V.location.key);-1!==u&&(j[u]=a.key),x({action:"REPLACE",location:a})}else o()(void 0===l,"Browser history cannot replace state in browsers that do not support HTML5 history"),window.location.replace(r)}})},I=function(e){t.go(e)},L=function(){return I(-1)},A=function(){return I(1)},F=0,M=function(e){F+=e,1===F?(Object(s.a)(window,"popstate",k),r&&Object(s.a)(window,"hashchange",C)):0===F&&(Object(s.e)(window,"popstate",k),r&&Object(s.e)(window,"hashchange",C))},D=!1,z=function(){var e=arguments.length>0&&void 0!==arguments[0]&&arguments[0],t=_.setPrompt(e);return D||(M(1),D=!0),function(){return D&&(D=!1,M(-1)),t()}},B=function(e){var t=_.appendListener(e);return M(1),function(){M(-1),t()}},V={length:t.length,action:"POP",location:S,createHref:N,push:R,replace:U,go:I,goBack:L,goForward:A,block:z,listen:B};return V};t.a=h},function(e,t,n){"use strict";function r(e){return"/"===e.charAt(0)}function o(e,t){for(var n=t,r=n+1,o=e.length;r<o;n+=1,r+=1)e[n]=e[r];e.pop()}function a(e){var t=arguments.length>1&&void 0!==arguments[1]?arguments[1]:"",n=e&&e.split("/")||[],a=t&&t.split("/")||[],i=e&&r(e),l=t&&r(t),u=i||l;if(e&&r(e)?a=n:n.length&&(a.pop(),a=a.concat(n)),!a.length)return"/";var c=void 0;if(a.length){var s=a[a.length-1];c="."===s||".."===s||""===s}else c=!1;for(var f=0,p=a.length;p>=0;p--){var d=a[p];"."===d?o(a,p):".."===d?(o(a,p),f++):f&&(o(a,p),f--)}if(!u)for(;f--;f)a.unshift("..");!u||""===a[0]||a[0]&&r(a[0])||a.unshift("");var h=a.join("/");return c&&"/"!==h.substr(-1)&&(h+="/"),h}t.a=a},function(e,t,n){"use strict";function r(e,t){if(e===t)return!0;if(null==e||null==t)return!1;if(Array.isArray(e))return Array.isArray(t)&&e.length===t.length&&e.every(function(e,n){return r(e,t[n])});var n="undefined"===typeof e?"undefined":o(e);if(n!==("undefined"===typeof t?"undefined":o(t)))return!1;if("object"===n){var a=e.valueOf(),i=t.valueOf();if(a!==e||i!==t)return r(a,i);var l=Object.keys(e),u=Object.keys(t);return l.length===u.length&&l.every(function(n){return r(e[n],t[n])})}return!1}var o="function"===typeof Symbol&&"symbol"===typeof Symbol.iterator?function(e){return typeof e}:function(e){return e&&"function"===typeof Symbol&&e.constructor===Symbol&&e!==Symbol.prototype?"symbol":typeof e};t.a=r},function(e,t,n){"use strict";var r=n(7),o=n.n(r),a=n(2),i=n.n(a),l=n(8),u=n(5),c=n(10),s=n(18),f=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},p={hashbang:{encodePath:function(e){return"!"===e.charAt(0)?e:"!/"+Object(u.f)(e)},decodePath:function(e){return"!"===e.charAt(0)?e.substr(1):e}},noslash:{encodePath:u.f,decodePath:u.a},slash:{encodePath:u.a,decodePath:u.a}},d=function(){var e=window.location.href,t=e.indexOf("#");return-1===t?"":e.substring(t+1)},h=function(e){return window.location.hash=e},m=function(e){var t=window.location.href.indexOf("#");window.location.replace(window.location.href.slice(0,t>=0?t:0)+"#"+e)},y=function(){var e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:{};i()(s.b,"Hash history needs a DOM");var t=window.history,n=Object(s.f)(),r=e.getUserConfirmation,a=void 0===r?s.c:r,y=e.hashType,v=void 0===y?"slash":y,b=e.basename?Object(u.g)(Object(u.a)(e.basename)):"",g=p[v],w=g.encodePath,E=g.decodePath,_=function(){var e=E(d());return o()(!b||Object(u.c)(e,b),'You are attempting to use a basename on a page whose URL path does not begin with the basename. Expected path "'+e+'" to begin with "'+b+'".'),b&&(e=Object(u.e)(e,b)),Object(l.a)(e)},x=Object(c.a)(),k=function(e){f(q,e),q.length=t.length,x.notifyListeners(q.location,q.action)},C=!1,O=null,T=function(){var e=d(),t=w(e);if(e!==t)m(t);else{var n=_(),r=q.location;if(!C&&Object(l.b)(r,n))return;if(O===Object(u.b)(n))return;O=null,P(n)}},P=function(e){if(C)C=!1,k();else{x.confirmTransitionTo(e,"POP",a,function(t){t?k({action:"POP",location:e}):S(e)})}},S=function(e){var t=q.location,n=U.lastIndexOf(Object(u.b)(t));-1===n&&(n=0);var r=U.lastIndexOf(Object(u.b)(e));-1===r&&(r=0);var o=n-r;o&&(C=!0,F(o))},j=d(),N=w(j);j!==N&&m(N);var R=_(),U=[Object(u.b)(R)],I=function(e){return"#"+w(b+Object(u.b)(e))},L=function(e,t){o()(void 0===t,"Hash history cannot push state; it is ignored");var n=Object(l.a)(e,void 0,void 0,q.location);x.confirmTransitionTo(n,"PUSH",a,function(e){if(e){var t=Object(u.b)(n),r=w(b+t);if(d()!==r){O=t,h(r);var a=U.lastIndexOf(Object(u.b)(q.location)),i=U.slice(0,-1===a?0:a+1);i.push(t),U=i,k({action:"PUSH",location:n})}else o()(!1,"Hash history cannot PUSH the same path; a new entry will not be added to the history stack"),k()}})},A=function(e,t){o()(void 0===t,"Hash history cannot replace state; it is ignored");var n=Object(l.a)(e,void 0,void 0,q.location);x.confirmTransitionTo(n,"REPLACE",a,function(e){if(e){var t=Object(u.b)(n),r=w(b+t);d()!==r&&(O=t,m(r));var o=U.indexOf(Object(u.b)(q.location));-1!==o&&(U[o]=t),k({action:"REPLACE",location:n})}})},F=function(e){o()(n,"Hash history go(n) causes a full page reload in this browser"),t.go(e)},M=function(){return F(-1)},D=function(){return F(1)},z=0,B=function(e){z+=e,1===z?Object(s.a)(window,"hashchange",T):0===z&&Object(s.e)(window,"hashchange",T)},V=!1,H=function(){var e=arguments.length>0&&void 0!==arguments[0]&&arguments[0],t=x.setPrompt(e);return V||(B(1),V=!0),function(){return V&&(V=!1,B(-1)),t()}},W=function(e){var t=x.appendListener(e);return B(1),function(){B(-1),t()}},q={length:t.length,action:"POP",location:R,createHref:I,push:L,replace:A,go:F,goBack:M,goForward:D,block:H,listen:W};return q};t.a=y},function(e,t,n){"use strict";var r=n(7),o=n.n(r),a=n(5),i=n(8),l=n(10),u="function"===typeof Symbol&&"symbol"===typeof Symbol.iterator?function(e){return typeof e}:function(e){return e&&"function"===typeof Symbol&&e.constructor===Symbol&&e!==Symbol.prototype?"symbol":typeof e},c=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},s=function(e,t,n){return Math.min(Math.max(e,t),n)},f=function(){var e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:{},t=e.getUserConfirmation,n=e.initialEntries,r=void 0===n?["/"]:n,f=e.initialIndex,p=void 0===f?0:f,d=e.keyLength,h=void 0===d?6:d,m=Object(l.a)(),y=function(e){c(S,e),S.length=S.entries.length,m.notifyListeners(S.location,S.action)},v=function(){return Math.random().toString(36).substr(2,h)},b=s(p,0,r.length-1),g=r.map(function(e){return"string"===typeof e?Object(i.a)(e,void 0,v()):Object(i.a)(e,void 0,e.key||v())}),w=a.b,E=function(e,n){o()(!("object"===("undefined"===typeof e?"undefined":u(e))&&void 0!==e.state&&void 0!==n),"You should avoid providing a 2nd state argument to push when the 1st argument is a location-like object that already has state; it is ignored");var r=Object(i.a)(e,n,v(),S.location);m.confirmTransitionTo(r,"PUSH",t,function(e){if(e){var t=S.index,n=t+1,o=S.entries.slice(0);o.length>n?o.splice(n,o.length-n,r):o.push(r),y({action:"PUSH",location:r,index:n,entries:o})}})},_=function(e,n){o()(!("object"===("undefined"===typeof e?"undefined":u(e))&&void 0!==e.state&&void 0!==n),"You should avoid providing a 2nd state argument to replace when the 1st argument is a location-like object that already has state; it is ignored");var r=Object(i.a)(e,n,v(),S.location);m.confirmTransitionTo(r,"REPLACE",t,function(e){e&&(S.entries[S.index]=r,y({action:"REPLACE",location:r}))})},x=function(e){var n=s(S.index+e,0,S.entries.length-1),r=S.entries[n];m.confirmTransitionTo(r,"POP",t,function(e){e?y({action:"POP",location:r,index:n}):y()})},k=function(){return x(-1)},C=function(){return x(1)},O=function(e){var t=S.index+e;return t>=0&&t<S.entries.length},T=function(){var e=arguments.length>0&&void 0!==arguments[0]&&arguments[0];return m.setPrompt(e)},P=function(e){return m.appendListener(e)},S={length:g.length,action:"POP",location:g[b],index:b,entries:g,createHref:w,push:E,replace:_,go:x,goBack:k,goForward:C,canGo:O,block:T,listen:P};return S};t.a=f},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(3),l=n.n(i),u=n(0),c=n.n(u),s=n(1),f=n.n(s),p=n(4),d=n(11),h=function(e){function t(){var n,a,i;r(this,t);for(var l=arguments.length,u=Array(l),c=0;c<l;c++)u[c]=arguments[c];return n=a=o(this,e.call.apply(e,[this].concat(u))),a.history=Object(p.b)(a.props),i=n,o(a,i)}return a(t,e),t.prototype.componentWillMount=function(){l()(!this.props.history,"<HashRouter> ignores the history prop. To use a custom history, use `import { Router }` instead of `import { HashRouter as Router }`.")},t.prototype.render=function(){return c.a.createElement(d.a,{history:this.history,children:this.props.children})},t}(c.a.Component);h.propTypes={basename:f.a.string,getUserConfirmation:f.a.func,hashType:f.a.oneOf(["hashbang","noslash","slash"]),children:f.a.node}},function(e,t,n){"use strict";var r=n(54);r.a},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(3),l=n.n(i),u=n(0),c=n.n(u),s=n(1),f=n.n(s),p=n(4),d=n(12),h=function(e){function t(){var n,a,i;r(this,t);for(var l=arguments.length,u=Array(l),c=0;c<l;c++)u[c]=arguments[c];return n=a=o(this,e.call.apply(e,[this].concat(u))),a.history=Object(p.d)(a.props),i=n,o(a,i)}return a(t,e),t.prototype.componentWillMount=function(){l()(!this.props.history,"<MemoryRouter> ignores the history prop. To use a custom history, use `import { Router }` instead of `import { MemoryRouter as Router }`.")},t.prototype.render=function(){return c.a.createElement(d.a,{history:this.history,children:this.props.children})},t}(c.a.Component);h.propTypes={initialEntries:f.a.array,initialIndex:f.a.number,getUserConfirmation:f.a.func,keyLength:f.a.number,children:f.a.node},t.a=h},function(e,t,n){"use strict";function r(e,t){var n={};for(var r in e)t.indexOf(r)>=0||Object.prototype.hasOwnProperty.call(e,r)&&(n[r]=e[r]);return n}var o=n(0),a=n.n(o),i=n(1),l=n.n(i),u=n(20),c=n(19),s=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},f="function"===typeof Symbol&&"symbol"===typeof Symbol.iterator?function(e){return typeof e}:function(e){return e&&"function"===typeof Symbol&&e.constructor===Symbol&&e!==Symbol.prototype?"symbol":typeof e},p=function(e){var t=e.to,n=e.exact,o=e.strict,i=e.location,l=e.activeClassName,p=e.className,d=e.activeStyle,h=e.style,m=e.isActive,y=e["aria-current"],v=r(e,["to","exact","strict","location","activeClassName","className","activeStyle","style","isActive","aria-current"]),b="object"===("undefined"===typeof t?"undefined":f(t))?t.pathname:t,g=b&&b.replace(/([.+*?=^!:${}()[\]|\/\\])/g,"\\$1");return a.a.createElement(u.a,{path:g,exact:n,strict:o,location:i,children:function(e){var n=e.location,r=e.match,o=!!(m?m(r,n):r);return a.a.createElement(c.a,s({to:t,className:o?[p,l].filter(function(e){return e}).join(" "):p,style:o?s({},h,d):h,"aria-current":o&&y||null},v))}})};p.propTypes={to:c.a.propTypes.to,exact:l.a.bool,strict:l.a.bool,location:l.a.object,activeClassName:l.a.string,className:l.a.string,activeStyle:l.a.object,style:l.a.object,isActive:l.a.func,"aria-current":l.a.oneOf(["page","step","location","date","time","true"])},p.defaultProps={activeClassName:"active","aria-current":"page"}},function(e,t){e.exports=Array.isArray||function(e){return"[object Array]"==Object.prototype.toString.call(e)}},function(e,t,n){"use strict";var r=n(58);r.a},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(1),c=n.n(u),s=n(2),f=n.n(s),p=function(e){function t(){return r(this,t),o(this,e.apply(this,arguments))}return a(t,e),t.prototype.enable=function(e){this.unblock&&this.unblock(),this.unblock=this.context.router.history.block(e)},t.prototype.disable=function(){this.unblock&&(this.unblock(),this.unblock=null)},t.prototype.componentWillMount=function(){f()(this.context.router,"You should not use <Prompt> outside a <Router>"),this.props.when&&this.enable(this.props.message)},t.prototype.componentWillReceiveProps=function(e){e.when?this.props.when&&this.props.message===e.message||this.enable(e.message):this.disable()},t.prototype.componentWillUnmount=function(){this.disable()},t.prototype.render=function(){return null},t}(l.a.Component);p.propTypes={when:c.a.bool,message:c.a.oneOfType([c.a.func,c.a.string]).isRequired},p.defaultProps={when:!0},p.contextTypes={router:c.a.shape({history:c.a.shape({block:c.a.func.isRequired}).isRequired}).isRequired},t.a=p},function(e,t,n){"use strict";var r=n(60);r.a},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(1),c=n.n(u),s=n(3),f=n.n(s),p=n(2),d=n.n(p),h=n(4),m=n(23),y=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},v=function(e){function t(){return r(this,t),o(this,e.apply(this,arguments))}return a(t,e),t.prototype.isStatic=function(){return this.context.router&&this.context.router.staticContext},t.prototype.componentWillMount=function(){d()(this.context.router,"You should not use <Redirect> outside a <Router>"),this.isStatic()&&this.perform()},t.prototype.componentDidMount=function(){this.isStatic()||this.perform()},t.prototype.componentDidUpdate=function(e){var t=Object(h.c)(e.to),n=Object(h.c)(this.props.to);if(Object(h.f)(t,n))return void f()(!1,"You tried to redirect to the same route you're currently on: \""+n.pathname+n.search+'"');this.perform()},t.prototype.computeTo=function(e){var t=e.computedMatch,n=e.to;return t?"string"===typeof n?Object(m.a)(n,t.params):y({},n,{pathname:Object(m.a)(n.pathname,t.params)}):n},t.prototype.perform=function(){var e=this.context.router.history,t=this.props.push,n=this.computeTo(this.props);t?e.push(n):e.replace(n)},t.prototype.render=function(){return null},t}(l.a.Component);v.propTypes={computedMatch:c.a.object,push:c.a.bool,from:c.a.string,to:c.a.oneOfType([c.a.string,c.a.object]).isRequired},v.defaultProps={push:!1},v.contextTypes={router:c.a.shape({history:c.a.shape({push:c.a.func.isRequired,replace:c.a.func.isRequired}).isRequired,staticContext:c.a.object}).isRequired},t.a=v},function(e,t,n){"use strict";var r=n(62);r.a},function(e,t,n){"use strict";function r(e,t){var n={};for(var r in e)t.indexOf(r)>=0||Object.prototype.hasOwnProperty.call(e,r)&&(n[r]=e[r]);return n}function o(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function a(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function i(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var l=n(3),u=n.n(l),c=n(2),s=n.n(c),f=n(0),p=n.n(f),d=n(1),h=n.n(d),m=n(4),y=n(12),v=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},b=function(e){return"/"===e.charAt(0)?e:"/"+e},g=function(e,t){return e?v({},t,{pathname:b(e)+t.pathname}):t},w=function(e,t){if(!e)return t;var n=b(e);return 0!==t.pathname.indexOf(n)?t:v({},t,{pathname:t.pathname.substr(n.length)})},E=function(e){return"string"===typeof e?e:Object(m.e)(e)},_=function(e){return function(){s()(!1,"You cannot %s with <StaticRouter>",e)}},x=function(){},k=function(e){function t(){var n,r,i;o(this,t);for(var l=arguments.length,u=Array(l),c=0;c<l;c++)u[c]=arguments[c];return n=r=a(this,e.call.apply(e,[this].concat(u))),r.createHref=function(e){return b(r.props.basename+E(e))},r.handlePush=function(e){var t=r.props,n=t.basename,o=t.context;o.action="PUSH",o.location=g(n,Object(m.c)(e)),o.url=E(o.location)},r.handleReplace=function(e){var t=r.props,n=t.basename,o=t.context;o.action="REPLACE",o.location=g(n,Object(m.c)(e)),o.url=E(o.location)},r.handleListen=function(){return x},r.handleBlock=function(){return x},i=n,a(r,i)}return i(t,e),t.prototype.getChildContext=function(){return{router:{staticContext:this.props.context}}},t.prototype.componentWillMount=function(){u()(!this.props.history,"<StaticRouter> ignores the history prop. To use a custom history, use `import { Router }` instead of `import { StaticRouter as Router }`.")},t.prototype.render=function(){var e=this.props,t=e.basename,n=(e.context,e.location),o=r(e,["basename","context","location"]),a={createHref:this.createHref,action:"POP",location:w(t,Object(m.c)(n)),push:this.handlePush,replace:this.handleReplace,go:_("go"),goBack:_("goBack"),goForward:_("goForward"),listen:this.handleListen,block:this.handleBlock};return p.a.createElement(y.a,v({},o,{history:a}))},t}(p.a.Component);k.propTypes={basename:h.a.string,context:h.a.object.isRequired,location:h.a.oneOfType([h.a.string,h.a.object])},k.defaultProps={basename:"",location:"/"},k.childContextTypes={router:h.a.object.isRequired},t.a=k},function(e,t,n){"use strict";var r=n(64);r.a},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(1),c=n.n(u),s=n(3),f=n.n(s),p=n(2),d=n.n(p),h=n(13),m=function(e){function t(){return r(this,t),o(this,e.apply(this,arguments))}return a(t,e),t.prototype.componentWillMount=function(){d()(this.context.router,"You should not use <Switch> outside a <Router>")},t.prototype.componentWillReceiveProps=function(e){f()(!(e.location&&!this.props.location),'<Switch> elements should not change from uncontrolled to controlled (or vice versa). You initially used no "location" prop and then provided one on a subsequent render.'),f()(!(!e.location&&this.props.location),'<Switch> elements should not change from controlled to uncontrolled (or vice versa). You provided a "location" prop initially but omitted it on a subsequent render.')},t.prototype.render=function(){var e=this.context.router.route,t=this.props.children,n=this.props.location||e.location,r=void 0,o=void 0;return l.a.Children.forEach(t,function(t){if(null==r&&l.a.isValidElement(t)){var a=t.props,i=a.path,u=a.exact,c=a.strict,s=a.sensitive,f=a.from,p=i||f;o=t,r=Object(h.a)(n.pathname,{path:p,exact:u,strict:c,sensitive:s},e.match)}}),r?l.a.cloneElement(o,{location:n,computedMatch:r}):null},t}(l.a.Component);m.contextTypes={router:c.a.shape({route:c.a.object.isRequired}).isRequired},m.propTypes={children:c.a.node,location:c.a.object},t.a=m},function(e,t,n){"use strict";var r=n(23);r.a},function(e,t,n){"use strict";var r=n(13);r.a},function(e,t,n){"use strict";var r=n(68);r.a},function(e,t,n){"use strict";function r(e,t){var n={};for(var r in e)t.indexOf(r)>=0||Object.prototype.hasOwnProperty.call(e,r)&&(n[r]=e[r]);return n}var o=n(0),a=n.n(o),i=n(1),l=n.n(i),u=n(69),c=n.n(u),s=n(21),f=Object.assign||function(e){for(var t=1;t<arguments.length;t++){var n=arguments[t];for(var r in n)Object.prototype.hasOwnProperty.call(n,r)&&(e[r]=n[r])}return e},p=function(e){var t=function(t){var n=t.wrappedComponentRef,o=r(t,["wrappedComponentRef"]);return a.a.createElement(s.a,{children:function(t){return a.a.createElement(e,f({},o,t,{ref:n}))}})};return t.displayName="withRouter("+(e.displayName||e.name)+")",t.WrappedComponent=e,t.propTypes={wrappedComponentRef:l.a.func},c()(t,e)};t.a=p},function(e,t,n){"use strict";function r(e,t,n){if("string"!==typeof t){if(f){var p=s(t);p&&p!==f&&r(e,p,n)}var d=l(t);u&&(d=d.concat(u(t)));for(var h=0;h<d.length;++h){var m=d[h];if(!o[m]&&!a[m]&&(!n||!n[m])){var y=c(t,m);try{i(e,m,y)}catch(e){}}}return e}return e}var o={childContextTypes:!0,contextTypes:!0,defaultProps:!0,displayName:!0,getDefaultProps:!0,getDerivedStateFromProps:!0,mixins:!0,propTypes:!0,type:!0},a={name:!0,length:!0,prototype:!0,caller:!0,callee:!0,arguments:!0,arity:!0},i=Object.defineProperty,l=Object.getOwnPropertyNames,u=Object.getOwnPropertySymbols,c=Object.getOwnPropertyDescriptor,s=Object.getPrototypeOf,f=s&&s(Object);e.exports=r},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(6),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(e){r(this,t);var n=o(this,(t.__proto__||Object.getPrototypeOf(t)).call(this,e)),a=new Date;return n.state={error:null,isLoaded:!1,isSubmited:null,isProcessing:!1,msg:"",peers:[],counterparty:"",viewer:"",from:Object(u.f)(a)+"T08:00",to:Object(u.f)(a)+"T19:00"},n.handleChange=n.handleChange.bind(n),n.handleSubmit=n.handleSubmit.bind(n),n}return a(t,e),c(t,[{key:"handleChange",value:function(e){var t={},n=e.target,r=(n.type,n.value);t[n.name]=r,this.setState(t)}},{key:"handleSubmit",value:function(e){var t=this;this.setState({isProcessing:!0});var n=encodeURI("/api/example/compensate?from="+Object(u.d)(this.state.from)+"&to="+Object(u.d)(this.state.to)+"&viewerPartyName="+this.state.viewer+"&counterPartyName="+this.state.counterparty);fetch(n,{method:"PUT",headers:{"Content-Type":"application/json"}}).then(function(e){return e.text()}).then(function(e){t.setState({isLoaded:!0,isSubmited:!0,isProcessing:!1,error:null,msg:e})},function(e){t.setState({isLoaded:!0,isSubmited:!0,isProcessing:!1,error:e})}),e.preventDefault()}},{key:"componentDidMount",value:function(){var e=this;fetch("/api/example/peers").then(function(e){return e.json()}).then(function(t){e.setState({isLoaded:!0,peers:"undefined"===typeof t.peers?[]:t.peers})},function(t){e.setState({isLoaded:!0,error:t})})}},{key:"render",value:function(){var e=l.a.createElement("div",null),t=this.state,n=t.error,r=t.isLoaded,o=t.isSubmited,a=t.isProcessing,i=t.msg,c=t.peers;return n&&r&&!o?l.a.createElement("div",null,"Error: ",n.message):r?(o&&(e=n?l.a.createElement(u.a,{msg:n.message}):l.a.createElement(u.c,{msg:i})),a&&(e=l.a.createElement(u.b,{msg:"Processing..."})),l.a.createElement("div",{className:"card"},l.a.createElement("div",{className:"card-header"}," Create IPU"),l.a.createElement("div",{className:"card-body"},l.a.createElement("form",{onSubmit:this.handleSubmit},l.a.createElement("div",{className:"form-group"},l.a.createElement("label",{htmlFor:"viewerFormControlSelect"},"Viewer"),l.a.createElement("select",{name:"viewer",type:"select",className:"form-control",id:"viewerFormControlSelect",value:this.state.viewer,onChange:this.handleChange},l.a.createElement("option",{defaultValue:!0},"Choose..."),c.map(function(e){return l.a.createElement("option",{key:e}," ",e," ")}))),l.a.createElement("div",{className:"form-group"},l.a.createElement("label",{htmlFor:"counterpartyFormControlSelect"},"Counterparty"),l.a.createElement("select",{name:"counterparty",type:"select",className:"form-control",id:"counterpartyFormControlSelect",value:this.state.counterparty,onChange:this.handleChange},l.a.createElement("option",{defaultValue:!0},"Choose..."),c.map(function(e){return l.a.createElement("option",{key:e}," ",e," ")}))),l.a.createElement("div",{className:"form-group"},l.a.createElement("label",{htmlFor:"valueInput"},"From"),l.a.createElement("input",{name:"from",type:"datetime-local",className:"form-control",id:"fromInput",value:this.state.from,onChange:this.handleChange})),l.a.createElement("div",{className:"form-group"},l.a.createElement("label",{htmlFor:"valueInput"},"To"),l.a.createElement("input",{name:"to",type:"datetime-local",className:"form-control",id:"toInput",value:this.state.to,onChange:this.handleChange})),l.a.createElement("div",{className:"container"},l.a.createElement("div",{className:"row"},l.a.createElement("div",{className:"col"},l.a.createElement("button",{type:"submit",className:"btn btn-primary"},"Submit")),l.a.createElement("div",{className:"col-8"},e))))))):l.a.createElement("div",null,"Loading...")}}]),t}(l.a.Component);t.a=s},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(6),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(e){r(this,t);var n=o(this,(t.__proto__||Object.getPrototypeOf(t)).call(this,e));return n.state={error:null,isLoaded:!1,isSubmited:null,isProcessing:!1,msg:"",peers:[],borrower:"",viewer:"",value:""},n.handleChange=n.handleChange.bind(n),n.handleSubmit=n.handleSubmit.bind(n),n}return a(t,e),c(t,[{key:"handleChange",value:function(e){var t={},n=e.target,r=(n.type,n.value);t[n.name]=r,this.setState(t)}},{key:"handleSubmit",value:function(e){var t=this;this.setState({isProcessing:!0});var n=encodeURI("/api/example/create-iou?iouValue="+this.state.value+"&viewerPartyName="+this.state.viewer+"&otherPartyName="+this.state.borrower);fetch(n,{method:"PUT",headers:{"Content-Type":"application/json"}}).then(function(e){return e.text()}).then(function(e){t.setState({isLoaded:!0,isSubmited:!0,isProcessing:!1,error:null,msg:e})},function(e){t.setState({isLoaded:!0,isSubmited:!0,isProcessing:!1,error:e})}),e.preventDefault()}},{key:"componentDidMount",value:function(){var e=this;fetch("/api/example/peers").then(function(e){return e.json()}).then(function(t){e.setState({isLoaded:!0,peers:"undefined"===typeof t.peers?[]:t.peers})},function(t){e.setState({isLoaded:!0,error:t})})}},{key:"render",value:function(){var e=l.a.createElement("div",null),t=this.state,n=t.error,r=t.isLoaded,o=t.isSubmited,a=t.isProcessing,i=t.msg,c=t.peers;return n&&r&&!o?l.a.createElement("div",null,"Error: ",n.message):r?(o&&(e=n?l.a.createElement(u.a,{msg:n.message}):l.a.createElement(u.c,{msg:i})),a&&(e=l.a.createElement(u.b,{msg:"Processing..."})),l.a.createElement("div",{className:"card"},l.a.createElement("div",{className:"card-header"}," Create IOU"),l.a.createElement("div",{className:"card-body"},l.a.createElement("form",{onSubmit:this.handleSubmit},l.a.createElement("div",{className:"form-group"},l.a.createElement("label",{htmlFor:"viewerFormControlSelect"},"Viewer"),l.a.createElement("select",{name:"viewer",type:"select",className:"form-control",id:"viewerFormControlSelect",value:this.state.viewer,onChange:this.handleChange},l.a.createElement("option",{defaultValue:!0},"Choose..."),c.map(function(e){return l.a.createElement("option",{key:e}," ",e," ")}))),l.a.createElement("div",{className:"form-group"},l.a.createElement("label",{htmlFor:"borrowerFormControlSelect"},"Borrower"),l.a.createElement("select",{name:"borrower",type:"select",className:"form-control",id:"borrowerFormControlSelect",value:this.state.borrower,onChange:this.handleChange},l.a.createElement("option",{defaultValue:!0},"Choose..."),c.map(function(e){return l.a.createElement("option",{key:e}," ",e," ")}))),l.a.createElement("div",{className:"form-group"},l.a.createElement("label",{htmlFor:"valueInput"},"Value"),l.a.createElement("input",{name:"value",type:"number",className:"form-control",id:"valueInput",placeholder:"Value",value:this.state.value,onChange:this.handleChange})),l.a.createElement("div",{className:"container"},l.a.createElement("div",{className:"row"},l.a.createElement("div",{className:"col"},l.a.createElement("button",{type:"submit",className:"btn btn-primary"},"Submit")),l.a.createElement("div",{className:"col-8"},e))))))):l.a.createElement("div",null,"Loading...")}}]),t}(l.a.Component);t.a=s},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(73),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(e){r(this,t);var n=o(this,(t.__proto__||Object.getPrototypeOf(t)).call(this,e));return n.state={isLoaded:!1,error:null,ious:[]},n}return a(t,e),c(t,[{key:"componentDidMount",value:function(){var e=this;fetch("/api/example/ious").then(function(e){return e.json()}).then(function(t){e.setState({isLoaded:!0,ious:"undefined"===typeof t?[]:t})},function(t){e.setState({isLoaded:!0,error:t})})}},{key:"render",value:function(){var e=this.state,t=e.isLoaded,n=e.error,r=e.ious;return l.a.createElement(u.a,{error:n,isLoaded:t,items:r})}}]),t}(l.a.Component);t.a=s},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(6),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}return a(t,e),c(t,[{key:"render",value:function(){var e=l.a.createElement("div",null),t=this.props,n=t.error,r=t.isLoaded,o=t.items;return n&&r?l.a.createElement("div",null,"Error: ",n.message):r?(o.length<=0&&(e=l.a.createElement(u.b,{msg:"Theare aren't element."})),l.a.createElement("div",null,l.a.createElement("table",{className:"table"},l.a.createElement("thead",{className:"thead-dark"},l.a.createElement("tr",null,l.a.createElement("th",{scope:"col"},"Linear Id"),l.a.createElement("th",{scope:"col"},"Date"),l.a.createElement("th",{scope:"col"},"Viewer"),l.a.createElement("th",{scope:"col"},"Borrower"),l.a.createElement("th",{scope:"col"},"Lender"),l.a.createElement("th",{scope:"col"},"Value"))),l.a.createElement("tbody",null,o.map(function(e){return l.a.createElement("tr",{key:e.state.data.linearId.id},l.a.createElement("td",null,e.state.data.linearId.id),l.a.createElement("td",null,Object(u.e)(e.state.data.date)),l.a.createElement("td",null,e.state.data.viewer),l.a.createElement("td",null,e.state.data.borrower),l.a.createElement("td",null,e.state.data.lender),l.a.createElement("td",null,e.state.data.value))}))),e)):l.a.createElement("div",null,"Loading...")}}]),t}(l.a.Component);t.a=s},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(75),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(e){r(this,t);var n=o(this,(t.__proto__||Object.getPrototypeOf(t)).call(this,e));return n.state={isLoaded:!1,error:null,ipus:[]},n}return a(t,e),c(t,[{key:"componentDidMount",value:function(){var e=this;fetch("/api/example/ipus").then(function(e){return e.json()}).then(function(t){e.setState({isLoaded:!0,ipus:"undefined"===typeof t?[]:t})},function(t){e.setState({isLoaded:!0,error:t})})}},{key:"render",value:function(){var e=this.state,t=e.isLoaded,n=e.error,r=e.ipus;return l.a.createElement(u.a,{error:n,isLoaded:t,items:r})}}]),t}(l.a.Component);t.a=s},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(6),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}return a(t,e),c(t,[{key:"render",value:function(){var e=l.a.createElement("div",null),t=this.props,n=t.error,r=t.isLoaded,o=t.items;return n&&r?l.a.createElement("div",null,"Error: ",n.message):r?(o.length<=0&&(e=l.a.createElement(u.b,{msg:"Theare aren't element."})),l.a.createElement("div",null,l.a.createElement("table",{className:"table"},l.a.createElement("thead",{className:"thead-dark"},l.a.createElement("tr",null,l.a.createElement("th",{scope:"col"},"Linear Id"),l.a.createElement("th",{scope:"col"},"Viewer"),l.a.createElement("th",{scope:"col"},"Payer"),l.a.createElement("th",{scope:"col"},"Loaner"),l.a.createElement("th",{scope:"col"},"Value"))),l.a.createElement("tbody",null,o.map(function(e){return l.a.createElement("tr",{key:e.state.data.linearId.id},l.a.createElement("td",null,e.state.data.linearId.id),l.a.createElement("td",null,e.state.data.viewer),l.a.createElement("td",null,e.state.data.payer),l.a.createElement("td",null,e.state.data.loaner),l.a.createElement("td",null,e.state.data.value))}))),e)):l.a.createElement("div",null,"Loading...")}}]),t}(l.a.Component);t.a=s},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(77),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(e){r(this,t);var n=o(this,(t.__proto__||Object.getPrototypeOf(t)).call(this,e));return n.state={isLoaded:!1,error:null,nodes:[]},n}return a(t,e),c(t,[{key:"componentDidMount",value:function(){var e=this;fetch("/api/example/corda-nodes").then(function(e){return e.json()}).then(function(t){e.setState({isLoaded:!0,nodes:"undefined"===typeof t.nodes?[]:t.nodes})},function(t){e.setState({isLoaded:!0,error:t})})}},{key:"render",value:function(){var e=this.state,t=e.isLoaded,n=e.error,r=e.nodes;return l.a.createElement(u.a,{error:n,isLoaded:t,nodes:r})}}]),t}(l.a.Component);t.a=s},function(e,t,n){"use strict";function r(e,t){if(!(e instanceof t))throw new TypeError("Cannot call a class as a function")}function o(e,t){if(!e)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return!t||"object"!==typeof t&&"function"!==typeof t?e:t}function a(e,t){if("function"!==typeof t&&null!==t)throw new TypeError("Super expression must either be null or a function, not "+typeof t);e.prototype=Object.create(t&&t.prototype,{constructor:{value:e,enumerable:!1,writable:!0,configurable:!0}}),t&&(Object.setPrototypeOf?Object.setPrototypeOf(e,t):e.__proto__=t)}var i=n(0),l=n.n(i),u=n(6),c=function(){function e(e,t){for(var n=0;n<t.length;n++){var r=t[n];r.enumerable=r.enumerable||!1,r.configurable=!0,"value"in r&&(r.writable=!0),Object.defineProperty(e,r.key,r)}}return function(t,n,r){return n&&e(t.prototype,n),r&&e(t,r),t}}(),s=function(e){function t(){return r(this,t),o(this,(t.__proto__||Object.getPrototypeOf(t)).apply(this,arguments))}return a(t,e),c(t,[{key:"render",value:function(){var e=l.a.createElement("div",null),t=this.props,n=t.error,r=t.isLoaded,o=t.nodes;return n&&r?l.a.createElement("div",null,"Error: ",n.message):r?(o.length<=0&&(e=l.a.createElement(u.b,{msg:"Theare aren't element."})),l.a.createElement("div",null,l.a.createElement("table",{className:"table"},l.a.createElement("thead",{className:"thead-dark"},l.a.createElement("tr",null,l.a.createElement("th",{scope:"col"},"Addresses"),l.a.createElement("th",{scope:"col"},"Legal Identity"),l.a.createElement("th",{scope:"col"},"Platform Version"),l.a.createElement("th",{scope:"col"},"Serial"))),l.a.createElement("tbody",null,o.map(function(e){return l.a.createElement("tr",{key:e.legalIdentitiesAndCerts[0]},l.a.createElement("td",null,e.addresses),l.a.createElement("td",null,e.legalIdentitiesAndCerts[0]),l.a.createElement("td",null,e.platformVersion),l.a.createElement("td",null,e.serial))}))),e)):l.a.createElement("div",null,"Loading...")}}]),t}(l.a.Component);t.a=s},function(e,t){},function(e,t,n){"use strict";function r(){if("serviceWorker"in navigator){if(new URL("/web/example",window.location).origin!==window.location.origin)return;window.addEventListener("load",function(){var e="/web/example/service-worker.js";i?(a(e),navigator.serviceWorker.ready.then(function(){console.log("This web app is being served cache-first by a service worker. To learn more, visit https://goo.gl/SC7cgQ")})):o(e)})}}function o(e){navigator.serviceWorker.register(e).then(function(e){e.onupdatefound=function(){var t=e.installing;t.onstatechange=function(){"installed"===t.state&&(navigator.serviceWorker.controller?console.log("New content is available; please refresh."):console.log("Content is cached for offline use."))}}}).catch(function(e){console.error("Error during service worker registration:",e)})}function a(e){fetch(e).then(function(t){404===t.status||-1===t.headers.get("content-type").indexOf("javascript")?navigator.serviceWorker.ready.then(function(e){e.unregister().then(function(){window.location.reload()})}):o(e)}).catch(function(){console.log("No internet connection found. App is running in offline mode.")})}t.a=r;var i=Boolean("localhost"===window.location.hostname||"[::1]"===window.location.hostname||window.location.hostname.match(/^127(?:\.(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)){3}$/))}]);
-//# sourceMappingURL=main.ba1c28f7.js.map
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.api;
+
+import com.example.state.IOUState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import net.corda.client.jackson.JacksonSupport;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.contracts.StateRef;
+import net.corda.core.contracts.TransactionState;
+import net.corda.core.contracts.UniqueIdentifier;
+import net.corda.core.crypto.SecureHash;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.identity.Party;
+import net.corda.testing.core.TestIdentity;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.contract.CompensationContract.COMPENSATION_CONTRACT_ID;
+import static org.junit.Assert.assertEquals;
+
+public class CompactJsonModuleTests {
+    private final Party notary = new TestIdentity(new CordaX500Name("Notary", "London", "GB")).getParty();
+    private final Party viewer = new TestIdentity(new CordaX500Name("ViewerCorp", "London", "GB")).getParty();
+    private final Party lender = new TestIdentity(new CordaX500Name("MegaCorp", "London", "GB")).getParty();
+    private final Party borrower = new TestIdentity(new CordaX500Name("MiniCorp", "New York", "US")).getParty();
+
+    private final ObjectMapper defaultMapper = JacksonSupport.createNonRpcMapper();
+    private final ObjectMapper compactMapper = JacksonSupport.createNonRpcMapper();
+
+    {
+        compactMapper.registerModule(new CompactJsonModule());
+    }
+
+    @Test
+    public void writesListingsAsCordasOwnMapperDoes() throws Exception {
+        final List<StateAndRef<IOUState>> listing = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final IOUState iou = new IOUState(i + 1, System.currentTimeMillis(), viewer, lender, borrower, new UniqueIdentifier());
+            listing.add(new StateAndRef<>(new TransactionState<>(iou, COMPENSATION_CONTRACT_ID, notary), new StateRef(SecureHash.randomSHA256(), i % 3)));
+        }
+
+        // Twice, so that the second time is written from the cached names.
+        for (int round = 0; round < 2; round++) {
+            assertEquals(defaultMapper.readTree(defaultMapper.writeValueAsString(listing)),
+                    defaultMapper.readTree(compactMapper.writeValueAsString(listing)));
+        }
+    }
+
+    @Test
+    public void writesNamesPastTheCacheAsCordasOwnMapperDoes() throws Exception {
+        final List<Object> names = new ArrayList<>();
+        for (int i = 0; i <= CompactJsonModule.MAX_CACHED_NAMES; i++) {
+            names.add(new CordaX500Name("Bank " + i, "London", "GB"));
+        }
+        names.add(new CordaX500Name("Bank 0", "London", "GB"));
+        names.add(ImmutableMap.of("lender", lender, "borrower", borrower));
+
+        for (int round = 0; round < 2; round++) {
+            assertEquals(defaultMapper.readTree(defaultMapper.writeValueAsString(names)),
+                    defaultMapper.readTree(compactMapper.writeValueAsString(names)));
+        }
+    }
+}
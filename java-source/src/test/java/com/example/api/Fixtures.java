@@ -0,0 +1,41 @@
+package com.example.api;
+
+import com.google.common.collect.ImmutableList;
+import net.corda.core.identity.CordaX500Name;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The dates, parties and views shared by the tests of the read side.
+ */
+final class Fixtures {
+    static final long DAY = 24L * 60 * 60 * 1000;
+    /** 2018-06-01T00:00Z. */
+    static final long ORIGIN = 17683 * DAY;
+
+    static final CordaX500Name megaCorp = new CordaX500Name("MegaCorp", "London", "GB");
+    static final CordaX500Name miniCorp = new CordaX500Name("MiniCorp", "London", "GB");
+    static final CordaX500Name viewerCorp = new CordaX500Name("ViewerCorp", "London", "GB");
+    static final List<CordaX500Name> parties = ImmutableList.of(megaCorp, miniCorp, viewerCorp);
+
+    private Fixtures() {
+    }
+
+    /** A view of a new IOU, seen by ViewerCorp. */
+    static IOUView iou(int value, Long date, CordaX500Name lender, CordaX500Name borrower) {
+        return iou(value, date, viewerCorp, lender, borrower, UUID.randomUUID());
+    }
+
+    /** A view of a state of the IOU [linearId]. */
+    static IOUView iou(int value, Long date, CordaX500Name viewer, CordaX500Name lender, CordaX500Name borrower, UUID linearId) {
+        return new IOUView(value, date, viewer.toString(), lender.toString(), borrower.toString(), linearId,
+                UUID.randomUUID() + ":0");
+    }
+
+    /** A view of a new IPU, seen by ViewerCorp. */
+    static IPUView ipu(int value, CordaX500Name payer, CordaX500Name loaner) {
+        return new IPUView(value, null, viewerCorp.toString(), payer.toString(), loaner.toString(), UUID.randomUUID(),
+                UUID.randomUUID() + ":0");
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.api;
+
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.node.services.Vault;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.example.api.Fixtures.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class IouColumnsTests {
+    /** More rows than the columns start with. */
+    static private final int GROWN_ROWS = (1 << 16) + 1;
+
+    private final IouColumns columns = new IouColumns();
+    private final List<IOUView> ious = new ArrayList<>();
+    private final Set<IOUView> consumed = new HashSet<>();
+
+    @Test
+    public void groupsByDayWithUndatedIous() {
+        append(10, null, false);
+        append(20, ORIGIN + 5, false);
+        append(40, ORIGIN + DAY, true);
+
+        final IouColumns.Report report = columns.report(IouColumns.GroupBy.DAY, null, null, null, null, null, Vault.StateStatus.ALL);
+        assertEquals(3, report.rows);
+        assertEquals(2, report.groups.size());
+        assertEquals("2018-06-01", report.groups.get(0).key);
+        assertEquals(20, report.groups.get(0).sum);
+        assertEquals("2018-06-02", report.groups.get(1).key);
+        assertEquals(40, report.groups.get(1).sum);
+
+        final IouColumns.Report all = columns.report(IouColumns.GroupBy.NONE, null, null, null, null, null, Vault.StateStatus.ALL);
+        assertNull(all.groups.get(0).key);
+        assertEquals(3, all.groups.get(0).count);
+        assertEquals(70, all.groups.get(0).sum);
+        assertEquals(10, all.groups.get(0).min);
+        assertEquals(40, all.groups.get(0).max);
+        // 10 in [8, 16), 20 in [16, 32), 40 in [32, 64).
+        assertArrayEquals(new long[]{0, 0, 0, 1, 1, 1}, all.groups.get(0).histogram);
+    }
+
+    @Test
+    public void leavesUndatedIousOutOfEveryDay() {
+        // The one day from which the day of Long.MIN_VALUE, truncated to an int offset, is group -1.
+        final long day = Math.floorMod(Math.floorDiv(Long.MIN_VALUE, DAY) + 1, 1L << 32);
+        append(10, null, false);
+        append(20, day * DAY, false);
+
+        final IouColumns.Report report = columns.report(IouColumns.GroupBy.DAY, null, null, null, null, null, Vault.StateStatus.ALL);
+        assertEquals(1, report.groups.size());
+        assertEquals(LocalDate.ofEpochDay(day).toString(), report.groups.get(0).key);
+        assertEquals(20, report.groups.get(0).sum);
+    }
+
+    @Test
+    public void reportsNothingForUnknownPartiesOrEmptyRanges() {
+        append(10, ORIGIN, false);
+
+        assertEquals(0, columns.report(IouColumns.GroupBy.NONE, null, "O=Nobody, L=London, C=GB", null, null, null, Vault.StateStatus.ALL).groups.size());
+        assertEquals(0, columns.report(IouColumns.GroupBy.DAY, null, null, null, ORIGIN + 1, ORIGIN, Vault.StateStatus.ALL).groups.size());
+        assertEquals(0, columns.report(IouColumns.GroupBy.DAY, null, null, null, ORIGIN + 1, null, Vault.StateStatus.ALL).groups.size());
+    }
+
+    @Test
+    public void reportsByDayOverTheMostDays() {
+        append(10, ORIGIN, false);
+        append(20, ORIGIN + (IouColumns.MAX_DAYS - 1) * DAY + DAY - 1, false);
+
+        final IouColumns.Report report = columns.report(IouColumns.GroupBy.DAY, null, null, null, null, null, Vault.StateStatus.ALL);
+        assertEquals(2, report.groups.size());
+        assertEquals(LocalDate.ofEpochDay(ORIGIN / DAY + IouColumns.MAX_DAYS - 1).toString(), report.groups.get(1).key);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesReportsByDayOverTooManyDays() {
+        append(10, ORIGIN, false);
+        append(10, ORIGIN + (IouColumns.MAX_DAYS + 1) * DAY, false);
+
+        columns.report(IouColumns.GroupBy.DAY, null, null, null, null, null, Vault.StateStatus.ALL);
+    }
+
+    @Test
+    public void consumesRestoredAndProducedRows() {
+        final IOUView restored = append(1, ORIGIN, false);
+        append(2, ORIGIN, true);
+        final IOUView produced = append(4, ORIGIN, false);
+        append(8, ORIGIN, false);
+
+        consume(restored);
+        consume(produced);
+        // A second consumption, and one of a state the columns never saw, change nothing.
+        consume(produced);
+        columns.consumed(iou(16, ORIGIN, megaCorp, miniCorp));
+
+        assertSum(7, 3, Vault.StateStatus.CONSUMED);
+        assertSum(8, 1, Vault.StateStatus.UNCONSUMED);
+        assertSum(15, 4, Vault.StateStatus.ALL);
+    }
+
+    @Test
+    public void keepsRowsAndConsumptionsAcrossGrowth() {
+        for (int i = 0; i < GROWN_ROWS; i++) {
+            append(1, ORIGIN + i, false);
+        }
+        // The first and last rows, and those on either side of a word of consumed bits and of the initial length.
+        for (int row : new int[]{0, 63, 64, GROWN_ROWS - 2, GROWN_ROWS - 1}) {
+            consume(ious.get(row));
+        }
+
+        assertSum(5, 5, Vault.StateStatus.CONSUMED);
+        assertSum(GROWN_ROWS - 5, GROWN_ROWS - 5, Vault.StateStatus.UNCONSUMED);
+        assertEquals(GROWN_ROWS, columns.report(IouColumns.GroupBy.NONE, null, null, null, null, null, Vault.StateStatus.ALL).rows);
+    }
+
+    @Test
+    public void matchesBruteForceReportsAcrossSlices() {
+        final Random random = new Random(42);
+        // More rows than one slice, so the scans are split across the fork-join pool.
+        for (int i = 0; i < 200_000; i++) {
+            final Long date = random.nextInt(20) == 0 ? null : ORIGIN + (long) (random.nextDouble() * 400 * DAY);
+            append(iou(1 + random.nextInt(100000), date, parties.get(i % parties.size()), anyParty(random), anyParty(random),
+                    UUID.randomUUID()), random.nextInt(4) == 0);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            consume(ious.get(random.nextInt(ious.size())));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            final IouColumns.GroupBy groupBy = IouColumns.GroupBy.values()[random.nextInt(IouColumns.GroupBy.values().length)];
+            final String viewer = anyPartyOrNull(random);
+            final String lender = anyPartyOrNull(random);
+            final String borrower = anyPartyOrNull(random);
+            final Long from = random.nextBoolean() ? null : ORIGIN + (long) (random.nextDouble() * 400 * DAY);
+            final Long to = random.nextBoolean() ? null : ORIGIN + (long) (random.nextDouble() * 400 * DAY);
+            final Vault.StateStatus status = Vault.StateStatus.values()[random.nextInt(Vault.StateStatus.values().length)];
+            assertReport(bruteForce(groupBy, viewer, lender, borrower, from, to, status),
+                    columns.report(groupBy, viewer, lender, borrower, from, to, status));
+        }
+    }
+
+    private static CordaX500Name anyParty(Random random) {
+        return parties.get(random.nextInt(parties.size()));
+    }
+
+    private static String anyPartyOrNull(Random random) {
+        return random.nextBoolean() ? null : anyParty(random).toString();
+    }
+
+    private void assertSum(long sum, long count, Vault.StateStatus status) {
+        final IouColumns.Group all = columns.report(IouColumns.GroupBy.NONE, null, null, null, null, null, status).groups.get(0);
+        assertEquals(status.toString(), sum, all.sum);
+        assertEquals(status.toString(), count, all.count);
+    }
+
+    private Map<String, long[]> bruteForce(IouColumns.GroupBy groupBy, String viewer, String lender, String borrower,
+                                           Long from, Long to, Vault.StateStatus status) {
+        final Map<String, long[]> groups = new HashMap<>();
+        for (IOUView iou : ious) {
+            // Undated IOUs sort before every date, as in the read model.
+            final long date = iou.date == null ? Long.MIN_VALUE : iou.date;
+            if (viewer != null && !viewer.equals(iou.viewer)
+                    || lender != null && !lender.equals(iou.lender)
+                    || borrower != null && !borrower.equals(iou.borrower)
+                    || from != null && date < from
+                    || to != null && date > to
+                    || status == Vault.StateStatus.UNCONSUMED && consumed.contains(iou)
+                    || status == Vault.StateStatus.CONSUMED && !consumed.contains(iou)) {
+                continue;
+            }
+            final String key;
+            switch (groupBy) {
+                case LENDER: key = iou.lender; break;
+                case BORROWER: key = iou.borrower; break;
+                case VIEWER: key = iou.viewer; break;
+                case DAY:
+                    if (iou.date == null) {
+                        continue;
+                    }
+                    key = LocalDate.ofEpochDay(Math.floorDiv(iou.date, DAY)).toString();
+                    break;
+                default: key = null; break;
+            }
+            // Count, sum, min, max, then one histogram bucket per power of two.
+            final long[] group = groups.computeIfAbsent(key, k -> {
+                final long[] totals = new long[4 + 32];
+                totals[2] = Integer.MAX_VALUE;
+                totals[3] = Integer.MIN_VALUE;
+                return totals;
+            });
+            group[0]++;
+            group[1] += iou.value;
+            group[2] = Math.min(group[2], iou.value);
+            group[3] = Math.max(group[3], iou.value);
+            group[4 + 31 - Integer.numberOfLeadingZeros(iou.value)]++;
+        }
+        return groups;
+    }
+
+    private static void assertReport(Map<String, long[]> expected, IouColumns.Report actual) {
+        assertEquals(expected.keySet(), keys(actual));
+        for (IouColumns.Group group : actual.groups) {
+            final long[] totals = expected.get(group.key);
+            assertEquals(group.key, totals[0], group.count);
+            assertEquals(group.key, totals[1], group.sum);
+            assertEquals(group.key, totals[2], group.min);
+            assertEquals(group.key, totals[3], group.max);
+            int top = 32;
+            while (top > 0 && totals[4 + top - 1] == 0) {
+                top--;
+            }
+            assertArrayEquals(group.key, Arrays.copyOfRange(totals, 4, 4 + top), group.histogram);
+        }
+    }
+
+    private static Set<String> keys(IouColumns.Report report) {
+        final Set<String> keys = new HashSet<>();
+        for (IouColumns.Group group : report.groups) {
+            keys.add(group.key);
+        }
+        return keys;
+    }
+
+    private IOUView append(int value, Long date, boolean alreadyConsumed) {
+        return append(iou(value, date, megaCorp, miniCorp), alreadyConsumed);
+    }
+
+    private IOUView append(IOUView iou, boolean alreadyConsumed) {
+        ious.add(iou);
+        if (alreadyConsumed) {
+            consumed.add(iou);
+            columns.alreadyConsumed(iou);
+        } else {
+            columns.produced(iou);
+        }
+        return iou;
+    }
+
+    private void consume(IOUView iou) {
+        consumed.add(iou);
+        columns.consumed(iou);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.api;
+
+import com.google.common.collect.ImmutableList;
+import net.corda.core.identity.CordaX500Name;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.api.Fixtures.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NetPositionsTests {
+    private final NetPositions positions = new NetPositions();
+    private final List<IOUView> ious = new ArrayList<>();
+    private final List<IPUView> ipus = new ArrayList<>();
+
+    @Test
+    public void netsBothDirectionsOfAPair() {
+        produce(iou(100, null, megaCorp, miniCorp));
+        produce(iou(30, null, miniCorp, megaCorp));
+        produce(ipu(20, miniCorp, megaCorp));
+        produce(ipu(5, megaCorp, miniCorp));
+
+        // MegaCorp sorts first, so it is party A whichever way round the pair is asked for.
+        for (NetPositions.Position position : ImmutableList.of(positions.between(megaCorp, miniCorp), positions.between(miniCorp, megaCorp))) {
+            assertEquals(megaCorp.toString(), position.partyA);
+            assertEquals(miniCorp.toString(), position.partyB);
+            assertEquals(100, position.lentByA);
+            assertEquals(30, position.lentByB);
+            assertEquals(70, position.net);
+            assertEquals(2, position.openIous);
+            assertEquals(15, position.ipuNet);
+            assertEquals(2, position.openIpus);
+            assertEquals(30, position.lentBy(miniCorp.toString()));
+        }
+    }
+
+    @Test
+    public void leavesOutSelfPairsAndClosedPositions() {
+        produce(iou(100, null, megaCorp, megaCorp));
+        produce(ipu(100, miniCorp, miniCorp));
+        consume(produce(iou(10, null, megaCorp, viewerCorp)));
+
+        assertEquals(0, positions.between(megaCorp, megaCorp).openIous);
+        assertEquals(0, positions.between(miniCorp, miniCorp).openIpus);
+        assertEquals(0, positions.between(megaCorp, viewerCorp).lentByA);
+        assertTrue(positions.of(null).isEmpty());
+        assertTrue(positions.of(megaCorp).isEmpty());
+    }
+
+    @Test
+    public void keepsAPositionOpenUntilItsLastStateIsConsumed() {
+        final IOUView iou = produce(iou(10, null, megaCorp, miniCorp));
+        final IPUView ipu = produce(ipu(5, miniCorp, megaCorp));
+        produce(iou(1, null, viewerCorp, megaCorp));
+
+        consume(iou);
+        assertEquals(2, positions.of(megaCorp).size());
+        assertEquals(1, positions.of(miniCorp).size());
+        assertEquals(0, positions.between(megaCorp, miniCorp).openIous);
+        assertEquals(5, positions.between(megaCorp, miniCorp).ipuNet);
+
+        consume(ipu);
+        assertEquals(1, positions.of(megaCorp).size());
+        assertTrue(positions.of(miniCorp).isEmpty());
+        assertEquals(1, positions.of(null).size());
+    }
+
+    @Test
+    public void sumsPastTheRangeOfAnInt() {
+        produce(iou(Integer.MAX_VALUE, null, megaCorp, miniCorp));
+        produce(iou(Integer.MAX_VALUE, null, megaCorp, miniCorp));
+        produce(ipu(Integer.MAX_VALUE, megaCorp, miniCorp));
+        produce(ipu(Integer.MAX_VALUE, megaCorp, miniCorp));
+
+        final NetPositions.Position position = positions.between(megaCorp, miniCorp);
+        assertEquals(2L * Integer.MAX_VALUE, position.lentByA);
+        assertEquals(2L * Integer.MAX_VALUE, position.net);
+        assertEquals(-2L * Integer.MAX_VALUE, position.ipuNet);
+    }
+
+    @Test
+    public void matchesBruteForceTotalsAsStatesComeAndGo() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            final CordaX500Name one = parties.get(random.nextInt(parties.size()));
+            final CordaX500Name another = parties.get(random.nextInt(parties.size()));
+            if (random.nextBoolean()) {
+                produce(iou(1 + random.nextInt(100000), null, one, another));
+            } else {
+                produce(ipu(1 + random.nextInt(100000), one, another));
+            }
+            if (random.nextInt(3) == 0 && !ious.isEmpty()) {
+                consume(ious.get(random.nextInt(ious.size())));
+            }
+            if (random.nextInt(3) == 0 && !ipus.isEmpty()) {
+                consume(ipus.get(random.nextInt(ipus.size())));
+            }
+            if (i % 100 == 0) {
+                assertMatchesBruteForce();
+            }
+        }
+        assertMatchesBruteForce();
+    }
+
+    private void assertMatchesBruteForce() {
+        for (CordaX500Name party : parties) {
+            int open = 0;
+            for (CordaX500Name other : parties) {
+                if (party.equals(other)) {
+                    continue;
+                }
+                final NetPositions.Position expected = bruteForce(party, other);
+                assertPosition(expected, positions.between(party, other));
+                if (expected.openIous != 0 || expected.openIpus != 0) {
+                    open++;
+                }
+            }
+            assertEquals(open, positions.of(party).size());
+        }
+    }
+
+    private NetPositions.Position bruteForce(CordaX500Name one, CordaX500Name another) {
+        final boolean ordered = one.toString().compareTo(another.toString()) <= 0;
+        final String partyA = ordered ? one.toString() : another.toString();
+        final String partyB = ordered ? another.toString() : one.toString();
+        long lentByA = 0;
+        long lentByB = 0;
+        long openIous = 0;
+        for (IOUView iou : ious) {
+            if (iou.lender.equals(partyA) && iou.borrower.equals(partyB)) {
+                lentByA += iou.value;
+                openIous++;
+            } else if (iou.lender.equals(partyB) && iou.borrower.equals(partyA)) {
+                lentByB += iou.value;
+                openIous++;
+            }
+        }
+        long ipuNet = 0;
+        long openIpus = 0;
+        for (IPUView ipu : ipus) {
+            if (ipu.payer.equals(partyB) && ipu.loaner.equals(partyA)) {
+                ipuNet += ipu.value;
+                openIpus++;
+            } else if (ipu.payer.equals(partyA) && ipu.loaner.equals(partyB)) {
+                ipuNet -= ipu.value;
+                openIpus++;
+            }
+        }
+        return new NetPositions.Position(partyA, partyB, lentByA, lentByB, openIous, ipuNet, openIpus);
+    }
+
+    private static void assertPosition(NetPositions.Position expected, NetPositions.Position actual) {
+        final String pair = expected.partyA + " / " + expected.partyB;
+        assertEquals(pair, expected.partyA, actual.partyA);
+        assertEquals(pair, expected.partyB, actual.partyB);
+        assertEquals(pair, expected.lentByA, actual.lentByA);
+        assertEquals(pair, expected.lentByB, actual.lentByB);
+        assertEquals(pair, expected.openIous, actual.openIous);
+        assertEquals(pair, expected.ipuNet, actual.ipuNet);
+        assertEquals(pair, expected.openIpus, actual.openIpus);
+    }
+
+    private IOUView produce(IOUView iou) {
+        ious.add(iou);
+        positions.ious().produced(iou);
+        return iou;
+    }
+
+    private IPUView produce(IPUView ipu) {
+        ipus.add(ipu);
+        positions.ipus().produced(ipu);
+        return ipu;
+    }
+
+    private void consume(IOUView iou) {
+        ious.remove(iou);
+        positions.ious().consumed(iou);
+    }
+
+    private void consume(IPUView ipu) {
+        ipus.remove(ipu);
+        positions.ipus().consumed(ipu);
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.api;
+
+import net.corda.core.identity.CordaX500Name;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.api.Fixtures.*;
+import static org.junit.Assert.assertEquals;
+
+public class PairDateIndexTests {
+    static private final long HOUR = 60L * 60 * 1000;
+
+    private final PairDateIndex index = new PairDateIndex();
+    private final List<IOUView> unconsumed = new ArrayList<>();
+
+    @Test
+    public void sumsWithinTheInitialSpan() {
+        produce(10, ORIGIN + 3, megaCorp, miniCorp);
+        produce(20, ORIGIN + DAY + 5, miniCorp, megaCorp);
+        produce(40, ORIGIN + 5 * DAY, megaCorp, miniCorp);
+
+        assertTotals(megaCorp, miniCorp, ORIGIN, ORIGIN + 5 * DAY, 50, 20, 3);
+        assertTotals(miniCorp, megaCorp, ORIGIN, ORIGIN + 5 * DAY, 20, 50, 3);
+        assertTotals(megaCorp, miniCorp, ORIGIN + 4, ORIGIN + 5 * DAY - 1, 0, 20, 1);
+    }
+
+    @Test
+    public void growsBackwardsAndForwards() {
+        produce(1, ORIGIN, megaCorp, miniCorp);
+        produce(2, ORIGIN - 1000 * DAY + 7, megaCorp, miniCorp);
+        produce(4, ORIGIN + 2000 * DAY + 11, miniCorp, megaCorp);
+        produce(8, ORIGIN - 5000 * DAY, miniCorp, megaCorp);
+
+        assertTotals(megaCorp, miniCorp, Long.MIN_VALUE, Long.MAX_VALUE, 3, 12, 4);
+        assertTotals(megaCorp, miniCorp, ORIGIN - 1000 * DAY, ORIGIN, 3, 0, 2);
+        assertTotals(megaCorp, miniCorp, ORIGIN - 1000 * DAY + 8, ORIGIN + 2000 * DAY + 10, 1, 0, 1);
+        assertTotals(megaCorp, miniCorp, ORIGIN + 1, ORIGIN + 2000 * DAY + 11, 0, 4, 1);
+        assertTotals(megaCorp, miniCorp, ORIGIN - 5000 * DAY, ORIGIN - 5000 * DAY, 0, 8, 1);
+    }
+
+    @Test
+    public void keepsTheEdgeDaysWhenGrowing() {
+        // The first IOU puts its day in the middle of the initial span of 64 days. The next ones fill both of its
+        // edges, grow it backwards by one doubling so the old last day becomes the new one, fill the new first day
+        // and grow it forwards so that day is kept at index 0, and then grow it several doublings each way.
+        final long[] dates = {ORIGIN, ORIGIN - 32 * DAY, ORIGIN + 31 * DAY + 1, ORIGIN - 33 * DAY,
+                ORIGIN - 96 * DAY, ORIGIN + 100 * DAY, ORIGIN - 200 * DAY, ORIGIN + 1000 * DAY};
+        for (int i = 0; i < dates.length; i++) {
+            produce(1 << i, dates[i], i % 2 == 0 ? megaCorp : miniCorp, i % 2 == 0 ? miniCorp : megaCorp);
+            for (long from : dates) {
+                for (long to : dates) {
+                    assertBruteForce(megaCorp, miniCorp, from - DAY, to + DAY);
+                    assertBruteForce(megaCorp, miniCorp, from, to);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void clipsRangesToTheDatesOfEachEndDay() {
+        final long day = ORIGIN + 3 * DAY;
+        produce(1, day, megaCorp, miniCorp);
+        produce(2, day + 100, megaCorp, miniCorp);
+        produce(4, day + DAY - 1, megaCorp, miniCorp);
+        produce(8, day + DAY, megaCorp, miniCorp);
+        produce(16, day + DAY + 100, megaCorp, miniCorp);
+
+        assertTotals(megaCorp, miniCorp, day + 1, day + 99, 0, 0, 0);
+        assertTotals(megaCorp, miniCorp, day + 100, day + 100, 2, 0, 1);
+        assertTotals(megaCorp, miniCorp, day + 1, day + DAY - 1, 6, 0, 2);
+        assertTotals(megaCorp, miniCorp, day + 100, day + DAY + 99, 14, 0, 3);
+        assertTotals(megaCorp, miniCorp, day + DAY - 1, day + DAY, 12, 0, 2);
+        assertTotals(megaCorp, miniCorp, day + 101, day + DAY - 2, 0, 0, 0);
+    }
+
+    @Test
+    public void clipsRangesToTheHoursOfEachEndDay() {
+        final long day = ORIGIN + 3 * DAY;
+        produce(1, day + HOUR - 1, megaCorp, miniCorp);
+        produce(2, day + HOUR, megaCorp, miniCorp);
+        produce(4, day + 5 * HOUR + 30 * 60 * 1000, megaCorp, miniCorp);
+        produce(8, day + 23 * HOUR, miniCorp, megaCorp);
+        produce(16, day + DAY + 2 * HOUR, megaCorp, miniCorp);
+
+        assertTotals(megaCorp, miniCorp, day + HOUR, day + 6 * HOUR - 1, 6, 0, 2);
+        assertTotals(megaCorp, miniCorp, day + HOUR - 1, day + 5 * HOUR + 30 * 60 * 1000, 7, 0, 3);
+        assertTotals(megaCorp, miniCorp, day + HOUR + 1, day + 5 * HOUR + 30 * 60 * 1000 - 1, 0, 0, 0);
+        assertTotals(megaCorp, miniCorp, day + 2 * HOUR, day + DAY + 2 * HOUR, 20, 8, 3);
+        assertTotals(megaCorp, miniCorp, day + 23 * HOUR + 1, day + DAY + 2 * HOUR - 1, 0, 0, 0);
+    }
+
+    @Test
+    public void sumsRangesWithinASingleHour() {
+        final long hour = ORIGIN + 7 * HOUR;
+        produce(1, hour + 10, megaCorp, miniCorp);
+        produce(2, hour + 20, megaCorp, miniCorp);
+        produce(4, hour + HOUR - 1, megaCorp, miniCorp);
+
+        assertTotals(megaCorp, miniCorp, hour + 10, hour + 20, 3, 0, 2);
+        assertTotals(megaCorp, miniCorp, hour + 11, hour + 19, 0, 0, 0);
+        assertTotals(megaCorp, miniCorp, hour + 20, hour + HOUR - 1, 6, 0, 2);
+    }
+
+    @Test
+    public void forgetsConsumedIousAndCountsThemAgainWhenIssuedOnTheSameDate() {
+        final IOUView first = produce(1, ORIGIN + HOUR, megaCorp, miniCorp);
+        final IOUView second = produce(2, ORIGIN + HOUR, megaCorp, miniCorp);
+
+        consume(first);
+        assertTotals(megaCorp, miniCorp, ORIGIN + HOUR, ORIGIN + HOUR, 2, 0, 1);
+        consume(second);
+        assertTotals(megaCorp, miniCorp, ORIGIN + HOUR, ORIGIN + HOUR, 0, 0, 0);
+        assertTotals(megaCorp, miniCorp, ORIGIN, ORIGIN + DAY, 0, 0, 0);
+
+        produce(4, ORIGIN + HOUR, miniCorp, megaCorp);
+        assertTotals(megaCorp, miniCorp, ORIGIN + HOUR, ORIGIN + HOUR, 0, 4, 1);
+        assertTotals(megaCorp, miniCorp, ORIGIN + 1, ORIGIN + 2 * HOUR, 0, 4, 1);
+    }
+
+    @Test
+    public void ignoresSelfPairsUndatedIousAndEmptyRanges() {
+        produce(1, ORIGIN, megaCorp, megaCorp);
+        produce(2, null, megaCorp, miniCorp);
+        produce(4, ORIGIN, megaCorp, miniCorp);
+
+        assertTotals(megaCorp, megaCorp, Long.MIN_VALUE, Long.MAX_VALUE, 0, 0, 0);
+        assertTotals(megaCorp, miniCorp, Long.MIN_VALUE, Long.MAX_VALUE, 4, 0, 1);
+        assertTotals(megaCorp, miniCorp, ORIGIN + 1, ORIGIN, 0, 0, 0);
+        assertTotals(megaCorp, viewerCorp, Long.MIN_VALUE, Long.MAX_VALUE, 0, 0, 0);
+    }
+
+    @Test
+    public void matchesBruteForceSumsAsIousComeAndGo() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            final CordaX500Name lender = parties.get(random.nextInt(parties.size()));
+            final CordaX500Name borrower = parties.get(random.nextInt(parties.size()));
+            // Spread over ten years either side of the first date, so the trees grow both ways several times.
+            final long date = ORIGIN + (long) (random.nextGaussian() * 1200 * DAY);
+            produce(1 + random.nextInt(100000), random.nextInt(50) == 0 ? null : date, lender, borrower);
+            if (random.nextInt(3) == 0) {
+                consume(unconsumed.get(random.nextInt(unconsumed.size())));
+            }
+            if (i % 500 == 0) {
+                assertMatchesBruteForce(random, 50);
+            }
+        }
+        assertMatchesBruteForce(random, 2000);
+    }
+
+    private void assertMatchesBruteForce(Random random, int ranges) {
+        for (int i = 0; i < ranges; i++) {
+            final CordaX500Name one = parties.get(random.nextInt(parties.size()));
+            final CordaX500Name another = parties.get(random.nextInt(parties.size()));
+            final long from;
+            final long to;
+            switch (random.nextInt(4)) {
+                case 0:
+                    // Both ends at dates that IOUs carry.
+                    from = dateOfAny(random);
+                    to = dateOfAny(random);
+                    break;
+                case 1:
+                    // Both ends inside a single day.
+                    final long day = Math.floorDiv(dateOfAny(random), DAY) * DAY;
+                    from = day + random.nextInt((int) DAY);
+                    to = day + random.nextInt((int) DAY);
+                    break;
+                case 2:
+                    // Beyond the span the trees cover, on either side.
+                    from = ORIGIN - (long) (random.nextDouble() * 20000 * DAY);
+                    to = ORIGIN + (long) (random.nextDouble() * 20000 * DAY);
+                    break;
+                default:
+                    from = ORIGIN + (long) (random.nextGaussian() * 1500 * DAY);
+                    to = from + (long) (random.nextDouble() * 3000 * DAY);
+                    break;
+            }
+            assertBruteForce(one, another, from, to);
+        }
+    }
+
+    private long dateOfAny(Random random) {
+        final IOUView iou = unconsumed.isEmpty() ? null : unconsumed.get(random.nextInt(unconsumed.size()));
+        return iou == null || iou.date == null ? ORIGIN : iou.date + random.nextInt(3) - 1;
+    }
+
+    private void assertBruteForce(CordaX500Name one, CordaX500Name another, long from, long to) {
+        long lentByOne = 0;
+        long lentByAnother = 0;
+        long count = 0;
+        if (!one.equals(another)) {
+            for (IOUView iou : unconsumed) {
+                if (iou.date == null || iou.date < from || iou.date > to) {
+                    continue;
+                }
+                if (iou.lender.equals(one.toString()) && iou.borrower.equals(another.toString())) {
+                    lentByOne += iou.value;
+                    count++;
+                } else if (iou.lender.equals(another.toString()) && iou.borrower.equals(one.toString())) {
+                    lentByAnother += iou.value;
+                    count++;
+                }
+            }
+        }
+        assertTotals(one, another, from, to, lentByOne, lentByAnother, count);
+    }
+
+    private void assertTotals(CordaX500Name one, CordaX500Name another, long from, long to,
+                              long lentByOne, long lentByAnother, long count) {
+        final CompensationTotals totals = index.query(one, another, from, to);
+        final String range = one.getOrganisation() + "/" + another.getOrganisation() + " [" + from + ", " + to + "]";
+        assertEquals("lent by one " + range, lentByOne, totals.lentByOne);
+        assertEquals("lent by another " + range, lentByAnother, totals.lentByAnother);
+        assertEquals("count " + range, count, totals.count);
+    }
+
+    private IOUView produce(int value, Long date, CordaX500Name lender, CordaX500Name borrower) {
+        final IOUView iou = iou(value, date, lender, borrower);
+        unconsumed.add(iou);
+        index.produced(iou);
+        return iou;
+    }
+
+    private void consume(IOUView iou) {
+        unconsumed.remove(iou);
+        index.consumed(iou);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.api;
+
+import com.google.common.collect.ImmutableList;
+import net.corda.core.identity.CordaX500Name;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static com.example.api.Fixtures.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReadModelSnapshotTests {
+    /** A name whose UTF-8 takes more bytes than it has characters. */
+    static private final String zurichBank = new CordaX500Name("Z\u00fcrich Bank", "Z\u00fcrich", "CH").toString();
+    static private final List<String> names = ImmutableList.of(megaCorp.toString(), miniCorp.toString(), zurichBank);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void restoresTheEdgesOfEveryField() throws IOException {
+        final List<List<Object>> ious = ImmutableList.of(
+                record(0, null, zurichBank, true),
+                record(Integer.MAX_VALUE, Long.MAX_VALUE, megaCorp.toString(), false),
+                record(Integer.MIN_VALUE, Long.MIN_VALUE + 1, miniCorp.toString(), true),
+                record(1, -1L, zurichBank, false));
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(snapshot(), 1L)) {
+            writer.section("com.example.state.IOUState", Long.MAX_VALUE, "ABCDEF:2");
+            write(writer, ious);
+            writer.commit();
+        }
+
+        final ReadModelSnapshot snapshot = ReadModelSnapshot.open(snapshot());
+        assertEquals(Long.MAX_VALUE, snapshot.applied("com.example.state.IOUState"));
+        assertEquals(ious, restore(snapshot, "com.example.state.IOUState"));
+    }
+
+    @Test
+    public void restoresEmptySectionsAndNamesSharedAcrossThem() throws IOException {
+        final List<List<Object>> ipus = ImmutableList.of(record(5, 7L, zurichBank, false));
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(snapshot(), 1L)) {
+            writer.section("com.example.state.IOUState", 0, null);
+            writer.section("com.example.state.IPUState", 3, null);
+            write(writer, ipus);
+            writer.commit();
+        }
+
+        final ReadModelSnapshot snapshot = ReadModelSnapshot.open(snapshot());
+        assertTrue(snapshot.has("com.example.state.IOUState"));
+        assertEquals(ImmutableList.of(), restore(snapshot, "com.example.state.IOUState"));
+        assertEquals(ipus, restore(snapshot, "com.example.state.IPUState"));
+    }
+
+    @Test
+    public void restoresWhatWasWritten() throws IOException {
+        final Path path = snapshot();
+        final Random random = new Random(42);
+        final List<List<Object>> ious = records(random, 10_000);
+        final List<List<Object>> ipus = records(random, 100);
+
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(path, 1234L)) {
+            writer.section("com.example.state.IOUState", 17, "ABCDEF:2");
+            write(writer, ious);
+            writer.section("com.example.state.IPUState", 0, null);
+            write(writer, ipus);
+            writer.commit();
+        }
+
+        final ReadModelSnapshot snapshot = ReadModelSnapshot.open(path);
+        assertEquals(1234L, snapshot.takenAt);
+        assertTrue(snapshot.has("com.example.state.IOUState"));
+        assertFalse(snapshot.has("com.example.state.IOUStateV2"));
+        assertEquals(17, snapshot.applied("com.example.state.IOUState"));
+        assertEquals("ABCDEF:2", snapshot.lastTransaction("com.example.state.IOUState"));
+        assertEquals(0, snapshot.applied("com.example.state.IPUState"));
+        assertNull(snapshot.lastTransaction("com.example.state.IPUState"));
+        assertEquals(ious, restore(snapshot, "com.example.state.IOUState"));
+        assertEquals(ipus, restore(snapshot, "com.example.state.IPUState"));
+        assertFalse(Files.exists(path.resolveSibling("read-model.snapshot.partial")));
+    }
+
+    @Test
+    public void keepsThePreviousSnapshotUntilCommitted() throws IOException {
+        final Path path = snapshot();
+        final List<List<Object>> ious = ImmutableList.of(record(1, 1L, megaCorp.toString(), false));
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(path, 1L)) {
+            writer.section("com.example.state.IOUState", 1, null);
+            write(writer, ious);
+            writer.commit();
+        }
+
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(path, 2L)) {
+            writer.section("com.example.state.IOUState", 2, null);
+            write(writer, ImmutableList.of(record(2, 2L, miniCorp.toString(), true)));
+        }
+
+        final ReadModelSnapshot snapshot = ReadModelSnapshot.open(path);
+        assertEquals(1L, snapshot.takenAt);
+        assertEquals(ious, restore(snapshot, "com.example.state.IOUState"));
+        assertFalse(Files.exists(path.resolveSibling("read-model.snapshot.partial")));
+    }
+
+    @Test
+    public void ignoresMissingForeignAndTruncatedFiles() throws IOException {
+        final Path path = snapshot();
+        assertNull(ReadModelSnapshot.open(path));
+
+        Files.write(path, "not a snapshot at all".getBytes());
+        assertNull(ReadModelSnapshot.open(path));
+
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(path, 1L)) {
+            writer.section("com.example.state.IOUState", 1, null);
+            write(writer, ImmutableList.of(record(1, 1L, megaCorp.toString(), false), record(2, 2L, zurichBank, true)));
+            writer.commit();
+        }
+        final byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+        assertNull(ReadModelSnapshot.open(path));
+    }
+
+    private Path snapshot() {
+        return folder.getRoot().toPath().resolve("read-model.snapshot");
+    }
+
+    /** A record as a list of its fields, in the order of [ReadModelSnapshot.Sink.record], with [party] in every role. */
+    private static List<Object> record(int value, Long date, String party, boolean consumed) {
+        return Arrays.asList(value, date, party, party, party, UUID.randomUUID(), UUID.randomUUID() + ":0", consumed);
+    }
+
+    /** Random records as lists of their fields, in the order of [ReadModelSnapshot.Sink.record]. */
+    private static List<List<Object>> records(Random random, int count) {
+        final List<List<Object>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(Arrays.asList(
+                    random.nextInt(100000),
+                    random.nextInt(10) == 0 ? null : random.nextLong(),
+                    names.get(random.nextInt(names.size())),
+                    names.get(random.nextInt(names.size())),
+                    names.get(random.nextInt(names.size())),
+                    new UUID(random.nextLong(), random.nextLong()),
+                    Long.toHexString(random.nextLong()) + ":" + random.nextInt(4),
+                    random.nextBoolean()));
+        }
+        return records;
+    }
+
+    private static void write(ReadModelSnapshot.Writer writer, List<List<Object>> records) throws IOException {
+        for (List<Object> record : records) {
+            writer.record((Integer) record.get(0), (Long) record.get(1), (String) record.get(2), (String) record.get(3),
+                    (String) record.get(4), (UUID) record.get(5), (String) record.get(6), (Boolean) record.get(7));
+        }
+    }
+
+    private static List<List<Object>> restore(ReadModelSnapshot snapshot, String stateType) {
+        final List<List<Object>> records = new ArrayList<>();
+        final long count = snapshot.restore(stateType, (value, date, viewer, first, second, linearId, ref, consumed) ->
+                records.add(Arrays.asList(value, date, viewer, first, second, linearId, ref, consumed)));
+        assertEquals(records.size(), count);
+        return records;
+    }
+}
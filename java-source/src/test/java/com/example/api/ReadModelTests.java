@@ -0,0 +1,308 @@
+package com.example.api;
+
+import com.example.state.IOUState;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.contracts.StateRef;
+import net.corda.core.contracts.TransactionState;
+import net.corda.core.contracts.UniqueIdentifier;
+import net.corda.core.crypto.SecureHash;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.identity.Party;
+import net.corda.core.messaging.CordaRPCOps;
+import net.corda.core.messaging.DataFeed;
+import net.corda.core.node.services.Vault;
+import net.corda.core.node.services.vault.Sort;
+import net.corda.testing.core.TestIdentity;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import rx.subjects.PublishSubject;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.api.Fixtures.*;
+import static com.example.contract.CompensationContract.COMPENSATION_CONTRACT_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ReadModelTests {
+    static private final List<StateQuery.Role> roles = ImmutableList.of(StateQuery.Role.VIEWER, StateQuery.Role.LENDER, StateQuery.Role.BORROWER);
+    static private final Map<StateQuery.Role, List<CordaX500Name>> everyone = ImmutableMap.of();
+    /** The listing order of the model: date, undated first, then linearId, then state ref. */
+    static private final Comparator<IOUView> ORDER = Comparator.<IOUView>comparingLong(iou -> iou.date == null ? Long.MIN_VALUE : iou.date)
+            .thenComparing(iou -> iou.linearId)
+            .thenComparing(iou -> iou.ref);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /** The IOUs in the snapshot, and the refs of those consumed. */
+    private final List<IOUView> ious = new ArrayList<>();
+    private final Set<String> consumedRefs = new HashSet<>();
+    private final PublishSubject<Vault.Update<IOUState>> updates = PublishSubject.create();
+
+    private final List<String> produced = new ArrayList<>();
+    private final List<String> consumed = new ArrayList<>();
+    private final List<String> alreadyConsumed = new ArrayList<>();
+    private final ReadModel.Listener<IOUView> listener = new ReadModel.Listener<IOUView>() {
+        @Override public void produced(IOUView iou) { produced.add(iou.ref); }
+        @Override public void consumed(IOUView iou) { consumed.add(iou.ref); }
+        @Override public void alreadyConsumed(IOUView iou) { alreadyConsumed.add(iou.ref); }
+    };
+
+    @Test
+    public void restoresASnapshotAndTellsItsListeners() throws Exception {
+        final IOUView issued = snapshotted(iou(10, ORIGIN, megaCorp, miniCorp), true);
+        final IOUView settled = snapshotted(iou(10, ORIGIN + DAY, viewerCorp, megaCorp, miniCorp, issued.linearId), false);
+        final IOUView undated = snapshotted(iou(20, null, miniCorp, megaCorp), false);
+
+        final ReadModel<IOUState, IOUView> model = restored();
+
+        assertEquals("17:", model.marker());
+        assertEquals(ImmutableSet.of(settled.ref, undated.ref), ImmutableSet.copyOf(produced));
+        assertEquals(ImmutableList.of(issued.ref), alreadyConsumed);
+        assertEquals(ImmutableList.of(issued.ref, settled.ref), refs(model.history(issued.linearId)));
+        assertEquals(ImmutableList.of(undated.ref), refs(model.history(undated.linearId)));
+    }
+
+    @Test
+    public void listsUndatedStatesBeforeEveryDate() throws Exception {
+        final IOUView undated = snapshotted(iou(1, null, megaCorp, miniCorp), false);
+        final IOUView first = snapshotted(iou(2, ORIGIN, megaCorp, miniCorp), false);
+        final IOUView second = snapshotted(iou(3, ORIGIN + DAY, megaCorp, miniCorp), false);
+        final ReadModel<IOUState, IOUView> model = restored();
+
+        assertEquals(refs(undated, first, second), listing(model, null, null, Vault.StateStatus.ALL, 10, Sort.Direction.ASC));
+        assertEquals(refs(second, first, undated), listing(model, null, null, Vault.StateStatus.ALL, 10, Sort.Direction.DESC));
+        // A lower bound leaves undated states out, and an upper bound alone keeps them.
+        assertEquals(refs(first, second), listing(model, ORIGIN, null, Vault.StateStatus.ALL, 10, Sort.Direction.ASC));
+        assertEquals(refs(undated, first), listing(model, null, ORIGIN, Vault.StateStatus.ALL, 10, Sort.Direction.ASC));
+    }
+
+    @Test
+    public void endsTheListingOnAFullLastPage() throws Exception {
+        final List<IOUView> sameDay = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sameDay.add(snapshotted(iou(i + 1, ORIGIN, megaCorp, miniCorp), false));
+        }
+        sameDay.sort(ORDER);
+        final ReadModel<IOUState, IOUView> model = restored();
+
+        final ReadModel.Page<IOUView> first = model.page(everyone, null, null, Vault.StateStatus.ALL, null, 2, Sort.Direction.ASC);
+        assertEquals(refs(sameDay.get(0), sameDay.get(1)), refs(first.views));
+        assertNotNull(first.nextToken);
+        final ReadModel.Page<IOUView> last = model.page(everyone, null, null, Vault.StateStatus.ALL, first.nextToken, 2, Sort.Direction.ASC);
+        assertEquals(refs(sameDay.get(2), sameDay.get(3)), refs(last.views));
+        assertNull(last.nextToken);
+    }
+
+    @Test
+    public void skipsTheRestOfALinearStateAfterAToken() throws Exception {
+        final IOUView issued = snapshotted(iou(10, ORIGIN, megaCorp, miniCorp), true);
+        final IOUView sameDate = snapshotted(iou(10, ORIGIN, viewerCorp, megaCorp, miniCorp, issued.linearId), false);
+        final IOUView later = snapshotted(iou(20, ORIGIN + 1, megaCorp, miniCorp), false);
+        final ReadModel<IOUState, IOUView> model = restored();
+
+        // The token is past every state of the linear state on its date, as the vault's keyset predicate is.
+        final ReadModel.Page<IOUView> first = model.page(everyone, null, null, Vault.StateStatus.ALL, null, 1, Sort.Direction.ASC);
+        assertEquals(ImmutableList.of(ORDER.compare(issued, sameDate) < 0 ? issued.ref : sameDate.ref), refs(first.views));
+        final ReadModel.Page<IOUView> second = model.page(everyone, null, null, Vault.StateStatus.ALL, first.nextToken, 1, Sort.Direction.ASC);
+        assertEquals(refs(later), refs(second.views));
+        assertNull(second.nextToken);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesTokensOfAnotherOrder() throws Exception {
+        snapshotted(iou(1, ORIGIN, megaCorp, miniCorp), false);
+        snapshotted(iou(2, ORIGIN + 1, megaCorp, miniCorp), false);
+        final ReadModel<IOUState, IOUView> model = restored();
+        final String token = model.page(everyone, null, null, Vault.StateStatus.ALL, null, 1, Sort.Direction.ASC).nextToken;
+
+        model.page(everyone, null, null, Vault.StateStatus.ALL, token, 1, Sort.Direction.DESC);
+    }
+
+    @Test
+    public void consumesRestoredStatesOnceFromTheFeed() throws Exception {
+        final SecureHash txhash = SecureHash.sha256("issue");
+        final IOUView restored = snapshotted(new IOUView(10, ORIGIN, viewerCorp.toString(), megaCorp.toString(),
+                miniCorp.toString(), UUID.randomUUID(), txhash + ":0"), false);
+        final ReadModel<IOUState, IOUView> model = restored();
+
+        final Party party = new TestIdentity(megaCorp).getParty();
+        final StateAndRef<IOUState> stateAndRef = new StateAndRef<>(new TransactionState<>(
+                new IOUState(10, ORIGIN, party, party, party, new UniqueIdentifier()), COMPENSATION_CONTRACT_ID, party),
+                new StateRef(txhash, 0));
+        final Vault.Update<IOUState> consumption = new Vault.Update<>(ImmutableSet.of(stateAndRef), ImmutableSet.of());
+        updates.onNext(consumption);
+        updates.onNext(consumption);
+
+        assertEquals(ImmutableList.of(restored.ref), consumed);
+        assertEquals(ImmutableList.of(), listing(model, null, null, Vault.StateStatus.UNCONSUMED, 10, Sort.Direction.ASC));
+        assertEquals(refs(restored), listing(model, null, null, Vault.StateStatus.CONSUMED, 10, Sort.Direction.ASC));
+        assertEquals("19:" + txhash, model.marker());
+    }
+
+    @Test
+    public void pagesLikeABruteForceListing() throws Exception {
+        final Random random = new Random(42);
+        final List<UUID> linearIds = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // About one IOU in five is a later state of an earlier one.
+            final UUID linearId = linearIds.isEmpty() || random.nextInt(5) != 0 ? UUID.randomUUID() : linearIds.get(random.nextInt(linearIds.size()));
+            linearIds.add(linearId);
+            // Few distinct dates, so that many IOUs share one and are ordered by linearId and state ref.
+            final Long date = random.nextInt(20) == 0 ? null : ORIGIN + random.nextInt(100) * DAY + random.nextInt(3);
+            snapshotted(iou(1 + random.nextInt(100000), date, anyParty(random), anyParty(random), anyParty(random), linearId),
+                    random.nextInt(3) == 0);
+        }
+        final ReadModel<IOUState, IOUView> model = restored();
+
+        for (int i = 0; i < 200; i++) {
+            final Map<StateQuery.Role, List<CordaX500Name>> filter = new HashMap<>();
+            for (StateQuery.Role role : roles) {
+                if (random.nextInt(3) == 0) {
+                    filter.put(role, random.nextBoolean() ? ImmutableList.of(anyParty(random)) : ImmutableList.of(anyParty(random), anyParty(random)));
+                }
+            }
+            final Long from = random.nextBoolean() ? null : ORIGIN + (long) (random.nextDouble() * 100 * DAY);
+            final Long to = random.nextBoolean() ? null : ORIGIN + (long) (random.nextDouble() * 100 * DAY);
+            final Vault.StateStatus status = Vault.StateStatus.values()[random.nextInt(Vault.StateStatus.values().length)];
+            final Sort.Direction direction = random.nextBoolean() ? Sort.Direction.ASC : Sort.Direction.DESC;
+            final int pageSize = 1 + random.nextInt(200);
+
+            final String query = filter + " [" + from + ", " + to + "] " + status + " " + direction + " by " + pageSize;
+            String token = null;
+            for (List<IOUView> page : bruteForce(filter, from, to, status, direction, pageSize)) {
+                final ReadModel.Page<IOUView> actual = model.page(filter, from, to, status, token, pageSize, direction);
+                assertEquals(query, refs(page), refs(actual.views));
+                token = actual.nextToken;
+            }
+            assertNull(query, token);
+        }
+    }
+
+    private IOUView snapshotted(IOUView iou, boolean consumed) {
+        ious.add(iou);
+        if (consumed) {
+            consumedRefs.add(iou.ref);
+        }
+        return iou;
+    }
+
+    /**
+     * A model restored from a snapshot of the IOUs [snapshotted] so far, over a node whose vault has nothing newer.
+     */
+    private ReadModel<IOUState, IOUView> restored() throws Exception {
+        final Path path = folder.getRoot().toPath().resolve("read-model.snapshot");
+        try (ReadModelSnapshot.Writer writer = new ReadModelSnapshot.Writer(path, ORIGIN)) {
+            writer.section(IOUState.class.getName(), 17, null);
+            for (IOUView iou : ious) {
+                writer.record(iou.value, iou.date, iou.viewer, iou.lender, iou.borrower, iou.linearId, iou.ref, consumedRefs.contains(iou.ref));
+            }
+            writer.commit();
+        }
+
+        final Vault.Page<IOUState> empty = new Vault.Page<>(ImmutableList.of(), ImmutableList.of(), 0, Vault.StateStatus.ALL, ImmutableList.of());
+        final CordaRPCOps rpcOps = (CordaRPCOps) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{CordaRPCOps.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "vaultTrackBy": return new DataFeed<>(empty, updates);
+                        case "vaultQueryBy": return empty;
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        // The pager is only used to scan the vault when there is no snapshot.
+        final ReadModel<IOUState, IOUView> model = new ReadModel<>(rpcOps, null, IOUState.class, IOUView::of, IOUView.FIELDS,
+                roles, ImmutableList.of(listener), ReadModelSnapshot.open(path));
+        model.whenLoaded().get(10, TimeUnit.SECONDS);
+        return model;
+    }
+
+    /** The refs of every page of a listing of every party's IOUs. */
+    private static List<String> listing(ReadModel<IOUState, IOUView> model, Long from, Long to, Vault.StateStatus status,
+                                        int pageSize, Sort.Direction direction) {
+        final List<String> refs = new ArrayList<>();
+        String token = null;
+        do {
+            final ReadModel.Page<IOUView> page = model.page(everyone, from, to, status, token, pageSize, direction);
+            refs.addAll(refs(page.views));
+            token = page.nextToken;
+        } while (token != null);
+        return refs;
+    }
+
+    /**
+     * The pages of the matching IOUs in listing order. A token skips every state of the last linear state of its page
+     * with the same date, as the vault's keyset predicate does.
+     */
+    private List<List<IOUView>> bruteForce(Map<StateQuery.Role, List<CordaX500Name>> filter, Long from, Long to,
+                                           Vault.StateStatus status, Sort.Direction direction, int pageSize) {
+        final List<IOUView> matching = new ArrayList<>();
+        for (IOUView iou : ious) {
+            final long date = iou.date == null ? Long.MIN_VALUE : iou.date;
+            if (from != null && date < from || to != null && date > to
+                    || status == Vault.StateStatus.UNCONSUMED && consumedRefs.contains(iou.ref)
+                    || status == Vault.StateStatus.CONSUMED && !consumedRefs.contains(iou.ref)
+                    || !matches(filter, StateQuery.Role.VIEWER, iou.viewer)
+                    || !matches(filter, StateQuery.Role.LENDER, iou.lender)
+                    || !matches(filter, StateQuery.Role.BORROWER, iou.borrower)) {
+                continue;
+            }
+            matching.add(iou);
+        }
+        matching.sort(direction == Sort.Direction.ASC ? ORDER : ORDER.reversed());
+
+        final List<List<IOUView>> pages = new ArrayList<>();
+        int next = 0;
+        while (true) {
+            final List<IOUView> page = new ArrayList<>(matching.subList(next, Math.min(next + pageSize, matching.size())));
+            pages.add(page);
+            next += page.size();
+            if (next >= matching.size()) {
+                return pages;
+            }
+            final IOUView last = page.get(page.size() - 1);
+            while (next < matching.size() && last.linearId.equals(matching.get(next).linearId)
+                    && Objects.equals(last.date, matching.get(next).date)) {
+                next++;
+            }
+        }
+    }
+
+    private static CordaX500Name anyParty(Random random) {
+        return parties.get(random.nextInt(parties.size()));
+    }
+
+    private static List<String> refs(IOUView... ious) {
+        return refs(ImmutableList.copyOf(ious));
+    }
+
+    private static List<String> refs(List<IOUView> ious) {
+        final List<String> refs = new ArrayList<>(ious.size());
+        for (IOUView iou : ious) {
+            refs.add(iou.ref);
+        }
+        return refs;
+    }
+
+    private static boolean matches(Map<StateQuery.Role, List<CordaX500Name>> filter, StateQuery.Role role, String party) {
+        final List<CordaX500Name> names = filter.get(role);
+        return names == null || names.stream().anyMatch(name -> name.toString().equals(party));
+    }
+}
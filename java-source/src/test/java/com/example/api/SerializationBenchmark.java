@@ -0,0 +1,63 @@
+package com.example.api;
+
+import com.example.state.IOUState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.corda.client.jackson.JacksonSupport;
+import net.corda.core.contracts.StateAndRef;
+import net.corda.core.contracts.StateRef;
+import net.corda.core.contracts.TransactionState;
+import net.corda.core.contracts.UniqueIdentifier;
+import net.corda.core.crypto.SecureHash;
+import net.corda.core.identity.CordaX500Name;
+import net.corda.core.identity.Party;
+import net.corda.testing.core.TestIdentity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.contract.CompensationContract.COMPENSATION_CONTRACT_ID;
+
+/**
+ * Compares the cost of serializing a large IOU listing with Corda's default mapper and with [CompactJsonModule].
+ *
+ * This file is exclusively for being run by hand (see the runSerializationBenchmark task).
+ */
+public class SerializationBenchmark {
+    private static final int STATES = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) throws Exception {
+        final Party notary = new TestIdentity(new CordaX500Name("Notary", "London", "GB")).getParty();
+        final Party viewer = new TestIdentity(new CordaX500Name("ViewerCorp", "London", "GB")).getParty();
+        final Party lender = new TestIdentity(new CordaX500Name("MegaCorp", "London", "GB")).getParty();
+        final Party borrower = new TestIdentity(new CordaX500Name("MiniCorp", "New York", "US")).getParty();
+
+        final List<StateAndRef<IOUState>> listing = new ArrayList<>(STATES);
+        for (int i = 0; i < STATES; i++) {
+            final IOUState iou = new IOUState(i + 1, System.currentTimeMillis(), viewer, lender, borrower, new UniqueIdentifier());
+            listing.add(new StateAndRef<>(new TransactionState<>(iou, COMPENSATION_CONTRACT_ID, notary), new StateRef(SecureHash.randomSHA256(), 0)));
+        }
+
+        final ObjectMapper defaultMapper = JacksonSupport.createNonRpcMapper();
+        final ObjectMapper compactMapper = JacksonSupport.createNonRpcMapper();
+        compactMapper.registerModule(new CompactJsonModule());
+
+        run("default", defaultMapper.writer(), listing);
+        run("compact", compactMapper.writer(), listing);
+    }
+
+    private static void run(String name, ObjectWriter writer, List<StateAndRef<IOUState>> listing) throws Exception {
+        int bytes = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            bytes = writer.writeValueAsBytes(listing).length;
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            bytes = writer.writeValueAsBytes(listing).length;
+        }
+        final long perState = (System.nanoTime() - start) / ((long) MEASURED_ROUNDS * listing.size());
+        System.out.println(String.format("%s: %d ns/state, %d bytes/state", name, perState, bytes / listing.size()));
+    }
+}
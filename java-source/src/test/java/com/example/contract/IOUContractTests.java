@@ -117,4 +117,34 @@ public class IOUContractTests {
             return null;
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void batchMayHaveSeveralOutputs() {
+        Integer iou = 1;
+        ledger(ledgerServices, (ledger -> {
+            ledger.transaction(tx -> {
+                tx.output(COMPENSATION_CONTRACT_ID, new IOUState(iou, null, viewerCorp.getParty(), miniCorp.getParty(), megaCorp.getParty(), new UniqueIdentifier()));
+                tx.output(COMPENSATION_CONTRACT_ID, new IOUState(iou + 1, null, viewerCorp.getParty(), miniCorp.getParty(), megaCorp.getParty(), new UniqueIdentifier()));
+                tx.command(ImmutableList.of(viewerCorp.getPublicKey(), megaCorp.getPublicKey(), miniCorp.getPublicKey()), new CompensationContract.Commands.CreateBatch());
+                tx.verifies();
+                return null;
+            });
+            return null;
+        }));
+    }
+
+    @Test
+    public void batchOutputsMustShareParties() {
+        Integer iou = 1;
+        ledger(ledgerServices, (ledger -> {
+            ledger.transaction(tx -> {
+                tx.output(COMPENSATION_CONTRACT_ID, new IOUState(iou, null, viewerCorp.getParty(), miniCorp.getParty(), megaCorp.getParty(), new UniqueIdentifier()));
+                tx.output(COMPENSATION_CONTRACT_ID, new IOUState(iou, null, viewerCorp.getParty(), megaCorp.getParty(), miniCorp.getParty(), new UniqueIdentifier()));
+                tx.command(ImmutableList.of(viewerCorp.getPublicKey(), megaCorp.getPublicKey(), miniCorp.getPublicKey()), new CompensationContract.Commands.CreateBatch());
+                tx.failsWith("All of the IOUs must have the same viewer, lender and borrower.");
+                return null;
+            });
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.flow;
+
+import com.google.common.collect.ImmutableList;
+import net.corda.core.concurrent.CordaFuture;
+import net.corda.core.flows.FlowLogic;
+import net.corda.core.identity.Party;
+import net.corda.core.transactions.SignedTransaction;
+import net.corda.testing.node.MockNetwork;
+import net.corda.testing.node.StartedMockNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class VolumeReportFlowTests {
+    static private final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private MockNetwork network;
+    private StartedMockNode v;
+    private StartedMockNode a;
+    private StartedMockNode b;
+
+    @Before
+    public void setup() {
+        // The rollup tables and the service keeping them are found by scanning their packages.
+        network = new MockNetwork(ImmutableList.of("com.example.contract", "com.example.schema", "com.example.service"));
+        a = network.createPartyNode(null);
+        b = network.createPartyNode(null);
+        v = network.createPartyNode(null);
+        for (StartedMockNode node : ImmutableList.of(a, b, v)) {
+            node.registerInitiatedFlow(RegularFlow.Acceptor.class);
+            node.registerInitiatedFlow(RegularFlow.BatchAcceptor.class);
+        }
+        network.runNetwork();
+    }
+
+    @After
+    public void tearDown() {
+        network.stopNodes();
+    }
+
+    @Test
+    public void reportRollsUpTheIOUsEachPartyRecorded() throws Exception {
+        final Party viewer = v.getInfo().getLegalIdentities().get(0);
+        final Party lender = a.getInfo().getLegalIdentities().get(0);
+        final Party borrower = b.getInfo().getLegalIdentities().get(0);
+        // Issued around the report, since the IOUs are dated by the clock when they are issued.
+        final long fromDay = Math.floorDiv(System.currentTimeMillis(), DAY_MILLIS);
+        issue(a, new RegularFlow.Initiator(1, viewer, borrower));
+        issue(a, new RegularFlow.Initiator(10, viewer, borrower));
+        issue(a, new RegularFlow.BatchInitiator(ImmutableList.of(100, 1000), viewer, borrower));
+        issue(b, new RegularFlow.Initiator(5, viewer, lender));
+        final long toDay = Math.floorDiv(System.currentTimeMillis(), DAY_MILLIS);
+
+        for (StartedMockNode node : ImmutableList.of(a, b, v)) {
+            final List<VolumeReportFlow.Row> ab = report(node, VolumeReportFlow.Kind.IOU, fromDay, toDay, lender, borrower);
+            assertEquals(4, ab.stream().mapToLong(VolumeReportFlow.Row::getCount).sum());
+            assertEquals(1111, ab.stream().mapToLong(VolumeReportFlow.Row::getSum).sum());
+            for (VolumeReportFlow.Row row : ab) {
+                assertEquals(lender.getName().toString(), row.getLender());
+                assertEquals(borrower.getName().toString(), row.getBorrower());
+                assertTrue(row.getEpochDay() >= fromDay && row.getEpochDay() <= toDay);
+            }
+
+            final List<VolumeReportFlow.Row> all = report(node, VolumeReportFlow.Kind.IOU, fromDay, toDay, null, null);
+            assertEquals(5, all.stream().mapToLong(VolumeReportFlow.Row::getCount).sum());
+            assertEquals(1116, all.stream().mapToLong(VolumeReportFlow.Row::getSum).sum());
+
+            assertTrue(report(node, VolumeReportFlow.Kind.IOU, fromDay - 10, fromDay - 1, null, null).isEmpty());
+            assertTrue(report(node, VolumeReportFlow.Kind.IPU, fromDay, toDay, null, null).isEmpty());
+        }
+    }
+
+    private void issue(StartedMockNode node, FlowLogic<SignedTransaction> flow) throws Exception {
+        final CordaFuture<SignedTransaction> future = node.startFlow(flow);
+        network.runNetwork();
+        future.get();
+    }
+
+    private List<VolumeReportFlow.Row> report(StartedMockNode node, VolumeReportFlow.Kind kind, long fromDay, long toDay,
+                                              Party lender, Party borrower) throws Exception {
+        final CordaFuture<List<VolumeReportFlow.Row>> future = node.startFlow(new VolumeReportFlow(kind, fromDay, toDay,
+                lender == null ? null : lender.getName().toString(), borrower == null ? null : borrower.getName().toString()));
+        network.runNetwork();
+        return future.get();
+    }
+}